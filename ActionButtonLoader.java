@@ -2,7 +2,6 @@ package main;
 
 import java.io.BufferedReader;
 import java.io.File;
-import java.io.FileReader;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
@@ -17,12 +16,12 @@ public class ActionButtonLoader {
         List<ActionButton> buttons = new ArrayList<>();
         File file = new File(ACTION_BUTTONS_FILE);
 
-        if (!file.exists()) {
+        if (!ProjectPack.exists(file)) {
             System.out.println("ActionButtons file not found: " + ACTION_BUTTONS_FILE);
             return createDefaultButtons();
         }
 
-        try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
+        try (BufferedReader reader = ProjectPack.openReader(file)) {
             String line;
             ActionButton currentButton = null;
 
@@ -48,6 +48,7 @@ public class ActionButtonSaver {
 
             System.out.println("Saved " + buttons.size() + " action buttons to " + ACTION_BUTTONS_FILE);
         }
+        ResourceIndex.fileChanged(file);
     }
 
     /**
@@ -1,8 +1,6 @@
 package main;
 
-import java.io.BufferedReader;
 import java.io.File;
-import java.io.FileReader;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -22,88 +20,15 @@ public class ActionsLoader {
         Map<String, List<ConditionsField>> actionsMap = new HashMap<>();
         File actionsFile = ResourcePathHelper.resolve("actions/" + entityName + ".txt");
 
-        if (!actionsFile.exists()) {
+        if (!ProjectPack.exists(actionsFile)) {
             System.out.println("No actions file found for: " + entityName);
             return actionsMap;
         }
 
         System.out.println("Loading actions from: " + actionsFile.getAbsolutePath());
 
-        try (BufferedReader reader = new BufferedReader(new FileReader(actionsFile))) {
-            String line;
-            String currentAction = null;
-            String currentSection = "";
-            ConditionsField currentField = null;
-            List<ConditionsField> currentFieldsList = null;
-
-            while ((line = reader.readLine()) != null) {
-                String trimmed = line.trim();
-
-                if (trimmed.isEmpty() || trimmed.startsWith("//")) {
-                    continue;
-                }
-
-                // Action header: #ActionName:
-                if (trimmed.startsWith("#") && trimmed.endsWith(":")) {
-                    currentAction = trimmed.substring(1, trimmed.length() - 1);
-                    currentFieldsList = new ArrayList<>();
-                    actionsMap.put(currentAction, currentFieldsList);
-                    currentField = null;
-                    currentSection = "";
-                    System.out.println("  Found action: " + currentAction);
-                }
-                // Section markers
-                else if (trimmed.equals("-conditions")) {
-                    currentSection = "conditions";
-                    // Start new ConditionsField only if we have an action
-                    if (currentFieldsList != null) {
-                        currentField = new ConditionsField();
-                        // Don't add yet - will add when we have actual data
-                    }
-                }
-                else if (trimmed.equals("-process")) {
-                    currentSection = "process";
-                    // Add currentField if it has conditions
-                    if (currentField != null && !currentField.conditions.isEmpty() && currentFieldsList != null) {
-                        currentFieldsList.add(currentField);
-                        System.out.println("    Added ConditionsField with " + currentField.conditions.size() + " conditions");
-                    }
-                    currentField = null; // Reset for next field
-                }
-                // Condition line: --conditionName=ifValue -> =resultValue
-                else if (trimmed.startsWith("--") && currentSection.equals("conditions") && currentField != null) {
-                    String condLine = trimmed.substring(2);
-
-                    // Split by ->
-                    String[] parts = condLine.split("->");
-                    String condPart = parts[0].trim();
-                    String resultPart = parts.length > 1 ? parts[1].trim() : "";
-
-                    // Parse condition part: conditionName=ifValue
-                    String[] condSplit = condPart.split("=");
-                    if (condSplit.length >= 2) {
-                        String condName = condSplit[0].trim();
-                        String ifValue = condSplit[1].trim();
-
-                        // Add to conditions
-                        currentField.conditions.put(condName, ifValue);
-                        System.out.println("    Condition: " + condName + " = " + ifValue);
-
-                        // Parse result part: =resultValue
-                        if (resultPart.startsWith("=") && resultPart.length() > 1) {
-                            String resultValue = resultPart.substring(1).trim();
-                            boolean boolResult = Boolean.parseBoolean(resultValue);
-                            currentField.resultValues.put(condName, boolResult);
-                            System.out.println("      -> Result: " + condName + " = " + boolResult);
-                        }
-                    }
-                }
-                // Process name (currently not used in new format, but could be extended)
-                else if (currentSection.equals("process") && !trimmed.isEmpty() && currentField != null) {
-                    currentField.processName = trimmed;
-                    System.out.println("    Process: " + trimmed);
-                }
-            }
+        try {
+            new ResourceTokenizer().skipComments().onOtherSections(new ActionsParser(actionsMap)).parse(actionsFile);
         } catch (IOException e) {
             System.err.println("Error loading actions from " + actionsFile + ": " + e.getMessage());
             e.printStackTrace();
@@ -214,6 +139,88 @@ public class ActionsLoader {
         }
     }
 
+    /**
+     * One section per action: "#ActionName:" followed by -conditions / -process blocks
+     */
+    private static class ActionsParser implements ResourceTokenizer.SectionHandler {
+        private final Map<String, List<ConditionsField>> actionsMap;
+        private String currentSection = "";
+        private ConditionsField currentField = null;
+        private List<ConditionsField> currentFieldsList = null;
+
+        ActionsParser(Map<String, List<ConditionsField>> actionsMap) {
+            this.actionsMap = actionsMap;
+        }
+
+        @Override
+        public void begin(ResourceTokenizer.Token header) {
+            if (!header.endsWith(":")) {
+                line(header);
+                return;
+            }
+            // Action header: #ActionName:
+            String currentAction = header.substring(1, header.length() - 1);
+            currentFieldsList = new ArrayList<>();
+            actionsMap.put(currentAction, currentFieldsList);
+            currentField = null;
+            currentSection = "";
+            System.out.println("  Found action: " + currentAction);
+        }
+
+        @Override
+        public void line(ResourceTokenizer.Token token) {
+            // Section markers
+            if (token.is("-conditions")) {
+                currentSection = "conditions";
+                // Start new ConditionsField only if we have an action
+                if (currentFieldsList != null) {
+                    currentField = new ConditionsField();
+                    // Don't add yet - will add when we have actual data
+                }
+            }
+            else if (token.is("-process")) {
+                currentSection = "process";
+                // Add currentField if it has conditions
+                if (currentField != null && !currentField.conditions.isEmpty() && currentFieldsList != null) {
+                    currentFieldsList.add(currentField);
+                    System.out.println("    Added ConditionsField with " + currentField.conditions.size() + " conditions");
+                }
+                currentField = null; // Reset for next field
+            }
+            // Condition line: --conditionName=ifValue -> =resultValue
+            else if (token.startsWith("--") && currentSection.equals("conditions") && currentField != null) {
+                // Condition part ends at ->, the result part follows it
+                int arrow = token.indexOf("->");
+                int condEnd = arrow >= 0 ? arrow : token.length();
+                String resultPart = arrow >= 0 ? token.value(arrow + 2) : "";
+
+                // Parse condition part: conditionName=ifValue
+                int equals = token.indexOf("=");
+                if (equals >= 0 && equals < condEnd) {
+                    String condName = token.substring(2, equals).trim();
+                    String ifValue = token.substring(equals + 1, condEnd).trim();
+
+                    // Add to conditions
+                    currentField.conditions.put(condName, ifValue);
+                    System.out.println("    Condition: " + condName + " = " + ifValue);
+
+                    // Parse result part: =resultValue
+                    if (resultPart.startsWith("=") && resultPart.length() > 1) {
+                        String resultValue = resultPart.substring(1).trim();
+                        boolean boolResult = Boolean.parseBoolean(resultValue);
+                        currentField.resultValues.put(condName, boolResult);
+                        System.out.println("      -> Result: " + condName + " = " + boolResult);
+                    }
+                }
+            }
+            // Process name (currently not used in new format, but could be extended)
+            else if (currentSection.equals("process") && currentField != null) {
+                currentField.processName = token.text();
+                System.out.println("    Process: " + currentField.processName);
+            }
+        }
+    }
+
     /**
      * Helper class to represent a ConditionsField
      */
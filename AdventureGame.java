@@ -17,6 +17,7 @@ import java.awt.Point;
 import java.awt.Polygon;
 import java.awt.Rectangle;
 import java.awt.RenderingHints;
+import java.awt.Shape;
 import java.awt.Toolkit;
 import java.awt.datatransfer.DataFlavor;
 import java.awt.datatransfer.Transferable;
@@ -25,6 +26,7 @@ import java.awt.event.KeyEvent;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
 import java.awt.event.MouseMotionAdapter;
+import java.awt.geom.AffineTransform;
 import java.awt.image.BufferedImage;
 import java.io.File;
 import java.util.List;
@@ -49,7 +51,7 @@ import main.ui.theme.Spacing;
 // New UI imports
 import main.ui.theme.ThemeManager;
 
-public class AdventureGame extends JFrame {
+public class AdventureGame extends JFrame implements GameSession {
 	// Item corner enum for drag-resize
 	private enum ItemCorner {
 		NONE, TOP_LEFT, TOP_RIGHT, BOTTOM_LEFT, BOTTOM_RIGHT
@@ -61,7 +63,10 @@ public class AdventureGame extends JFrame {
 	private JPanel menuPanel;
 	private JPanel inventoryPanel;
 	private ProcessExecutor processExecutor;
+	private final ClickInterpreter clickInterpreter = new ClickInterpreter(this, new GamePresentation());
 	private Image backgroundImage;
+	// Source file of backgroundImage (null for classpath images), scaled for large windows
+	private File backgroundFile;
 	private JLabel hoverTextLabel;
 	private String selectedAction = null;
 	private String selectedItem = null;
@@ -81,6 +86,10 @@ public class AdventureGame extends JFrame {
 	private MovingRange selectedMovingRangeForPointDrag = null; // MovingRange whose point is being dragged
 	private Path selectedPathForPointDrag = null; // Path whose point is being dragged
 	private boolean pointWasDragged = false; // Track if point was actually dragged (moved)
+	private final PointHandleIndex pointHandleIndex = new PointHandleIndex(); // Grid of point handles for picking
+	private final MouseMotionCoalescer mouseMotion = new MouseMotionCoalescer(16, this::handleMouseMoved,
+			this::handleMouseDragged); // Mouse motion applied once per frame
+	private long lastDragLogMillis = 0; // Editor log during point drags is rate-limited
 	private boolean addPointMode = false;
 	private EditorMain addPointModeEditor = null;
 	private UniversalPointEditorDialog pointEditorDialog = null;
@@ -113,9 +122,23 @@ public class AdventureGame extends JFrame {
 	private Point characterTargetPosition = null;
 	private javax.swing.Timer characterMovementTimer = null;
 	private static final int CHARACTER_SPEED = 5; // Pixels per frame
+	private static final int DRAG_LOG_INTERVAL_MILLIS = 250; // Editor log interval while dragging points
+
+	// Startup timeline: first paint of the game panel
+	private boolean firstFrameDrawn = false;
 
 	// Cursor blinking
 	private javax.swing.Timer cursorBlinkTimer;
+
+	// Captions, speech bubbles and dialogs drawn in the game panel
+	private final TextOverlay textOverlay = new TextOverlay();
+	private javax.swing.Timer textOverlayTimer;
+	private AudioEngine audioEngine = null;
+	private SceneTransition sceneTransition = null;
+	private javax.swing.Timer animationTimer;
+	private long lastAnimationFrameStamp = 0;
+	private javax.swing.Timer sceneTransitionTimer;
+	private final GameView gameView = new GameView(() -> gamePanel.repaint());
 	private boolean cursorVisible = true;
 	private KeyArea hoveredKeyArea = null;
 
@@ -129,8 +152,7 @@ public class AdventureGame extends JFrame {
 		setSize(1024, 768);
 		setLocationRelativeTo(null);
 
-		// Ensure progress files exist (creates them from defaults if missing)
-		GameStateManager.ensureProgressFilesExist();
+		// Progress files are ensured by the "progress files" startup task in main()
 
 		progress = new GameProgress();
 		progress.loadProgress();
@@ -154,6 +176,12 @@ public class AdventureGame extends JFrame {
 		setupHotkeys();
 		setupCursorBlinking();
 
+		// Saved or reloaded MovingRanges: rebuild point handles and redraw overlays
+		MovingRangeManager.addListener(range -> SwingUtilities.invokeLater(() -> {
+			pointHandleIndex.invalidate();
+			gamePanel.repaint();
+		}));
+
 		// Load initial scene (auto-save disabled during load)
 		loadScene(progress.getCurrentScene());
 
@@ -162,6 +190,7 @@ public class AdventureGame extends JFrame {
 		System.out.println("✓ Game started - Auto-save ENABLED");
 
 		setVisible(true);
+		StartupOrchestrator.mark("window visible");
 	}
 
 	/**
@@ -202,6 +231,27 @@ public class AdventureGame extends JFrame {
 			}
 		});
 		cursorBlinkTimer.start();
+
+		// Timer for removing expired captions and bubbles
+		textOverlayTimer = new javax.swing.Timer(100, e -> {
+			if (textOverlay.expire(currentTimeMillis())) {
+				gamePanel.repaint();
+			}
+		});
+		textOverlayTimer.start();
+
+		// Sprite sheet animations: repaint when a visible frame changes (frames follow the game clock)
+		animationTimer = new javax.swing.Timer(16, e -> {
+			long frames = animationFrameStamp();
+			if (frames != lastAnimationFrameStamp) {
+				lastAnimationFrameStamp = frames;
+				gamePanel.repaint();
+			}
+		});
+		animationTimer.start();
+
+		// Frame timer of scene changes, only running while one is in progress
+		sceneTransitionTimer = new javax.swing.Timer(16, e -> updateSceneTransition());
 	}
 
 	private void setupHotkeys() {
@@ -409,14 +459,17 @@ public class AdventureGame extends JFrame {
 		loadScene(sceneName);
 	}
 
+	@Override
 	public String getCurrentSceneName() {
 		return currentScene != null ? currentScene.getName() : "none";
 	}
 
+	@Override
 	public Scene getCurrentScene() {
 		return currentScene;
 	}
 
+	@Override
 	public GameProgress getGameProgress() {
 		return progress;
 	}
@@ -809,30 +862,152 @@ public class AdventureGame extends JFrame {
 			@Override
 			protected void paintComponent(Graphics g) {
 				super.paintComponent(g);
+				if (!firstFrameDrawn) {
+					firstFrameDrawn = true;
+					StartupOrchestrator.mark("first frame");
+					SwingUtilities.invokeLater(StartupOrchestrator::printTimeline);
+				}
 				System.out.println("🎨🎨 paintComponent() CALLED - showPaths=" + showPaths + ", scenePointEditor="
 						+ (scenePointEditor != null ? "REGISTERED" : "NULL"));
 
 				Graphics2D g2d = (Graphics2D) g;
 				g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
 
-				// Draw background image FIRST (bottom layer)
-				if (backgroundImage != null) {
-					g2d.drawImage(backgroundImage, 0, 0, getWidth(), getHeight(), null);
-				}
+				// Game coordinates are 1024x668, scaled to fit the panel (bars outside)
+				gameView.setPanelSize(getWidth(), getHeight());
+				AffineTransform panelTransform = g2d.getTransform();
+				Shape panelClip = g2d.getClip();
+				g2d.clip(gameView.getViewBounds());
+
+				if (!showPaths) {
+					// Game mode: scene layer pre-scaled to the panel size, shared with headless rendering
+					SceneRenderer.renderScene(g2d, currentScene, backgroundImage, backgroundFile, gameView,
+							currentTimeMillis());
+					g2d.transform(gameView.getTransform());
+				} else {
+					// Editor mode draws in game coordinates through the view transform
+					g2d.transform(gameView.getTransform());
 
-				// Draw items (after background, before player)
-				// Draw non-selected items first, then selected item on top
-				if (currentScene != null) {
-					Item selectedSceneItem = currentScene.getSelectedItem();
+					// Draw background image FIRST (bottom layer)
+					if (backgroundImage != null) {
+						g2d.drawImage(backgroundImage, 0, 0, GameView.GAME_WIDTH, GameView.GAME_HEIGHT, null);
+					}
 
-					// Draw all non-selected items first
-					for (Item item : currentScene.getItems()) {
-						if (item != selectedSceneItem && isItemVisibleInCurrentMode(item)) {
-							// Load item image (with orientation-based or condition-based path)
+					// Draw items (after background, before player)
+					// Draw non-selected items first, then selected item on top
+					if (currentScene != null) {
+						Item selectedSceneItem = currentScene.getSelectedItem();
+
+						// Draw all non-selected items first
+						for (Item item : currentScene.getItems()) {
+							if (item != selectedSceneItem && isItemVisibleInCurrentMode(item)) {
+								// Load item image (with orientation-based or condition-based path)
+								// Priority: Orientation image > Conditional image > Default image
+								String imagePath = item.getOrientationImage();
+								if (imagePath == null) {
+									imagePath = item.getCurrentImagePath();
+								}
+
+								// Use ResourcePathHelper to resolve path (handles both full paths and
+								// filenames)
+								File imageFile = ResourcePathHelper.findImageFile(imagePath);
+								if (imageFile == null) {
+									// Fallback: try direct path
+									imageFile = new File(imagePath);
+								}
+
+								if (imageFile != null && imageFile.exists()) {
+									try {
+										// Decoded once, evicted by ResourceMonitor when the file changes
+										Image img = ImageCache.get(imageFile);
+										Point pos = item.getPosition();
+
+										// Use stored width/height from item
+										int imgWidth = item.getWidth();
+										int imgHeight = item.getHeight();
+
+										// Calculate top-left corner
+										int x = pos.x - imgWidth / 2;
+										int y = pos.y - imgHeight / 2;
+
+										// Draw image scaled to item size
+										// In editor mode, draw with transparency so polygon points are visible
+										if (showPaths) {
+											Composite originalComposite = g2d.getComposite();
+											g2d.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 0.5f));
+											g2d.drawImage(img, x, y, imgWidth, imgHeight, null);
+											g2d.setComposite(originalComposite);
+										} else {
+											g2d.drawImage(img, x, y, imgWidth, imgHeight, null);
+										}
+
+										// Draw item boundary and drag points in editor mode
+										if (showPaths) {
+											g2d.setColor(Color.CYAN);
+											g2d.setStroke(new BasicStroke(2));
+											g2d.drawRect(x, y, imgWidth, imgHeight);
+											g2d.drawString(item.getName(), x, y - 5);
+
+											// Draw 4 corner drag points in GREEN
+											int handleSize = 12;
+											g2d.setColor(Color.GREEN);
+											// Top-left
+											g2d.fillRect(x - handleSize / 2, y - handleSize / 2, handleSize, handleSize);
+											// Top-right
+											g2d.fillRect(x + imgWidth - handleSize / 2, y - handleSize / 2, handleSize,
+													handleSize);
+											// Bottom-left
+											g2d.fillRect(x - handleSize / 2, y + imgHeight - handleSize / 2, handleSize,
+													handleSize);
+											// Bottom-right
+											g2d.fillRect(x + imgWidth - handleSize / 2, y + imgHeight - handleSize / 2,
+													handleSize, handleSize);
+										}
+									} catch (Exception e) {
+										// Failed to load image
+										System.err.println(
+												"Failed to load item image: " + imagePath + " - " + e.getMessage());
+									}
+								} else {
+									// Draw placeholder if image not found
+									if (showPaths) {
+										Point pos = item.getPosition();
+										int imgWidth = item.getWidth();
+										int imgHeight = item.getHeight();
+										int x = pos.x - imgWidth / 2;
+										int y = pos.y - imgHeight / 2;
+
+										g2d.setColor(Color.RED);
+										g2d.setStroke(new BasicStroke(2));
+										g2d.drawRect(x, y, imgWidth, imgHeight);
+										g2d.drawLine(x, y, x + imgWidth, y + imgHeight);
+										g2d.drawLine(x + imgWidth, y, x, y + imgHeight);
+										g2d.setColor(Color.WHITE);
+										g2d.drawString(item.getName() + " (IMAGE NOT FOUND)", x, y - 5);
+										g2d.drawString("Path: " + imagePath, x, y + imgHeight + 15);
+									}
+								}
+							} else if (item != selectedSceneItem && showPaths && !item.isVisible()) {
+								// Show invisible non-selected items in editor mode
+								Point pos = item.getPosition();
+								int imgWidth = item.getWidth();
+								int imgHeight = item.getHeight();
+								int x = pos.x - imgWidth / 2;
+								int y = pos.y - imgHeight / 2;
+
+								g2d.setColor(new Color(128, 128, 128, 100));
+								g2d.fillRect(x, y, imgWidth, imgHeight);
+								g2d.setColor(Color.GRAY);
+								g2d.drawString(item.getName() + " (INVISIBLE)", x, y - 5);
+							}
+						}
+
+						// Draw selected item last (on top of other items)
+						if (selectedSceneItem != null && selectedSceneItem.isVisible()) {
 							// Priority: Orientation image > Conditional image > Default image
-							String imagePath = item.getOrientationImage();
+							String imagePath = selectedSceneItem.getOrientationImage();
 							if (imagePath == null) {
-								imagePath = item.getCurrentImagePath();
+								imagePath = selectedSceneItem.getCurrentImagePath();
 							}
 
 							// Use ResourcePathHelper to resolve path (handles both full paths and
@@ -845,14 +1020,13 @@ public class AdventureGame extends JFrame {
 
 							if (imageFile != null && imageFile.exists()) {
 								try {
-									// Use ImageIO.read to avoid caching issues
-									java.awt.image.BufferedImage buffered = javax.imageio.ImageIO.read(imageFile);
-									Image img = buffered;
-									Point pos = item.getPosition();
+									// Decoded once, evicted by ResourceMonitor when the file changes
+									Image img = ImageCache.get(imageFile);
+									Point pos = selectedSceneItem.getPosition();
 
 									// Use stored width/height from item
-									int imgWidth = item.getWidth();
-									int imgHeight = item.getHeight();
+									int imgWidth = selectedSceneItem.getWidth();
+									int imgHeight = selectedSceneItem.getHeight();
 
 									// Calculate top-left corner
 									int x = pos.x - imgWidth / 2;
@@ -869,16 +1043,18 @@ public class AdventureGame extends JFrame {
 										g2d.drawImage(img, x, y, imgWidth, imgHeight, null);
 									}
 
-									// Draw item boundary and drag points in editor mode
+									// Draw item boundary and drag points in editor mode with ORANGE color for
+									// selected
 									if (showPaths) {
-										g2d.setColor(Color.CYAN);
-										g2d.setStroke(new BasicStroke(2));
+										g2d.setColor(new Color(255, 165, 0)); // Orange for selected
+										g2d.setStroke(new BasicStroke(3)); // Thicker border
 										g2d.drawRect(x, y, imgWidth, imgHeight);
-										g2d.drawString(item.getName(), x, y - 5);
+										g2d.setFont(new Font("Arial", Font.BOLD, 12));
+										g2d.drawString(selectedSceneItem.getName() + " [SELECTED]", x, y - 5);
 
-										// Draw 4 corner drag points in GREEN
-										int handleSize = 12;
-										g2d.setColor(Color.GREEN);
+										// Draw 4 corner drag points in ORANGE
+										int handleSize = 14; // Bigger for selected
+										g2d.setColor(new Color(255, 140, 0)); // Dark orange
 										// Top-left
 										g2d.fillRect(x - handleSize / 2, y - handleSize / 2, handleSize, handleSize);
 										// Top-right
@@ -894,131 +1070,27 @@ public class AdventureGame extends JFrame {
 								} catch (Exception e) {
 									// Failed to load image
 									System.err.println(
-											"Failed to load item image: " + imagePath + " - " + e.getMessage());
+											"Failed to load selected item image: " + imagePath + " - " + e.getMessage());
 								}
 							} else {
 								// Draw placeholder if image not found
 								if (showPaths) {
-									Point pos = item.getPosition();
-									int imgWidth = item.getWidth();
-									int imgHeight = item.getHeight();
+									Point pos = selectedSceneItem.getPosition();
+									int imgWidth = selectedSceneItem.getWidth();
+									int imgHeight = selectedSceneItem.getHeight();
 									int x = pos.x - imgWidth / 2;
 									int y = pos.y - imgHeight / 2;
 
-									g2d.setColor(Color.RED);
-									g2d.setStroke(new BasicStroke(2));
+									g2d.setColor(new Color(255, 100, 0)); // Orange-red for selected missing image
+									g2d.setStroke(new BasicStroke(3));
 									g2d.drawRect(x, y, imgWidth, imgHeight);
 									g2d.drawLine(x, y, x + imgWidth, y + imgHeight);
 									g2d.drawLine(x + imgWidth, y, x, y + imgHeight);
 									g2d.setColor(Color.WHITE);
-									g2d.drawString(item.getName() + " (IMAGE NOT FOUND)", x, y - 5);
-									g2d.drawString("Path: " + imagePath, x, y + imgHeight + 15);
-								}
-							}
-						} else if (item != selectedSceneItem && showPaths && !item.isVisible()) {
-							// Show invisible non-selected items in editor mode
-							Point pos = item.getPosition();
-							int imgWidth = item.getWidth();
-							int imgHeight = item.getHeight();
-							int x = pos.x - imgWidth / 2;
-							int y = pos.y - imgHeight / 2;
-
-							g2d.setColor(new Color(128, 128, 128, 100));
-							g2d.fillRect(x, y, imgWidth, imgHeight);
-							g2d.setColor(Color.GRAY);
-							g2d.drawString(item.getName() + " (INVISIBLE)", x, y - 5);
-						}
-					}
-
-					// Draw selected item last (on top of other items)
-					if (selectedSceneItem != null && selectedSceneItem.isVisible()) {
-						// Priority: Orientation image > Conditional image > Default image
-						String imagePath = selectedSceneItem.getOrientationImage();
-						if (imagePath == null) {
-							imagePath = selectedSceneItem.getCurrentImagePath();
-						}
-
-						// Use ResourcePathHelper to resolve path (handles both full paths and
-						// filenames)
-						File imageFile = ResourcePathHelper.findImageFile(imagePath);
-						if (imageFile == null) {
-							// Fallback: try direct path
-							imageFile = new File(imagePath);
-						}
-
-						if (imageFile != null && imageFile.exists()) {
-							try {
-								// Use ImageIO.read to avoid caching issues
-								java.awt.image.BufferedImage buffered = javax.imageio.ImageIO.read(imageFile);
-								Image img = buffered;
-								Point pos = selectedSceneItem.getPosition();
-
-								// Use stored width/height from item
-								int imgWidth = selectedSceneItem.getWidth();
-								int imgHeight = selectedSceneItem.getHeight();
-
-								// Calculate top-left corner
-								int x = pos.x - imgWidth / 2;
-								int y = pos.y - imgHeight / 2;
-
-								// Draw image scaled to item size
-								// In editor mode, draw with transparency so polygon points are visible
-								if (showPaths) {
-									Composite originalComposite = g2d.getComposite();
-									g2d.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 0.5f));
-									g2d.drawImage(img, x, y, imgWidth, imgHeight, null);
-									g2d.setComposite(originalComposite);
-								} else {
-									g2d.drawImage(img, x, y, imgWidth, imgHeight, null);
-								}
-
-								// Draw item boundary and drag points in editor mode with ORANGE color for
-								// selected
-								if (showPaths) {
-									g2d.setColor(new Color(255, 165, 0)); // Orange for selected
-									g2d.setStroke(new BasicStroke(3)); // Thicker border
-									g2d.drawRect(x, y, imgWidth, imgHeight);
 									g2d.setFont(new Font("Arial", Font.BOLD, 12));
-									g2d.drawString(selectedSceneItem.getName() + " [SELECTED]", x, y - 5);
-
-									// Draw 4 corner drag points in ORANGE
-									int handleSize = 14; // Bigger for selected
-									g2d.setColor(new Color(255, 140, 0)); // Dark orange
-									// Top-left
-									g2d.fillRect(x - handleSize / 2, y - handleSize / 2, handleSize, handleSize);
-									// Top-right
-									g2d.fillRect(x + imgWidth - handleSize / 2, y - handleSize / 2, handleSize,
-											handleSize);
-									// Bottom-left
-									g2d.fillRect(x - handleSize / 2, y + imgHeight - handleSize / 2, handleSize,
-											handleSize);
-									// Bottom-right
-									g2d.fillRect(x + imgWidth - handleSize / 2, y + imgHeight - handleSize / 2,
-											handleSize, handleSize);
+									g2d.drawString(selectedSceneItem.getName() + " [SELECTED] (IMAGE NOT FOUND)", x, y - 5);
+									g2d.drawString("Path: " + imagePath, x, y + imgHeight + 15);
 								}
-							} catch (Exception e) {
-								// Failed to load image
-								System.err.println(
-										"Failed to load selected item image: " + imagePath + " - " + e.getMessage());
-							}
-						} else {
-							// Draw placeholder if image not found
-							if (showPaths) {
-								Point pos = selectedSceneItem.getPosition();
-								int imgWidth = selectedSceneItem.getWidth();
-								int imgHeight = selectedSceneItem.getHeight();
-								int x = pos.x - imgWidth / 2;
-								int y = pos.y - imgHeight / 2;
-
-								g2d.setColor(new Color(255, 100, 0)); // Orange-red for selected missing image
-								g2d.setStroke(new BasicStroke(3));
-								g2d.drawRect(x, y, imgWidth, imgHeight);
-								g2d.drawLine(x, y, x + imgWidth, y + imgHeight);
-								g2d.drawLine(x + imgWidth, y, x, y + imgHeight);
-								g2d.setColor(Color.WHITE);
-								g2d.setFont(new Font("Arial", Font.BOLD, 12));
-								g2d.drawString(selectedSceneItem.getName() + " [SELECTED] (IMAGE NOT FOUND)", x, y - 5);
-								g2d.drawString("Path: " + imagePath, x, y + imgHeight + 15);
 							}
 						}
 					}
@@ -1436,10 +1508,24 @@ public class AdventureGame extends JFrame {
 						}
 					}
 				}
+
+				// Outgoing frame of a scene change fading over the new scene (a panel snapshot)
+				g2d.setTransform(panelTransform);
+				SceneTransition transition = sceneTransition;
+				if (transition != null) {
+					transition.paint(g2d, getWidth(), getHeight(), currentTimeMillis());
+				}
+
+				// Text overlay on top of everything (layouts are cached, only drawing here)
+				g2d.transform(gameView.getTransform());
+				textOverlay.paint(g2d, GameView.GAME_WIDTH, GameView.GAME_HEIGHT, currentTimeMillis());
+				g2d.setTransform(panelTransform);
+				g2d.setClip(panelClip);
 			}
 		};
 		gamePanel.setLayout(new BorderLayout());
-		gamePanel.setPreferredSize(new Dimension(1024, 668));
+		gamePanel.setPreferredSize(new Dimension(GameView.GAME_WIDTH, GameView.GAME_HEIGHT));
+		gamePanel.setBackground(Color.BLACK);
 
 		// Hover text label (top of game panel)
 		hoverTextLabel = new JLabel(" ");
@@ -1455,29 +1541,36 @@ public class AdventureGame extends JFrame {
 		gamePanel.addMouseListener(new MouseAdapter() {
 			@Override
 			public void mouseClicked(MouseEvent e) {
-				handleGamePanelClick(e.getPoint());
+				mouseMotion.flush();
+				handleGamePanelClick(gameView.toGame(e.getPoint()));
 				// Request focus so keyboard shortcuts work
 				gamePanel.requestFocusInWindow();
 			}
 
 			@Override
 			public void mousePressed(MouseEvent e) {
+				mouseMotion.flush();
+
 				// Request focus so keyboard shortcuts work
 				gamePanel.requestFocusInWindow();
 
 				if (showPaths) {
 					// Check for path points FIRST (higher priority for precise clicking)
-					handlePathPointPress(e.getPoint());
+					Point gamePoint = gameView.toGame(e.getPoint());
+					handlePathPointPress(gamePoint);
 
 					// If no path point selected, check for item click
 					if (selectedPathPoint == null) {
-						handleItemPress(e.getPoint());
+						handleItemPress(gamePoint);
 					}
 				}
 			}
 
 			@Override
 			public void mouseReleased(MouseEvent e) {
+				// Apply the last drag position before the release
+				mouseMotion.flush();
+
 				if (showPaths && selectedPathPoint != null) {
 					handlePathPointRelease();
 				}
@@ -1489,44 +1582,16 @@ public class AdventureGame extends JFrame {
 			}
 		});
 
-		// Mouse motion listener for hover text and dragging
+		// Mouse motion listener for hover text and dragging (coalesced to one update per frame)
 		gamePanel.addMouseMotionListener(new MouseMotionAdapter() {
 			@Override
 			public void mouseMoved(MouseEvent e) {
-				handleMouseHover(e.getPoint());
-
-				// Update orientation images for items following mouse or following on click
-				// IMPORTANT: isFollowingMouse only changes orientation images, NOT position!
-				// Position changes only happen with isFollowingOnMouseClick via
-				// handleCharacterMovement
-				if (currentScene != null) {
-					boolean foundFollowingItem = false;
-					for (Item item : currentScene.getItems()) {
-						// DEBUG: Check if any item has following flags set
-						if (item.isFollowingMouse() || item.isFollowingOnMouseClick()) {
-							System.out.println("🔵 DEBUG mouseMoved: Item '" + item.getName() + "' isFollowingMouse="
-									+ item.isFollowingMouse() + ", isFollowingOnMouseClick="
-									+ item.isFollowingOnMouseClick());
-							item.updateOrientationBasedOnCursor(e.getX(), e.getY());
-							foundFollowingItem = true;
-						}
-					}
-					if (foundFollowingItem) {
-						gamePanel.repaint();
-					}
-				}
+				mouseMotion.moved(gameView.toGame(e.getPoint()));
 			}
 
 			@Override
 			public void mouseDragged(MouseEvent e) {
-				if (showPaths && selectedPathPoint != null) {
-					handlePathPointDrag(e.getPoint());
-				}
-
-				// Handle item dragging
-				if (showPaths && draggedItem != null) {
-					handleItemDrag(e.getPoint());
-				}
+				mouseMotion.dragged(gameView.toGame(e.getPoint()));
 			}
 		});
 
@@ -1890,178 +1955,145 @@ public class AdventureGame extends JFrame {
 		}
 	}
 
-	private void handlePathPointPress(Point clickPoint) {
-		if (currentScene == null)
-			return;
+	/**
+	 * Mouse moved (latest position of the frame)
+	 */
+	private void handleMouseMoved(Point mousePoint) {
+		handleMouseHover(mousePoint);
 
-		// Check if clicking on CustomClickArea points first (highest priority)
-		for (Item item : currentScene.getItems()) {
-			if (!isItemVisibleInCurrentMode(item))
-				continue;
-
-			List<CustomClickArea> customAreas = item.getCustomClickAreas();
-			for (CustomClickArea area : customAreas) {
-				// Only allow dragging if area is active
-				if (!area.shouldBeActive(null))
-					continue;
-
-				List<Point> points = area.getPoints();
-				for (int i = 0; i < points.size(); i++) {
-					Point p = points.get(i);
-					if (p.distance(clickPoint) < 15) {
-						// Store point info
-						selectedPathPoint = p;
-						selectedPathPointIndex = i;
-						selectedItemForPointDrag = item;
-						selectedCustomClickAreaForPointDrag = area;
-						pointWasDragged = false;
-
-						// Set highlighted point IMMEDIATELY for visual feedback
-						setHighlightedPoint(item, "CustomClickArea", i);
-
-						// IMPORTANT: Return to prevent sprite/item from reacting
-						return;
-					}
+		// Update orientation images for items following mouse or following on click
+		// IMPORTANT: isFollowingMouse only changes orientation images, NOT position!
+		// Position changes only happen with isFollowingOnMouseClick via
+		// ClickInterpreter
+		if (currentScene != null) {
+			boolean foundFollowingItem = false;
+			for (Item item : currentScene.getItems()) {
+				// DEBUG: Check if any item has following flags set
+				if (item.isFollowingMouse() || item.isFollowingOnMouseClick()) {
+					System.out.println("🔵 DEBUG mouseMoved: Item '" + item.getName() + "' isFollowingMouse="
+							+ item.isFollowingMouse() + ", isFollowingOnMouseClick="
+							+ item.isFollowingOnMouseClick());
+					item.updateOrientationBasedOnCursor(mousePoint.x, mousePoint.y);
+					foundFollowingItem = true;
 				}
 			}
+			if (foundFollowingItem) {
+				gamePanel.repaint();
+			}
 		}
+	}
 
-		// Check if clicking on Item click area points (old system)
-		for (Item item : currentScene.getItems()) {
-			if (!isItemVisibleInCurrentMode(item))
-				continue;
-
-			List<Point> points = item.getClickAreaPoints();
-			for (int i = 0; i < points.size(); i++) {
-				Point p = points.get(i);
-				if (p.distance(clickPoint) < 15) {
-					selectedPathPoint = p;
-					selectedPathPointIndex = i;
-					selectedItemForPointDrag = item;
-					selectedCustomClickAreaForPointDrag = null;
-
-					// Auto-select in editor window
-					if (editorWindow != null) {
-						editorWindow.selectItem(item);
-						editorWindow.log("Selected Item point " + i + " from " + item.getName() + " at (" + p.x + ","
-								+ p.y + ")");
-					}
-					return;
-				}
-			}
+	/**
+	 * Mouse dragged (latest position of the frame)
+	 */
+	private void handleMouseDragged(Point dragPoint) {
+		if (showPaths && selectedPathPoint != null) {
+			handlePathPointDrag(dragPoint);
 		}
 
-		// Check if clicking on MovingRange points from Items
-		for (Item item : currentScene.getItems()) {
-			if (!isItemVisibleInCurrentMode(item) || !item.isMovingRangeVisibleInEditor())
-				continue;
-
-			List<MovingRange> movingRanges = item.getMovingRanges();
-			if (movingRanges != null) {
-				for (MovingRange range : movingRanges) {
-					if (!range.shouldBeActive(null))
-						continue;
-
-					List<Point> points = range.getPoints();
-					for (int i = 0; i < points.size(); i++) {
-						Point p = points.get(i);
-						if (p.distance(clickPoint) < 15) {
-							selectedPathPoint = p;
-							selectedPathPointIndex = i;
-							selectedItemForPointDrag = item;
-							selectedCustomClickAreaForPointDrag = null;
-							selectedMovingRangeForPointDrag = range;
-							selectedPathForPointDrag = null;
-							pointWasDragged = false;
-
-							// Set highlighted point IMMEDIATELY for visual feedback
-							setHighlightedPoint(item, "MovingRange", i);
-
-							// IMPORTANT: Return to prevent sprite/item from reacting
-							return;
-						}
-					}
-				}
-			}
+		// Handle item dragging
+		if (showPaths && draggedItem != null) {
+			handleItemDrag(dragPoint);
 		}
+	}
 
-		// Check if clicking on Path points from Items
-		for (Item item : currentScene.getItems()) {
-			if (!isItemVisibleInCurrentMode(item) || !item.isPathVisibleInEditor())
-				continue;
-
-			List<Path> paths = item.getPaths();
-			if (paths != null) {
-				for (Path path : paths) {
-					if (!path.shouldBeActive(null))
-						continue;
-
-					List<Point> points = path.getPoints();
-					for (int i = 0; i < points.size(); i++) {
-						Point p = points.get(i);
-						if (p.distance(clickPoint) < 15) {
-							selectedPathPoint = p;
-							selectedPathPointIndex = i;
-							selectedItemForPointDrag = item;
-							selectedCustomClickAreaForPointDrag = null;
-							selectedMovingRangeForPointDrag = null;
-							selectedPathForPointDrag = path;
-							pointWasDragged = false;
-
-							// Set highlighted point IMMEDIATELY for visual feedback
-							setHighlightedPoint(item, "Path", i);
-
-							// IMPORTANT: Return to prevent sprite/item from reacting
-							return;
-						}
-					}
-				}
+	private void handlePathPointPress(Point clickPoint) {
+		if (currentScene == null)
+			return;
+
+		// Grid lookup instead of scanning every point; the priority is the same as before:
+		// CustomClickArea, Item click area (old system), MovingRange, Item Path, KeyArea, scene Path
+		PointHandleIndex.Handle handle = pointHandleIndex.find(currentScene, clickPoint, 15,
+				this::isPointHandleSelectable);
+		if (handle == null)
+			return;
+
+		Item item = handle.getItem();
+		Point p = handle.getPoint();
+		int i = handle.getIndex();
+		selectedPathPoint = p;
+		selectedPathPointIndex = i;
+		selectedItemForPointDrag = item;
+		selectedCustomClickAreaForPointDrag = null;
+
+		switch (handle.getKind()) {
+		case CUSTOM_CLICK_AREA:
+			selectedCustomClickAreaForPointDrag = (CustomClickArea) handle.getContainer();
+			pointWasDragged = false;
+
+			// Set highlighted point IMMEDIATELY for visual feedback
+			setHighlightedPoint(item, "CustomClickArea", i);
+			break;
+
+		case CLICK_AREA:
+			// Auto-select in editor window
+			if (editorWindow != null) {
+				editorWindow.selectItem(item);
+				editorWindow.log("Selected Item point " + i + " from " + item.getName() + " at (" + p.x + "," + p.y
+						+ ")");
 			}
-		}
+			break;
+
+		case MOVING_RANGE:
+			selectedMovingRangeForPointDrag = (MovingRange) handle.getContainer();
+			selectedPathForPointDrag = null;
+			pointWasDragged = false;
 
-		// Check if clicking on KeyArea points
-		for (KeyArea area : currentScene.getKeyAreas()) {
-			List<Point> points = area.getPoints();
-			for (int i = 0; i < points.size(); i++) {
-				Point p = points.get(i);
-				if (p.distance(clickPoint) < 15) {
-					selectedPathPoint = p;
-					selectedPathPointIndex = i;
-					selectedItemForPointDrag = null;
-					selectedCustomClickAreaForPointDrag = null;
-					selectedMovingRangeForPointDrag = null;
-					selectedPathForPointDrag = null;
+			// Set highlighted point IMMEDIATELY for visual feedback
+			setHighlightedPoint(item, "MovingRange", i);
+			break;
 
-					// Auto-select in editor window
-					if (editorWindow != null) {
-						editorWindow.selectKeyArea(area);
-//						editorWindow.selectPoint(i);
-						editorWindow.log("Selected KeyArea point " + i + " from " + area.getName() + " at (" + p.x + ","
-								+ p.y + ")");
-					}
-					return;
-				}
+		case ITEM_PATH:
+			selectedMovingRangeForPointDrag = null;
+			selectedPathForPointDrag = (Path) handle.getContainer();
+			pointWasDragged = false;
+
+			// Set highlighted point IMMEDIATELY for visual feedback
+			setHighlightedPoint(item, "Path", i);
+			break;
+
+		case KEY_AREA:
+			selectedMovingRangeForPointDrag = null;
+			selectedPathForPointDrag = null;
+
+			// Auto-select in editor window
+			if (editorWindow != null) {
+				KeyArea area = (KeyArea) handle.getContainer();
+				editorWindow.selectKeyArea(area);
+				editorWindow.log("Selected KeyArea point " + i + " from " + area.getName() + " at (" + p.x + ","
+						+ p.y + ")");
 			}
-		}
+			break;
 
-		// Check if clicking on Path points (scene-level, not item-level)
-		for (Path path : currentScene.getPaths()) {
-			List<Point> points = path.getPoints();
-			for (int i = 0; i < points.size(); i++) {
-				Point p = points.get(i);
-				if (p.distance(clickPoint) < 15) {
-					selectedPathPoint = p;
-					selectedPathPointIndex = i;
-					selectedItemForPointDrag = null;
-					selectedCustomClickAreaForPointDrag = null;
-					selectedMovingRangeForPointDrag = null;
-					selectedPathForPointDrag = null;
-					if (editorWindow != null) {
-						editorWindow.log("Selected scene path point " + i + " at (" + p.x + "," + p.y + ")");
-					}
-					return;
-				}
+		case SCENE_PATH:
+			selectedMovingRangeForPointDrag = null;
+			selectedPathForPointDrag = null;
+			if (editorWindow != null) {
+				editorWindow.log("Selected scene path point " + i + " at (" + p.x + "," + p.y + ")");
 			}
+			break;
+		}
+		// IMPORTANT: Returning a handle prevents sprite/item from reacting
+	}
+
+	/**
+	 * Visibility and active conditions of a point handle, checked at press time
+	 */
+	private boolean isPointHandleSelectable(PointHandleIndex.Handle handle) {
+		Item item = handle.getItem();
+		switch (handle.getKind()) {
+		case CUSTOM_CLICK_AREA:
+			return isItemVisibleInCurrentMode(item) && ((CustomClickArea) handle.getContainer()).shouldBeActive(null);
+		case CLICK_AREA:
+			return isItemVisibleInCurrentMode(item);
+		case MOVING_RANGE:
+			return isItemVisibleInCurrentMode(item) && item.isMovingRangeVisibleInEditor()
+					&& ((MovingRange) handle.getContainer()).shouldBeActive(null);
+		case ITEM_PATH:
+			return isItemVisibleInCurrentMode(item) && item.isPathVisibleInEditor()
+					&& ((Path) handle.getContainer()).shouldBeActive(null);
+		default:
+			return true;
 		}
 	}
 
@@ -2070,6 +2102,9 @@ public class AdventureGame extends JFrame {
 			System.out.println("DRAG: Before=(" + selectedPathPoint.x + "," + selectedPathPoint.y + ") To=("
 					+ dragPoint.x + "," + dragPoint.y + ")");
 
+			int oldX = selectedPathPoint.x;
+			int oldY = selectedPathPoint.y;
+
 			// Only mark as dragged if position actually changed
 			if (selectedPathPoint.x != dragPoint.x || selectedPathPoint.y != dragPoint.y) {
 				selectedPathPoint.x = dragPoint.x;
@@ -2091,11 +2126,7 @@ public class AdventureGame extends JFrame {
 					logMsg += " -> resources/items/" + selectedItemForPointDrag.getName() + ".txt";
 				}
 
-				if (editorWindow != null) {
-					editorWindow.log(logMsg);
-				} else if (editorWindowSimple != null) {
-					editorWindowSimple.log(logMsg);
-				}
+				logPointDrag(logMsg);
 			}
 			// Update MovingRange polygon if dragging MovingRange point
 			else if (selectedMovingRangeForPointDrag != null) {
@@ -2108,11 +2139,7 @@ public class AdventureGame extends JFrame {
 					logMsg += " -> resources/items/" + selectedItemForPointDrag.getName() + ".txt";
 				}
 
-				if (editorWindow != null) {
-					editorWindow.log(logMsg);
-				} else if (editorWindowSimple != null) {
-					editorWindowSimple.log(logMsg);
-				}
+				logPointDrag(logMsg);
 			}
 			// Update Path if dragging Path point (no polygon, just point list)
 			else if (selectedPathForPointDrag != null) {
@@ -2123,11 +2150,7 @@ public class AdventureGame extends JFrame {
 					logMsg += " -> resources/items/" + selectedItemForPointDrag.getName() + ".txt";
 				}
 
-				if (editorWindow != null) {
-					editorWindow.log(logMsg);
-				} else if (editorWindowSimple != null) {
-					editorWindowSimple.log(logMsg);
-				}
+				logPointDrag(logMsg);
 			}
 			// Update Item click area polygon if dragging Item point (old system)
 			else if (selectedItemForPointDrag != null) {
@@ -2138,11 +2161,7 @@ public class AdventureGame extends JFrame {
 						+ selectedItemForPointDrag.getName() + "' to (" + dragPoint.x + "," + dragPoint.y
 						+ ") -> resources/items/" + selectedItemForPointDrag.getName() + ".txt";
 
-				if (editorWindow != null) {
-					editorWindow.log(logMsg);
-				} else if (editorWindowSimple != null) {
-					editorWindowSimple.log(logMsg);
-				}
+				logPointDrag(logMsg);
 			}
 			// Update KeyArea polygons if dragging KeyArea point
 			else if (currentScene != null) {
@@ -2183,10 +2202,30 @@ public class AdventureGame extends JFrame {
 				}
 			}
 
+			// Keep the picking grid in sync (after the polygons were updated)
+			pointHandleIndex.moved(selectedPathPoint, oldX, oldY);
+
 			gamePanel.repaint();
 		}
 	}
 
+	/**
+	 * Logs a point drag step to the editor, at most every DRAG_LOG_INTERVAL_MILLIS
+	 */
+	private void logPointDrag(String logMsg) {
+		long now = System.currentTimeMillis();
+		if (now - lastDragLogMillis < DRAG_LOG_INTERVAL_MILLIS) {
+			return;
+		}
+		lastDragLogMillis = now;
+
+		if (editorWindow != null) {
+			editorWindow.log(logMsg);
+		} else if (editorWindowSimple != null) {
+			editorWindowSimple.log(logMsg);
+		}
+	}
+
 	private void handlePathPointRelease() {
 		System.out.println("RELEASE: pointWasDragged=" + pointWasDragged + ", selectedPathPoint="
 				+ (selectedPathPoint != null ? "SET" : "NULL"));
@@ -2719,45 +2758,13 @@ public class AdventureGame extends JFrame {
 
 	// ==================== Character Movement ====================
 
-	/**
-	 * Handles character movement when user clicks on scene. Only applies to items
-	 * with isFollowingOnMouseClick = true.
-	 */
-	private void handleCharacterMovement(Point clickPoint) {
-		// Find item with isFollowingOnMouseClick = true
-		Item characterItem = findCharacterItem();
-
-		if (characterItem == null) {
-			return; // No character item found
-		}
-
-		// Calculate target position (respects MovingRange)
-		Point targetPosition = CharacterMovement.calculateTargetPosition(characterItem, clickPoint, progress);
-
-		// Start animated movement to target
-		startCharacterMovement(characterItem, targetPosition);
-	}
-
-	/**
-	 * Finds the first item with isFollowingOnMouseClick = true in the current
-	 * scene.
-	 */
-	private Item findCharacterItem() {
-		if (currentScene == null)
-			return null;
-
-		for (Item item : currentScene.getItems()) {
-			if (item.isFollowingOnMouseClick()) {
-				return item;
-			}
-		}
-		return null;
-	}
-
 	/**
 	 * Starts smooth animated movement of character to target position.
 	 */
 	private void startCharacterMovement(Item characterItem, Point targetPosition) {
+		if (movingCharacter != null && movingCharacter != characterItem) {
+			movingCharacter.setMoving(false);
+		}
 		this.movingCharacter = characterItem;
 		this.characterTargetPosition = targetPosition;
 
@@ -2773,15 +2780,8 @@ public class AdventureGame extends JFrame {
 				return;
 			}
 
-			Point currentPos = movingCharacter.getPosition();
-
-			// Calculate distance to target
-			double distance = currentPos.distance(characterTargetPosition);
-
-			if (distance <= CHARACTER_SPEED) {
+			if (CharacterMovement.stepTowards(movingCharacter, characterTargetPosition, CHARACTER_SPEED)) {
 				// Target reached
-				// Move item and its CustomClickArea
-				moveItemWithCustomClickArea(movingCharacter, characterTargetPosition.x, characterTargetPosition.y);
 				((javax.swing.Timer) e.getSource()).stop();
 
 				// Auto-save final position (only in editor mode)
@@ -2800,16 +2800,6 @@ public class AdventureGame extends JFrame {
 
 				movingCharacter = null;
 				characterTargetPosition = null;
-			} else {
-				// Move towards target
-				double angle = Math.atan2(characterTargetPosition.y - currentPos.y,
-						characterTargetPosition.x - currentPos.x);
-
-				int newX = currentPos.x + (int) (Math.cos(angle) * CHARACTER_SPEED);
-				int newY = currentPos.y + (int) (Math.sin(angle) * CHARACTER_SPEED);
-
-				// Move item and its CustomClickArea
-				moveItemWithCustomClickArea(movingCharacter, newX, newY);
 			}
 
 			gamePanel.repaint();
@@ -2825,6 +2815,9 @@ public class AdventureGame extends JFrame {
 		if (characterMovementTimer != null && characterMovementTimer.isRunning()) {
 			characterMovementTimer.stop();
 		}
+		if (movingCharacter != null) {
+			movingCharacter.setMoving(false);
+		}
 		movingCharacter = null;
 		characterTargetPosition = null;
 	}
@@ -2833,6 +2826,7 @@ public class AdventureGame extends JFrame {
 	 * Starts character movement for processes (non-blocking from process
 	 * perspective) Called by Process.MovementAction
 	 */
+	@Override
 	public void startCharacterMovementProcess(Item characterItem, Point targetPosition) {
 		startCharacterMovement(characterItem, targetPosition);
 	}
@@ -2840,52 +2834,11 @@ public class AdventureGame extends JFrame {
 	/**
 	 * Check if character is currently moving (for process blocking)
 	 */
+	@Override
 	public boolean isCharacterMoving() {
 		return movingCharacter != null && characterMovementTimer != null && characterMovementTimer.isRunning();
 	}
 
-	/**
-	 * Moves an item to a new position and updates all CustomClickAreas to move with
-	 * it. This ensures that click areas stay synchronized with the item's visual
-	 * position.
-	 *
-	 * @param item The item to move
-	 * @param newX New X position
-	 * @param newY New Y position
-	 */
-	private void moveItemWithCustomClickArea(Item item, int newX, int newY) {
-		// Calculate delta (how much the item moved)
-		Point oldPosition = item.getPosition();
-		int deltaX = newX - oldPosition.x;
-		int deltaY = newY - oldPosition.y;
-
-		// Update item position
-		item.setPosition(newX, newY);
-
-		// Move all custom click areas with the item
-		if (item.getCustomClickAreas() != null && !item.getCustomClickAreas().isEmpty()) {
-			for (CustomClickArea area : item.getCustomClickAreas()) {
-				List<Point> points = area.getPoints();
-				for (Point p : points) {
-					p.x += deltaX;
-					p.y += deltaY;
-				}
-				// Update polygon for this area
-				area.updatePolygon();
-			}
-		}
-
-		// Also move old-style custom click area (for backward compatibility)
-		if (item.hasCustomClickArea() && item.getClickAreaPoints() != null) {
-			List<Point> clickAreaPoints = item.getClickAreaPoints();
-			for (Point p : clickAreaPoints) {
-				p.x += deltaX;
-				p.y += deltaY;
-			}
-			item.updateClickAreaPolygon();
-		}
-	}
-
 	// ==================== End Character Movement ====================
 
 	/**
@@ -3048,7 +3001,8 @@ public class AdventureGame extends JFrame {
 		});
 	}
 
-	private void selectAction(String action) {
+	@Override
+	public void selectAction(String action) {
 		selectedAction = action;
 		System.out.println("Aktion gewählt: " + action);
 
@@ -3068,6 +3022,11 @@ public class AdventureGame extends JFrame {
 		updateCursorForAction(action);
 	}
 
+	@Override
+	public String getSelectedAction() {
+		return selectedAction;
+	}
+
 	/**
 	 * Updates the cursor based on the selected action
 	 */
@@ -3111,92 +3070,113 @@ public class AdventureGame extends JFrame {
 		}
 	}
 
-	private void handleGamePanelClick(Point clickPoint) {
-		System.out.println("🖱️ handleGamePanelClick: Click at (" + clickPoint.x + ", " + clickPoint.y + ")");
-		System.out.println(
-				"   addPointModeSimple=" + addPointModeSimple + ", addPointModeTypeSimple=" + addPointModeTypeSimple);
-		System.out.println("   scenePointEditor=" + (scenePointEditor != null ? "REGISTERED" : "NULL"));
+	@Override
+	public void clickAt(Point point) {
+		handleGamePanelClick(point);
+	}
 
-		// IMPORTANT: If a point is currently selected, don't process sprite/item clicks
-		// Just deselect the point
-		if (selectedPathPoint != null) {
-			System.out.println("   -> Point is selected, deselecting and ignoring sprite/item click");
-			selectedPathPoint = null;
-			selectedPathPointIndex = -1;
-			clearHighlightedPoint();
+	/**
+	 * Movement, animations and waiting processes run on Swing timers; this
+	 * applies the pending frame updates (scene switch, expired texts) now
+	 */
+	@Override
+	public void tick(long elapsedMillis) {
+		if (sceneTransition != null) {
+			updateSceneTransition();
+		}
+		if (textOverlay.expire(currentTimeMillis())) {
 			gamePanel.repaint();
-			return;
 		}
+	}
 
-		// Check if Scene Point Editor is in add point mode
-		if (addPointModeSimple && scenePointEditor != null) {
-			System.out.println("✅ Delegating to ScenePointEditor.addPointAtPosition()");
-			scenePointEditor.addPointAtPosition(clickPoint.x, clickPoint.y, addPointModeTypeSimple);
-			return;
-		}
+	@Override
+	public ProcessExecutor getProcessExecutor() {
+		return processExecutor;
+	}
 
-		// Check if Simple Editor PointEditorDialog is in add point mode
-		if (addPointModeSimple && simplePointEditorDialog != null) {
-			simplePointEditorDialog.addPointAtPosition(clickPoint.x, clickPoint.y);
-			return;
-		}
+	@Override
+	public long currentTimeMillis() {
+		return System.currentTimeMillis();
+	}
 
-		// Check if Simple Editor is in add point mode (legacy)
-		if (addPointModeSimple && addPointModeItemSimple != null && editorWindowSimple != null) {
-			editorWindowSimple.addPointFromCanvas(clickPoint.x, clickPoint.y, addPointModeTypeSimple);
-			return;
-		}
+	private void handleGamePanelClick(Point clickPoint) {
+		System.out.println("🖱️ handleGamePanelClick: Click at (" + clickPoint.x + ", " + clickPoint.y + ")");
+		System.out.println(
+				"   addPointModeSimple=" + addPointModeSimple + ", addPointModeTypeSimple=" + addPointModeTypeSimple);
+		System.out.println("   scenePointEditor=" + (scenePointEditor != null ? "REGISTERED" : "NULL"));
 
-		// Check if Universal Point Editor is in add point mode
-		if (pointEditorDialog != null && addPointMode) {
-			pointEditorDialog.addPointAtPosition(clickPoint.x, clickPoint.y);
-			return;
-		}
+		clickInterpreter.click(clickPoint);
+	}
 
-		// Check if CustomClickArea Panel is in add point mode
-		if (customClickAreaPanel != null && addPointMode) {
-			try {
-				// Use reflection to call addPointAtPosition method
-				java.lang.reflect.Method method = customClickAreaPanel.getClass().getMethod("addPointAtPosition",
-						int.class, int.class);
-				method.invoke(customClickAreaPanel, clickPoint.x, clickPoint.y);
-				return;
-			} catch (Exception e) {
-				System.err.println("ERROR calling CustomClickAreaPanel.addPointAtPosition: " + e.getMessage());
-				e.printStackTrace();
+	/**
+	 * Frontend side of ClickInterpreter: editor tools, debug window, inventory
+	 * bar, background reload and auto-save
+	 */
+	private class GamePresentation implements ClickInterpreter.Presentation {
+
+		@Override
+		public boolean editorClick(Point clickPoint) {
+			// IMPORTANT: If a point is currently selected, don't process sprite/item clicks
+			// Just deselect the point
+			if (selectedPathPoint != null) {
+				System.out.println("   -> Point is selected, deselecting and ignoring sprite/item click");
+				selectedPathPoint = null;
+				selectedPathPointIndex = -1;
+				clearHighlightedPoint();
+				gamePanel.repaint();
+				return true;
 			}
-		}
 
-		// Check if PointsManager is in add point mode
-//		if (editorWindow != null && editorWindow.getPointsManager() != null) {
-//			PointsManagerDialog pm = editorWindow.getPointsManager();
-//			if (pm.isAddingPoint()) {
-//				pm.addPointAtPosition(clickPoint.x, clickPoint.y);
-//				return;
-//			}
-//		}
+			// Check if Scene Point Editor is in add point mode
+			if (addPointModeSimple && scenePointEditor != null) {
+				System.out.println("✅ Delegating to ScenePointEditor.addPointAtPosition()");
+				scenePointEditor.addPointAtPosition(clickPoint.x, clickPoint.y, addPointModeTypeSimple);
+				return true;
+			}
 
-		// Add point mode takes priority (legacy for old editor)
-//		if (addPointMode && addPointModeEditor != null) {
-////			addPointModeEditor.addPointAtPosition(clickPoint.x, clickPoint.y);
-//			return;
-//		}
+			// Check if Simple Editor PointEditorDialog is in add point mode
+			if (addPointModeSimple && simplePointEditorDialog != null) {
+				simplePointEditorDialog.addPointAtPosition(clickPoint.x, clickPoint.y);
+				return true;
+			}
 
-		if (currentScene == null)
-			return;
+			// Check if Simple Editor is in add point mode (legacy)
+			if (addPointModeSimple && addPointModeItemSimple != null && editorWindowSimple != null) {
+				editorWindowSimple.addPointFromCanvas(clickPoint.x, clickPoint.y, addPointModeTypeSimple);
+				return true;
+			}
 
-		// === CHARACTER MOVEMENT ===
-		// Handle character movement (for items with isFollowingOnMouseClick = true)
-		// This runs BEFORE action handling, so characters can move regardless of
-		// selected action
-		handleCharacterMovement(clickPoint);
+			// Check if Universal Point Editor is in add point mode
+			if (pointEditorDialog != null && addPointMode) {
+				pointEditorDialog.addPointAtPosition(clickPoint.x, clickPoint.y);
+				return true;
+			}
 
-		// Check if clicked on an Item FIRST (Items should have priority over KeyAreas)
-		Item clickedItem = currentScene.getItemAt(clickPoint);
+			// Check if CustomClickArea Panel is in add point mode
+			if (customClickAreaPanel != null && addPointMode) {
+				try {
+					// Use reflection to call addPointAtPosition method
+					java.lang.reflect.Method method = customClickAreaPanel.getClass().getMethod("addPointAtPosition",
+							int.class, int.class);
+					method.invoke(customClickAreaPanel, clickPoint.x, clickPoint.y);
+					return true;
+				} catch (Exception e) {
+					System.err.println("ERROR calling CustomClickAreaPanel.addPointAtPosition: " + e.getMessage());
+					e.printStackTrace();
+				}
+			}
+			return false;
+		}
+
+		/**
+		 * When the editor is open (showPaths), clicking on an item selects it for editing
+		 */
+		@Override
+		public boolean editorItemClick(Item clickedItem) {
+			if (!showPaths || !isItemVisibleInCurrentMode(clickedItem)) {
+				return false;
+			}
 
-		// === EDITOR MODE: Item selection ===
-		// When editor is open (showPaths), clicking on an item selects it for editing
-		if (showPaths && clickedItem != null && clickedItem.isVisible() && isItemVisibleInCurrentMode(clickedItem)) {
 			// Select or deselect the clicked item
 			Item currentlySelected = currentScene.getSelectedItem();
 			if (currentlySelected == clickedItem) {
@@ -3208,7 +3188,8 @@ public class AdventureGame extends JFrame {
 				// Select the clicked item
 				currentScene.setSelectedItem(clickedItem);
 				selectedItemInEditor = clickedItem;
-				logToActiveEditor("Selected item: " + clickedItem.getName() + " at (" + clickedItem.getPosition().x + "," + clickedItem.getPosition().y + ")");
+				logToActiveEditor("Selected item: " + clickedItem.getName() + " at (" + clickedItem.getPosition().x + ","
+						+ clickedItem.getPosition().y + ")");
 
 				// Also select in the editor window (only works with EditorMain)
 				if (editorWindow != null && editorWindow.isVisible()) {
@@ -3217,194 +3198,37 @@ public class AdventureGame extends JFrame {
 				// Note: EditorMainSimple doesn't have selectItem() - selection is still saved in scene
 			}
 			gamePanel.repaint();
-			return; // Don't process game actions when in editor mode
-		}
-
-		// === GAME MODE: Action handling ===
-		if (clickedItem != null && clickedItem.isVisible() && selectedAction != null) {
-			// Perform action on Item
-			String result = clickedItem.performAction(selectedAction, progress);
-
-			// Log action to debug window
-			debugWindow.logAction(selectedAction, clickedItem.getName() + " (Item)", result);
-
-			if (result != null) {
-				System.out.println("DEBUG [Item]: Processing result: " + result);
-				// Support multiple results separated by |||
-				String[] results = result.split("\\|\\|\\|");
-				System.out.println("DEBUG [Item]: Split into " + results.length + " results");
-				for (String singleResult : results) {
-					singleResult = singleResult.trim();
-					System.out.println("DEBUG [Item]: Processing single result: " + singleResult);
-
-					if (singleResult.startsWith("##load")) {
-						// Load new scene
-						String sceneName = singleResult.substring(6).trim();
-						loadScene(sceneName);
-					} else if (singleResult.startsWith("#Dialog:")) {
-						// Show dialog by name - extract dialog name after the 6 dashes
-						String dialogLine = singleResult.substring(8).trim();
-						// Remove leading dashes (------dialogname.txt)
-						while (dialogLine.startsWith("-")) {
-							dialogLine = dialogLine.substring(1);
-						}
-						// Remove .txt if present
-						if (dialogLine.endsWith(".txt")) {
-							dialogLine = dialogLine.substring(0, dialogLine.length() - 4);
-						}
-						showDialog(dialogLine.trim());
-					} else if (singleResult.startsWith("#SetBoolean:")) {
-						System.out.println("DEBUG: #SetBoolean detected in ITEM action!");
-						// Set boolean variable in Conditions
-						String[] parts = singleResult.substring(12).split("=");
-						if (parts.length == 2) {
-							String condName = parts[0].trim();
-							boolean newValue = Boolean.parseBoolean(parts[1].trim());
-							boolean oldValue = Conditions.getCondition(condName);
-							System.out.println("DEBUG [ITEM]: ConditionName=" + condName + ", oldValue=" + oldValue
-									+ ", newValue=" + newValue);
-
-							Conditions.setCondition(condName, newValue);
-
-							// Log to debug window
-							debugWindow.logConditionChange(condName, oldValue, newValue);
-
-							updateInventory(); // Update inventory when conditions change
-							reloadBackgroundImageIfNeeded(); // Reload background if needed
-
-							// Auto-save after condition change
-							autoSave();
-							System.out.println("✓ Auto-saved after condition change: " + condName);
-						}
-					} else if (singleResult.startsWith("#AddItem:")) {
-						// Add item to inventory
-						String itemName = singleResult.substring(9).trim();
-						addItemToInventoryByName(itemName);
-					} else if (singleResult.startsWith("#Process:")) {
-						// Execute process
-						String processName = singleResult.substring(9).trim();
-						System.out.println("Loading process: " + processName);
-						Process process = ProcessLoader.loadProcess(processName);
-						if (process != null) {
-							processExecutor.executeProcess(process);
-						} else {
-							System.err.println("Process not found: " + processName);
-						}
-					}
-				}
-			}
+			return true; // Don't process game actions when in editor mode
+		}
 
-			// Reset action and item-as-cursor mode
-			selectedAction = null;
-			selectedInventoryItem = null;
-			selectedItem = null;
-			// Reset inventory borders
-			for (Component c : inventoryPanel.getComponents()) {
-				if (c instanceof JButton) {
-					((JButton) c).setBorder(BorderFactory.createLineBorder(Color.ORANGE, 2));
-				}
-			}
-			// Reset cursor to default
-			updateCursorForAction(null);
-			gamePanel.repaint();
-			return; // Don't check KeyAreas if Item was clicked
-		}
-
-		// Check if clicked on a KeyArea
-		KeyArea clickedArea = currentScene.getKeyAreaAt(clickPoint);
-
-		if (clickedArea != null && selectedAction != null) {
-			// Perform action on KeyArea
-			String result = clickedArea.performAction(selectedAction, progress);
-
-			// Log action to debug window
-			debugWindow.logAction(selectedAction, clickedArea.getName() + " (KeyArea)", result);
-
-			if (result != null) {
-				System.out.println("DEBUG [KeyArea]: Processing result: " + result);
-				// Support multiple results separated by |||
-				String[] results = result.split("\\|\\|\\|");
-				System.out.println("DEBUG [KeyArea]: Split into " + results.length + " results");
-				for (String singleResult : results) {
-					singleResult = singleResult.trim();
-					System.out.println("DEBUG [KeyArea]: Processing single result: " + singleResult);
-
-					if (singleResult.startsWith("##load")) {
-						// Load new scene
-						String sceneName = singleResult.substring(6).trim();
-						loadScene(sceneName);
-					} else if (singleResult.startsWith("#Dialog:")) {
-						// Show dialog by name - extract dialog name after the 6 dashes
-						String dialogLine = singleResult.substring(8).trim();
-						// Remove leading dashes (------dialogname.txt)
-						while (dialogLine.startsWith("-")) {
-							dialogLine = dialogLine.substring(1);
-						}
-						// Remove .txt if present
-						if (dialogLine.endsWith(".txt")) {
-							dialogLine = dialogLine.substring(0, dialogLine.length() - 4);
-						}
-						showDialog(dialogLine.trim());
-					} else if (singleResult.startsWith("#SetBoolean:")) {
-						System.out.println("DEBUG: #SetBoolean detected in KEYAREA action!");
-						// Set boolean variable in Conditions
-						String[] parts = singleResult.substring(12).split("=");
-						if (parts.length == 2) {
-							String condName = parts[0].trim();
-							boolean newValue = Boolean.parseBoolean(parts[1].trim());
-							boolean oldValue = Conditions.getCondition(condName);
-							System.out.println("DEBUG [KEYAREA]: ConditionName=" + condName + ", oldValue=" + oldValue
-									+ ", newValue=" + newValue);
-
-							Conditions.setCondition(condName, newValue);
-
-							// Log to debug window
-							debugWindow.logConditionChange(condName, oldValue, newValue);
-
-							updateInventory(); // Update inventory when conditions change
-							reloadBackgroundImageIfNeeded(); // Reload background if needed
-
-							// Auto-save after condition change
-							autoSave();
-							System.out.println("✓ Auto-saved after condition change: " + condName);
-						}
-					} else if (singleResult.startsWith("#AddItem:")) {
-						// Add item to inventory
-						String itemName = singleResult.substring(9).trim();
-						addItemToInventoryByName(itemName);
-					} else if (singleResult.startsWith("#Process:")) {
-						// Execute process
-						String processName = singleResult.substring(9).trim();
-						System.out.println("Loading process: " + processName);
-						Process process = ProcessLoader.loadProcess(processName);
-						if (process != null) {
-							processExecutor.executeProcess(process);
-						} else {
-							System.err.println("Process not found: " + processName);
-						}
-					}
-				}
-			}
+		@Override
+		public void actionPerformed(String action, String target, String result) {
+			debugWindow.logAction(action, target, result);
+		}
 
-			// Reset action and item-as-cursor mode
-			selectedAction = null;
-			selectedInventoryItem = null;
-			selectedItem = null;
-			// Reset inventory borders
-			for (Component c : inventoryPanel.getComponents()) {
-				if (c instanceof JButton) {
-					((JButton) c).setBorder(BorderFactory.createLineBorder(Color.ORANGE, 2));
-				}
-			}
-			// Reset cursor to default
-			updateCursorForAction(null);
-		} else if (selectedAction == null) {
+		@Override
+		public void conditionChanged(String name, boolean oldValue, boolean newValue) {
+			updateInventory(); // Update inventory when conditions change
+			reloadBackgroundImageIfNeeded(); // Reload background if needed
+
+			// Auto-save after condition change
+			autoSave();
+			System.out.println("✓ Auto-saved after condition change: " + name);
+		}
+
+		@Override
+		public void inventoryChanged() {
+			updateInventory();
+		}
+
+		@Override
+		public void playerMoved(Point point) {
 			// Move player (simple implementation)
-			playerPosition = clickPoint;
-			gamePanel.repaint();
+			playerPosition = point;
 		}
 	}
 
+	@Override
 	public void loadScene(String sceneName) {
 		// Default behavior: Load from current state (Gaming Mode)
 		loadSceneFromProgress(sceneName);
@@ -3436,35 +3260,11 @@ public class AdventureGame extends JFrame {
 
 			// Load background image (with conditional support)
 			String bgPath = currentScene.getCurrentBackgroundImagePath(progress);
-			ImageIcon bgImage = null;
-
-			// Use ResourcePathHelper for robust path resolution
-			File imageFile = ResourcePathHelper.findImageFile(bgPath);
-			if (imageFile != null) {
-				bgImage = new ImageIcon(imageFile.getAbsolutePath());
-				System.out.println("✓ Bild geladen von: " + imageFile.getAbsolutePath());
-			} else {
-				// Try URL (classpath or JAR)
-				java.net.URL imageUrl = ResourcePathHelper.findImageURL(bgPath);
-				if (imageUrl != null) {
-					bgImage = new ImageIcon(imageUrl);
-					System.out.println("✓ Bild geladen von Classpath/JAR");
-				} else {
-					System.err.println("✗ Hintergrundbild nicht gefunden: " + bgPath);
-					System.err.println("  Projekt-Root: " + ResourcePathHelper.getProjectRootPath());
-					System.err.println("  Aktuelles Verzeichnis: " + new File(".").getAbsolutePath());
-					ResourcePathHelper.debugPrintPaths(bgPath);
-				}
-			}
+			backgroundImage = loadBackgroundImage(bgPath);
+			backgroundFile = ResourcePathHelper.findImageFile(bgPath);
 
-			if (bgImage != null) {
-				// Scale image to fit and store it
-				backgroundImage = bgImage.getImage().getScaledInstance(1024, 668, Image.SCALE_SMOOTH);
-			} else {
-				// Clear background
-				backgroundImage = null;
-				System.err.println("✗ Bild konnte nicht geladen werden: " + bgPath);
-			}
+			// Pack all item images of the scene into atlas pages for rendering
+			SceneAtlas.build(currentScene);
 
 			// Trigger repaint to show new background
 			gamePanel.repaint();
@@ -3489,84 +3289,166 @@ public class AdventureGame extends JFrame {
 	 */
 	public void loadSceneFromProgress(String sceneName) {
 		try {
-			// Parse sceneName: "SceneName/SubSceneName"
-			String[] parts = sceneName.split("/");
-			if (parts.length != 2) {
-				throw new IllegalArgumentException(
-						"Invalid scene name format. Expected: SceneName/SubSceneName, got: " + sceneName);
-			}
+			applyLoadedScene(sceneName, loadSceneData(sceneName), null);
+			System.out.println("Scene geladen (PROGRESS): " + sceneName);
+		} catch (Exception e) {
+			System.err.println("Fehler beim Laden der Scene: " + e.getMessage());
+			e.printStackTrace();
+		}
+	}
 
-			String sceneDir = parts[0];
-			String subSceneName = parts[1];
+	/**
+	 * Loads a scene from PROGRESS files (DEFAULT as fallback) with its background
+	 * and atlas, without touching the live scene. Runs on the SceneTransition
+	 * loader thread: Conditions is synchronized and calls its listener on the EDT,
+	 * ItemLoader does not auto-save, and the live scene, progress and inventory
+	 * are only changed in applyLoadedScene on the EDT.
+	 *
+	 * @param sceneName Format: "SceneName/SubSceneName" (e.g. "Beach/MainBeach")
+	 */
+	private SceneTransition.LoadedScene loadSceneData(String sceneName) throws Exception {
+		// Parse sceneName: "SceneName/SubSceneName"
+		String[] parts = sceneName.split("/");
+		if (parts.length != 2) {
+			throw new IllegalArgumentException(
+					"Invalid scene name format. Expected: SceneName/SubSceneName, got: " + sceneName);
+		}
+
+		String sceneDir = parts[0];
+		String subSceneName = parts[1];
+
+		// Try to load from PROGRESS first
+		String progressPath = ResourcePathHelper.resolvePath("scenes/" + sceneDir + "/" + subSceneName + "_progress.txt");
+		java.io.File progressFile = new java.io.File(progressPath);
+
+		Scene scene;
+		if (progressFile.exists()) {
+			// Load from PROGRESS using SceneLoader
+			String relativeScenePath = sceneDir + "/" + subSceneName;
+			scene = SceneLoader.loadSceneFromProgress(relativeScenePath, progress);
+			System.out.println("✓ Scene loaded from PROGRESS: " + sceneName);
+		} else {
+			// Fallback to DEFAULT if PROGRESS doesn't exist
+			scene = FileHandlingSimple.loadSubScene(sceneDir, subSceneName, progress);
+			System.out.println("✓ Scene loaded from DEFAULT (no progress file): " + sceneName);
+		}
 
-			// Try to load from PROGRESS first
-			String progressPath = ResourcePathHelper.resolvePath("scenes/" + sceneDir + "/" + subSceneName + "_progress.txt");
-			java.io.File progressFile = new java.io.File(progressPath);
+		// Load background image (with conditional support)
+		String bgPath = scene.getCurrentBackgroundImagePath(progress);
+		Image background = loadBackgroundImage(bgPath);
 
-			if (progressFile.exists()) {
-				// Load from PROGRESS using SceneLoader
-				String relativeScenePath = sceneDir + "/" + subSceneName;
-				currentScene = SceneLoader.loadSceneFromProgress(relativeScenePath, progress);
-				System.out.println("✓ Scene loaded from PROGRESS: " + sceneName);
-			} else {
-				// Fallback to DEFAULT if PROGRESS doesn't exist
-				currentScene = FileHandlingSimple.loadSubScene(sceneDir, subSceneName, progress);
-				System.out.println("✓ Scene loaded from DEFAULT (no progress file): " + sceneName);
-			}
+		// Pack all item images of the scene into atlas pages for rendering
+		SceneAtlas atlas = SceneAtlas.create(scene);
+		return new SceneTransition.LoadedScene(scene, background, ResourcePathHelper.findImageFile(bgPath), atlas);
+	}
 
-			progress.setCurrentScene(sceneName);
+	/**
+	 * Makes a loaded scene the live scene and places the character at the spawn point (EDT)
+	 */
+	private void applyLoadedScene(String sceneName, SceneTransition.LoadedScene loaded, String spawnPoint) {
+		currentScene = loaded.getScene();
+		progress.setCurrentScene(sceneName);
+		CharacterMovement.placeAtSpawnPoint(currentScene, spawnPoint);
 
-			// Log scene change to debug window
-			debugWindow.logSceneChange(sceneName);
+		// Log scene change to debug window
+		debugWindow.logSceneChange(sceneName);
 
-			// Load background image (with conditional support)
-			String bgPath = currentScene.getCurrentBackgroundImagePath(progress);
-			ImageIcon bgImage = null;
+		backgroundImage = loaded.getBackground();
+		backgroundFile = loaded.getBackgroundFile();
+		loaded.getAtlas().makeCurrent();
 
-			// Use ResourcePathHelper for robust path resolution
-			File imageFile = ResourcePathHelper.findImageFile(bgPath);
-			if (imageFile != null) {
-				bgImage = new ImageIcon(imageFile.getAbsolutePath());
-				System.out.println("✓ Bild geladen von: " + imageFile.getAbsolutePath());
-			} else {
-				// Try URL (classpath or JAR)
-				java.net.URL imageUrl = ResourcePathHelper.findImageURL(bgPath);
-				if (imageUrl != null) {
-					bgImage = new ImageIcon(imageUrl);
-					System.out.println("✓ Bild geladen von Classpath/JAR");
-				} else {
-					System.err.println("✗ Hintergrundbild nicht gefunden: " + bgPath);
-					System.err.println("  Projekt-Root: " + ResourcePathHelper.getProjectRootPath());
-					System.err.println("  Aktuelles Verzeichnis: " + new File(".").getAbsolutePath());
-					ResourcePathHelper.debugPrintPaths(bgPath);
-				}
-			}
+		// Trigger repaint to show new background
+		gamePanel.repaint();
 
-			if (bgImage != null) {
-				// Scale image to fit and store it
-				backgroundImage = bgImage.getImage().getScaledInstance(1024, 668, Image.SCALE_SMOOTH);
-			} else {
-				// Clear background
-				backgroundImage = null;
-				System.err.println("✗ Bild konnte nicht geladen werden: " + bgPath);
-			}
+		// Update inventory
+		updateInventory();
 
-			// Trigger repaint to show new background
-			gamePanel.repaint();
+		// Register scene with AutoSaveManager for auto-saving
+		AutoSaveManager.setCurrentScene(currentScene);
+	}
 
-			// Update inventory
-			updateInventory();
+	@Override
+	public void changeScene(String sceneName, String spawnPoint, String transition, int durationMillis) {
+		if (sceneTransition != null && !sceneTransition.isBegun()) {
+			System.out.println("SceneTransition: " + sceneTransition.getSceneName() + " replaced by " + sceneName);
+			sceneTransition.cancel();
+		}
+		SceneTransition next = new SceneTransition(sceneName, spawnPoint, transition, durationMillis,
+				() -> loadSceneData(sceneName));
+		sceneTransition = next;
+		// Start after the remaining results of the current click (e.g. #SetBoolean) are applied,
+		// so the loader sees the same conditions as the old synchronous load
+		SwingUtilities.invokeLater(next::start);
+		if (!sceneTransitionTimer.isRunning()) {
+			sceneTransitionTimer.start();
+		}
+	}
 
-			// Register scene with AutoSaveManager for auto-saving
-			AutoSaveManager.setCurrentScene(currentScene);
+	@Override
+	public boolean isSceneTransitionRunning() {
+		return sceneTransition != null;
+	}
 
-			System.out.println("Scene geladen (PROGRESS): " + sceneName);
-		} catch (Exception e) {
-			System.err.println("Fehler beim Laden der Scene: " + e.getMessage());
-			e.printStackTrace();
+	/**
+	 * Frame timer of a scene change: switches the scene once loading is done and
+	 * repaints while the outgoing frame fades out
+	 */
+	private void updateSceneTransition() {
+		SceneTransition transition = sceneTransition;
+		if (transition == null) {
+			sceneTransitionTimer.stop();
+			return;
+		}
+		long now = currentTimeMillis();
+		if (!transition.isBegun() && transition.isLoaded()) {
+			SceneTransition.LoadedScene loaded = transition.takeResult();
+			if (loaded != null) {
+				BufferedImage outgoing = transition.getType() == SceneTransition.Type.FADE ? captureGameFrame() : null;
+				applyLoadedScene(transition.getSceneName(), loaded, transition.getSpawnPoint());
+				transition.begin(outgoing, now);
+			}
+		}
+		if (transition.isBegun()) {
+			gamePanel.repaint();
+		}
+		if (transition.isFinished(now)) {
+			sceneTransition = null;
+			sceneTransitionTimer.stop();
+			gamePanel.repaint();
 		}
 	}
 
+	/**
+	 * Combination of the frames all animating items of the scene show now
+	 */
+	private long animationFrameStamp() {
+		Scene scene = currentScene;
+		if (scene == null) {
+			return 0;
+		}
+		long now = currentTimeMillis();
+		long stamp = 0;
+		for (Item item : scene.getItems()) {
+			if (item.isVisible() && item.isAnimating()) {
+				stamp = stamp * 31 + item.getAnimationFrame(now) + 1;
+			}
+		}
+		return stamp;
+	}
+
+	/**
+	 * Renders the game panel as it is shown now into an image
+	 */
+	private BufferedImage captureGameFrame() {
+		int width = Math.max(1, gamePanel.getWidth());
+		int height = Math.max(1, gamePanel.getHeight());
+		BufferedImage frame = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+		Graphics2D g2d = frame.createGraphics();
+		gamePanel.paint(g2d);
+		g2d.dispose();
+		return frame;
+	}
+
 	/**
 	 * Switches to Gaming Mode: - Enables auto-save - Loads conditions from progress
 	 * - Reloads current scene from progress files
@@ -3634,37 +3516,26 @@ public class AdventureGame extends JFrame {
 	}
 
 	private void showDialog(String dialogName) {
-		if (currentScene == null) {
-			return;
-		}
-
-		String dialogText = currentScene.getDialog(dialogName);
+		clickInterpreter.showDialog(dialogName);
+	}
 
-		if (dialogText == null) {
-			// Show detailed error with available dialogs
-			StringBuilder errorMsg = new StringBuilder();
-			errorMsg.append("ERROR: Dialog nicht gefunden: ").append(dialogName).append("\n\n");
-			errorMsg.append("Verfügbare Dialoge in dieser Scene:\n");
+	@Override
+	public TextOverlay getTextOverlay() {
+		return textOverlay;
+	}
 
-			Map<String, String> availableDialogs = currentScene.getDialogs();
-			if (availableDialogs.isEmpty()) {
-				errorMsg.append("  (keine Dialoge definiert)\n");
-			} else {
-				for (String dialogKey : availableDialogs.keySet()) {
-					errorMsg.append("  • ").append(dialogKey).append("\n");
-				}
+	@Override
+	public synchronized AudioEngine getAudioEngine() {
+		// Opened on first use so the editor does not hold the sound device
+		if (audioEngine == null) {
+			audioEngine = AudioEngine.createDefault();
+			try {
+				audioEngine.start();
+			} catch (java.io.IOException e) {
+				System.err.println("ERROR: Could not start audio: " + e.getMessage());
 			}
-
-			errorMsg.append("\nBitte prüfen Sie die Scene-Datei!");
-
-			System.err.println("Dialog nicht gefunden: " + dialogName);
-			System.err.println("Verfügbare Dialoge: " + availableDialogs.keySet());
-
-			JOptionPane.showMessageDialog(this, errorMsg.toString(), "Dialog Fehler", JOptionPane.ERROR_MESSAGE);
-			return;
 		}
-
-		JOptionPane.showMessageDialog(this, dialogText, "Dialog", JOptionPane.INFORMATION_MESSAGE);
+		return audioEngine;
 	}
 
 	private void resetGame() {
@@ -3703,28 +3574,6 @@ public class AdventureGame extends JFrame {
 	 * Adds an item to inventory by name Sets isInInventory to true and makes
 	 * item/clickArea invisible
 	 */
-	private void addItemToInventoryByName(String itemName) {
-		if (currentScene != null) {
-			for (Item item : currentScene.getItems()) {
-				if (item.getName().equals(itemName)) {
-					// Set item to inventory
-					item.setInInventory(true);
-
-					// Make item mouseInvisible (handled in Item.shouldShowInScene())
-					// The item is already hidden when isInInventory is true
-
-					System.out.println("Added item to inventory: " + itemName);
-
-					// Update inventory display
-					updateInventory();
-					gamePanel.repaint();
-					return;
-				}
-			}
-			System.err.println("Item not found in scene: " + itemName);
-		}
-	}
-
 	/**
 	 * Adds an item to the inventory display with tile image UPDATED: Uses theme
 	 * colors
@@ -3913,16 +3762,10 @@ public class AdventureGame extends JFrame {
 					backgroundImage.flush();
 				}
 
-				// Small delay to ensure file system write completes
-				try {
-					Thread.sleep(100);
-				} catch (InterruptedException ie) {
-					// Ignore
-				}
-
-				// Reload image to update display (this clears any cached versions)
-				ImageIcon bgImage = new ImageIcon(imageFile.getAbsolutePath());
-				backgroundImage = bgImage.getImage();
+				// Drop the stale decoded copy and reload the written file
+				ImageCache.evict(imageFile);
+				backgroundImage = ImageCache.get(imageFile);
+				backgroundFile = imageFile;
 				gamePanel.repaint();
 				gamePanel.revalidate();
 
@@ -3978,16 +3821,10 @@ public class AdventureGame extends JFrame {
 					backgroundImage.flush();
 				}
 
-				// Small delay to ensure file system write completes
-				try {
-					Thread.sleep(100);
-				} catch (InterruptedException ie) {
-					// Ignore
-				}
-
-				// Reload image to update display (this clears any cached versions)
-				ImageIcon bgImage = new ImageIcon(imageFile.getAbsolutePath());
-				backgroundImage = bgImage.getImage();
+				// Drop the stale decoded copy and reload the written file
+				ImageCache.evict(imageFile);
+				backgroundImage = ImageCache.get(imageFile);
+				backgroundFile = imageFile;
 				gamePanel.repaint();
 				gamePanel.revalidate();
 
@@ -4037,25 +3874,56 @@ public class AdventureGame extends JFrame {
 		// If the path has changed, reload the background image
 		if (newBgPath != null && !newBgPath.equals(currentBgPath)) {
 			System.out.println("Reloading background image: " + newBgPath);
-			ImageIcon bgImage = null;
+			Image newBackground = loadBackgroundImage(newBgPath);
+			if (newBackground != null) {
+				backgroundImage = newBackground;
+				backgroundFile = ResourcePathHelper.findImageFile(newBgPath);
+				gamePanel.repaint();
+			}
+		}
+	}
 
-			// Use ResourcePathHelper for robust path resolution
-			File imageFile = ResourcePathHelper.findImageFile(newBgPath);
-			if (imageFile != null) {
-				bgImage = new ImageIcon(imageFile.getAbsolutePath());
+	/**
+	 * Load a background image scaled to the game area (1024x668). Uses the baked
+	 * pixels from the ImagePack if available, otherwise decodes and scales the file.
+	 *
+	 * @return the image, or null if it could not be found
+	 */
+	private Image loadBackgroundImage(String bgPath) {
+		ImageIcon bgImage = null;
+
+		// Use ResourcePathHelper for robust path resolution
+		File imageFile = ResourcePathHelper.findImageFile(bgPath);
+		if (imageFile != null) {
+			Image baked = ImagePack.get(imageFile, ImagePack.BACKGROUND_WIDTH, ImagePack.BACKGROUND_HEIGHT);
+			if (baked != null) {
+				System.out.println("✓ Bild geladen aus ImagePack: " + imageFile.getName());
+				return baked;
+			}
+			bgImage = new ImageIcon(imageFile.getAbsolutePath());
+			System.out.println("✓ Bild geladen von: " + imageFile.getAbsolutePath());
+		} else {
+			// Try URL (classpath or JAR)
+			java.net.URL imageUrl = ResourcePathHelper.findImageURL(bgPath);
+			if (imageUrl != null) {
+				bgImage = new ImageIcon(imageUrl);
+				System.out.println("✓ Bild geladen von Classpath/JAR");
 			} else {
-				java.net.URL imageUrl = ResourcePathHelper.findImageURL(newBgPath);
-				if (imageUrl != null) {
-					bgImage = new ImageIcon(imageUrl);
-				}
+				System.err.println("✗ Hintergrundbild nicht gefunden: " + bgPath);
+				System.err.println("  Projekt-Root: " + ResourcePathHelper.getProjectRootPath());
+				System.err.println("  Aktuelles Verzeichnis: " + new File(".").getAbsolutePath());
+				ResourcePathHelper.debugPrintPaths(bgPath);
 			}
+		}
 
-			if (bgImage != null) {
-				// Scale image to fit and store it
-				backgroundImage = bgImage.getImage().getScaledInstance(1024, 668, Image.SCALE_SMOOTH);
-				gamePanel.repaint();
-			}
+		if (bgImage == null) {
+			System.err.println("✗ Bild konnte nicht geladen werden: " + bgPath);
+			return null;
 		}
+
+		// Scale image to fit
+		return bgImage.getImage().getScaledInstance(ImagePack.BACKGROUND_WIDTH, ImagePack.BACKGROUND_HEIGHT,
+				Image.SCALE_SMOOTH);
 	}
 
 	/**
@@ -4077,9 +3945,22 @@ public class AdventureGame extends JFrame {
 	}
 
 	public static void main(String[] args) {
-		// Initialize ThemeManager before creating any Swing components
-		main.ui.theme.ThemeManager.init();
+		// Independent startup work runs in parallel, see StartupOrchestrator
+		StartupOrchestrator.task("theme", main.ui.theme.ThemeManager::init);
+		StartupOrchestrator.task("project pack", ProjectPack::open);
+		StartupOrchestrator.task("image pack", ImagePack::open);
+		StartupOrchestrator.task("conditions", Conditions::ensureLoaded, "project pack");
+		StartupOrchestrator.task("progress files", GameStateManager::ensureProgressFilesExist, "conditions");
+		StartupOrchestrator.task("buttons", ButtonsDataManager::ensureLoaded, "project pack");
+		// Watch resources/ so caches are evicted when files change
+		StartupOrchestrator.task("resource monitor", ResourceMonitor::start);
+		StartupOrchestrator.start();
+
+		// The window needs the theme (before any Swing component), conditions and
+		// buttons - the resource monitor keeps starting in the background
+		StartupOrchestrator.await("theme", "project pack", "image pack", "conditions", "progress files", "buttons");
+		StartupOrchestrator.mark("tasks ready");
 
 		SwingUtilities.invokeLater(() -> new AdventureGame());
 	}
-}
\ No newline at end of file
+}
@@ -0,0 +1,769 @@
+package main;
+
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+import javax.sound.sampled.LineUnavailableException;
+import javax.sound.sampled.SourceDataLine;
+import javax.sound.sampled.UnsupportedAudioFileException;
+
+/**
+ * Software mixer for the Sound process action.
+ *
+ * All voices are mixed in blocks of BLOCK_FRAMES frames into one output
+ * (44.1 kHz, 16 bit stereo). Short effects are decoded once into float PCM
+ * and kept in a size-bounded LRU cache, so starting one only adds a voice
+ * to the mix. Music and files above PRELOAD_LIMIT_BYTES stream from disk.
+ * Each sound type ("sfx", "music", "ambient") is a bus with its own gain;
+ * a voice plays at volume * bus gain * master gain.
+ *
+ * With start() a daemon thread mixes and writes to the output; the output
+ * paces the thread (a sound line blocks while its buffer is full). Without
+ * the thread the owner drives the mix with advance(), which is how the
+ * headless session and benchmarks run it against a NullOutput or FileOutput.
+ */
+public class AudioEngine {
+
+    public static final float SAMPLE_RATE = 44100f;
+    public static final int CHANNELS = 2;
+    public static final AudioFormat FORMAT = new AudioFormat(SAMPLE_RATE, 16, CHANNELS, true, false);
+    public static final int BLOCK_FRAMES = 256;
+
+    public static final String MASTER_BUS = "master";
+
+    private static final int FRAME_BYTES = CHANNELS * 2;
+    private static final long PRELOAD_LIMIT_BYTES = 2L * 1024 * 1024;
+    private static final long CACHE_LIMIT_BYTES = 32L * 1024 * 1024;
+
+    /**
+     * Destination of the mixed 16 bit PCM
+     */
+    public interface Output {
+        void open(AudioFormat format) throws IOException;
+
+        /**
+         * Writes length bytes; may block until the device has room
+         */
+        void write(byte[] data, int length) throws IOException;
+
+        /**
+         * Frames written but not yet played
+         */
+        default int getBufferedFrames() {
+            return 0;
+        }
+
+        void close();
+    }
+
+    /**
+     * Plays on the default sound device
+     */
+    public static class LineOutput implements Output {
+        private SourceDataLine line;
+
+        @Override
+        public void open(AudioFormat format) throws IOException {
+            try {
+                line = AudioSystem.getSourceDataLine(format);
+                // Four blocks of device buffer: enough against underruns, little latency
+                line.open(format, BLOCK_FRAMES * FRAME_BYTES * 4);
+                line.start();
+            } catch (LineUnavailableException | IllegalArgumentException | SecurityException e) {
+                throw new IOException("No audio line available: " + e.getMessage(), e);
+            }
+        }
+
+        @Override
+        public void write(byte[] data, int length) {
+            line.write(data, 0, length);
+        }
+
+        @Override
+        public int getBufferedFrames() {
+            return (line.getBufferSize() - line.available()) / FRAME_BYTES;
+        }
+
+        @Override
+        public void close() {
+            if (line != null) {
+                line.stop();
+                line.close();
+            }
+        }
+    }
+
+    /**
+     * Discards the mix. In realtime mode write() waits like a device would,
+     * so the mixer thread runs at playback speed.
+     */
+    public static class NullOutput implements Output {
+        private final boolean realtime;
+        private long framesWritten;
+        private long startNanos;
+
+        public NullOutput(boolean realtime) {
+            this.realtime = realtime;
+        }
+
+        @Override
+        public void open(AudioFormat format) {
+            framesWritten = 0;
+            startNanos = System.nanoTime();
+        }
+
+        @Override
+        public void write(byte[] data, int length) throws IOException {
+            framesWritten += length / FRAME_BYTES;
+            if (!realtime) {
+                return;
+            }
+            long dueNanos = startNanos + (long) (framesWritten * 1_000_000_000L / SAMPLE_RATE);
+            long waitNanos = dueNanos - System.nanoTime();
+            if (waitNanos > 0) {
+                try {
+                    Thread.sleep(waitNanos / 1_000_000, (int) (waitNanos % 1_000_000));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException("Interrupted", e);
+                }
+            }
+        }
+
+        public long getFramesWritten() {
+            return framesWritten;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    /**
+     * Writes the mix to a WAV file (header is completed on close)
+     */
+    public static class FileOutput implements Output {
+        private final File file;
+        private RandomAccessFile out;
+        private long dataBytes;
+
+        public FileOutput(File file) {
+            this.file = file;
+        }
+
+        @Override
+        public void open(AudioFormat format) throws IOException {
+            out = new RandomAccessFile(file, "rw");
+            out.setLength(0);
+            out.write(new byte[44]);
+            dataBytes = 0;
+        }
+
+        @Override
+        public void write(byte[] data, int length) throws IOException {
+            out.write(data, 0, length);
+            dataBytes += length;
+        }
+
+        @Override
+        public void close() {
+            if (out == null) {
+                return;
+            }
+            try {
+                out.seek(0);
+                out.writeBytes("RIFF");
+                writeIntLE(36 + dataBytes);
+                out.writeBytes("WAVEfmt ");
+                writeIntLE(16);
+                writeShortLE(1);
+                writeShortLE(CHANNELS);
+                writeIntLE((long) SAMPLE_RATE);
+                writeIntLE((long) SAMPLE_RATE * FRAME_BYTES);
+                writeShortLE(FRAME_BYTES);
+                writeShortLE(16);
+                out.writeBytes("data");
+                writeIntLE(dataBytes);
+                out.close();
+            } catch (IOException e) {
+                System.err.println("ERROR: Could not finish " + file + ": " + e.getMessage());
+            }
+            out = null;
+        }
+
+        private void writeIntLE(long value) throws IOException {
+            out.write((int) value & 0xff);
+            out.write((int) (value >> 8) & 0xff);
+            out.write((int) (value >> 16) & 0xff);
+            out.write((int) (value >> 24) & 0xff);
+        }
+
+        private void writeShortLE(int value) throws IOException {
+            out.write(value & 0xff);
+            out.write((value >> 8) & 0xff);
+        }
+    }
+
+    /**
+     * A playing sound
+     */
+    public static class Voice {
+        private final String name;
+        private final String bus;
+        private final boolean loop;
+        private final Source source;
+        private volatile float volume;
+        private volatile boolean stopRequested;
+        private volatile boolean done;
+
+        Voice(String name, String bus, float volume, boolean loop, Source source) {
+            this.name = name;
+            this.bus = bus;
+            this.volume = volume;
+            this.loop = loop;
+            this.source = source;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getBus() {
+            return bus;
+        }
+
+        public boolean isLooping() {
+            return loop;
+        }
+
+        public void setVolume(float volume) {
+            this.volume = volume;
+        }
+
+        /**
+         * True once the sound has ended or was stopped and left the mix
+         */
+        public boolean isDone() {
+            return done;
+        }
+
+        /**
+         * Removes the voice from the mix at the next block
+         */
+        public void stop() {
+            stopRequested = true;
+        }
+    }
+
+    /**
+     * Interleaved stereo float samples of a voice
+     */
+    private interface Source {
+        /**
+         * @return frames read into buffer at offset, 0 at the end
+         */
+        int read(float[] buffer, int offset, int frames) throws IOException;
+
+        /**
+         * Restarts at the beginning (looping)
+         */
+        void rewind() throws IOException;
+
+        void close();
+    }
+
+    private static class PcmSource implements Source {
+        private final float[] samples;
+        private int position;
+
+        PcmSource(float[] samples) {
+            this.samples = samples;
+        }
+
+        @Override
+        public int read(float[] buffer, int offset, int frames) {
+            int count = Math.min(frames * CHANNELS, samples.length - position);
+            System.arraycopy(samples, position, buffer, offset * CHANNELS, count);
+            position += count;
+            return count / CHANNELS;
+        }
+
+        @Override
+        public void rewind() {
+            position = 0;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    private static class StreamSource implements Source {
+        private final File file;
+        private final byte[] bytes = new byte[BLOCK_FRAMES * FRAME_BYTES];
+        private AudioInputStream stream;
+
+        StreamSource(File file) throws IOException {
+            this.file = file;
+            this.stream = openStream(file);
+        }
+
+        @Override
+        public int read(float[] buffer, int offset, int frames) throws IOException {
+            int wanted = Math.min(frames, BLOCK_FRAMES) * FRAME_BYTES;
+            int length = 0;
+            while (length < wanted) {
+                int read = stream.read(bytes, length, wanted - length);
+                if (read < 0) {
+                    break;
+                }
+                length += read;
+            }
+            int frameCount = length / FRAME_BYTES;
+            toFloat(bytes, frameCount * CHANNELS, buffer, offset * CHANNELS);
+            return frameCount;
+        }
+
+        @Override
+        public void rewind() throws IOException {
+            close();
+            stream = openStream(file);
+        }
+
+        @Override
+        public void close() {
+            try {
+                stream.close();
+            } catch (IOException e) {
+                // Nothing left to release
+            }
+        }
+    }
+
+    private final Output output;
+    private final ConcurrentLinkedQueue<Voice> pending = new ConcurrentLinkedQueue<>();
+    private final List<Voice> voices = new ArrayList<>();
+    private final Map<String, Float> busGains = new ConcurrentHashMap<>();
+    private final Map<String, float[]> pcmCache = new LinkedHashMap<>(16, 0.75f, true);
+    private long pcmCacheBytes;
+
+    private final float[] mix = new float[BLOCK_FRAMES * CHANNELS];
+    private final float[] voiceBuffer = new float[BLOCK_FRAMES * CHANNELS];
+    private final byte[] outBuffer = new byte[BLOCK_FRAMES * FRAME_BYTES];
+    private final Object lock = new Object();
+    private double frameRemainder;
+    private boolean opened;
+    private volatile boolean running;
+    private Thread mixerThread;
+
+    private volatile long mixedFrames;
+    private volatile long mixedVoiceFrames;
+    private volatile long mixNanos;
+
+    public AudioEngine(Output output) {
+        this.output = output;
+    }
+
+    /**
+     * Engine on the default sound device, or on a realtime NullOutput if there is none
+     */
+    public static AudioEngine createDefault() {
+        LineOutput line = new LineOutput();
+        try {
+            line.open(FORMAT);
+            line.close();
+            return new AudioEngine(line);
+        } catch (IOException e) {
+            System.out.println("Audio: " + e.getMessage() + " - sounds are mixed silently");
+            return new AudioEngine(new NullOutput(true));
+        }
+    }
+
+    /**
+     * Opens the output and starts the mixer thread
+     */
+    public synchronized void start() throws IOException {
+        if (running) {
+            return;
+        }
+        open();
+        running = true;
+        mixerThread = new Thread(this::runMixer, "AudioMixer");
+        mixerThread.setDaemon(true);
+        mixerThread.start();
+    }
+
+    /**
+     * Stops the mixer thread, ends all voices and closes the output
+     */
+    public synchronized void shutdown() {
+        running = false;
+        synchronized (lock) {
+            lock.notifyAll();
+        }
+        if (mixerThread != null) {
+            try {
+                mixerThread.join(1000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            mixerThread = null;
+        }
+        stopAll();
+        removeStopped();
+        if (opened) {
+            output.close();
+            opened = false;
+        }
+    }
+
+    /**
+     * Starts a sound from resources/sounds (or a path relative to resources)
+     * @param type bus name ("sfx", "music", "ambient")
+     * @return the voice, or null if the file could not be played
+     */
+    public Voice play(String fileName, String type, float volume, boolean loop) {
+        File file = resolve(fileName);
+        if (file == null) {
+            System.err.println("ERROR: Sound file not found: " + fileName);
+            return null;
+        }
+        String bus = type != null && !type.isEmpty() ? type : "sfx";
+        try {
+            Source source;
+            if ("music".equals(bus) || file.length() > PRELOAD_LIMIT_BYTES) {
+                source = new StreamSource(file);
+            } else {
+                source = new PcmSource(decode(file));
+            }
+            if ("music".equals(bus)) {
+                // One music track at a time
+                stopBus(bus);
+            }
+            Voice voice = new Voice(fileName, bus, volume, loop, source);
+            pending.add(voice);
+            synchronized (lock) {
+                lock.notifyAll();
+            }
+            return voice;
+        } catch (IOException e) {
+            System.err.println("ERROR: Could not play sound " + fileName + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Stops every voice of a bus
+     */
+    public void stopBus(String bus) {
+        for (Voice voice : pending) {
+            if (voice.bus.equals(bus)) {
+                voice.stop();
+            }
+        }
+        synchronized (voices) {
+            for (Voice voice : voices) {
+                if (voice.bus.equals(bus)) {
+                    voice.stop();
+                }
+            }
+        }
+    }
+
+    public void stopAll() {
+        for (Voice voice : pending) {
+            voice.stop();
+        }
+        synchronized (voices) {
+            for (Voice voice : voices) {
+                voice.stop();
+            }
+        }
+    }
+
+    /**
+     * Sets the gain of a bus ("master", "sfx", "music", "ambient"); default 1.0
+     */
+    public void setBusGain(String bus, float gain) {
+        busGains.put(bus, Math.max(0f, gain));
+    }
+
+    public float getBusGain(String bus) {
+        return busGains.getOrDefault(bus, 1f);
+    }
+
+    /**
+     * Mixes and writes the given time span (manual mode, without start())
+     */
+    public void advance(long millis) {
+        if (running) {
+            return;
+        }
+        try {
+            open();
+            frameRemainder += millis * SAMPLE_RATE / 1000.0;
+            while (frameRemainder >= BLOCK_FRAMES) {
+                frameRemainder -= BLOCK_FRAMES;
+                output.write(render(), outBuffer.length);
+            }
+        } catch (IOException e) {
+            System.err.println("ERROR: Audio output failed: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Mixes one block of BLOCK_FRAMES frames and returns it as 16 bit PCM.
+     * Only called by the mixer thread or, without it, the owner.
+     */
+    public byte[] render() {
+        long startNanos = System.nanoTime();
+
+        Voice added;
+        while ((added = pending.poll()) != null) {
+            synchronized (voices) {
+                voices.add(added);
+            }
+        }
+
+        Arrays.fill(mix, 0f);
+        float master = getBusGain(MASTER_BUS);
+        long voiceFrames = 0;
+        for (Voice voice : voices) {
+            if (voice.stopRequested) {
+                continue;
+            }
+            float gain = voice.volume * getBusGain(voice.bus) * master;
+            int filled = fill(voice);
+            voiceFrames += filled;
+            for (int i = 0, n = filled * CHANNELS; i < n; i++) {
+                mix[i] += voiceBuffer[i] * gain;
+            }
+        }
+        removeStopped();
+
+        for (int i = 0, b = 0; i < mix.length; i++, b += 2) {
+            float sample = Math.max(-1f, Math.min(1f, mix[i]));
+            int value = (int) (sample * 32767f);
+            outBuffer[b] = (byte) value;
+            outBuffer[b + 1] = (byte) (value >> 8);
+        }
+
+        mixedFrames += BLOCK_FRAMES;
+        mixedVoiceFrames += voiceFrames;
+        mixNanos += System.nanoTime() - startNanos;
+        return outBuffer;
+    }
+
+    /**
+     * Voices currently in the mix (including ones not yet picked up)
+     */
+    public int getActiveVoiceCount() {
+        synchronized (voices) {
+            return voices.size() + pending.size();
+        }
+    }
+
+    public long getMixedFrames() {
+        return mixedFrames;
+    }
+
+    /**
+     * Sum of frames contributed by all voices
+     */
+    public long getMixedVoiceFrames() {
+        return mixedVoiceFrames;
+    }
+
+    /**
+     * Time spent in render()
+     */
+    public long getMixNanos() {
+        return mixNanos;
+    }
+
+    /**
+     * Time from play() until the sound reaches the speaker: one block plus the device buffer
+     */
+    public double getLatencyMillis() {
+        return (BLOCK_FRAMES + output.getBufferedFrames()) * 1000.0 / SAMPLE_RATE;
+    }
+
+    /**
+     * Bytes of decoded PCM held by the cache
+     */
+    public synchronized long getCacheBytes() {
+        return pcmCacheBytes;
+    }
+
+    private void open() throws IOException {
+        if (!opened) {
+            output.open(FORMAT);
+            opened = true;
+        }
+    }
+
+    private void runMixer() {
+        try {
+            while (running) {
+                synchronized (lock) {
+                    while (running && pending.isEmpty() && voices.isEmpty()) {
+                        lock.wait();
+                    }
+                }
+                if (!running) {
+                    break;
+                }
+                output.write(render(), outBuffer.length);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException | RuntimeException e) {
+            System.err.println("ERROR: Audio mixer stopped: " + e.getMessage());
+            running = false;
+        }
+    }
+
+    /**
+     * Reads one block of a voice into voiceBuffer, rewinding looped sources
+     * @return frames read; the voice is marked stopped at its end
+     */
+    private int fill(Voice voice) {
+        int filled = 0;
+        boolean rewound = false;
+        try {
+            while (filled < BLOCK_FRAMES) {
+                int read = voice.source.read(voiceBuffer, filled, BLOCK_FRAMES - filled);
+                if (read > 0) {
+                    filled += read;
+                    rewound = false;
+                } else if (voice.loop && !rewound) {
+                    voice.source.rewind();
+                    rewound = true;
+                } else {
+                    voice.stopRequested = true;
+                    break;
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("ERROR: Could not read sound " + voice.name + ": " + e.getMessage());
+            voice.stopRequested = true;
+        }
+        return filled;
+    }
+
+    private void removeStopped() {
+        synchronized (voices) {
+            Iterator<Voice> iterator = voices.iterator();
+            while (iterator.hasNext()) {
+                Voice voice = iterator.next();
+                if (voice.stopRequested) {
+                    iterator.remove();
+                    voice.source.close();
+                    voice.done = true;
+                }
+            }
+        }
+    }
+
+    /**
+     * Decoded samples of a file, cached by path and timestamp
+     */
+    private synchronized float[] decode(File file) throws IOException {
+        String key = file.getAbsolutePath() + "@" + file.lastModified();
+        float[] samples = pcmCache.get(key);
+        if (samples != null) {
+            return samples;
+        }
+
+        List<byte[]> chunks = new ArrayList<>();
+        long total = 0;
+        try (AudioInputStream stream = openStream(file)) {
+            byte[] chunk = new byte[64 * 1024];
+            int read;
+            while ((read = stream.readNBytes(chunk, 0, chunk.length)) > 0) {
+                chunks.add(Arrays.copyOf(chunk, read));
+                total += read;
+            }
+        }
+        int frames = (int) (total / FRAME_BYTES);
+        samples = new float[frames * CHANNELS];
+        int offset = 0;
+        for (byte[] chunk : chunks) {
+            int count = Math.min(chunk.length / 2, samples.length - offset);
+            toFloat(chunk, count, samples, offset);
+            offset += count;
+        }
+
+        pcmCache.put(key, samples);
+        pcmCacheBytes += samples.length * 4L;
+        Iterator<Map.Entry<String, float[]>> iterator = pcmCache.entrySet().iterator();
+        while (pcmCacheBytes > CACHE_LIMIT_BYTES && iterator.hasNext()) {
+            Map.Entry<String, float[]> eldest = iterator.next();
+            if (eldest.getValue() == samples) {
+                break;
+            }
+            pcmCacheBytes -= eldest.getValue().length * 4L;
+            iterator.remove();
+        }
+        return samples;
+    }
+
+    private static File resolve(String fileName) {
+        if (fileName == null || fileName.isEmpty()) {
+            return null;
+        }
+        File file = new File(fileName);
+        if (file.isAbsolute()) {
+            return file.isFile() ? file : null;
+        }
+        file = ResourcePathHelper.resolve("sounds/" + fileName);
+        if (file.isFile()) {
+            return file;
+        }
+        file = ResourcePathHelper.resolve(fileName);
+        return file.isFile() ? file : null;
+    }
+
+    /**
+     * Opens a file converted to FORMAT
+     */
+    private static AudioInputStream openStream(File file) throws IOException {
+        try {
+            AudioInputStream stream = AudioSystem.getAudioInputStream(new BufferedInputStream(new FileInputStream(file)));
+            AudioFormat source = stream.getFormat();
+            if (source.matches(FORMAT)) {
+                return stream;
+            }
+            if (!AudioFormat.Encoding.PCM_SIGNED.equals(source.getEncoding()) || source.getSampleSizeInBits() != 16) {
+                AudioFormat pcm = new AudioFormat(source.getSampleRate(), 16, source.getChannels(), true, false);
+                stream = AudioSystem.getAudioInputStream(pcm, stream);
+            }
+            return AudioSystem.getAudioInputStream(FORMAT, stream);
+        } catch (UnsupportedAudioFileException | IllegalArgumentException e) {
+            throw new IOException("Unsupported audio format: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 16 bit little-endian PCM to floats in [-1, 1)
+     */
+    private static void toFloat(byte[] bytes, int samples, float[] target, int offset) {
+        for (int i = 0, b = 0; i < samples; i++, b += 2) {
+            target[offset + i] = (short) ((bytes[b + 1] << 8) | (bytes[b] & 0xff)) / 32768f;
+        }
+    }
+}
@@ -3,7 +3,6 @@ package main;
 import java.io.BufferedReader;
 import java.io.BufferedWriter;
 import java.io.File;
-import java.io.FileReader;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.util.ArrayList;
@@ -17,8 +16,22 @@ public class ButtonsDataManager {
     private static final String BUTTONS_FILE = ResourcePathHelper.resolvePath("buttons/buttons.txt");
     private static List<ButtonData> buttons = new ArrayList<>();
 
+    private static boolean loaded = false;
+
     static {
+        ensureLoaded();
+    }
+
+    /**
+     * Loads buttons.txt unless it was loaded already.
+     * Called by the StartupOrchestrator on a worker thread.
+     */
+    public static synchronized void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
         loadButtons();
+        loaded = true;
     }
 
     /**
@@ -28,7 +41,7 @@ public class ButtonsDataManager {
         buttons.clear();
 
         File file = new File(BUTTONS_FILE);
-        if (!file.exists()) {
+        if (!ProjectPack.exists(file)) {
             // Create default buttons
             createDefaultButtons();
             saveButtons();
@@ -36,7 +49,7 @@ public class ButtonsDataManager {
             return;
         }
 
-        try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
+        try (BufferedReader reader = ProjectPack.openReader(file)) {
             String line;
             ButtonData currentButton = null;
 
@@ -115,6 +128,7 @@ public class ButtonsDataManager {
             System.err.println("Error saving buttons: " + e.getMessage());
             e.printStackTrace();
         }
+        ResourceIndex.fileChanged(file);
     }
 
     /**
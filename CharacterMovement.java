@@ -170,4 +170,114 @@ public class CharacterMovement {
     public static double getAngle(Point from, Point to) {
         return Math.atan2(to.y - from.y, to.x - from.x);
     }
+
+    /**
+     * Moves a character one step towards the target.
+     * Used by the Swing movement timer and by HeadlessGameSession.tick().
+     *
+     * @param item The moving item
+     * @param target Target position
+     * @param speed Maximum distance per step in pixels
+     * @return true if the target was reached with this step
+     */
+    public static boolean stepTowards(Item item, Point target, int speed) {
+        Point currentPos = item.getPosition();
+
+        if (currentPos.distance(target) <= speed) {
+            moveItemTo(item, target.x, target.y);
+            item.setMoving(false);
+            return true;
+        }
+
+        item.setMoving(true);
+        double angle = getAngle(currentPos, target);
+        int newX = currentPos.x + (int) (Math.cos(angle) * speed);
+        int newY = currentPos.y + (int) (Math.sin(angle) * speed);
+        moveItemTo(item, newX, newY);
+        return false;
+    }
+
+    /**
+     * Places the character (the item following mouse clicks) of a scene at a spawn point.
+     * Called when a scene change has switched to the new scene.
+     *
+     * @param scene The new scene
+     * @param spawnPoint "x,y" or the name of an item in the scene; null or empty keeps the position
+     */
+    public static void placeAtSpawnPoint(Scene scene, String spawnPoint) {
+        if (scene == null || spawnPoint == null || spawnPoint.trim().isEmpty()) {
+            return;
+        }
+
+        Item character = null;
+        for (Item item : scene.getItems()) {
+            if (item.isFollowingOnMouseClick()) {
+                character = item;
+                break;
+            }
+        }
+        if (character == null) {
+            System.err.println("CharacterMovement: No character in scene " + scene.getName()
+                    + " to place at spawn point '" + spawnPoint + "'");
+            return;
+        }
+
+        Point target = parseSpawnPoint(scene, spawnPoint.trim());
+        if (target == null) {
+            System.err.println("CharacterMovement: Unknown spawn point '" + spawnPoint + "' in scene "
+                    + scene.getName());
+            return;
+        }
+        character.setMoving(false);
+        moveItemTo(character, target.x, target.y);
+    }
+
+    private static Point parseSpawnPoint(Scene scene, String spawnPoint) {
+        String[] parts = spawnPoint.split(",");
+        if (parts.length == 2) {
+            try {
+                return new Point(Integer.parseInt(parts[0].trim()), Integer.parseInt(parts[1].trim()));
+            } catch (NumberFormatException e) {
+                // Not coordinates - try an item name
+            }
+        }
+        Item marker = scene.getItemByName(spawnPoint);
+        return marker != null ? new Point(marker.getPosition()) : null;
+    }
+
+    /**
+     * Moves an item to a new position and moves all of its CustomClickAreas along,
+     * so click areas stay synchronized with the item's visual position.
+     *
+     * @param item The item to move
+     * @param newX New X position
+     * @param newY New Y position
+     */
+    public static void moveItemTo(Item item, int newX, int newY) {
+        // Calculate delta (how much the item moved)
+        Point oldPosition = item.getPosition();
+        int deltaX = newX - oldPosition.x;
+        int deltaY = newY - oldPosition.y;
+
+        item.setPosition(newX, newY);
+
+        if (item.getCustomClickAreas() != null) {
+            for (CustomClickArea area : item.getCustomClickAreas()) {
+                for (Point p : area.getPoints()) {
+                    p.x += deltaX;
+                    p.y += deltaY;
+                }
+                area.updatePolygon();
+            }
+        }
+
+        // Old-style custom click area (backward compatibility)
+        if (item.hasCustomClickArea() && item.getClickAreaPoints() != null) {
+            for (Point p : item.getClickAreaPoints()) {
+                p.x += deltaX;
+                p.y += deltaY;
+            }
+            item.updateClickAreaPolygon();
+        }
+    }
 }
@@ -0,0 +1,271 @@
+package main;
+
+import java.awt.Color;
+import java.awt.Point;
+import java.util.Map;
+
+/**
+ * Game-mode click handling and action results, shared by all GameSessions.
+ *
+ * A click walks the character, then acts on the item under the mouse
+ * (items have priority), then on the KeyArea; without a selected action
+ * the player walks. Action results ("##load...", "#Dialog:", "#SetBoolean:",
+ * "#AddItem:", "#Process:", separated by |||) are applied here as well.
+ *
+ * Everything that only concerns a display (editor modes, debug window,
+ * inventory bar, background reload, auto-save) goes through Presentation,
+ * so AdventureGame and HeadlessGameSession run the same game logic.
+ */
+public class ClickInterpreter {
+
+    public static final int SCENE_FADE_MILLIS = 400;
+
+    /**
+     * Frontend side of a click. Headless sessions use NONE.
+     */
+    public interface Presentation {
+        /**
+         * Editor tools that take a click before the game (point placement)
+         * @return true if the click was used
+         */
+        default boolean editorClick(Point point) {
+            return false;
+        }
+
+        /**
+         * Editor selection of the clicked item instead of the game action
+         * @return true if the click was used
+         */
+        default boolean editorItemClick(Item item) {
+            return false;
+        }
+
+        default void actionPerformed(String action, String target, String result) {
+        }
+
+        /**
+         * A #SetBoolean result was applied (after Conditions and its listener)
+         */
+        default void conditionChanged(String name, boolean oldValue, boolean newValue) {
+        }
+
+        default void inventoryChanged() {
+        }
+
+        default void playerMoved(Point point) {
+        }
+    }
+
+    public static final Presentation NONE = new Presentation() {
+    };
+
+    private final GameSession session;
+    private final Presentation presentation;
+
+    // Last click outcome, for assertions in simulations
+    private String lastResult;
+    private String lastDialog;
+
+    public ClickInterpreter(GameSession session, Presentation presentation) {
+        this.session = session;
+        this.presentation = presentation;
+    }
+
+    /**
+     * Handles a click into the game area (game coordinates)
+     */
+    public void click(Point clickPoint) {
+        lastResult = null;
+
+        // An open dialog takes the click (closes it and releases waiting processes)
+        if (session.getTextOverlay().dismissDialog()) {
+            session.repaint();
+            return;
+        }
+
+        // Clicks would act on the outgoing scene while the next one is loading
+        if (session.isSceneTransitionRunning()) {
+            return;
+        }
+
+        if (presentation.editorClick(clickPoint)) {
+            return;
+        }
+
+        Scene scene = session.getCurrentScene();
+        if (scene == null) {
+            return;
+        }
+
+        // Characters follow the click regardless of the selected action
+        moveCharacter(scene, clickPoint);
+
+        // Items have priority over KeyAreas
+        Item clickedItem = scene.getItemAt(clickPoint);
+        if (clickedItem != null && clickedItem.isVisible() && presentation.editorItemClick(clickedItem)) {
+            return;
+        }
+
+        String action = session.getSelectedAction();
+        if (clickedItem != null && clickedItem.isVisible() && action != null) {
+            lastResult = clickedItem.performAction(action, session.getGameProgress());
+            presentation.actionPerformed(action, clickedItem.getName() + " (Item)", lastResult);
+            applyResult(lastResult);
+            finishAction();
+            return;
+        }
+
+        KeyArea clickedArea = scene.getKeyAreaAt(clickPoint);
+        if (clickedArea != null && action != null) {
+            lastResult = clickedArea.performAction(action, session.getGameProgress());
+            presentation.actionPerformed(action, clickedArea.getName() + " (KeyArea)", lastResult);
+            applyResult(lastResult);
+            finishAction();
+        } else if (action == null) {
+            presentation.playerMoved(clickPoint);
+            session.repaint();
+        }
+    }
+
+    /**
+     * Executes an action result (several results separated by |||)
+     */
+    public void applyResult(String result) {
+        if (result == null) {
+            return;
+        }
+
+        for (String singleResult : result.split("\\|\\|\\|")) {
+            singleResult = singleResult.trim();
+
+            if (singleResult.startsWith("##load")) {
+                // Load the new scene in the background and fade over to it
+                session.changeScene(singleResult.substring(6).trim(), null, "fade", SCENE_FADE_MILLIS);
+            } else if (singleResult.startsWith("#Dialog:")) {
+                // "#Dialog:------dialogname.txt"
+                String dialogLine = singleResult.substring(8).trim();
+                while (dialogLine.startsWith("-")) {
+                    dialogLine = dialogLine.substring(1);
+                }
+                if (dialogLine.endsWith(".txt")) {
+                    dialogLine = dialogLine.substring(0, dialogLine.length() - 4);
+                }
+                showDialog(dialogLine.trim());
+            } else if (singleResult.startsWith("#SetBoolean:")) {
+                String[] parts = singleResult.substring(12).split("=");
+                if (parts.length == 2) {
+                    String name = parts[0].trim();
+                    boolean newValue = Boolean.parseBoolean(parts[1].trim());
+                    boolean oldValue = Conditions.getCondition(name);
+                    Conditions.setCondition(name, newValue);
+                    presentation.conditionChanged(name, oldValue, newValue);
+                }
+            } else if (singleResult.startsWith("#AddItem:")) {
+                addItemToInventory(singleResult.substring(9).trim());
+            } else if (singleResult.startsWith("#Process:")) {
+                String processName = singleResult.substring(9).trim();
+                Process process = ProcessLoader.loadProcess(processName);
+                if (process != null) {
+                    session.getProcessExecutor().executeProcess(process);
+                } else {
+                    System.err.println("Process not found: " + processName);
+                }
+            }
+        }
+    }
+
+    /**
+     * Shows a dialog of the current scene over the game area
+     */
+    public void showDialog(String dialogName) {
+        Scene scene = session.getCurrentScene();
+        if (scene == null) {
+            return;
+        }
+        lastDialog = dialogName;
+
+        String dialogText = scene.getDialog(dialogName);
+        if (dialogText == null) {
+            // Show detailed error with available dialogs
+            StringBuilder errorMsg = new StringBuilder();
+            errorMsg.append("ERROR: Dialog nicht gefunden: ").append(dialogName).append("\n\n");
+            errorMsg.append("Verfügbare Dialoge in dieser Scene:\n");
+
+            Map<String, String> availableDialogs = scene.getDialogs();
+            if (availableDialogs.isEmpty()) {
+                errorMsg.append("  (keine Dialoge definiert)\n");
+            } else {
+                for (String dialogKey : availableDialogs.keySet()) {
+                    errorMsg.append("  • ").append(dialogKey).append("\n");
+                }
+            }
+
+            errorMsg.append("\nBitte prüfen Sie die Scene-Datei!");
+            System.err.println("Dialog nicht gefunden: " + dialogName);
+            System.err.println("Verfügbare Dialoge: " + availableDialogs.keySet());
+
+            session.getTextOverlay().showDialog(errorMsg.toString(), "center", new Color(255, 120, 120));
+            session.repaint();
+            return;
+        }
+
+        // Drawn in the game area; the game keeps running until the dialog is clicked away
+        session.getTextOverlay().showDialog(dialogText, "center", Color.WHITE);
+        session.repaint();
+    }
+
+    /**
+     * Puts an item of the current scene into the inventory
+     */
+    public void addItemToInventory(String itemName) {
+        Scene scene = session.getCurrentScene();
+        if (scene == null) {
+            return;
+        }
+        Item item = scene.getItemByName(itemName);
+        if (item == null) {
+            System.err.println("Item not found in scene: " + itemName);
+            return;
+        }
+        // The item hides itself in the scene while isInInventory is true
+        item.setInInventory(true);
+        System.out.println("Added item to inventory: " + itemName);
+        presentation.inventoryChanged();
+        session.repaint();
+    }
+
+    /**
+     * Raw action result of the last click (null if nothing was hit)
+     */
+    public String getLastResult() {
+        return lastResult;
+    }
+
+    /**
+     * Name of the last dialog shown
+     */
+    public String getLastDialog() {
+        return lastDialog;
+    }
+
+    /**
+     * Starts the first item with isFollowingOnMouseClick walking to the click (respects MovingRanges)
+     */
+    private void moveCharacter(Scene scene, Point clickPoint) {
+        for (Item item : scene.getItems()) {
+            if (item.isFollowingOnMouseClick()) {
+                Point target = CharacterMovement.calculateTargetPosition(item, clickPoint, session.getGameProgress());
+                session.startCharacterMovementProcess(item, target);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Clears the action (and item-as-cursor mode) after it was used
+     */
+    private void finishAction() {
+        session.selectAction(null);
+        session.repaint();
+    }
+}
@@ -0,0 +1,89 @@
+package main;
+
+import java.awt.Point;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Headless soak/performance run: loads a scene into a HeadlessGameSession and
+ * fires random clicks with random actions at it.
+ *
+ * Usage: java main.ClickSimulation [SceneName/SubSceneName] [clicks] [seed]
+ */
+public class ClickSimulation {
+
+    private static final int GAME_WIDTH = 1024;
+    private static final int GAME_HEIGHT = 668;
+
+    public static void main(String[] args) {
+        String sceneName = args.length > 0 ? args[0] : new GameProgress().getCurrentScene();
+        int clicks = args.length > 1 ? Integer.parseInt(args[1]) : 10000;
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : 42;
+
+        PrintStream out = System.out;
+
+        // Use the exported project pack if there is one (java main.ProjectPack)
+        ProjectPack.open();
+
+        HeadlessGameSession session = new HeadlessGameSession();
+        session.loadScene(sceneName);
+        if (session.getCurrentScene() == null) {
+            System.err.println("ClickSimulation: Scene not found: " + sceneName);
+            System.exit(1);
+        }
+
+        List<String> actions = collectActions(session.getCurrentScene());
+        out.println("ClickSimulation: " + sceneName + ", " + clicks + " clicks, " + actions.size() + " actions");
+
+        // The game logic logs every click - keep the console readable
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+
+        Random random = new Random(seed);
+        int hits = 0;
+        long start = System.nanoTime();
+
+        for (int i = 0; i < clicks; i++) {
+            String action = actions.isEmpty() || random.nextInt(4) == 0 ? null
+                    : actions.get(random.nextInt(actions.size()));
+            session.selectAction(action);
+            session.clickAt(new Point(random.nextInt(GAME_WIDTH), random.nextInt(GAME_HEIGHT)));
+            session.tick(16);
+
+            if (session.getLastResult() != null) {
+                hits++;
+            }
+        }
+
+        long elapsed = System.nanoTime() - start;
+        System.setOut(out);
+
+        double seconds = elapsed / 1_000_000_000.0;
+        out.printf("ClickSimulation: %d clicks in %.3f s (%.0f clicks/s), %d with results, final scene %s%n", clicks,
+                seconds, clicks / seconds, hits, session.getCurrentSceneName());
+    }
+
+    /**
+     * All action names used by items and KeyAreas of a scene
+     */
+    private static List<String> collectActions(Scene scene) {
+        List<String> actions = new ArrayList<>();
+        for (Item item : scene.getItems()) {
+            for (String action : item.getActions().keySet()) {
+                if (!actions.contains(action)) {
+                    actions.add(action);
+                }
+            }
+        }
+        for (KeyArea area : scene.getKeyAreas()) {
+            for (String action : area.getActions().keySet()) {
+                if (!actions.contains(action)) {
+                    actions.add(action);
+                }
+            }
+        }
+        return actions;
+    }
+}
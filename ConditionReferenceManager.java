@@ -4,7 +4,6 @@ import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.util.ArrayList;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.regex.Pattern;
@@ -28,38 +27,17 @@ public class ConditionReferenceManager {
 			throw new IOException("Resources directory not found");
 		}
 
-		// Find all .txt files recursively
-		List<File> txtFiles = findAllTxtFiles(resourcesDir);
-
-		for (File file : txtFiles) {
+		// Only rewrite files the index knows to reference the condition
+		for (File file : ResourceIndex.findFiles(ResourceIndex.TokenType.CONDITION, conditionName)) {
 			if (removeConditionFromFile(file, conditionName)) {
 				modifiedFiles.add(file.getPath());
 			}
+			ResourceIndex.fileChanged(file);
 		}
 
 		return modifiedFiles;
 	}
 
-	/**
-	 * Find all .txt files in a directory recursively
-	 */
-	private static List<File> findAllTxtFiles(File directory) {
-		List<File> txtFiles = new ArrayList<>();
-
-		File[] files = directory.listFiles();
-		if (files != null) {
-			for (File file : files) {
-				if (file.isDirectory()) {
-					txtFiles.addAll(findAllTxtFiles(file));
-				} else if (file.getName().endsWith(".txt")) {
-					txtFiles.add(file);
-				}
-			}
-		}
-
-		return txtFiles;
-	}
-
 	/**
 	 * Remove condition references from a single file
 	 * @return true if file was modified
@@ -226,6 +204,7 @@ public class ConditionReferenceManager {
 
 			if (modified) {
 				Files.write(oldDefaultsFile.toPath(), newLines);
+				ResourceIndex.fileChanged(oldDefaultsFile);
 				return true;
 			}
 		}
@@ -263,6 +242,7 @@ public class ConditionReferenceManager {
 			}
 
 			Files.write(file.toPath(), newLines);
+			ResourceIndex.fileChanged(file);
 		}
 	}
 
@@ -298,31 +278,6 @@ public class ConditionReferenceManager {
 	 * Find all references to a condition (for reporting purposes)
 	 */
 	public static Map<String, List<Integer>> findConditionReferences(String conditionName) throws IOException {
-		Map<String, List<Integer>> references = new LinkedHashMap<>();
-		File resourcesDir = new File("resources");
-
-		if (!resourcesDir.exists()) {
-			return references;
-		}
-
-		List<File> txtFiles = findAllTxtFiles(resourcesDir);
-
-		for (File file : txtFiles) {
-			List<String> lines = Files.readAllLines(file.toPath());
-			List<Integer> lineNumbers = new ArrayList<>();
-
-			for (int i = 0; i < lines.size(); i++) {
-				String line = lines.get(i);
-				if (isConditionReference(line, conditionName) || isSetBooleanReference(line, conditionName)) {
-					lineNumbers.add(i + 1); // 1-based line numbers
-				}
-			}
-
-			if (!lineNumbers.isEmpty()) {
-				references.put(file.getPath(), lineNumbers);
-			}
-		}
-
-		return references;
+		return ResourceIndex.find(ResourceIndex.TokenType.CONDITION, conditionName);
 	}
 }
@@ -10,10 +10,16 @@ import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Set;
 
+import javax.swing.SwingUtilities;
+
 /**
  * Zentrale Klasse für alle Spielbedingungen.
  * Conditions werden dynamisch aus conditions.txt geladen und verwaltet.
  * KEINE Quellcode-Änderungen mehr notwendig!
+ *
+ * Thread-safe: scenes and items are loaded on a background thread, so all
+ * access to the map is synchronized on the class. The change listener is
+ * always called on the EDT.
  */
 public class Conditions {
     private static final String CONDITIONS_FILE = ResourcePathHelper.resolvePath("conditions/conditions.txt");
@@ -29,18 +35,33 @@ public class Conditions {
     }
 
     // Listener for condition changes
-    private static ConditionChangeListener changeListener = null;
+    private static volatile ConditionChangeListener changeListener = null;
 
     // Mode: true = gaming mode (save to progress), false = edit mode (save to default)
-    private static boolean gamingMode = false;
+    private static volatile boolean gamingMode = false;
 
     // Auto-save to progress enabled/disabled (deprecated - use gamingMode instead)
     @Deprecated
-    private static boolean autoSaveToProgress = false;
+    private static volatile boolean autoSaveToProgress = false;
+
+    private static boolean loaded = false;
 
     // Static initializer - lädt Conditions beim ersten Zugriff
     static {
+        ensureLoaded();
+    }
+
+    /**
+     * Loads conditions.txt unless it was loaded already.
+     * Called by the StartupOrchestrator on a worker thread so the first access
+     * on the EDT doesn't block on disk I/O.
+     */
+    public static synchronized void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
         loadConditionsFromFile();
+        loaded = true;
     }
 
     /**
@@ -71,7 +92,7 @@ public class Conditions {
     }
 
     /**
-     * Sets a listener that will be notified when conditions change
+     * Sets a listener that will be notified when conditions change (on the EDT)
      */
     public static void setChangeListener(ConditionChangeListener listener) {
         changeListener = listener;
@@ -80,11 +101,11 @@ public class Conditions {
     /**
      * Lädt alle verfügbaren Conditions aus conditions.txt
      */
-    private static void loadConditionsFromFile() {
+    private static synchronized void loadConditionsFromFile() {
         File file = new File(CONDITIONS_FILE);
 
         // Falls Datei nicht existiert, erstelle sie mit Defaults
-        if (!file.exists()) {
+        if (!ProjectPack.exists(file)) {
             System.out.println("Conditions-Datei nicht gefunden, erstelle neue: " + CONDITIONS_FILE);
             file.getParentFile().mkdirs();
             createDefaultConditionsFile();
@@ -93,7 +114,7 @@ public class Conditions {
         conditions.clear();
 
         try {
-            BufferedReader reader = new BufferedReader(new FileReader(file));
+            BufferedReader reader = ProjectPack.openReader(file);
             String line;
 
             while ((line = reader.readLine()) != null) {
@@ -159,6 +180,7 @@ public class Conditions {
             }
 
             writer.close();
+            ResourceIndex.fileChanged(file);
             System.out.println("Created default conditions file: " + CONDITIONS_FILE);
         } catch (Exception e) {
             System.err.println("ERROR creating default conditions file: " + e.getMessage());
@@ -169,20 +191,22 @@ public class Conditions {
      * Setzt eine Condition per Namen
      */
     public static void setCondition(String name, boolean value) {
-        boolean oldValue = conditions.getOrDefault(name, false);
-        boolean changed = oldValue != value;
-
-        if (conditions.containsKey(name)) {
-            conditions.put(name, value);
-            System.out.println("Condition gesetzt: " + name + " = " + value);
-        } else {
-            System.err.println("⚠️ Unbekannte Condition (wird trotzdem gesetzt): " + name);
-            conditions.put(name, value);
+        boolean oldValue;
+        synchronized (Conditions.class) {
+            oldValue = conditions.getOrDefault(name, false);
+            if (conditions.containsKey(name)) {
+                conditions.put(name, value);
+                System.out.println("Condition gesetzt: " + name + " = " + value);
+            } else {
+                System.err.println("⚠️ Unbekannte Condition (wird trotzdem gesetzt): " + name);
+                conditions.put(name, value);
+            }
         }
+        boolean changed = oldValue != value;
 
         // Notify listener if value actually changed
-        if (changed && changeListener != null) {
-            changeListener.onConditionChanged(name, oldValue, value);
+        if (changed) {
+            fireChanged(name, oldValue, value);
         }
 
         // Auto-save based on mode
@@ -199,10 +223,25 @@ public class Conditions {
         }
     }
 
+    /**
+     * Calls the listener on the EDT (scene loading sets conditions on its loader thread)
+     */
+    private static void fireChanged(String name, boolean oldValue, boolean newValue) {
+        ConditionChangeListener listener = changeListener;
+        if (listener == null) {
+            return;
+        }
+        if (SwingUtilities.isEventDispatchThread()) {
+            listener.onConditionChanged(name, oldValue, newValue);
+        } else {
+            SwingUtilities.invokeLater(() -> listener.onConditionChanged(name, oldValue, newValue));
+        }
+    }
+
     /**
      * Gibt eine Condition per Namen zurück
      */
-    public static boolean getCondition(String name) {
+    public static synchronized boolean getCondition(String name) {
         Boolean value = conditions.get(name);
         if (value == null) {
             System.err.println("⚠️ Unbekannte Condition: " + name + " (returning false)");
@@ -214,7 +253,7 @@ public class Conditions {
     /**
      * Fügt eine neue Condition hinzu und speichert in conditions.txt
      */
-    public static void addCondition(String name, boolean defaultValue) {
+    public static synchronized void addCondition(String name, boolean defaultValue) {
         conditions.put(name, defaultValue);
         saveConditionsToFile();
         System.out.println("✓ Neue Condition hinzugefügt: " + name + " = " + defaultValue);
@@ -224,7 +263,7 @@ public class Conditions {
      * Fügt eine Condition nur zur Laufzeit hinzu, OHNE in conditions.txt zu speichern
      * Wird für isInInventory_* Conditions verwendet, die nur in Item-Dateien gespeichert werden
      */
-    public static void addConditionRuntimeOnly(String name, boolean defaultValue) {
+    public static synchronized void addConditionRuntimeOnly(String name, boolean defaultValue) {
         conditions.put(name, defaultValue);
         System.out.println("✓ Runtime Condition hinzugefügt: " + name + " = " + defaultValue);
     }
@@ -232,7 +271,7 @@ public class Conditions {
     /**
      * Löscht eine Condition
      */
-    public static void removeCondition(String name) {
+    public static synchronized void removeCondition(String name) {
         if (conditions.remove(name) != null) {
             saveConditionsToFile();
             System.out.println("✓ Condition gelöscht: " + name);
@@ -244,28 +283,28 @@ public class Conditions {
     /**
      * Gibt alle Condition-Namen zurück
      */
-    public static Set<String> getAllConditionNames() {
+    public static synchronized Set<String> getAllConditionNames() {
         return new LinkedHashSet<>(conditions.keySet());
     }
 
     /**
      * Gibt alle Conditions als Map zurück
      */
-    public static Map<String, Boolean> getAllConditions() {
+    public static synchronized Map<String, Boolean> getAllConditions() {
         return new LinkedHashMap<>(conditions);
     }
 
     /**
      * Prüft ob eine Condition existiert
      */
-    public static boolean conditionExists(String name) {
+    public static synchronized boolean conditionExists(String name) {
         return conditions.containsKey(name);
     }
 
     /**
      * Speichert alle Conditions in conditions.txt (DEFAULT VALUES)
      */
-    public static void saveConditionsToFile() {
+    public static synchronized void saveConditionsToFile() {
         try {
             File file = new File(CONDITIONS_FILE);
             file.getParentFile().mkdirs();
@@ -283,6 +322,7 @@ public class Conditions {
             }
 
             writer.close();
+            ResourceIndex.fileChanged(file);
             System.out.println("✓ Conditions saved to: " + CONDITIONS_FILE);
         } catch (Exception e) {
             System.err.println("ERROR saving conditions: " + e.getMessage());
@@ -293,7 +333,7 @@ public class Conditions {
      * Speichert alle Conditions in conditions/conditions.txt (CURRENT STATE)
      * Used for auto-save in Gaming Mode
      */
-    public static void saveConditionsToProgress() {
+    public static synchronized void saveConditionsToProgress() {
         try {
             File file = ResourcePathHelper.resolve("conditions/conditions.txt");
             file.getParentFile().mkdirs();
@@ -308,6 +348,7 @@ public class Conditions {
             }
 
             writer.close();
+            ResourceIndex.fileChanged(file);
             System.out.println("✓ Conditions saved to: resources/conditions/conditions.txt (CURRENT STATE)");
         } catch (Exception e) {
             System.err.println("ERROR saving conditions to current state: " + e.getMessage());
@@ -362,7 +403,7 @@ public class Conditions {
     /**
      * Speichert alle Conditions in progress.txt
      */
-    public static void saveToProgress(String filename, String currentScene) {
+    public static synchronized void saveToProgress(String filename, String currentScene) {
         try {
             File file = new File(filename);
             file.getParentFile().mkdirs();
@@ -379,6 +420,7 @@ public class Conditions {
             }
 
             writer.close();
+            ResourceIndex.fileChanged(file);
             System.out.println("Conditions gespeichert");
         } catch (Exception e) {
             System.err.println("Fehler beim Speichern der Conditions: " + e.getMessage());
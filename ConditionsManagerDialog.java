@@ -649,6 +649,7 @@ public class ConditionsManagerDialog extends JDialog {
 		}
 
 		writer.close();
+		ResourceIndex.fileChanged(file);
 	}
 
 	public Map<String, Boolean> getConditions() {
@@ -0,0 +1,396 @@
+package main;
+
+import java.awt.Dimension;
+import java.awt.Point;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+
+/**
+ * Creates click polygons from the alpha channel of item sprites.
+ *
+ * Pipeline: alpha mask at display size -> largest opaque region ->
+ * marching squares outline -> optional convex hull -> Douglas-Peucker
+ * simplification down to a vertex budget.
+ * generateForProject() runs it in parallel for all item files.
+ */
+public class ContourExtractor {
+
+    public static final int DEFAULT_ALPHA_THRESHOLD = 32;
+    public static final int DEFAULT_MAX_VERTICES = 16;
+    /** Simplification stops earlier when no point deviates more than this (pixels) */
+    private static final double TOLERANCE = 1.0;
+
+    // Marching squares step per 2x2 cell state (6 and 9 are the saddle cases)
+    private static final int[] STEP_X = { 1, 0, 1, 1, -1, 0, -1, 1, 0, 0, 0, 0, -1, 0, -1, 0 };
+    private static final int[] STEP_Y = { 0, -1, 0, 0, 0, -1, 0, 0, 1, -1, 1, 1, 0, -1, 0, 0 };
+
+    /**
+     * Outline of the largest opaque region of a sprite, in sprite pixel coordinates
+     * @return the polygon points, or an empty list if the sprite is fully transparent
+     */
+    public static List<Point> extract(BufferedImage sprite, int alphaThreshold, int maxVertices, boolean convexHull) {
+        int width = sprite.getWidth();
+        int height = sprite.getHeight();
+
+        boolean[] opaque = new boolean[width * height];
+        int[] row = new int[width];
+        for (int y = 0; y < height; y++) {
+            sprite.getRGB(0, y, width, 1, row, 0, width);
+            for (int x = 0; x < width; x++) {
+                opaque[y * width + x] = (row[x] >>> 24) >= alphaThreshold;
+            }
+        }
+
+        boolean[] region = largestRegion(opaque, width, height);
+        if (region == null) {
+            return new ArrayList<>();
+        }
+
+        List<Point> outline = trace(region, width, height);
+        if (convexHull) {
+            outline = convexHull(outline);
+        }
+        return simplify(outline, Math.max(3, maxVertices));
+    }
+
+    /**
+     * Creates the click polygon of an item from its current sprite at the item size
+     * and position (scene coordinates, like hand-edited CustomClickArea points)
+     * @return the points, or null if the item has no loadable image
+     */
+    public static List<Point> extractForItem(Item item, int maxVertices, boolean convexHull) {
+        int width = item.getWidth();
+        int height = item.getHeight();
+        File imageFile = SceneRenderer.getItemImageFile(item);
+        if (imageFile == null || !imageFile.exists() || width <= 0 || height <= 0) {
+            return null;
+        }
+
+        BufferedImage source = ImageCache.get(imageFile);
+        if (source == null) {
+            return null;
+        }
+        BufferedImage sprite = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        java.awt.Graphics2D g2d = sprite.createGraphics();
+        g2d.drawImage(source, 0, 0, width, height, null);
+        g2d.dispose();
+
+        List<Point> points = extract(sprite, DEFAULT_ALPHA_THRESHOLD, maxVertices, convexHull);
+        Point pos = item.getPosition();
+        for (Point point : points) {
+            point.translate(pos.x - width / 2, pos.y - height / 2);
+        }
+        return points;
+    }
+
+    /**
+     * Generates click polygons for all item files in parallel and saves them
+     *
+     * @param onlyMissing Skip items that already have a hand-edited click polygon
+     * @return number of items that got a new polygon
+     */
+    public static int generateForProject(boolean onlyMissing, int maxVertices, boolean convexHull) {
+        File[] files = ResourcePathHelper.resolve("items").listFiles((dir, name) -> name.endsWith(".txt"));
+        if (files == null) {
+            return 0;
+        }
+
+        AtomicInteger updated = new AtomicInteger();
+        java.util.Arrays.stream(files).parallel().forEach(file -> {
+            try {
+                Item item = ItemLoader.loadItem(file.getPath());
+                if (onlyMissing && item.hasClickPolygon()) {
+                    return;
+                }
+
+                List<Point> points = extractForItem(item, maxVertices, convexHull);
+                if (points == null || points.size() < 3) {
+                    System.out.println("ContourExtractor: No outline for " + item.getName());
+                    return;
+                }
+
+                CustomClickArea area = item.ensurePrimaryCustomClickArea();
+                area.setPoints(points);
+                area.updatePolygon();
+                ItemSaver.saveItem(item, file.getPath());
+                updated.incrementAndGet();
+                System.out.println("ContourExtractor: " + item.getName() + " -> " + points.size() + " points");
+            } catch (Exception e) {
+                System.err.println("ContourExtractor: Failed for " + file.getName() + ": " + e.getMessage());
+            }
+        });
+        return updated.get();
+    }
+
+    /**
+     * Reads the image size from the file header without decoding the pixels
+     * @return the size, or null if the file cannot be read
+     */
+    public static Dimension readImageSize(File imageFile) {
+        try (ImageInputStream input = ImageIO.createImageInputStream(imageFile)) {
+            if (input == null) {
+                return null;
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                return new Dimension(reader.getWidth(0), reader.getHeight(0));
+            } finally {
+                reader.dispose();
+            }
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    // ==================== Pipeline steps ====================
+
+    /**
+     * Keeps only the largest 4-connected opaque region (specks and detached shadows are dropped)
+     */
+    private static boolean[] largestRegion(boolean[] opaque, int width, int height) {
+        int[] labels = new int[opaque.length];
+        int[] queue = new int[opaque.length];
+        int bestLabel = 0;
+        int bestSize = 0;
+        int label = 0;
+
+        for (int start = 0; start < opaque.length; start++) {
+            if (!opaque[start] || labels[start] != 0) {
+                continue;
+            }
+            label++;
+            int head = 0;
+            int tail = 0;
+            queue[tail++] = start;
+            labels[start] = label;
+            while (head < tail) {
+                int index = queue[head++];
+                int x = index % width;
+                int y = index / width;
+                if (x > 0 && opaque[index - 1] && labels[index - 1] == 0) {
+                    labels[index - 1] = label;
+                    queue[tail++] = index - 1;
+                }
+                if (x < width - 1 && opaque[index + 1] && labels[index + 1] == 0) {
+                    labels[index + 1] = label;
+                    queue[tail++] = index + 1;
+                }
+                if (y > 0 && opaque[index - width] && labels[index - width] == 0) {
+                    labels[index - width] = label;
+                    queue[tail++] = index - width;
+                }
+                if (y < height - 1 && opaque[index + width] && labels[index + width] == 0) {
+                    labels[index + width] = label;
+                    queue[tail++] = index + width;
+                }
+            }
+            if (tail > bestSize) {
+                bestSize = tail;
+                bestLabel = label;
+            }
+        }
+
+        if (bestLabel == 0) {
+            return null;
+        }
+        boolean[] region = new boolean[opaque.length];
+        for (int i = 0; i < labels.length; i++) {
+            region[i] = labels[i] == bestLabel;
+        }
+        return region;
+    }
+
+    /**
+     * Marching squares: walks the outer border of the region along pixel corners
+     * and returns the corners where the direction changes
+     */
+    private static List<Point> trace(boolean[] region, int width, int height) {
+        int start = 0;
+        while (!region[start]) {
+            start++;
+        }
+        int startX = start % width;
+        int startY = start / width;
+
+        List<Point> outline = new ArrayList<>();
+        int x = startX;
+        int y = startY;
+        int previousX = 2; // no direction yet
+        int previousY = 2;
+
+        do {
+            int state = 0;
+            if (inside(region, width, height, x - 1, y - 1)) state |= 1;
+            if (inside(region, width, height, x, y - 1)) state |= 2;
+            if (inside(region, width, height, x - 1, y)) state |= 4;
+            if (inside(region, width, height, x, y)) state |= 8;
+
+            int stepX;
+            int stepY;
+            if (state == 6) {
+                stepX = previousY == -1 ? -1 : 1;
+                stepY = 0;
+            } else if (state == 9) {
+                stepX = 0;
+                stepY = previousX == 1 ? -1 : 1;
+            } else {
+                stepX = STEP_X[state];
+                stepY = STEP_Y[state];
+            }
+
+            if (stepX != previousX && stepY != previousY) {
+                outline.add(new Point(x, y));
+                previousX = stepX;
+                previousY = stepY;
+            }
+            x += stepX;
+            y += stepY;
+        } while (x != startX || y != startY);
+
+        return outline;
+    }
+
+    private static boolean inside(boolean[] region, int width, int height, int x, int y) {
+        return x >= 0 && y >= 0 && x < width && y < height && region[y * width + x];
+    }
+
+    /**
+     * Andrew's monotone chain
+     */
+    private static List<Point> convexHull(List<Point> points) {
+        List<Point> sorted = new ArrayList<>(points);
+        sorted.sort((a, b) -> a.x != b.x ? Integer.compare(a.x, b.x) : Integer.compare(a.y, b.y));
+        if (sorted.size() < 3) {
+            return sorted;
+        }
+
+        Point[] hull = new Point[sorted.size() * 2];
+        int size = 0;
+        for (Point point : sorted) {
+            while (size >= 2 && cross(hull[size - 2], hull[size - 1], point) <= 0) {
+                size--;
+            }
+            hull[size++] = point;
+        }
+        for (int i = sorted.size() - 2, lower = size + 1; i >= 0; i--) {
+            Point point = sorted.get(i);
+            while (size >= lower && cross(hull[size - 2], hull[size - 1], point) <= 0) {
+                size--;
+            }
+            hull[size++] = point;
+        }
+
+        List<Point> result = new ArrayList<>();
+        for (int i = 0; i < size - 1; i++) {
+            result.add(hull[i]);
+        }
+        return result;
+    }
+
+    private static long cross(Point o, Point a, Point b) {
+        return (long) (a.x - o.x) * (b.y - o.y) - (long) (a.y - o.y) * (b.x - o.x);
+    }
+
+    /**
+     * Douglas-Peucker on a closed outline, refined greedily: the segment with the point
+     * farthest from it is split first, until the vertex budget or the tolerance is reached
+     */
+    private static List<Point> simplify(List<Point> outline, int maxVertices) {
+        int n = outline.size();
+        if (n <= maxVertices) {
+            return outline;
+        }
+
+        // Two anchors: the first point and the point farthest away from it
+        int far = 0;
+        double farDistance = -1;
+        for (int i = 1; i < n; i++) {
+            double distance = outline.get(0).distanceSq(outline.get(i));
+            if (distance > farDistance) {
+                farDistance = distance;
+                far = i;
+            }
+        }
+
+        boolean[] keep = new boolean[n];
+        keep[0] = true;
+        keep[far] = true;
+        int kept = 2;
+
+        // Segments as {from, to, farthest index, its distance} - index n is point 0 again
+        PriorityQueue<double[]> segments = new PriorityQueue<>((a, b) -> Double.compare(b[3], a[3]));
+        ArrayDeque<int[]> pending = new ArrayDeque<>();
+        pending.add(new int[] { 0, far });
+        pending.add(new int[] { far, n });
+
+        while (true) {
+            while (!pending.isEmpty()) {
+                int[] segment = pending.poll();
+                double[] farthest = farthestPoint(outline, segment[0], segment[1]);
+                if (farthest != null) {
+                    segments.add(new double[] { segment[0], segment[1], farthest[0], farthest[1] });
+                }
+            }
+
+            double[] next = segments.poll();
+            if (next == null || next[3] <= TOLERANCE || kept >= maxVertices) {
+                break;
+            }
+            int split = (int) next[2];
+            keep[split] = true;
+            kept++;
+            pending.add(new int[] { (int) next[0], split });
+            pending.add(new int[] { split, (int) next[1] });
+        }
+
+        List<Point> result = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            if (keep[i]) {
+                result.add(outline.get(i));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Point between from and to (index n means point 0 again) with the largest
+     * distance to the line from-to, as {index, distance}, or null if there is none
+     */
+    private static double[] farthestPoint(List<Point> outline, int from, int to) {
+        if (to - from < 2) {
+            return null;
+        }
+        Point a = outline.get(from);
+        Point b = outline.get(to % outline.size());
+        double dx = b.x - a.x;
+        double dy = b.y - a.y;
+        double length = Math.hypot(dx, dy);
+
+        int bestIndex = -1;
+        double bestDistance = -1;
+        for (int i = from + 1; i < to; i++) {
+            Point p = outline.get(i);
+            double distance = length == 0 ? p.distance(a) : Math.abs(dy * (p.x - a.x) - dx * (p.y - a.y)) / length;
+            if (distance > bestDistance) {
+                bestDistance = distance;
+                bestIndex = i;
+            }
+        }
+        return new double[] { bestIndex, bestDistance };
+    }
+}
@@ -29,6 +29,7 @@ import javax.swing.JScrollPane;
 import javax.swing.JTextArea;
 import javax.swing.ListCellRenderer;
 import javax.swing.ListSelectionModel;
+import javax.swing.SwingUtilities;
 
 import main.KeyArea.ActionHandler;
 
@@ -52,6 +53,11 @@ public class EditorMain extends JFrame {
 	private JPanel keyAreaListContentPanel;
 	private JPanel itemListContentPanel;
 
+	// List thumbnails, refreshed by one ResourceMonitor listener (removed in dispose)
+	private ItemCellRenderer itemCellRenderer;
+	private SceneTileRenderer sceneTileRenderer;
+	private final ResourceMonitor.ResourceChangeListener resourceListener = this::onResourceChanged;
+
 	public EditorMain(AdventureGame game) {
 		this.game = game;
 		System.out.println("EditorWindow: Constructor started");
@@ -120,6 +126,8 @@ public class EditorMain extends JFrame {
 			System.out.println("EditorWindow: Loading all scenes...");
 			loadAllScenes();
 
+			ResourceMonitor.addListener(resourceListener);
+
 			System.out.println("EditorWindow: Constructor completed successfully");
 		} catch (Exception e) {
 			System.err.println("ERROR in EditorWindow constructor: " + e.getMessage());
@@ -160,7 +168,8 @@ public class EditorMain extends JFrame {
 		sceneListModel = new DefaultListModel<>();
 		sceneList = new JList<>(sceneListModel);
 		sceneList.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
-		sceneList.setCellRenderer(new SceneTileRenderer());
+		sceneTileRenderer = new SceneTileRenderer();
+		sceneList.setCellRenderer(sceneTileRenderer);
 		sceneList.setFixedCellHeight(60);
 		sceneList.addListSelectionListener(e -> {
 			if (!e.getValueIsAdjusting()) {
@@ -335,7 +344,8 @@ public class EditorMain extends JFrame {
 		itemListModel = new DefaultListModel<>();
 		itemList = new JList<>(itemListModel);
 		itemList.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
-		itemList.setCellRenderer(new ItemCellRenderer());
+		itemCellRenderer = new ItemCellRenderer();
+		itemList.setCellRenderer(itemCellRenderer);
 		itemList.addListSelectionListener(e -> {
 			if (!e.getValueIsAdjusting()) {
 				onItemSelected();
@@ -1346,6 +1356,36 @@ public class EditorMain extends JFrame {
 		}
 	}
 
+	@Override
+	public void dispose() {
+		ResourceMonitor.removeListener(resourceListener);
+		super.dispose();
+	}
+
+	/**
+	 * Drops the thumbnails of a changed file (called on the ResourceMonitor thread)
+	 */
+	private void onResourceChanged(ResourceMonitor.ResourceChangeEvent event) {
+		SwingUtilities.invokeLater(() -> {
+			if (event.getKind() == ResourceMonitor.ChangeKind.OVERFLOW) {
+				itemCellRenderer.clearCache();
+				sceneTileRenderer.clearCache();
+			} else if (event.getType() == ResourceMonitor.ResourceType.IMAGE) {
+				itemCellRenderer.evict(event.getFile());
+				sceneTileRenderer.evictImage(event.getFile());
+			} else if (event.getType() == ResourceMonitor.ResourceType.SCENE
+					&& event.getRelativePath().endsWith(".txt")) {
+				// "scenes/Beach/MainBeach.txt" -> "Beach/MainBeach"
+				String relative = event.getRelativePath();
+				sceneTileRenderer.evictScene(relative.substring("scenes/".length(), relative.length() - 4));
+			} else {
+				return;
+			}
+			itemList.repaint();
+			sceneList.repaint();
+		});
+	}
+
 	/**
 	 * Custom cell renderer for Items with image tiles
 	 */
@@ -1362,6 +1402,13 @@ public class EditorMain extends JFrame {
 			log("EditorWindow image cache cleared");
 		}
 
+		/**
+		 * Drops the thumbnail of a changed image file
+		 */
+		public void evict(File changed) {
+			imageCache.keySet().removeIf(path -> new File(path).getAbsoluteFile().equals(changed.getAbsoluteFile()));
+		}
+
 		@Override
 		public Component getListCellRendererComponent(JList<? extends String> list, String value, int index,
 				boolean isSelected, boolean cellHasFocus) {
@@ -1412,8 +1459,11 @@ public class EditorMain extends JFrame {
 			try {
 				File imageFile = new File(imagePath);
 				if (imageFile.exists()) {
-					ImageIcon originalIcon = new ImageIcon(imagePath);
-					Image img = originalIcon.getImage();
+					// Read the file itself: ImageIcon(path) reuses the Toolkit copy after a change
+					Image img = javax.imageio.ImageIO.read(imageFile);
+					if (img == null) {
+						return null;
+					}
 
 					// Scale to tile size
 					Image scaledImg = img.getScaledInstance(TILE_SIZE, TILE_SIZE, Image.SCALE_SMOOTH);
@@ -1438,6 +1488,8 @@ public class EditorMain extends JFrame {
 		private JLabel iconLabel;
 		private JLabel textLabel;
 		private java.util.Map<String, ImageIcon> iconCache = new java.util.HashMap<>();
+		// scene name -> background image file of its thumbnail
+		private java.util.Map<String, File> iconFiles = new java.util.HashMap<>();
 
 		public SceneTileRenderer() {
 			setLayout(new BorderLayout(5, 0));
@@ -1455,6 +1507,33 @@ public class EditorMain extends JFrame {
 			add(textLabel, BorderLayout.CENTER);
 		}
 
+		public void clearCache() {
+			iconCache.clear();
+			iconFiles.clear();
+		}
+
+		/**
+		 * Drops the thumbnail of a changed scene file (its background may have changed)
+		 */
+		public void evictScene(String sceneName) {
+			iconCache.remove(sceneName);
+			iconFiles.remove(sceneName);
+		}
+
+		/**
+		 * Drops the thumbnails of all scenes showing a changed background image
+		 */
+		public void evictImage(File changed) {
+			File absolute = changed.getAbsoluteFile();
+			iconFiles.entrySet().removeIf(entry -> {
+				if (entry.getValue().getAbsoluteFile().equals(absolute)) {
+					iconCache.remove(entry.getKey());
+					return true;
+				}
+				return false;
+			});
+		}
+
 		@Override
 		public Component getListCellRendererComponent(JList<? extends String> list, String sceneName, int index,
 				boolean isSelected, boolean cellHasFocus) {
@@ -1468,9 +1547,10 @@ public class EditorMain extends JFrame {
 					if (bgImage != null && !bgImage.isEmpty()) {
 						File imageFile = ResourcePathHelper.resolve("images/" + bgImage);
 						if (imageFile.exists()) {
-							ImageIcon icon = new ImageIcon(imageFile.getAbsolutePath());
-							Image img = icon.getImage().getScaledInstance(75, 45, Image.SCALE_SMOOTH);
+							Image img = javax.imageio.ImageIO.read(imageFile).getScaledInstance(75, 45,
+									Image.SCALE_SMOOTH);
 							iconCache.put(sceneName, new ImageIcon(img));
+							iconFiles.put(sceneName, imageFile);
 						}
 					}
 				} catch (Exception e) {
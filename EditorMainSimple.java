@@ -6,6 +6,7 @@ import java.awt.Component;
 import java.awt.Dimension;
 import java.awt.FlowLayout;
 import java.awt.Font;
+import java.awt.GridLayout;
 import java.io.File;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -66,11 +67,8 @@ public class EditorMainSimple extends JFrame {
     private JPanel scenesContentPanel;
 
     // Items Section
-    private JPanel itemsListPanel; // Panel containing checkboxes + labels
-    private Map<String, JCheckBox> itemCheckBoxes; // Map: itemName -> show checkbox
-    private Map<String, JCheckBox> itemFollowingMouseCheckBoxes; // Map: itemName -> following mouse checkbox
-    private Map<String, JCheckBox> itemFollowingOnClickCheckBoxes; // Map: itemName -> following on click checkbox
-    private Map<String, JLabel> itemLabels; // Map: itemName -> label
+    private javax.swing.JTable itemsTable; // Items of the SubScene - renders only visible rows
+    private ItemsTableModel itemsTableModel;
     private JPanel itemsPanel;
     private JPanel itemsContentPanel;
     private JPanel itemPropertiesPanel;
@@ -103,10 +101,6 @@ public class EditorMainSimple extends JFrame {
 
     public EditorMainSimple(AdventureGame game) {
         this.game = game;
-        this.itemCheckBoxes = new HashMap<>();
-        this.itemFollowingMouseCheckBoxes = new HashMap<>();
-        this.itemFollowingOnClickCheckBoxes = new HashMap<>();
-        this.itemLabels = new HashMap<>();
         this.selectedItemName = null;
 
         // Disable auto-save in editor mode
@@ -289,6 +283,26 @@ public class EditorMainSimple extends JFrame {
         scenesTree.setCellRenderer(new SceneTreeCellRenderer());
         scenesTree.setRowHeight(Spacing.TREE_ROW_HEIGHT); // Modern compact row height
 
+        // SubScene nodes are created on first expand, the expand state survives refreshes
+        scenesTree.addTreeWillExpandListener(new javax.swing.event.TreeWillExpandListener() {
+            @Override
+            public void treeWillExpand(javax.swing.event.TreeExpansionEvent event) {
+                DefaultMutableTreeNode node = (DefaultMutableTreeNode) event.getPath().getLastPathComponent();
+                ensureSubSceneNodes(node);
+                if (node.getUserObject() instanceof SceneListItem) {
+                    ((SceneListItem) node.getUserObject()).setExpanded(true);
+                }
+            }
+
+            @Override
+            public void treeWillCollapse(javax.swing.event.TreeExpansionEvent event) {
+                DefaultMutableTreeNode node = (DefaultMutableTreeNode) event.getPath().getLastPathComponent();
+                if (node.getUserObject() instanceof SceneListItem) {
+                    ((SceneListItem) node.getUserObject()).setExpanded(false);
+                }
+            }
+        });
+
         // Mouse listener for clicks on tree
         scenesTree.addMouseListener(new java.awt.event.MouseAdapter() {
             @Override
@@ -468,13 +482,30 @@ public class EditorMainSimple extends JFrame {
             settings.setSplitPaneDivider("items", itemsSplitPane.getDividerLocation());
         });
 
-        // === LEFT: Items List Panel with CheckBoxes ===
-        itemsListPanel = new JPanel();
-        itemsListPanel.setLayout(new BoxLayout(itemsListPanel, BoxLayout.Y_AXIS));
-        itemsListPanel.setBorder(BorderFactory.createEmptyBorder(Spacing.SM, Spacing.SM, Spacing.SM, Spacing.SM));
+        // === LEFT: Items Table (thumbnail + name, Show / Follow / Click checkboxes) ===
+        itemsTableModel = new ItemsTableModel();
+        itemsTable = new javax.swing.JTable(itemsTableModel);
+        itemsTable.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
+        itemsTable.setRowHeight(ITEM_THUMBNAIL_SIZE + 20);
+        itemsTable.setShowGrid(false);
+        itemsTable.setFillsViewportHeight(true);
+        itemsTable.getColumnModel().getColumn(0).setCellRenderer(new ItemTableCellRenderer());
+        itemsTable.getColumnModel().getColumn(0).setPreferredWidth(120);
+        for (int column = 1; column < itemsTableModel.getColumnCount(); column++) {
+            itemsTable.getColumnModel().getColumn(column).setPreferredWidth(45);
+        }
+        itemsTable.getSelectionModel().addListSelectionListener(e -> {
+            int row = itemsTable.getSelectedRow();
+            if (!e.getValueIsAdjusting() && row >= 0) {
+                String itemName = itemsTableModel.getItem(row).getName();
+                if (!itemName.equals(selectedItemName)) {
+                    selectItemByName(itemName);
+                }
+            }
+        });
 
         var c = ThemeManager.colors();
-        JScrollPane itemsListScrollPane = new JScrollPane(itemsListPanel);
+        JScrollPane itemsListScrollPane = new JScrollPane(itemsTable);
         itemsListScrollPane.setBorder(BorderFactory.createTitledBorder(
             BorderFactory.createLineBorder(c.getBorderDefault(), 1),
             "Items in SubScene | Show: [x] = Hide in Editor"
@@ -831,6 +862,11 @@ public class EditorMainSimple extends JFrame {
         manageItemsBtn.addActionListener(e -> openItemManager());
         panel.add(manageItemsBtn);
 
+        AppButton autoClickAreasBtn = new AppButton("Auto Click Areas", AppButton.Variant.SECONDARY, AppButton.Size.SMALL);
+        autoClickAreasBtn.setToolTipText("Create click polygons for all items from the image outlines");
+        autoClickAreasBtn.addActionListener(e -> generateClickAreas());
+        panel.add(autoClickAreasBtn);
+
         // Add separator
         JLabel separator = new JLabel("|");
         separator.setForeground(c.getBorderStrong());
@@ -898,9 +934,20 @@ public class EditorMainSimple extends JFrame {
     // OLD METHOD - Removed (replaced by loadScenesSimple())
 
     /**
-     * Load scenes into JTree using FileHandlingSimple (Scene/SubScene hierarchy)
+     * Load scenes into JTree (Scene/SubScene hierarchy).
+     * Only reads scene file headers via SceneCatalog - SubScene nodes are created
+     * when a Scene node is expanded, subscenes are fully parsed only when opened.
      */
     private void loadScenesSimple() {
+        // Keep collapsed scenes collapsed across refreshes
+        java.util.Set<String> collapsedScenes = new java.util.HashSet<>();
+        for (int i = 0; i < scenesRootNode.getChildCount(); i++) {
+            Object userObject = ((DefaultMutableTreeNode) scenesRootNode.getChildAt(i)).getUserObject();
+            if (userObject instanceof SceneListItem && !((SceneListItem) userObject).isExpanded()) {
+                collapsedScenes.add(((SceneListItem) userObject).getName());
+            }
+        }
+
         scenesRootNode.removeAllChildren();
 
         // Load saved scene order
@@ -919,62 +966,66 @@ public class EditorMainSimple extends JFrame {
         List<String> sceneOrder = new ArrayList<>(savedOrder.keySet());
         sceneNames = SceneOrderManager.applySavedOrder(sceneNames, sceneOrder);
 
+        // SubScene names per scene (directory listing only)
+        Map<String, List<String>> subScenesByScene = new java.util.LinkedHashMap<>();
         for (String sceneName : sceneNames) {
-            try {
-                // Get SubScenes first
-                List<String> subSceneNames = FileHandlingSimple.getSubScenes(sceneName);
+            List<String> subSceneNames = FileHandlingSimple.getSubScenes(sceneName);
+            if (savedOrder.containsKey(sceneName)) {
+                subSceneNames = SceneOrderManager.applySavedOrder(subSceneNames, savedOrder.get(sceneName));
+            }
+            subScenesByScene.put(sceneName, subSceneNames);
+        }
 
-                // Apply saved order to subscenes
-                if (savedOrder.containsKey(sceneName)) {
-                    subSceneNames = SceneOrderManager.applySavedOrder(subSceneNames, savedOrder.get(sceneName));
-                }
+        // Header of the first SubScene of every scene (thumbnail), read in parallel
+        Map<String, SceneCatalog.Entry> firstEntries = SceneCatalog.getFirstEntries(subScenesByScene);
 
-                // Load first SubScene to get its Scene object for thumbnail
-                Scene firstSubScene = null;
-                if (!subSceneNames.isEmpty()) {
-                    try {
-                        firstSubScene = FileHandlingSimple.loadSubScene(sceneName, subSceneNames.get(0), null);
-                    } catch (Exception e) {
-                        log("Warning: Could not load first subscene for thumbnail: " + e.getMessage());
-                    }
-                }
+        for (String sceneName : sceneNames) {
+            List<String> subSceneNames = subScenesByScene.get(sceneName);
 
-                // Create Scene node with first SubScene for thumbnail
-                SceneListItem sceneItem = new SceneListItem(sceneName, firstSubScene);
-                DefaultMutableTreeNode sceneNode = new DefaultMutableTreeNode(sceneItem);
+            SceneListItem sceneItem = new SceneListItem(sceneName, firstEntries.get(sceneName), subSceneNames);
+            sceneItem.setExpanded(!collapsedScenes.contains(sceneName));
+            DefaultMutableTreeNode sceneNode = new DefaultMutableTreeNode(sceneItem);
 
-                // Add all SubScenes
-                for (String subSceneName : subSceneNames) {
-                    try {
-                        // Load SubScene (reload first one if needed)
-                        Scene subScene = FileHandlingSimple.loadSubScene(sceneName, subSceneName, null);
+            // Placeholder so the node shows an expand handle until its SubScenes are created
+            if (!subSceneNames.isEmpty()) {
+                sceneNode.add(new DefaultMutableTreeNode("Loading..."));
+            }
 
-                        // Create SubScene node
-                        SceneListItem subSceneItem = new SceneListItem(subSceneName, subScene, sceneName);
-                        DefaultMutableTreeNode subSceneNode = new DefaultMutableTreeNode(subSceneItem);
+            scenesRootNode.add(sceneNode);
+        }
 
-                        // Add SubScene to Scene
-                        sceneNode.add(subSceneNode);
-                    } catch (Exception subEx) {
-                        log("Warning: Could not load subscene " + subSceneName + ": " + subEx.getMessage());
-                    }
-                }
+        scenesTreeModel.reload();
 
-                // Add Scene to root
-                scenesRootNode.add(sceneNode);
-            } catch (Exception ex) {
-                log("Warning: Could not process scene " + sceneName + ": " + ex.getMessage());
+        // Expand scenes (default: all) - creates their SubScene nodes
+        for (int i = 0; i < scenesRootNode.getChildCount(); i++) {
+            DefaultMutableTreeNode sceneNode = (DefaultMutableTreeNode) scenesRootNode.getChildAt(i);
+            if (((SceneListItem) sceneNode.getUserObject()).isExpanded()) {
+                scenesTree.expandPath(new javax.swing.tree.TreePath(sceneNode.getPath()));
             }
         }
 
-        scenesTreeModel.reload();
+        log("✓ Loaded " + sceneNames.size() + " scenes into tree");
+    }
 
-        // Expand all scenes by default
-        for (int i = 0; i < scenesTree.getRowCount(); i++) {
-            scenesTree.expandRow(i);
+    /**
+     * Creates the SubScene nodes of a Scene node from catalog entries (once)
+     */
+    private void ensureSubSceneNodes(DefaultMutableTreeNode sceneNode) {
+        if (!(sceneNode.getUserObject() instanceof SceneListItem)) {
+            return;
         }
 
-        log("✓ Loaded " + sceneNames.size() + " scenes into tree");
+        SceneListItem sceneItem = (SceneListItem) sceneNode.getUserObject();
+        if (!sceneItem.isScene() || sceneItem.isChildrenLoaded()) {
+            return;
+        }
+
+        sceneNode.removeAllChildren();
+        for (SceneCatalog.Entry entry : SceneCatalog.getAll(sceneItem.getName(), sceneItem.getSubSceneNames())) {
+            sceneNode.add(new DefaultMutableTreeNode(new SceneListItem(entry)));
+        }
+        sceneItem.setChildrenLoaded(true);
+        scenesTreeModel.nodeStructureChanged(sceneNode);
     }
 
     /**
@@ -1005,6 +1056,16 @@ public class EditorMainSimple extends JFrame {
      */
     private void selectNodeByName(String name) {
         DefaultMutableTreeNode root = (DefaultMutableTreeNode) scenesTreeModel.getRoot();
+
+        // SubScene nodes of collapsed scenes may not exist yet
+        for (int i = 0; i < root.getChildCount(); i++) {
+            DefaultMutableTreeNode sceneNode = (DefaultMutableTreeNode) root.getChildAt(i);
+            Object userObject = sceneNode.getUserObject();
+            if (userObject instanceof SceneListItem && ((SceneListItem) userObject).getSubSceneNames().contains(name)) {
+                ensureSubSceneNodes(sceneNode);
+            }
+        }
+
         java.util.Enumeration<?> e = root.depthFirstEnumeration();
         while (e.hasMoreElements()) {
             DefaultMutableTreeNode node = (DefaultMutableTreeNode) e.nextElement();
@@ -1358,11 +1419,7 @@ public class EditorMainSimple extends JFrame {
     // ==================== Item Actions ====================
 
     private void loadItems() {
-        itemsListPanel.removeAll();
-        itemCheckBoxes.clear();
-        itemFollowingMouseCheckBoxes.clear();
-        itemFollowingOnClickCheckBoxes.clear();
-        itemLabels.clear();
+        itemsTableModel.setItems(new ArrayList<>());
 
         // Only load items from the currently selected SubScene
         if (selectedSubScene == null) {
@@ -1376,152 +1433,19 @@ public class EditorMainSimple extends JFrame {
             return;
         }
 
-        // Add items from the current SubScene with checkboxes
-        int itemCount = 0;
+        List<Item> rows = new ArrayList<>();
         for (Item item : itemsInSubScene) {
             if (item != null && item.getName() != null) {
-                String itemName = item.getName();
-
-                // Create row panel with vertical layout as per schema
-                JPanel rowPanel = new JPanel();
-                rowPanel.setLayout(new BoxLayout(rowPanel, BoxLayout.X_AXIS));
-                rowPanel.setAlignmentX(JPanel.LEFT_ALIGNMENT);
-                rowPanel.setBorder(BorderFactory.createEmptyBorder(2, 2, 2, 2));
-
-                // Left side: Thumbnail and name stacked vertically
-                JPanel leftPanel = new JPanel();
-                leftPanel.setLayout(new BoxLayout(leftPanel, BoxLayout.Y_AXIS));
-                leftPanel.setAlignmentY(JPanel.TOP_ALIGNMENT);
-
-                // Thumbnail - Load item image and scale to small icon
-                JLabel thumbnailLabel = new JLabel();
-                thumbnailLabel.setPreferredSize(new Dimension(50, 50));
-                thumbnailLabel.setMinimumSize(new Dimension(50, 50));
-                thumbnailLabel.setMaximumSize(new Dimension(50, 50));
-                thumbnailLabel.setBorder(BorderFactory.createLineBorder(Color.GRAY, 1));
-                thumbnailLabel.setAlignmentX(JLabel.LEFT_ALIGNMENT);
-
-                try {
-                    String imagePath = item.getImageFilePath();
-                    if (imagePath != null && !imagePath.isEmpty()) {
-                        // Use ResourcePathHelper to find image
-                        File imageFile = ResourcePathHelper.findImageFile(imagePath);
-                        if (imageFile == null) {
-                            // Fallback: try direct path
-                            imageFile = new File(imagePath);
-                        }
-
-                        if (imageFile != null && imageFile.exists()) {
-                            javax.swing.ImageIcon icon = new javax.swing.ImageIcon(imageFile.getAbsolutePath());
-                            java.awt.Image img = icon.getImage().getScaledInstance(48, 48, java.awt.Image.SCALE_SMOOTH);
-                            thumbnailLabel.setIcon(new javax.swing.ImageIcon(img));
-                        } else {
-                            // Placeholder if image not found
-                            thumbnailLabel.setText("?");
-                            thumbnailLabel.setHorizontalAlignment(JLabel.CENTER);
-                        }
-                    } else {
-                        // No image path
-                        thumbnailLabel.setText("?");
-                        thumbnailLabel.setHorizontalAlignment(JLabel.CENTER);
-                    }
-                } catch (Exception e) {
-                    // Error loading thumbnail
-                    thumbnailLabel.setText("!");
-                    thumbnailLabel.setHorizontalAlignment(JLabel.CENTER);
-                }
+                rows.add(item);
+            }
+        }
+        itemsTableModel.setItems(rows);
 
-                // Label with item name - below thumbnail
-                JLabel itemLabel = new JLabel(itemName);
-                itemLabel.setFont(new Font("Monospaced", Font.PLAIN, 11));
-                itemLabel.setAlignmentX(JLabel.LEFT_ALIGNMENT);
-                itemLabel.addMouseListener(new java.awt.event.MouseAdapter() {
-                    @Override
-                    public void mouseClicked(java.awt.event.MouseEvent e) {
-                        selectItemByName(itemName);
-                    }
-                });
-                itemLabels.put(itemName, itemLabel);
-
-                leftPanel.add(thumbnailLabel);
-                leftPanel.add(Box.createRigidArea(new Dimension(0, 2))); // Small gap
-                leftPanel.add(itemLabel);
-
-                // Right side: Checkboxes stacked vertically
-                JPanel checkBoxPanel = new JPanel();
-                checkBoxPanel.setLayout(new BoxLayout(checkBoxPanel, BoxLayout.Y_AXIS));
-                checkBoxPanel.setAlignmentY(JPanel.TOP_ALIGNMENT);
-
-                // Get the actual Item object to read current values
-                Item itemObj = item;
-
-                // CheckBox for show/hide in editor
-                JCheckBox showCheckBox = new JCheckBox("Show");
-                showCheckBox.setToolTipText("Uncheck to hide this item in Edit Mode");
-                showCheckBox.setSelected(itemObj.isVisibleInEditor());
-                showCheckBox.setFont(new Font("SansSerif", Font.PLAIN, 10));
-                showCheckBox.setAlignmentX(JCheckBox.LEFT_ALIGNMENT);
-                showCheckBox.addActionListener(e -> {
-                    boolean visible = showCheckBox.isSelected();
-                    game.syncVisibleInEditorCheckbox(itemObj, visible);
-                    log((visible ? "Showing" : "Hiding") + " item in editor: " + itemName);
-                });
-                itemCheckBoxes.put(itemName, showCheckBox);
-
-                // CheckBox for Following Mouse
-                JCheckBox followingMouseCheckBox = new JCheckBox("Follow");
-                followingMouseCheckBox.setToolTipText("Item follows mouse cursor");
-                followingMouseCheckBox.setSelected(itemObj.isFollowingMouse());
-                followingMouseCheckBox.setFont(new Font("SansSerif", Font.PLAIN, 10));
-                followingMouseCheckBox.setAlignmentX(JCheckBox.LEFT_ALIGNMENT);
-                followingMouseCheckBox.addActionListener(e -> {
-                    boolean newState = followingMouseCheckBox.isSelected();
-                    game.syncFollowingMouseCheckbox(itemObj, newState);
-                    log((newState ? "Enabled" : "Disabled") + " following mouse for: " + itemName);
-                });
-                itemFollowingMouseCheckBoxes.put(itemName, followingMouseCheckBox);
-
-                // CheckBox for Following On Mouse Click
-                JCheckBox followingOnClickCheckBox = new JCheckBox("Click");
-                followingOnClickCheckBox.setToolTipText("Item follows mouse when clicked");
-                followingOnClickCheckBox.setSelected(itemObj.isFollowingOnMouseClick());
-                followingOnClickCheckBox.setFont(new Font("SansSerif", Font.PLAIN, 10));
-                followingOnClickCheckBox.setAlignmentX(JCheckBox.LEFT_ALIGNMENT);
-                followingOnClickCheckBox.addActionListener(e -> {
-                    boolean newState = followingOnClickCheckBox.isSelected();
-                    game.syncFollowingOnClickCheckbox(itemObj, newState);
-                    log((newState ? "Enabled" : "Disabled") + " following on click for: " + itemName);
-                });
-                itemFollowingOnClickCheckBoxes.put(itemName, followingOnClickCheckBox);
-
-                // Add checkboxes with minimal spacing
-                checkBoxPanel.add(showCheckBox);
-                checkBoxPanel.add(Box.createRigidArea(new Dimension(0, 1)));
-                checkBoxPanel.add(followingMouseCheckBox);
-                checkBoxPanel.add(Box.createRigidArea(new Dimension(0, 1)));
-                checkBoxPanel.add(followingOnClickCheckBox);
-
-                // Assemble row: left panel + small gap + checkbox panel
-                rowPanel.add(leftPanel);
-                rowPanel.add(Box.createRigidArea(new Dimension(5, 0))); // Small gap between thumbnail and checkboxes
-                rowPanel.add(checkBoxPanel);
-                rowPanel.add(Box.createHorizontalGlue()); // Push everything to the left
-
-                itemsListPanel.add(rowPanel);
-
-                itemCount++;
-            }
-        }
-
-        itemsListPanel.revalidate();
-        itemsListPanel.repaint();
-
-        log("✓ Loaded " + itemCount + " items from SubScene: " + selectedSubScene.getName());
+        log("✓ Loaded " + rows.size() + " items from SubScene: " + selectedSubScene.getName());
 
         // Auto-select first item if any items exist
-        if (itemCount > 0 && !itemLabels.isEmpty()) {
-            String firstItemName = itemLabels.keySet().iterator().next();
-            selectItemByName(firstItemName);
+        if (!rows.isEmpty()) {
+            selectItemByName(rows.get(0).getName());
         }
     }
 
@@ -1529,15 +1453,12 @@ public class EditorMainSimple extends JFrame {
      * Select an item by name in the items list
      */
     private void selectItemByName(String itemName) {
-        // Deselect previous
-        if (selectedItemName != null && itemLabels.containsKey(selectedItemName)) {
-            itemLabels.get(selectedItemName).setForeground(null); // Reset color
-        }
-
-        // Select new
         selectedItemName = itemName;
-        if (itemLabels.containsKey(selectedItemName)) {
-            itemLabels.get(selectedItemName).setForeground(java.awt.Color.BLUE);
+
+        int row = itemsTableModel.indexOf(itemName);
+        if (row >= 0 && itemsTable.getSelectedRow() != row) {
+            itemsTable.setRowSelectionInterval(row, row);
+            itemsTable.scrollRectToVisible(itemsTable.getCellRect(row, 0, true));
         }
 
         // Load item properties
@@ -1782,6 +1703,55 @@ public class EditorMainSimple extends JFrame {
         log("Opened Item Manager");
     }
 
+    /**
+     * Creates click polygons for all items of the project from their image outlines (runs in background)
+     */
+    private void generateClickAreas() {
+        JCheckBox convexHullCheckBox = new JCheckBox("Convex hull (no dents)");
+        javax.swing.JSpinner verticesSpinner = new javax.swing.JSpinner(
+            new javax.swing.SpinnerNumberModel(ContourExtractor.DEFAULT_MAX_VERTICES, 3, 64, 1));
+        JPanel options = new JPanel(new GridLayout(0, 1, 0, Spacing.XS));
+        options.add(new JLabel("Create click polygons from the item images."));
+        JPanel verticesPanel = new JPanel(new FlowLayout(FlowLayout.LEFT, 0, 0));
+        verticesPanel.add(new JLabel("Max. points per polygon: "));
+        verticesPanel.add(verticesSpinner);
+        options.add(verticesPanel);
+        options.add(convexHullCheckBox);
+
+        String[] choices = {"Items without click area", "All items (replace)", "Cancel"};
+        int choice = JOptionPane.showOptionDialog(this, options, "Auto Click Areas",
+            JOptionPane.DEFAULT_OPTION, JOptionPane.QUESTION_MESSAGE, null, choices, choices[0]);
+        if (choice != 0 && choice != 1) {
+            return;
+        }
+
+        boolean onlyMissing = choice == 0;
+        int maxVertices = (Integer) verticesSpinner.getValue();
+        boolean convexHull = convexHullCheckBox.isSelected();
+        log("Creating click areas (" + (onlyMissing ? "items without click area" : "all items") + ", max "
+            + maxVertices + " points" + (convexHull ? ", convex hull" : "") + ")...");
+
+        new javax.swing.SwingWorker<Integer, Void>() {
+            @Override
+            protected Integer doInBackground() {
+                return ContourExtractor.generateForProject(onlyMissing, maxVertices, convexHull);
+            }
+
+            @Override
+            protected void done() {
+                try {
+                    log("✓ Created click areas for " + get() + " items");
+                    // Items of the open SubScene still hold the old polygons
+                    if (currentSceneName != null && selectedSubScene != null) {
+                        game.loadSceneFromDefault(currentSceneName + "/" + selectedSubScene.getName());
+                    }
+                } catch (Exception e) {
+                    log("ERROR creating click areas: " + e.getMessage());
+                }
+            }
+        }.execute();
+    }
+
     // ==================== Utilities ====================
 
     private void ensureDirectoriesExist() {
@@ -2047,6 +2017,145 @@ public class EditorMainSimple extends JFrame {
         }
     }
 
+    // ==================== Items Table Model ====================
+
+    private static final int ITEM_THUMBNAIL_SIZE = 48;
+
+    /**
+     * Table model for the items of the SubScene.
+     * Values are read from the Item objects, so a single row is refreshed with fireTableRowsUpdated.
+     */
+    private class ItemsTableModel extends javax.swing.table.AbstractTableModel {
+        private static final long serialVersionUID = 1L;
+
+        private List<Item> items = new ArrayList<>();
+        private String[] columnNames = {"Item", "Show", "Follow", "Click"};
+
+        public void setItems(List<Item> items) {
+            this.items = items;
+            fireTableDataChanged();
+        }
+
+        public Item getItem(int rowIndex) {
+            return items.get(rowIndex);
+        }
+
+        public int indexOf(String itemName) {
+            for (int i = 0; i < items.size(); i++) {
+                if (items.get(i).getName().equals(itemName)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        /**
+         * Repaints the row of an item (after its flags changed elsewhere)
+         */
+        public void refreshItem(String itemName) {
+            int row = indexOf(itemName);
+            if (row >= 0) {
+                fireTableRowsUpdated(row, row);
+            }
+        }
+
+        @Override
+        public int getRowCount() {
+            return items.size();
+        }
+
+        @Override
+        public int getColumnCount() {
+            return columnNames.length;
+        }
+
+        @Override
+        public String getColumnName(int column) {
+            return columnNames[column];
+        }
+
+        @Override
+        public Object getValueAt(int rowIndex, int columnIndex) {
+            Item item = items.get(rowIndex);
+
+            switch (columnIndex) {
+                case 0: return item;
+                case 1: return item.isVisibleInEditor();
+                case 2: return item.isFollowingMouse();
+                case 3: return item.isFollowingOnMouseClick();
+                default: return null;
+            }
+        }
+
+        @Override
+        public void setValueAt(Object value, int rowIndex, int columnIndex) {
+            Item item = items.get(rowIndex);
+            boolean newState = (Boolean) value;
+
+            switch (columnIndex) {
+                case 1:
+                    game.syncVisibleInEditorCheckbox(item, newState);
+                    log((newState ? "Showing" : "Hiding") + " item in editor: " + item.getName());
+                    break;
+                case 2:
+                    game.syncFollowingMouseCheckbox(item, newState);
+                    log((newState ? "Enabled" : "Disabled") + " following mouse for: " + item.getName());
+                    break;
+                case 3:
+                    game.syncFollowingOnClickCheckbox(item, newState);
+                    log((newState ? "Enabled" : "Disabled") + " following on click for: " + item.getName());
+                    break;
+                default:
+                    return;
+            }
+            fireTableRowsUpdated(rowIndex, rowIndex);
+        }
+
+        @Override
+        public boolean isCellEditable(int rowIndex, int columnIndex) {
+            return columnIndex > 0;
+        }
+
+        @Override
+        public Class<?> getColumnClass(int columnIndex) {
+            if (columnIndex > 0) {
+                return Boolean.class; // Renders as checkbox
+            }
+            return Item.class;
+        }
+    }
+
+    /**
+     * Renders thumbnail and name of an item. Thumbnails come from ThumbnailCache -
+     * until one is ready a placeholder is shown and the row repaints when it arrives.
+     */
+    private class ItemTableCellRenderer extends javax.swing.table.DefaultTableCellRenderer {
+        private static final long serialVersionUID = 1L;
+
+        public ItemTableCellRenderer() {
+            setHorizontalTextPosition(JLabel.CENTER);
+            setVerticalTextPosition(JLabel.BOTTOM);
+            setHorizontalAlignment(JLabel.LEFT);
+            setFont(new Font("Monospaced", Font.PLAIN, 11));
+        }
+
+        @Override
+        public Component getTableCellRendererComponent(javax.swing.JTable table, Object value, boolean isSelected,
+                boolean hasFocus, int row, int column) {
+            super.getTableCellRendererComponent(table, null, isSelected, hasFocus, row, column);
+
+            Item item = (Item) value;
+            setText(item.getName());
+            setIcon(null);
+
+            // ThumbnailCache resolves the path off the EDT, painting never touches the disk
+            String itemName = item.getName();
+            setIcon(ThumbnailCache.get(item.getImageFilePath(), ITEM_THUMBNAIL_SIZE,
+                    () -> itemsTableModel.refreshItem(itemName)));
+            return this;
+        }
+    }
+
     // ==================== Custom Renderer for Items List ====================
 
     /**
@@ -3484,10 +3593,8 @@ public class EditorMainSimple extends JFrame {
     public void refreshShowCheckbox(Item item, boolean visible) {
         if (item == null || item.getName() == null) return;
 
-        JCheckBox checkbox = itemCheckBoxes.get(item.getName());
-        if (checkbox != null) {
-            checkbox.setSelected(visible);
-        }
+        // The row reads its flags from the Item - just repaint it
+        itemsTableModel.refreshItem(item.getName());
     }
 
     /**
@@ -3496,10 +3603,8 @@ public class EditorMainSimple extends JFrame {
     public void refreshFollowingMouseCheckbox(Item item, boolean following) {
         if (item == null || item.getName() == null) return;
 
-        JCheckBox checkbox = itemFollowingMouseCheckBoxes.get(item.getName());
-        if (checkbox != null) {
-            checkbox.setSelected(following);
-        }
+        // The row reads its flags from the Item - just repaint it
+        itemsTableModel.refreshItem(item.getName());
     }
 
     /**
@@ -3508,9 +3613,7 @@ public class EditorMainSimple extends JFrame {
     public void refreshFollowingOnClickCheckbox(Item item, boolean followingOnClick) {
         if (item == null || item.getName() == null) return;
 
-        JCheckBox checkbox = itemFollowingOnClickCheckBoxes.get(item.getName());
-        if (checkbox != null) {
-            checkbox.setSelected(followingOnClick);
-        }
+        // The row reads its flags from the Item - just repaint it
+        itemsTableModel.refreshItem(item.getName());
     }
 }
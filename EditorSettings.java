@@ -77,6 +77,7 @@ public class EditorSettings {
         } catch (IOException e) {
             System.err.println("Error saving editor settings: " + e.getMessage());
         }
+        ResourceIndex.fileChanged(file);
     }
 
     // === Generic getters/setters ===
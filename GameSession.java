@@ -0,0 +1,92 @@
+package main;
+
+import java.awt.Point;
+
+/**
+ * A running game - what processes and simulations need from the engine.
+ *
+ * Implemented by the Swing frontend (AdventureGame) and by HeadlessGameSession,
+ * which runs the same game logic without a display (simulations, soak tests,
+ * benchmarks on CI machines).
+ */
+public interface GameSession {
+
+    /**
+     * Loads a scene from progress (falls back to the default file)
+     *
+     * @param sceneName Format: "SceneName/SubSceneName"
+     */
+    void loadScene(String sceneName);
+
+    /**
+     * Loads a scene in the background and switches to it with a transition
+     * @param spawnPoint where the character is placed after the switch
+     *            ("x,y" or the name of an item in the new scene), null or empty = keep
+     * @param transition "fade" or "cut"
+     */
+    void changeScene(String sceneName, String spawnPoint, String transition, int durationMillis);
+
+    /**
+     * True from changeScene until the transition has finished
+     */
+    boolean isSceneTransitionRunning();
+
+    Scene getCurrentScene();
+
+    String getCurrentSceneName();
+
+    GameProgress getGameProgress();
+
+    /**
+     * Selects the action ("Nimm", "Benutze", ...) used for the next click, null = walk
+     */
+    void selectAction(String action);
+
+    String getSelectedAction();
+
+    /**
+     * Handles a click into the game area like a mouse click in game mode (see ClickInterpreter)
+     */
+    void clickAt(Point point);
+
+    /**
+     * Runs the processes started by action results and process actions
+     */
+    ProcessExecutor getProcessExecutor();
+
+    /**
+     * Advances the game clock (character movement, waiting processes).
+     * The Swing frontend is driven by its own timers and ignores this.
+     */
+    void tick(long elapsedMillis);
+
+    /**
+     * Current game time in milliseconds, used for timed process actions
+     */
+    long currentTimeMillis();
+
+    /**
+     * Starts character movement for processes (non-blocking from process perspective)
+     */
+    void startCharacterMovementProcess(Item characterItem, Point targetPosition);
+
+    /**
+     * Check if character is currently moving (for process blocking)
+     */
+    boolean isCharacterMoving();
+
+    /**
+     * Requests a redraw of the game area (no-op without a display)
+     */
+    void repaint();
+
+    /**
+     * Captions, speech bubbles and dialogs shown over the game area
+     */
+    TextOverlay getTextOverlay();
+
+    /**
+     * Mixer for the Sound process action
+     */
+    AudioEngine getAudioEngine();
+}
@@ -0,0 +1,243 @@
+package main;
+
+import java.awt.Graphics2D;
+import java.awt.Image;
+import java.awt.Point;
+import java.awt.Rectangle;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.swing.ImageIcon;
+import javax.swing.SwingUtilities;
+
+/**
+ * Maps the game resolution (1024x668, the coordinate space of scenes,
+ * items and polygons) onto the game panel at any size.
+ *
+ * The view is scaled uniformly and centered, with bars on the longer side.
+ * Mouse points are mapped back with toGame(). Game mode does not draw
+ * images through the scale: the background layer and the item sprites are
+ * pre-scaled to the physical size once per resize (and per scene) on a
+ * worker thread. While that runs, frames are drawn through the Java2D
+ * transform, so resizing never blocks the EDT. The background layer is
+ * scaled from the decoded source file, not from the 1024x668 game image.
+ *
+ * Methods are called on the EDT. build() reads item bounds and image files
+ * there (SceneRenderer.SpriteSource); the worker only decodes and scales
+ * images and hands the layer back via invokeLater.
+ */
+public class GameView {
+
+    public static final int GAME_WIDTH = ImagePack.BACKGROUND_WIDTH;
+    public static final int GAME_HEIGHT = ImagePack.BACKGROUND_HEIGHT;
+
+    // One worker: a newer size makes queued builds for older sizes obsolete
+    private static final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "GameViewLayers");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Runnable repaint;
+    private final AtomicInteger generation = new AtomicInteger();
+
+    private int panelWidth = GAME_WIDTH;
+    private int panelHeight = GAME_HEIGHT;
+    private double scale = 1.0;
+    private int offsetX;
+    private int offsetY;
+
+    // Layers built for (scale, background, scene)
+    private double layerScale = 1.0;
+    private Image layerSource;
+    private Scene layerScene;
+    private BufferedImage backgroundLayer;
+
+    // Build in progress for (scale, background, scene)
+    private double pendingScale = -1;
+    private Image pendingSource;
+    private Scene pendingScene;
+
+    /**
+     * @param repaint called on the EDT when layers for a new size are ready
+     */
+    public GameView(Runnable repaint) {
+        this.repaint = repaint;
+    }
+
+    /**
+     * Updates the mapping to the current panel size
+     */
+    public void setPanelSize(int width, int height) {
+        if (width <= 0 || height <= 0 || (width == panelWidth && height == panelHeight)) {
+            return;
+        }
+        panelWidth = width;
+        panelHeight = height;
+        scale = Math.min((double) width / GAME_WIDTH, (double) height / GAME_HEIGHT);
+        offsetX = (width - getViewWidth()) / 2;
+        offsetY = (height - getViewHeight()) / 2;
+    }
+
+    public double getScale() {
+        return scale;
+    }
+
+    public int getOffsetX() {
+        return offsetX;
+    }
+
+    public int getOffsetY() {
+        return offsetY;
+    }
+
+    /**
+     * Physical width of the game area (without bars)
+     */
+    public int getViewWidth() {
+        return (int) Math.round(GAME_WIDTH * scale);
+    }
+
+    public int getViewHeight() {
+        return (int) Math.round(GAME_HEIGHT * scale);
+    }
+
+    /**
+     * Physical rectangle of the game area inside the panel
+     */
+    public Rectangle getViewBounds() {
+        return new Rectangle(offsetX, offsetY, getViewWidth(), getViewHeight());
+    }
+
+    /**
+     * Game to panel coordinates, for drawing in game coordinates
+     */
+    public AffineTransform getTransform() {
+        AffineTransform transform = AffineTransform.getTranslateInstance(offsetX, offsetY);
+        transform.scale(scale, scale);
+        return transform;
+    }
+
+    /**
+     * Panel (mouse) point to game coordinates
+     */
+    public Point toGame(Point panelPoint) {
+        return new Point((int) Math.floor((panelPoint.x - offsetX) / scale),
+                (int) Math.floor((panelPoint.y - offsetY) / scale));
+    }
+
+    /**
+     * Game rectangle to physical pixels relative to the game area. Edges are
+     * rounded, so neighbouring sprites stay seamless.
+     */
+    public static Rectangle toView(Rectangle game, double scale) {
+        if (scale == 1.0) {
+            return game;
+        }
+        int x = (int) Math.round(game.x * scale);
+        int y = (int) Math.round(game.y * scale);
+        int width = Math.max(1, (int) Math.round((game.x + game.width) * scale) - x);
+        int height = Math.max(1, (int) Math.round((game.y + game.height) * scale) - y);
+        return new Rectangle(x, y, width, height);
+    }
+
+    /**
+     * True when the background layer and item sprites of this scene are
+     * prepared at the current size. Otherwise starts building them and the
+     * caller draws this frame through the transform.
+     */
+    public boolean isReady(Image background, File backgroundFile, Scene scene) {
+        if (scale == 1.0) {
+            return true;
+        }
+        if (layerScale == scale && layerSource == background && layerScene == scene) {
+            return true;
+        }
+        if (pendingScale != scale || pendingSource != background || pendingScene != scene) {
+            build(background, backgroundFile, scene);
+        }
+        return false;
+    }
+
+    /**
+     * Background at the physical size of the game area (valid after isReady)
+     */
+    public Image getBackgroundLayer(Image background) {
+        return scale == 1.0 ? background : backgroundLayer;
+    }
+
+    private void build(Image background, File backgroundFile, Scene scene) {
+        pendingScale = scale;
+        pendingSource = background;
+        pendingScene = scene;
+        int buildGeneration = generation.incrementAndGet();
+        double buildScale = scale;
+        int width = getViewWidth();
+        int height = getViewHeight();
+        List<SceneRenderer.SpriteSource> sources = new ArrayList<>();
+        if (scene != null) {
+            for (Item item : scene.getItems()) {
+                sources.add(new SceneRenderer.SpriteSource(item, buildScale));
+            }
+        }
+
+        executor.execute(() -> {
+            if (generation.get() != buildGeneration) {
+                return;
+            }
+            long start = System.nanoTime();
+            BufferedImage layer = background != null ? scaleBackground(background, backgroundFile, width, height)
+                    : null;
+            int sprites = 0;
+            for (SceneRenderer.SpriteSource source : sources) {
+                if (generation.get() != buildGeneration) {
+                    return;
+                }
+                if (SceneRenderer.prepareSprite(source)) {
+                    sprites++;
+                }
+            }
+            long millis = (System.nanoTime() - start) / 1_000_000;
+            System.out.println("GameView: Layers for " + width + "x" + height + " built in " + millis + " ms ("
+                    + sprites + " sprites)");
+
+            SwingUtilities.invokeLater(() -> {
+                if (generation.get() != buildGeneration) {
+                    return;
+                }
+                backgroundLayer = layer;
+                layerScale = buildScale;
+                layerSource = background;
+                layerScene = scene;
+                repaint.run();
+            });
+        });
+    }
+
+    private static BufferedImage scaleBackground(Image background, File backgroundFile, int width, int height) {
+        // Full resolution keeps the detail the game image lost; pack-only and
+        // classpath backgrounds fall back to the game image
+        Image source = backgroundFile != null && backgroundFile.exists() ? ImageCache.get(backgroundFile) : null;
+        if (source == null) {
+            source = background;
+        }
+        if (!(source instanceof BufferedImage)) {
+            // Toolkit images (getScaledInstance) load lazily: wait for the pixels
+            source = new ImageIcon(source).getImage();
+        }
+        BufferedImage layer = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = layer.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+        g.drawImage(source, 0, 0, width, height, null);
+        g.dispose();
+        return layer;
+    }
+}
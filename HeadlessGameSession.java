@@ -0,0 +1,254 @@
+package main;
+
+import java.awt.Point;
+
+/**
+ * GameSession without a display.
+ *
+ * Runs the same game-mode logic as AdventureGame (ClickInterpreter for clicks
+ * and action results, character movement, processes) on a simulated clock,
+ * so thousands of clicks can be simulated per second on machines without a
+ * screen. Scene loads block the simulated clock until they are done, so runs
+ * are repeatable.
+ *
+ * Nothing is written to disk: auto-save and the conditions gaming mode stay
+ * as they are (disabled unless the caller enables them).
+ */
+public class HeadlessGameSession implements GameSession {
+
+    private static final int CHARACTER_SPEED = 5; // Pixels per frame (same as AdventureGame)
+    private static final long FRAME_MILLIS = 16; // ~60 FPS
+
+    private final GameProgress progress;
+    private final ProcessExecutor processExecutor;
+    private final ClickInterpreter clickInterpreter;
+    private final TextOverlay textOverlay = new TextOverlay();
+    // Mixed on the simulated clock, output discarded
+    private final AudioEngine audioEngine = new AudioEngine(new AudioEngine.NullOutput(false));
+
+    private Scene currentScene = null;
+    private String selectedAction = null;
+    private Point playerPosition = new Point(400, 400);
+
+    private SceneTransition sceneTransition = null;
+
+    // Simulated clock
+    private long clock = 0;
+    private long frameRemainder = 0;
+
+    // Character Movement (for isFollowingOnMouseClick)
+    private Item movingCharacter = null;
+    private Point characterTargetPosition = null;
+
+    private int clickCount = 0;
+
+    public HeadlessGameSession() {
+        this.progress = new GameProgress();
+        this.processExecutor = new ProcessExecutor(this, true);
+        this.clickInterpreter = new ClickInterpreter(this, new ClickInterpreter.Presentation() {
+            @Override
+            public void playerMoved(Point point) {
+                playerPosition = point;
+            }
+        });
+    }
+
+    @Override
+    public void loadScene(String sceneName) {
+        try {
+            applyScene(sceneName, loadSceneData(sceneName), null);
+        } catch (Exception e) {
+            System.err.println("HeadlessGameSession: Could not load scene " + sceneName + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Loads the scene on the transition loader thread; tick() switches to it when it is done
+     */
+    @Override
+    public void changeScene(String sceneName, String spawnPoint, String transition, int durationMillis) {
+        if (sceneTransition != null && !sceneTransition.isBegun()) {
+            sceneTransition.cancel();
+        }
+        sceneTransition = new SceneTransition(sceneName, spawnPoint, transition, durationMillis,
+                () -> new SceneTransition.LoadedScene(loadSceneData(sceneName), null, null, null));
+        sceneTransition.start();
+    }
+
+    @Override
+    public boolean isSceneTransitionRunning() {
+        return sceneTransition != null;
+    }
+
+    /**
+     * Loads a scene without switching to it. Both branches of the game's
+     * loadSceneData end in SceneLoader.loadScene for this file.
+     */
+    private Scene loadSceneData(String sceneName) throws Exception {
+        // Parse sceneName: "SceneName/SubSceneName"
+        String[] parts = sceneName.split("/");
+        if (parts.length != 2) {
+            throw new IllegalArgumentException(
+                    "Invalid scene name format. Expected: SceneName/SubSceneName, got: " + sceneName);
+        }
+        return FileHandlingSimple.loadSubScene(parts[0], parts[1], progress);
+    }
+
+    private void applyScene(String sceneName, Scene scene, String spawnPoint) {
+        currentScene = scene;
+        progress.setCurrentScene(sceneName);
+        stopCharacterMovement();
+        CharacterMovement.placeAtSpawnPoint(scene, spawnPoint);
+    }
+
+    /**
+     * Switches to a finished scene load and ends the transition on the simulated clock
+     */
+    private void updateSceneTransition() {
+        if (sceneTransition == null) {
+            return;
+        }
+        if (!sceneTransition.isBegun()) {
+            // Waits for the loader: the simulated clock does not run while loading
+            SceneTransition.LoadedScene loaded = sceneTransition.takeResult();
+            if (loaded != null) {
+                applyScene(sceneTransition.getSceneName(), loaded.getScene(), sceneTransition.getSpawnPoint());
+                // No frames to fade: the transition ends with the switch
+                sceneTransition.begin(null, clock);
+            }
+        }
+        if (sceneTransition.isFinished(clock)) {
+            sceneTransition = null;
+        }
+    }
+
+    /**
+     * Uses an already loaded or generated scene (simulations, benchmarks)
+     */
+    public void setCurrentScene(Scene scene) {
+        this.currentScene = scene;
+        stopCharacterMovement();
+    }
+
+    @Override
+    public Scene getCurrentScene() {
+        return currentScene;
+    }
+
+    @Override
+    public String getCurrentSceneName() {
+        return currentScene != null ? currentScene.getName() : "none";
+    }
+
+    @Override
+    public GameProgress getGameProgress() {
+        return progress;
+    }
+
+    @Override
+    public void selectAction(String action) {
+        selectedAction = action;
+    }
+
+    @Override
+    public String getSelectedAction() {
+        return selectedAction;
+    }
+
+    @Override
+    public void clickAt(Point clickPoint) {
+        clickCount++;
+        clickInterpreter.click(clickPoint);
+    }
+
+    /**
+     * Advances movement in 16ms frames and polls waiting processes
+     */
+    @Override
+    public void tick(long elapsedMillis) {
+        clock += elapsedMillis;
+        frameRemainder += elapsedMillis;
+
+        while (frameRemainder >= FRAME_MILLIS) {
+            frameRemainder -= FRAME_MILLIS;
+            if (movingCharacter != null
+                    && CharacterMovement.stepTowards(movingCharacter, characterTargetPosition, CHARACTER_SPEED)) {
+                stopCharacterMovement();
+            }
+        }
+
+        updateSceneTransition();
+        textOverlay.expire(clock);
+        audioEngine.advance(elapsedMillis);
+        processExecutor.tick();
+    }
+
+    @Override
+    public long currentTimeMillis() {
+        return clock;
+    }
+
+    @Override
+    public void startCharacterMovementProcess(Item characterItem, Point targetPosition) {
+        if (movingCharacter != null && movingCharacter != characterItem) {
+            movingCharacter.setMoving(false);
+        }
+        this.movingCharacter = characterItem;
+        this.characterTargetPosition = targetPosition;
+    }
+
+    @Override
+    public boolean isCharacterMoving() {
+        return movingCharacter != null;
+    }
+
+    @Override
+    public void repaint() {
+        // No display
+    }
+
+    @Override
+    public TextOverlay getTextOverlay() {
+        return textOverlay;
+    }
+
+    @Override
+    public AudioEngine getAudioEngine() {
+        return audioEngine;
+    }
+
+    public void stopCharacterMovement() {
+        if (movingCharacter != null) {
+            movingCharacter.setMoving(false);
+        }
+        movingCharacter = null;
+        characterTargetPosition = null;
+    }
+
+    @Override
+    public ProcessExecutor getProcessExecutor() {
+        return processExecutor;
+    }
+
+    public Point getPlayerPosition() {
+        return playerPosition;
+    }
+
+    /**
+     * Raw action result of the last click (null if nothing was hit)
+     */
+    public String getLastResult() {
+        return clickInterpreter.getLastResult();
+    }
+
+    /**
+     * Name of the last dialog a click asked to show
+     */
+    public String getLastDialog() {
+        return clickInterpreter.getLastDialog();
+    }
+
+    public int getClickCount() {
+        return clickCount;
+    }
+}
@@ -0,0 +1,140 @@
+package main;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pixel-accurate hit mask of a sprite at display size: one bit per pixel,
+ * set where the image is not (nearly) transparent, packed into a long[].
+ *
+ * Masks are built once per image file and size and cached like the sprites,
+ * images that cannot be loaded as a negative entry. Each item keeps the mask
+ * it resolved (Item.getHitMask) until its image path or size changes or the
+ * generation moves, so hit testing does no file lookups. Masks of changed
+ * image files are dropped via ResourceMonitor events.
+ */
+public class HitMask {
+
+    /** Pixels with a lower alpha value do not count as hits */
+    private static final int ALPHA_THRESHOLD = 32;
+
+    /** Cached for images that could not be loaded */
+    private static final HitMask NONE = new HitMask(0, 0, new long[0]);
+
+    private static final Map<String, HitMask> cache = new ConcurrentHashMap<>();
+    // Changes whenever cached masks are dropped; items then resolve their mask again
+    private static final AtomicInteger generation = new AtomicInteger();
+
+    static {
+        ResourceMonitor.addListener(ResourceMonitor.ResourceType.IMAGE, event -> {
+            if (event.getKind() == ResourceMonitor.ChangeKind.OVERFLOW) {
+                cache.clear();
+            } else {
+                String prefix = keyOf(event.getFile(), 0, 0);
+                String start = prefix.substring(0, prefix.lastIndexOf('@') + 1);
+                cache.keySet().removeIf(key -> key.startsWith(start));
+            }
+            generation.incrementAndGet();
+        });
+    }
+
+    private final int width;
+    private final int height;
+    private final long[] bits;
+
+    private HitMask(int width, int height, long[] bits) {
+        this.width = width;
+        this.height = height;
+        this.bits = bits;
+    }
+
+    /**
+     * Returns the mask of an image path (resolved like SceneRenderer.getItemImageFile) at a size.
+     * Use Item.getHitMask(), which caches the result on the item.
+     * @return the mask, or null if the image cannot be loaded
+     */
+    public static HitMask forImage(String imagePath, int width, int height) {
+        File imageFile = SceneRenderer.getImageFile(imagePath);
+        if (imageFile == null || width <= 0 || height <= 0) {
+            return null;
+        }
+
+        String key = keyOf(imageFile, width, height);
+        HitMask mask = cache.get(key);
+        if (mask == null) {
+            mask = create(imageFile, width, height);
+            cache.put(key, mask != null ? mask : NONE);
+        }
+        return mask != NONE ? mask : null;
+    }
+
+    /**
+     * Changes whenever cached masks are dropped
+     */
+    public static int getGeneration() {
+        return generation.get();
+    }
+
+    /**
+     * Checks a point relative to the top-left corner of the sprite (bounding box first, then one bit)
+     */
+    public boolean contains(int x, int y) {
+        if (x < 0 || y < 0 || x >= width || y >= height) {
+            return false;
+        }
+        int index = y * width + x;
+        return (bits[index >>> 6] & (1L << index)) != 0;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * Removes all masks
+     */
+    public static void clear() {
+        cache.clear();
+        generation.incrementAndGet();
+    }
+
+    private static HitMask create(File imageFile, int width, int height) {
+        BufferedImage sprite = ImagePack.get(imageFile, width, height);
+        if (sprite == null) {
+            BufferedImage source = imageFile.exists() ? ImageCache.get(imageFile) : null;
+            if (source == null) {
+                return null;
+            }
+            // Same scaling as the sprite is drawn with
+            sprite = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+            Graphics2D g2d = sprite.createGraphics();
+            g2d.drawImage(source, 0, 0, width, height, null);
+            g2d.dispose();
+        }
+
+        int[] row = new int[width];
+        long[] bits = new long[(width * height + 63) >>> 6];
+        for (int y = 0; y < height; y++) {
+            sprite.getRGB(0, y, width, 1, row, 0, width);
+            for (int x = 0; x < width; x++) {
+                if ((row[x] >>> 24) >= ALPHA_THRESHOLD) {
+                    int index = y * width + x;
+                    bits[index >>> 6] |= 1L << index;
+                }
+            }
+        }
+        return new HitMask(width, height, bits);
+    }
+
+    private static String keyOf(File file, int width, int height) {
+        return file.toPath().toAbsolutePath().normalize() + "@" + width + "x" + height;
+    }
+}
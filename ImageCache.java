@@ -0,0 +1,148 @@
+package main;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.imageio.ImageIO;
+
+/**
+ * Shared cache of decoded images, keyed by absolute file path.
+ *
+ * Entries are evicted by ResourceMonitor events when an image file changes.
+ * While the monitor is not running, every lookup compares the file timestamp
+ * instead, so a cached image is never older than the file on disk.
+ * Entries are kept in LRU order up to MAX_PIXELS decoded pixels.
+ */
+public class ImageCache {
+
+    private static final long MAX_PIXELS = 32L * 1024 * 1024;
+
+    private static class Entry {
+        final BufferedImage image;
+        final long lastModified;
+
+        Entry(BufferedImage image, long lastModified) {
+            this.image = image;
+            this.lastModified = lastModified;
+        }
+    }
+
+    private static final Map<String, Entry> cache = new LinkedHashMap<>(64, 0.75f, true);
+    private static long pixels;
+
+    static {
+        ResourceMonitor.addListener(ResourceMonitor.ResourceType.IMAGE, event -> {
+            if (event.getKind() == ResourceMonitor.ChangeKind.OVERFLOW) {
+                clear();
+            } else {
+                evict(event.getFile());
+            }
+        });
+    }
+
+    /**
+     * Returns the decoded image for a file, reading it only on first use or after it changed
+     * @return the image, or null if the file does not exist or cannot be decoded
+     */
+    public static BufferedImage get(File file) {
+        if (file == null) {
+            return null;
+        }
+
+        String key = keyOf(file);
+        Entry entry;
+        synchronized (cache) {
+            entry = cache.get(key);
+        }
+
+        if (entry != null && (ResourceMonitor.isRunning() || entry.lastModified == file.lastModified())) {
+            return entry.image;
+        }
+
+        if (!file.exists()) {
+            remove(key);
+            return null;
+        }
+
+        // Decoded outside the lock, so one large file does not block other lookups
+        try {
+            long lastModified = file.lastModified();
+            BufferedImage image = ImageIO.read(file);
+            if (image != null) {
+                put(key, new Entry(image, lastModified));
+            }
+            return image;
+        } catch (Exception e) {
+            System.err.println("ImageCache: Failed to load " + file.getPath() + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Removes a single image from the cache
+     */
+    public static void evict(File file) {
+        if (file != null && remove(keyOf(file))) {
+            System.out.println("ImageCache: Evicted " + file.getName());
+        }
+    }
+
+    /**
+     * Removes all images from the cache
+     */
+    public static void clear() {
+        synchronized (cache) {
+            cache.clear();
+            pixels = 0;
+        }
+    }
+
+    public static int size() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    private static void put(String key, Entry entry) {
+        synchronized (cache) {
+            Entry old = cache.put(key, entry);
+            if (old != null) {
+                pixels -= pixelsOf(old);
+            }
+            pixels += pixelsOf(entry);
+
+            // Drop least recently used images, never the one just added
+            Iterator<Entry> iterator = cache.values().iterator();
+            while (pixels > MAX_PIXELS && iterator.hasNext()) {
+                Entry eldest = iterator.next();
+                if (eldest == entry) {
+                    break;
+                }
+                pixels -= pixelsOf(eldest);
+                iterator.remove();
+            }
+        }
+    }
+
+    private static boolean remove(String key) {
+        synchronized (cache) {
+            Entry old = cache.remove(key);
+            if (old == null) {
+                return false;
+            }
+            pixels -= pixelsOf(old);
+            return true;
+        }
+    }
+
+    private static long pixelsOf(Entry entry) {
+        return (long) entry.image.getWidth() * entry.image.getHeight();
+    }
+
+    private static String keyOf(File file) {
+        return file.toPath().toAbsolutePath().normalize().toString();
+    }
+}
@@ -0,0 +1,372 @@
+package main;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Pack of pre-decoded, pre-scaled images (backgrounds and item sprites).
+ *
+ * Bake: java main.ImagePack [output] - loads every scene and item file and writes
+ * each background (scaled to 1024x668) and item image (scaled to the item size)
+ * as raw premultiplied ARGB pixels into images.pack.
+ *
+ * Layout (version 2, big endian):
+ *   header  magic "IPAK", version, offset of the index
+ *   pixels  width * height ints per image
+ *   index   count, then per image: path (relative to resources/, unsigned short
+ *           length + UTF-8 bytes), source timestamp/size, width, height,
+ *           offset of the pixels
+ *
+ * The game memory-maps the pack with open(). get() bulk-copies the mapped pixels
+ * into a heap INT_ARGB_PRE image, which is cached like a decoded image: this
+ * saves the PNG decode and the scaling, not the memory. Images whose source file
+ * changed since the bake are not served, the caller then decodes the file as before.
+ */
+public class ImagePack {
+
+    private static final int MAGIC = 0x4950414B; // "IPAK"
+    private static final int VERSION = 2;
+
+    public static final int BACKGROUND_WIDTH = 1024;
+    public static final int BACKGROUND_HEIGHT = 668;
+
+    private static class Entry {
+        final long lastModified;
+        final long length;
+        final int width;
+        final int height;
+        final int offset;
+
+        Entry(long lastModified, long length, int width, int height, int offset) {
+            this.lastModified = lastModified;
+            this.length = length;
+            this.width = width;
+            this.height = height;
+            this.offset = offset;
+        }
+    }
+
+    private static volatile boolean open = false;
+    private static MappedByteBuffer buffer;
+    private static String resourcesRoot;
+    private static final Map<String, Entry> entries = new HashMap<>();
+    private static final Map<String, BufferedImage> images = new ConcurrentHashMap<>();
+
+    static {
+        ResourceMonitor.addListener(ResourceMonitor.ResourceType.IMAGE, event -> {
+            if (event.getKind() == ResourceMonitor.ChangeKind.OVERFLOW) {
+                images.clear();
+            } else {
+                String key = keyOf(event.getFile(), 0, 0);
+                if (key != null) {
+                    String prefix = key.substring(0, key.lastIndexOf('@') + 1);
+                    images.keySet().removeIf(cached -> cached.startsWith(prefix));
+                }
+            }
+        });
+    }
+
+    // ==================== Runtime ====================
+
+    /**
+     * Memory-maps the pack (images.pack in the project root, or -Dimage.pack=path).
+     * Does nothing if there is no pack.
+     * @return true if the pack is in use
+     */
+    public static synchronized boolean open() {
+        if (open) {
+            return true;
+        }
+
+        String path = System.getProperty("image.pack");
+        File file = path != null ? new File(path) : ResourcePathHelper.resolveFromRoot("images.pack");
+        if (!file.exists()) {
+            return false;
+        }
+
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (mapped.getInt(0) != MAGIC || mapped.getInt(4) != VERSION) {
+                System.err.println("ImagePack: Unsupported pack " + file.getPath() + " - decoding image files");
+                return false;
+            }
+
+            resourcesRoot = rootPath();
+            int pos = mapped.getInt(8);
+            int count = mapped.getInt(pos);
+            pos += 4;
+            for (int i = 0; i < count; i++) {
+                byte[] pathBytes = new byte[mapped.getShort(pos) & 0xFFFF];
+                mapped.get(pos + 2, pathBytes);
+                pos += 2 + pathBytes.length;
+                String relative = new String(pathBytes, StandardCharsets.UTF_8);
+                Entry entry = new Entry(mapped.getLong(pos), mapped.getLong(pos + 8), mapped.getInt(pos + 16),
+                        mapped.getInt(pos + 20), mapped.getInt(pos + 24));
+                entries.put(relative + "@" + entry.width + "x" + entry.height, entry);
+                pos += 28;
+            }
+
+            buffer = mapped;
+            open = true;
+            System.out.println("✓ ImagePack: Mapped " + file.getPath() + " (" + count + " images, "
+                    + channel.size() / 1024 + " KB)");
+            return true;
+        } catch (IOException | RuntimeException e) {
+            System.err.println("ImagePack: Could not open " + file.getPath() + ": " + e.getMessage());
+            entries.clear();
+            return false;
+        }
+    }
+
+    public static boolean isOpen() {
+        return open;
+    }
+
+    /**
+     * Returns the baked image of a file at the given display size
+     * @return the image, or null if it is not in the pack or the file changed since the bake
+     */
+    public static BufferedImage get(File imageFile, int width, int height) {
+        if (!open || imageFile == null) {
+            return null;
+        }
+
+        String key = keyOf(imageFile, width, height);
+        if (key == null) {
+            return null;
+        }
+
+        BufferedImage image = images.get(key);
+        if (image != null) {
+            return image;
+        }
+
+        Entry entry = entries.get(key);
+        if (entry == null || (imageFile.exists()
+                && (imageFile.lastModified() != entry.lastModified || imageFile.length() != entry.length))) {
+            return null;
+        }
+
+        image = new BufferedImage(entry.width, entry.height, BufferedImage.TYPE_INT_ARGB_PRE);
+        int[] pixels = ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+        IntBuffer source = buffer.duplicate().position(entry.offset).slice().asIntBuffer();
+        source.get(pixels, 0, entry.width * entry.height);
+
+        images.put(key, image);
+        return image;
+    }
+
+    private static String keyOf(File file, int width, int height) {
+        String absolute = file.getAbsoluteFile().toPath().normalize().toString().replace('\\', '/');
+        String root = resourcesRoot != null ? resourcesRoot : rootPath();
+        if (!absolute.startsWith(root)) {
+            return null;
+        }
+        return absolute.substring(root.length()) + "@" + width + "x" + height;
+    }
+
+    private static String rootPath() {
+        return ResourcePathHelper.resolve("").getAbsoluteFile().toPath().normalize().toString().replace('\\', '/')
+                + "/";
+    }
+
+    // ==================== Bake ====================
+
+    /**
+     * Writes all backgrounds and item images of the project into a pack file
+     */
+    public static void bake(File output) throws IOException {
+        // image file -> display sizes
+        Map<File, List<int[]>> sizes = new LinkedHashMap<>();
+
+        File scenesDir = ResourcePathHelper.resolve("scenes");
+        for (File sceneDir : listFiles(scenesDir)) {
+            for (File sceneFile : listFiles(sceneDir)) {
+                if (!sceneFile.getName().endsWith(".txt")) {
+                    continue;
+                }
+                String sceneName = sceneDir.getName() + "/"
+                        + sceneFile.getName().substring(0, sceneFile.getName().length() - 4);
+                try {
+                    Scene scene = SceneLoader.loadScene(sceneName);
+                    // Old scene files only set the legacy path, which the game still falls back to
+                    @SuppressWarnings("deprecation")
+                    String legacyBackground = scene.getBackgroundImagePath();
+                    addImage(sizes, legacyBackground, BACKGROUND_WIDTH, BACKGROUND_HEIGHT);
+                    for (ConditionalImage background : scene.getBackgroundImages()) {
+                        addImage(sizes, background.getImagePath(), BACKGROUND_WIDTH, BACKGROUND_HEIGHT);
+                    }
+                } catch (Exception e) {
+                    System.err.println("ImagePack: Skipping scene " + sceneName + ": " + e.getMessage());
+                }
+            }
+        }
+
+        for (File itemFile : listFiles(ResourcePathHelper.resolve("items"))) {
+            if (!itemFile.getName().endsWith(".txt")) {
+                continue;
+            }
+            try {
+                Item item = ItemLoader.loadItem(itemFile.getPath());
+                int width = item.getWidth();
+                int height = item.getHeight();
+                // Default image when no conditional image matches (getCurrentImagePath)
+                @SuppressWarnings("removal")
+                String defaultImage = item.getImageFilePath();
+                addImage(sizes, defaultImage, width, height);
+                for (ConditionalImage image : item.getConditionalImagesView()) {
+                    addImage(sizes, image.getImagePath(), width, height);
+                }
+                for (String path : new String[] { item.getImagePathTopLeft(), item.getImagePathTop(),
+                        item.getImagePathTopRight(), item.getImagePathLeft(), item.getImagePathMiddle(),
+                        item.getImagePathRight(), item.getImagePathBottomLeft(), item.getImagePathBottom(),
+                        item.getImagePathBottomRight() }) {
+                    addImage(sizes, path, width, height);
+                }
+            } catch (Exception e) {
+                System.err.println("ImagePack: Skipping item " + itemFile.getName() + ": " + e.getMessage());
+            }
+        }
+
+        String root = rootPath();
+        File temp = new File(output.getPath() + ".tmp");
+        int count = 0;
+        long totalBytes;
+
+        try (DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(temp.toPath()), 1 << 16))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(0); // index offset, patched below
+
+            java.io.ByteArrayOutputStream indexBytes = new java.io.ByteArrayOutputStream();
+            DataOutputStream index = new DataOutputStream(indexBytes);
+            int offset = 12;
+
+            for (Map.Entry<File, List<int[]>> image : sizes.entrySet()) {
+                File file = image.getKey();
+                BufferedImage source = ImageCache.get(file);
+                if (source == null) {
+                    continue;
+                }
+                String relative = file.getAbsoluteFile().toPath().normalize().toString().replace('\\', '/')
+                        .substring(root.length());
+
+                for (int[] size : image.getValue()) {
+                    int[] pixels = scale(source, size[0], size[1]);
+                    if ((long) offset + pixels.length * 4L > Integer.MAX_VALUE) {
+                        throw new IOException("Image pack larger than 2 GB");
+                    }
+
+                    // Standard UTF-8 (writeUTF would write modified UTF-8)
+                    byte[] pathBytes = relative.getBytes(StandardCharsets.UTF_8);
+                    if (pathBytes.length > 0xFFFF) {
+                        throw new IOException("Image path too long: " + relative);
+                    }
+                    index.writeShort(pathBytes.length);
+                    index.write(pathBytes);
+                    index.writeLong(file.lastModified());
+                    index.writeLong(file.length());
+                    index.writeInt(size[0]);
+                    index.writeInt(size[1]);
+                    index.writeInt(offset);
+
+                    for (int pixel : pixels) {
+                        out.writeInt(pixel);
+                    }
+                    offset += pixels.length * 4;
+                    count++;
+                }
+            }
+
+            out.writeInt(count);
+            indexBytes.writeTo(out);
+            totalBytes = offset;
+
+            out.flush();
+            // Patch the index offset into the header
+            try (FileChannel channel = FileChannel.open(temp.toPath(), StandardOpenOption.WRITE)) {
+                channel.write(java.nio.ByteBuffer.allocate(4).putInt(0, offset), 8);
+            }
+        }
+        Files.move(temp.toPath(), output.toPath(), StandardCopyOption.REPLACE_EXISTING);
+
+        System.out.println("✓ ImagePack: Baked " + count + " images (" + totalBytes / 1024 + " KB pixels) to "
+                + output.getPath());
+    }
+
+    private static void addImage(Map<File, List<int[]>> sizes, String imagePath, int width, int height) {
+        if (imagePath == null || imagePath.trim().isEmpty() || width <= 0 || height <= 0) {
+            return;
+        }
+        File file = ResourcePathHelper.findImageFile(imagePath.trim());
+        if (file == null) {
+            file = new File(imagePath.trim());
+        }
+        if (!file.exists()) {
+            return;
+        }
+
+        file = file.getAbsoluteFile().toPath().normalize().toFile();
+        if (!file.getPath().replace('\\', '/').startsWith(rootPath())) {
+            return; // only images inside resources/ can be looked up at runtime
+        }
+
+        List<int[]> fileSizes = sizes.computeIfAbsent(file, f -> new ArrayList<>());
+        for (int[] size : fileSizes) {
+            if (size[0] == width && size[1] == height) {
+                return;
+            }
+        }
+        fileSizes.add(new int[] { width, height });
+    }
+
+    /**
+     * Scales an image the way drawImage(img, x, y, w, h) shows it, as premultiplied ARGB pixels
+     */
+    private static int[] scale(BufferedImage source, int width, int height) {
+        BufferedImage scaled = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB_PRE);
+        Graphics2D g2d = scaled.createGraphics();
+        g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+        g2d.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+        g2d.drawImage(source, 0, 0, width, height, null);
+        g2d.dispose();
+        return ((DataBufferInt) scaled.getRaster().getDataBuffer()).getData();
+    }
+
+    private static List<File> listFiles(File dir) {
+        List<File> files = new ArrayList<>();
+        File[] children = dir.listFiles();
+        if (children != null) {
+            java.util.Arrays.sort(children);
+            for (File child : children) {
+                files.add(child);
+            }
+        }
+        return files;
+    }
+
+    public static void main(String[] args) throws IOException {
+        File output = args.length > 0 ? new File(args[0]) : ResourcePathHelper.resolveFromRoot("images.pack");
+        bake(output);
+    }
+}
@@ -3,9 +3,12 @@ package main;
 import java.awt.Point;
 import java.awt.Polygon;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 /**
  * Represents an item that can be placed in a scene
@@ -37,15 +40,36 @@ public class Item {
     // Current orientation (runtime only, not saved)
     private String currentOrientation = "Middle";
 
+    // Sprite sheet animations: orientation name or SpriteSheet.DEFAULT_SHEET -> sheet
+    private Map<String, SpriteSheet> spriteSheets;
+    private boolean moving = false; // runtime only: orientation sheets animate while moving
+
+    // Explicit draw order (larger = in front), null = by foot Y
+    private Integer depth = null;
+
     // Click detection (similar to KeyArea)
     private List<Point> clickAreaPoints; // Polygon points for click detection
     private Polygon clickAreaPolygon;
     private boolean hasCustomClickArea = false; // True if points were manually edited or loaded from file
+    private boolean sharesDefinition = false; // Definition parts still belong to the ItemRegistry definition (see ownDefinition)
 
     // New: Custom Click Areas and Moving Ranges
     private List<CustomClickArea> customClickAreas; // Multiple custom click areas with conditions
     private List<String> movingRangeNames; // MovingRange references (names) - loaded from MovingRangeManager
     private List<Path> paths; // MovingRange paths
+
+    // MovingRange handles resolved from movingRangeNames (see getMovingRanges)
+    private List<MovingRange> resolvedMovingRanges;
+    private List<String> resolvedMovingRangeNames;
+    private int resolvedMovingRangeCount;
+    private int resolvedMovingRangeGeneration;
+
+    // Hit mask resolved for the shown image at the item size (see getHitMask)
+    private HitMask resolvedHitMask;
+    private String resolvedHitMaskImage;
+    private int resolvedHitMaskWidth;
+    private int resolvedHitMaskHeight;
+    private int resolvedHitMaskGeneration = -1;
     
 
     // KeyArea-like properties
@@ -81,6 +105,7 @@ public class Item {
         this.imageConditions = new HashMap<>();
         this.actions = new HashMap<>();
         this.hoverDisplayConditions = new HashMap<>();
+        this.spriteSheets = new HashMap<>();
 
         // Initialize orientation image paths
         this.imagePathTopLeft = "";
@@ -104,10 +129,123 @@ public class Item {
         // Don't create default click area yet - wait until image is loaded
     }
 
+    /**
+     * Scene instance of a parsed item definition (see ItemRegistry).
+     * Shares the definition parts (images, conditions, click areas, paths, actions,
+     * hover texts, sprite sheets) and copies only the per-scene state. The first call
+     * that can change a definition part gives the instance its own copy (ownDefinition),
+     * so editing one instance never changes the definition or the items of other scenes.
+     */
+    private Item(Item definition) {
+        this.name = definition.name;
+        this.imageFileName = definition.imageFileName;
+        this.imageFilePath = definition.imageFilePath;
+        this.conditionalImages = definition.conditionalImages;
+        this.conditions = definition.conditions;
+        this.customClickAreas = definition.customClickAreas;
+        this.movingRangeNames = definition.movingRangeNames;
+        this.paths = definition.paths;
+        this.imageConditions = definition.imageConditions;
+        this.actions = definition.actions;
+        this.hoverDisplayConditions = definition.hoverDisplayConditions;
+        this.spriteSheets = definition.spriteSheets;
+        // Points and polygon are shared together, so they cannot drift apart
+        this.clickAreaPoints = definition.clickAreaPoints;
+        this.clickAreaPolygon = definition.clickAreaPolygon;
+        this.sharesDefinition = true;
+
+        this.imagePathTopLeft = definition.imagePathTopLeft;
+        this.imagePathTop = definition.imagePathTop;
+        this.imagePathTopRight = definition.imagePathTopRight;
+        this.imagePathLeft = definition.imagePathLeft;
+        this.imagePathMiddle = definition.imagePathMiddle;
+        this.imagePathRight = definition.imagePathRight;
+        this.imagePathBottomLeft = definition.imagePathBottomLeft;
+        this.imagePathBottom = definition.imagePathBottom;
+        this.imagePathBottomRight = definition.imagePathBottomRight;
+
+        // Per-scene state
+        this.position = new Point(definition.position);
+        this.width = definition.width;
+        this.height = definition.height;
+        this.isInInventory = definition.isInInventory;
+        this.isFollowingMouse = definition.isFollowingMouse;
+        this.isFollowingOnMouseClick = definition.isFollowingOnMouseClick;
+        this.currentOrientation = definition.currentOrientation;
+        this.depth = definition.depth;
+        this.visible = definition.visible;
+        this.hasCustomClickArea = definition.hasCustomClickArea;
+    }
+
+    /**
+     * Copy on write for instances created by createInstance: replaces the shared
+     * definition parts with own copies before they are handed out or changed.
+     * Drawing, hit testing, hover texts and actions only read them and keep sharing.
+     */
+    private void ownDefinition() {
+        if (!sharesDefinition) {
+            return;
+        }
+        sharesDefinition = false;
+
+        // The list setters accept null, keep it
+        if (conditionalImages != null) {
+            List<ConditionalImage> images = new ArrayList<>();
+            for (ConditionalImage image : conditionalImages) {
+                images.add(image.copy());
+            }
+            conditionalImages = images;
+        }
+        conditions = new LinkedHashMap<>(conditions);
+        if (customClickAreas != null) {
+            List<CustomClickArea> areas = new ArrayList<>();
+            for (CustomClickArea area : customClickAreas) {
+                areas.add(area.copy());
+            }
+            customClickAreas = areas;
+        }
+        if (movingRangeNames != null) {
+            movingRangeNames = new ArrayList<>(movingRangeNames);
+        }
+        if (paths != null) {
+            List<Path> ownPaths = new ArrayList<>();
+            for (Path path : paths) {
+                ownPaths.add(path != null ? path.copy() : null);
+            }
+            paths = ownPaths;
+        }
+        imageConditions = new LinkedHashMap<>(imageConditions);
+        Map<String, KeyArea.ActionHandler> ownActions = new LinkedHashMap<>();
+        for (Map.Entry<String, KeyArea.ActionHandler> action : actions.entrySet()) {
+            ownActions.put(action.getKey(), action.getValue().copy());
+        }
+        actions = ownActions;
+        hoverDisplayConditions = new LinkedHashMap<>(hoverDisplayConditions);
+        spriteSheets = new HashMap<>(spriteSheets);
+
+        List<Point> points = new ArrayList<>();
+        for (Point point : clickAreaPoints) {
+            points.add(new Point(point));
+        }
+        clickAreaPoints = points;
+        if (clickAreaPolygon != null) {
+            clickAreaPolygon = new Polygon(clickAreaPolygon.xpoints, clickAreaPolygon.ypoints,
+                    clickAreaPolygon.npoints);
+        }
+    }
+
+    /**
+     * Creates a scene instance of this item definition (see Item(Item))
+     */
+    public Item createInstance() {
+        return new Item(this);
+    }
+
     /**
      * Creates a default rectangular click area based on position and size
      */
     private void createDefaultClickArea() {
+        ownDefinition();
         clickAreaPoints.clear();
         int x = position.x;
         int y = position.y;
@@ -123,6 +261,7 @@ public class Item {
      * Only used for non-custom click areas (when user drags item or resizes)
      */
     private void updateClickAreaToMatchBounds() {
+        ownDefinition();
         if (clickAreaPoints.size() != 4) {
             // If not a simple rectangle, don't update
             return;
@@ -148,6 +287,7 @@ public class Item {
      * Only creates if user hasn't customized the click area
      */
     public void createClickAreaFromImage() {
+        ownDefinition();
         System.out.println("createClickAreaFromImage called for: " + name +
                          ", current points: " + clickAreaPoints.size() +
                          ", hasCustomClickArea: " + hasCustomClickArea);
@@ -164,22 +304,20 @@ public class Item {
         int imgWidth = width;
         int imgHeight = height;
 
-        // Try to load actual image to get real dimensions
+        // Read the real image dimensions from the file header (no pixel decode)
         if (imageFilePath != null && !imageFilePath.isEmpty()) {
-            try {
-                java.io.File imageFile = new java.io.File(imageFilePath);
-                if (imageFile.exists()) {
-                    java.awt.image.BufferedImage img = javax.imageio.ImageIO.read(imageFile);
-                    if (img != null) {
-                        imgWidth = img.getWidth();
-                        imgHeight = img.getHeight();
-                        // Update item size to match image
-                        this.width = imgWidth;
-                        this.height = imgHeight;
-                    }
+            java.io.File imageFile = new java.io.File(imageFilePath);
+            if (imageFile.exists()) {
+                java.awt.Dimension size = ContourExtractor.readImageSize(imageFile);
+                if (size != null) {
+                    imgWidth = size.width;
+                    imgHeight = size.height;
+                    // Update item size to match image
+                    this.width = imgWidth;
+                    this.height = imgHeight;
+                } else {
+                    System.err.println("Could not read image size for click area: " + imageFilePath);
                 }
-            } catch (Exception e) {
-                System.err.println("Could not load image for click area: " + e.getMessage());
             }
         }
 
@@ -224,6 +362,14 @@ public class Item {
         setPosition(new Point(x, y));
     }
 
+    /**
+     * Sets the position read from an item file, without auto-save (ItemLoader,
+     * which may run on the scene loader thread)
+     */
+    public void setPositionFromFile(int x, int y) {
+        this.position = new Point(x, y);
+    }
+
     public String getImageFileName() {
         return imageFileName;
     }
@@ -252,14 +398,17 @@ public class Item {
     }
 
     public Map<String, Boolean> getConditions() {
+        ownDefinition();
         return conditions;
     }
 
     public void addCondition(String conditionName, boolean value) {
+        ownDefinition();
         conditions.put(conditionName, value);
     }
 
     public void removeCondition(String conditionName) {
+        ownDefinition();
         conditions.remove(conditionName);
     }
 
@@ -273,15 +422,22 @@ public class Item {
     }
 
     public void setInInventory(boolean inInventory) {
+        setInInventoryFromFile(inInventory);
+
+        // Auto-save item to progress
+        AutoSaveManager.saveItem(this);
+    }
+
+    /**
+     * Sets isInInventory and its condition without auto-save (ItemLoader)
+     */
+    public void setInInventoryFromFile(boolean inInventory) {
         this.isInInventory = inInventory;
         // Also update the condition
         String inventoryConditionName = "isInInventory_" + name;
         if (Conditions.conditionExists(inventoryConditionName)) {
             Conditions.setCondition(inventoryConditionName, inInventory);
         }
-
-        // Auto-save item to progress
-        AutoSaveManager.saveItem(this);
     }
 
     public boolean isFollowingMouse() {
@@ -341,6 +497,7 @@ public class Item {
      */
     @Deprecated(since = "2.0", forRemoval = true)
     public Map<String, String> getImageConditions() {
+        ownDefinition();
         return imageConditions;
     }
 
@@ -350,6 +507,7 @@ public class Item {
      */
     @Deprecated(since = "2.0", forRemoval = true)
     public void addImageCondition(String condition, String imagePath) {
+        ownDefinition();
         imageConditions.put(condition, imagePath);
     }
 
@@ -394,6 +552,7 @@ public class Item {
      */
     @Deprecated(since = "2.0", forRemoval = true)
     public Map<String, String> getHoverDisplayConditions() {
+        ownDefinition();
         return hoverDisplayConditions;
     }
 
@@ -403,6 +562,7 @@ public class Item {
      */
     @Deprecated(since = "2.0", forRemoval = true)
     public void addHoverDisplayCondition(String condition, String displayText) {
+        ownDefinition();
         hoverDisplayConditions.put(condition, displayText);
     }
 
@@ -457,10 +617,12 @@ public class Item {
 
     // Actions methods
     public Map<String, KeyArea.ActionHandler> getActions() {
+        ownDefinition();
         return actions;
     }
 
     public void addAction(String actionName, KeyArea.ActionHandler handler) {
+        ownDefinition();
         actions.put(actionName, handler);
     }
 
@@ -478,6 +640,12 @@ public class Item {
             return true;
         }
 
+        // Pre-parsed in the project pack (items only support a single condition)
+        ProjectPack.ConditionExpression expression = ProjectPack.getExpression(condition);
+        if (expression != null && expression.getTermCount() == 1) {
+            return expression.evaluate();
+        }
+
         // Parse "fieldName = true/false"
         String[] parts = condition.split("=");
         if (parts.length == 2) {
@@ -533,6 +701,7 @@ public class Item {
      */
     @Deprecated(since = "2.0", forRemoval = true)
     public List<Point> getClickAreaPoints() {
+        ownDefinition();
         return clickAreaPoints;
     }
 
@@ -542,6 +711,7 @@ public class Item {
      */
     @Deprecated(since = "2.0", forRemoval = true)
     public void addClickAreaPoint(Point p) {
+        ownDefinition();
         clickAreaPoints.add(p);
         updateClickAreaPolygon();
         // Mark as custom when user adds points
@@ -581,6 +751,7 @@ public class Item {
      */
     @Deprecated(since = "2.0", forRemoval = true)
     public void updateClickAreaPolygon() {
+        ownDefinition();
         if (clickAreaPoints.isEmpty()) {
             clickAreaPolygon = null;
             return;
@@ -603,9 +774,25 @@ public class Item {
      */
     @Deprecated(since = "2.0", forRemoval = true)
     public Polygon getClickAreaPolygon() {
+        ownDefinition();
         return clickAreaPolygon;
     }
 
+    /**
+     * True if the item has a hand-edited click polygon (CustomClickArea or legacy points).
+     * Items without one are hit tested against the sprite pixels (see HitMask).
+     */
+    public boolean hasClickPolygon() {
+        if (customClickAreas != null) {
+            for (CustomClickArea area : customClickAreas) {
+                if (area != null && area.getPoints().size() >= 3) {
+                    return true;
+                }
+            }
+        }
+        return hasCustomClickArea && clickAreaPolygon != null;
+    }
+
     /**
      * Check if a point is inside this item's click area.
      * MIGRATION: Priority system for backward compatibility.
@@ -639,39 +826,56 @@ public class Item {
 
     // ConditionalImage management methods
     public List<ConditionalImage> getConditionalImages() {
+        ownDefinition();
         return conditionalImages;
     }
 
+    /**
+     * Read-only view of the conditional images; unlike getConditionalImages it does
+     * not copy the definition parts of a shared instance (scene loads, savers, packs)
+     */
+    public List<ConditionalImage> getConditionalImagesView() {
+        return conditionalImages != null ? Collections.unmodifiableList(conditionalImages) : Collections.emptyList();
+    }
+
     public void setConditionalImages(List<ConditionalImage> images) {
+        ownDefinition();
         this.conditionalImages = images;
     }
 
     public void addConditionalImage(ConditionalImage image) {
+        ownDefinition();
         this.conditionalImages.add(image);
     }
 
     public void removeConditionalImage(ConditionalImage image) {
+        ownDefinition();
         this.conditionalImages.remove(image);
     }
 
     // === Custom Click Areas ===
     public List<CustomClickArea> getCustomClickAreas() {
+        ownDefinition();
         return customClickAreas;
     }
 
     public void setCustomClickAreas(List<CustomClickArea> customClickAreas) {
+        ownDefinition();
         this.customClickAreas = customClickAreas;
     }
 
     public void addCustomClickArea(CustomClickArea area) {
+        ownDefinition();
         this.customClickAreas.add(area);
     }
 
     public void removeCustomClickArea(CustomClickArea area) {
+        ownDefinition();
         this.customClickAreas.remove(area);
     }
 
     public CustomClickArea getPrimaryCustomClickArea() {
+        ownDefinition();
         if (customClickAreas == null || customClickAreas.isEmpty()) {
             return null;
         }
@@ -679,6 +883,7 @@ public class Item {
     }
 
     public CustomClickArea ensurePrimaryCustomClickArea() {
+        ownDefinition();
         if (customClickAreas == null) {
             customClickAreas = new ArrayList<>();
         }
@@ -699,6 +904,7 @@ public class Item {
      * Gets the MovingRange names (references)
      */
     public List<String> getMovingRangeNames() {
+        ownDefinition();
         return movingRangeNames;
     }
 
@@ -706,6 +912,7 @@ public class Item {
      * Sets the MovingRange names
      */
     public void setMovingRangeNames(List<String> names) {
+        ownDefinition();
         this.movingRangeNames = names;
     }
 
@@ -713,8 +920,10 @@ public class Item {
      * Adds a MovingRange reference by name
      */
     public void addMovingRangeName(String name) {
+        ownDefinition();
         if (name != null && !name.trim().isEmpty() && !movingRangeNames.contains(name)) {
             movingRangeNames.add(name);
+            resolvedMovingRanges = null;
         }
     }
 
@@ -722,7 +931,9 @@ public class Item {
      * Removes a MovingRange reference by name
      */
     public void removeMovingRangeName(String name) {
+        ownDefinition();
         movingRangeNames.remove(name);
+        resolvedMovingRanges = null;
     }
 
     /**
@@ -730,14 +941,48 @@ public class Item {
      * This loads the MovingRanges from their files based on the stored names
      */
     public List<MovingRange> getMovingRanges() {
-        List<MovingRange> ranges = new ArrayList<>();
-        for (String name : movingRangeNames) {
-            MovingRange range = MovingRangeManager.get(name);
-            if (range != null) {
-                ranges.add(range);
+        // The resolved handles stay valid until the names or the manager's name bindings change
+        if (resolvedMovingRanges == null || resolvedMovingRangeNames != movingRangeNames
+                || resolvedMovingRangeCount != movingRangeNames.size()
+                || resolvedMovingRangeGeneration != MovingRangeManager.getGeneration()) {
+            int generation = MovingRangeManager.getGeneration();
+            List<MovingRange> ranges = new ArrayList<>();
+            for (String name : movingRangeNames) {
+                MovingRange range = MovingRangeManager.get(name);
+                if (range != null) {
+                    ranges.add(range);
+                }
             }
+            resolvedMovingRanges = Collections.unmodifiableList(ranges);
+            resolvedMovingRangeNames = movingRangeNames;
+            resolvedMovingRangeCount = movingRangeNames.size();
+            // Value from before the lookups: if one of them loaded a file, the next call resolves once more
+            resolvedMovingRangeGeneration = generation;
         }
-        return ranges;
+        return resolvedMovingRanges;
+    }
+
+    /**
+     * Hit mask of the sprite the item shows now, at the item size, or null if
+     * the image cannot be loaded. Resolved once per image path and size; the
+     * HitMask generation moves when image files change.
+     */
+    public HitMask getHitMask() {
+        String imagePath = getOrientationImage();
+        if (imagePath == null) {
+            imagePath = getCurrentImagePath();
+        }
+        int generation = HitMask.getGeneration();
+        if (resolvedHitMaskGeneration != generation || resolvedHitMaskWidth != width
+                || resolvedHitMaskHeight != height || !Objects.equals(resolvedHitMaskImage, imagePath)) {
+            resolvedHitMask = HitMask.forImage(imagePath, width, height);
+            resolvedHitMaskImage = imagePath;
+            resolvedHitMaskWidth = width;
+            resolvedHitMaskHeight = height;
+            // Value from before the lookup: a change during it resolves once more
+            resolvedHitMaskGeneration = generation;
+        }
+        return resolvedHitMask;
     }
 
     /**
@@ -745,6 +990,7 @@ public class Item {
      */
     @Deprecated
     public void setMovingRanges(List<MovingRange> movingRanges) {
+        ownDefinition();
         // Legacy support - extract names and use new system
         this.movingRangeNames = new ArrayList<>();
         if (movingRanges != null) {
@@ -785,6 +1031,7 @@ public class Item {
      * Creates a new named MovingRange if needed
      */
     public MovingRange ensurePrimaryMovingRange() {
+        ownDefinition();
         if (movingRangeNames == null) {
             movingRangeNames = new ArrayList<>();
         }
@@ -802,14 +1049,17 @@ public class Item {
 
     // === Paths ===
     public List<Path> getPaths() {
+        ownDefinition();
         return paths;
     }
 
     public void setPaths(List<Path> paths) {
+        ownDefinition();
         this.paths = paths;
     }
 
     public void addPath(Path path) {
+        ownDefinition();
         this.paths.add(path);
     }
 
@@ -827,11 +1077,13 @@ public class Item {
     }
 
     public void removePath(Path path) {
+        ownDefinition();
         this.paths.remove(path);
     }
     
 
     public Path getPrimaryPath() {
+        ownDefinition();
         if (paths == null || paths.isEmpty()) {
             return null;
         }
@@ -839,6 +1091,7 @@ public class Item {
     }
 
     public Path ensurePrimaryPath() {
+        ownDefinition();
         if (paths == null) {
             paths = new ArrayList<>();
         }
@@ -854,6 +1107,7 @@ public class Item {
     }
 
     public void consolidatePointContainers() {
+        ownDefinition();
         if (customClickAreas != null && customClickAreas.size() > 1) {
             CustomClickArea primary = ensurePrimaryCustomClickArea();
             for (int i = 1; i < customClickAreas.size(); i++) {
@@ -869,6 +1123,7 @@ public class Item {
         if (movingRangeNames != null && movingRangeNames.size() > 1) {
             System.out.println("Item: Multiple MovingRanges found for " + getName() + ", keeping only: " + movingRangeNames.get(0));
             movingRangeNames.subList(1, movingRangeNames.size()).clear();
+            resolvedMovingRanges = null;
         }
 
         if (paths != null && paths.size() > 1) {
@@ -1148,6 +1403,128 @@ public class Item {
         }
     }
 
+    // ==================== Depth and Perspective ====================
+
+    public Integer getDepth() {
+        return depth;
+    }
+
+    /**
+     * Explicit draw order key (larger = in front); null sorts by foot Y
+     */
+    public void setDepth(Integer depth) {
+        this.depth = depth;
+    }
+
+    /**
+     * Bottom edge of the unscaled image (the item position is its center)
+     */
+    public int getFootY() {
+        return position.y + height / 2;
+    }
+
+    /**
+     * Key of the back-to-front draw order
+     */
+    public int getSortDepth() {
+        return depth != null ? depth : getFootY();
+    }
+
+    /**
+     * Sprite scale from the z values of the moving range the item stands in
+     * (the first range with z values if it stands in none of them); 1 without z values
+     */
+    public float getPerspectiveScale() {
+        List<MovingRange> ranges = getMovingRanges();
+        if (ranges.isEmpty()) {
+            return 1f;
+        }
+        int footY = getFootY();
+        MovingRange fallback = null;
+        for (MovingRange range : ranges) {
+            if (!range.hasPerspective()) {
+                continue;
+            }
+            if (range.getPolygon() != null && range.getPolygon().contains(position.x, footY)) {
+                return range.scaleAt(position.x, footY);
+            }
+            if (fallback == null) {
+                fallback = range;
+            }
+        }
+        return fallback != null ? fallback.scaleAt(position.x, footY) : 1f;
+    }
+
+    // ==================== Sprite Sheet Animation ====================
+
+    public Map<String, SpriteSheet> getSpriteSheets() {
+        ownDefinition();
+        return spriteSheets;
+    }
+
+    /**
+     * Sets the sheet of an orientation ("Left", ...) or SpriteSheet.DEFAULT_SHEET; null removes it
+     */
+    public void setSpriteSheet(String key, SpriteSheet sheet) {
+        ownDefinition();
+        if (sheet == null) {
+            spriteSheets.remove(key);
+        } else {
+            spriteSheets.put(key, sheet);
+        }
+    }
+
+    public boolean isMoving() {
+        return moving;
+    }
+
+    public void setMoving(boolean moving) {
+        this.moving = moving;
+    }
+
+    /**
+     * Sheet the item shows now: the sheet of the current orientation while
+     * following the mouse (like getOrientationImage), else the Default sheet.
+     *
+     * @return the sheet, or null to show a still image
+     */
+    public SpriteSheet getCurrentSpriteSheet() {
+        if (spriteSheets.isEmpty()) {
+            return null;
+        }
+        if (isFollowingMouse || isFollowingOnMouseClick) {
+            SpriteSheet sheet = spriteSheets.get(currentOrientation);
+            if (sheet != null) {
+                return sheet;
+            }
+        }
+        return spriteSheets.get(SpriteSheet.DEFAULT_SHEET);
+    }
+
+    /**
+     * Frame of the current sheet at a game clock time. The Default sheet
+     * always loops; orientation sheets only while the item moves (frame 0 when standing).
+     */
+    public int getAnimationFrame(long nowMillis) {
+        SpriteSheet sheet = getCurrentSpriteSheet();
+        if (sheet == null) {
+            return 0;
+        }
+        if (!moving && sheet != spriteSheets.get(SpriteSheet.DEFAULT_SHEET)) {
+            return 0;
+        }
+        return sheet.getFrameIndex(nowMillis);
+    }
+
+    /**
+     * True if the item shows a sheet whose frame changes over time
+     */
+    public boolean isAnimating() {
+        SpriteSheet sheet = getCurrentSpriteSheet();
+        return sheet != null && sheet.getFrameCount() > 1
+                && (moving || sheet == spriteSheets.get(SpriteSheet.DEFAULT_SHEET));
+    }
+
     @Override
     public String toString() {
         return name + " (x=" + position.x + ", y=" + position.y + ")";
@@ -1,9 +1,7 @@
 package main;
 
 import java.awt.Point;
-import java.io.BufferedReader;
 import java.io.File;
-import java.io.FileReader;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
@@ -16,186 +14,326 @@ public class ItemLoader {
 
     public static Item loadItem(String filename) throws IOException {
         File file = new File(filename);
-        if (!file.exists()) {
+        if (!ProjectPack.exists(file)) {
             throw new IOException("Item file not found: " + filename);
         }
 
-        BufferedReader reader = new BufferedReader(new FileReader(file));
-        String line;
-        Item item = null;
-        String currentSection = "";
-        String currentSubSection = "";
-        String pendingCondition = null;
-        List<String> pendingConditions = new ArrayList<>(); // Collect multiple --- lines
-        String currentAction = null;
-        KeyArea.ActionHandler currentActionHandler = null;
-        int clickAreaX = 0;
-        int clickAreaY = 0;
-        int movingRangeX = 0;
-        int movingRangeY= 0;
-        int pathX = 0;
-        int pathY = 0;
+        ItemParser parser = new ItemParser();
+        parser.parse(file);
+        Item item = parser.item;
+
+        if (item == null) {
+            throw new IOException("Invalid item file format - no name found");
+        }
+
+        // Ensure only one point container per type
+        item.consolidatePointContainers();
+
+        // Create or update isInInventory condition for this item (runtime only, not saved to conditions.txt)
+        String inventoryConditionName = "isInInventory_" + item.getName();
+        if (!Conditions.conditionExists(inventoryConditionName)) {
+            Conditions.addConditionRuntimeOnly(inventoryConditionName, item.isInInventory());
+            System.out.println("Created runtime condition: " + inventoryConditionName + " = " + item.isInInventory());
+        } else {
+            // Update condition with loaded value
+            Conditions.setCondition(inventoryConditionName, item.isInInventory());
+            System.out.println("Updated condition: " + inventoryConditionName + " = " + item.isInInventory());
+        }
+
+        // Update polygon if custom points were loaded (NEW SYSTEM: CustomClickArea)
+        if (item.hasCustomClickArea() || !item.getCustomClickAreas().isEmpty()) {
+            System.out.println("Loaded Custom Click Area for Item: " + item.getName());
+            for (CustomClickArea area : item.getCustomClickAreas()) {
+                area.updatePolygon();
+                System.out.println("  CustomClickArea with " + area.getPoints().size() + " points");
+            }
+        } else {
+            System.out.println("Loaded item: " + item.getName());
+        }
+
+        System.out.println("Final item hover display conditions size: " + item.getHoverDisplayConditions().size());
+        for (java.util.Map.Entry<String, String> entry : item.getHoverDisplayConditions().entrySet()) {
+            System.out.println("  " + entry.getKey() + " -> " + entry.getValue());
+        }
+
+        return item;
+    }
+
+    /**
+     * Load item from DEFAULT file: resources/items/[itemName].txt
+     * Use this in EDITOR MODE and as fallback in GAMING MODE
+     * This is the DEFAULT version of the item
+     */
+    public static Item loadItemByName(String itemName) throws IOException {
+        String filename = ResourcePathHelper.resolvePath("items/" + itemName + ".txt");
+        System.out.println("✓ Loading item from DEFAULT: " + filename);
+        return loadItem(filename);
+    }
+
+    /**
+     * @deprecated Use loadItemByName() instead - <name>.txt is now the DEFAULT
+     */
+    @Deprecated
+    public static Item loadItemFromDefault(String itemName) throws IOException {
+        return loadItemByName(itemName);
+    }
+
+    /**
+     * @deprecated Progress is now managed differently - _progress.txt files are no longer used
+     */
+    @Deprecated
+    public static Item loadItemFromProgress(String itemName) throws IOException {
+        System.out.println("⚠️  WARNING: loadItemFromProgress() is deprecated - Progress is managed differently now");
+        // Fall back to loading from default file
+        return loadItemByName(itemName);
+    }
+
+    /**
+     * Section handlers and parse state of one item file.
+     * All sections share one line handler because old and new schema lines
+     * (conditions, points, actions) may appear in several sections.
+     */
+    private static class ItemParser {
+        private Item item = null;
+        private String currentSection = "";
+        private String currentSubSection = "";
+        private String pendingCondition = null;
+        private List<String> pendingConditions = new ArrayList<>(); // Collect multiple --- lines
+        private String currentAction = null;
+        private KeyArea.ActionHandler currentActionHandler = null;
+        private int clickAreaX = 0;
+        private int clickAreaY = 0;
+        private int movingRangeX = 0;
+        private int movingRangeY= 0;
+        private int pathX = 0;
+        private int pathY = 0;
         // For ConditionalImages
-        ConditionalImage currentConditionalImage = null;
-        boolean inConditionalImageSection = false;
-        boolean inConditionsSubSection = false;
+        private ConditionalImage currentConditionalImage = null;
+        private boolean inConditionalImageSection = false;
+        private boolean inConditionsSubSection = false;
+
+        // For SpriteSheets (sheet is created when the entry ends)
+        private String spriteSheetKey = null;
+        private String spriteSheetPath = "";
+        private int spriteSheetFrames = 1;
+        private int spriteSheetColumns = 0;
+        private int spriteSheetFrameMillis = 100;
 
         // For CustomClickAreas
-        CustomClickArea currentCustomClickArea = null;
-        boolean inCustomClickAreaSection = false;
-        boolean customClickAreaPointsLoaded = false; // MIGRATION FIX: Track if points were loaded
-        int customClickPointX = 0;
-        int customClickPointY = 0;
+        private CustomClickArea currentCustomClickArea = null;
+        private boolean inCustomClickAreaSection = false;
+        private boolean customClickAreaPointsLoaded = false; // MIGRATION FIX: Track if points were loaded
 
         // For MovingRanges
-        MovingRange currentMovingRange = null;
-        boolean inMovingRangeSection = false;
-        boolean movingRangePointsLoaded = false; // MIGRATION FIX: Track if points were loaded
+        private MovingRange currentMovingRange = null;
+        private boolean inMovingRangeSection = false;
+        private boolean movingRangePointsLoaded = false; // MIGRATION FIX: Track if points were loaded
 
-        Path currentPath = null;
-        boolean inPathSection = false;
-        boolean pathPointsLoaded = false; // MIGRATION FIX: Track if points were loaded
+        private Path currentPath = null;
+        private boolean inPathSection = false;
+        private boolean pathPointsLoaded = false; // MIGRATION FIX: Track if points were loaded
 
         // For NEW Actions Format (IF/THEN/Processes)
-        List<String> conditionsIF = new ArrayList<>();
-        List<String> conditionsTHEN = new ArrayList<>();
-        List<String> processes = new ArrayList<>();
-        String actionSubSection = ""; // "IF", "THEN", or "PROCESSES"
-        boolean legacyCustomAreaInitialized = false;
-        boolean legacyMovingRangeInitialized = false;
-        boolean legacyPathInitialized = false;
+        private List<String> conditionsIF = new ArrayList<>();
+        private List<String> conditionsTHEN = new ArrayList<>();
+        private List<String> processes = new ArrayList<>();
+        private String actionSubSection = ""; // "IF", "THEN", or "PROCESSES"
+        private boolean legacyCustomAreaInitialized = false;
+        private boolean legacyMovingRangeInitialized = false;
+        private boolean legacyPathInitialized = false;
+
+        /**
+         * Header of a known section: finalizes open point containers and switches the section
+         */
+        private class Section implements ResourceTokenizer.SectionHandler {
+            private final String name;
+            private final Runnable start;
+
+            Section(String name, Runnable start) {
+                this.name = name;
+                this.start = start;
+            }
+
+            @Override
+            public void begin(ResourceTokenizer.Token header) {
+                finalizePointContainers();
+                finalizeSpriteSheet();
+                currentSection = name;
+                if (start != null) {
+                    start.run();
+                }
+            }
 
-        while ((line = reader.readLine()) != null) {
-            line = line.trim();
+            @Override
+            public void line(ResourceTokenizer.Token token) {
+                ItemParser.this.line(token);
+            }
+        }
 
-            if (line.isEmpty() || line.startsWith("//")) {
-                continue; // Skip empty lines and comments
+        void parse(File file) throws IOException {
+            ResourceTokenizer tokenizer = new ResourceTokenizer().skipComments();
+            tokenizer.beforeSections(this::line);
+            tokenizer.on("Name", new Section("NAME", null));
+            tokenizer.on("ImageFile", new Section("IMAGEFILE", null));
+            tokenizer.on("ImagePath", new Section("IMAGEPATH", null));
+            tokenizer.on("ImagePathTopLeft", new Section("IMAGEPATHTOPLEFT", null));
+            tokenizer.on("ImagePathTop", new Section("IMAGEPATHTOP", null));
+            tokenizer.on("ImagePathTopRight", new Section("IMAGEPATHTOPRIGHT", null));
+            tokenizer.on("ImagePathLeft", new Section("IMAGEPATHLEFT", null));
+            tokenizer.on("ImagePathMiddle", new Section("IMAGEPATHMIDDLE", null));
+            tokenizer.on("ImagePathRight", new Section("IMAGEPATHRIGHT", null));
+            tokenizer.on("ImagePathBottomLeft", new Section("IMAGEPATHBOTTOMLEFT", null));
+            tokenizer.on("ImagePathBottom", new Section("IMAGEPATHBOTTOM", null));
+            tokenizer.on("ImagePathBottomRight", new Section("IMAGEPATHBOTTOMRIGHT", null));
+            tokenizer.on("Position", new Section("POSITION", null));
+            tokenizer.on("Size", new Section("SIZE", null));
+            tokenizer.on("IsInInventory", new Section("INVENTORY", null));
+            tokenizer.on("IsFollowingMouse", new Section("FOLLOWINGMOUSE", null));
+            tokenizer.on("IsFollowingOnMouseClick", new Section("FOLLOWINGONMOUSECLICK", null));
+            tokenizer.on("MouseHover", new Section("MOUSEHOVER",
+                    () -> System.out.println("=====> ItemLoader: Found #MouseHover: section!")));
+            tokenizer.on("CustomClickArea", new Section("CUSTOMCLICKAREA", this::beginCustomClickArea));
+            tokenizer.on("MovingRange", new Section("MOVINGRANGE", this::beginMovingRange));
+            tokenizer.on("Path", new Section("PATH", this::beginPath));
+            tokenizer.on("Actions", new Section("ACTIONS", null));
+            tokenizer.on("CustomClickAreas", new Section("CUSTOMCLICKAREAS",
+                    () -> System.out.println("ItemLoader: Found #CustomClickAreas: section")));
+            tokenizer.on("MovingRanges", new Section("MOVINGRANGES",
+                    () -> System.out.println("ItemLoader: Found #MovingRanges: section")));
+            tokenizer.on("SpriteSheets", new Section("SPRITESHEETS", null));
+            tokenizer.on("Paths", new Section("PATHS",
+                    () -> System.out.println("ItemLoader: Found #Paths: section")));
+            tokenizer.parse(file);
+            finalizeSpriteSheet();
+
+            // Finalize last action if exists (NEW SCHEMA)
+            if (currentActionHandler != null && !conditionsIF.isEmpty()) {
+                String ifCondition = conditionsIF.isEmpty() || conditionsIF.contains("none") ? "none" : String.join(" AND ", conditionsIF);
+                String process = processes.isEmpty() ? "processDefault" : processes.get(0);
+                currentActionHandler.addConditionalResult(ifCondition, "#Dialog:" + process);
+                System.out.println("ItemLoader: Finalized LAST action with IF=" + ifCondition + ", Process=" + process);
             }
 
-            // Finalize pending objects when hitting a new section (starts with #)
-            if (line.startsWith("#")) {
-                // Finalize CustomClickArea if in progress
-                if (inCustomClickAreaSection && currentCustomClickArea != null) {
-                    currentCustomClickArea.updatePolygon();
-                    System.out.println("ItemLoader: Finalized CustomClickArea with " + currentCustomClickArea.getPoints().size() + " points");
-                    currentCustomClickArea = null;
-                    inCustomClickAreaSection = false;
-                    legacyCustomAreaInitialized = false;
-                }
-                // Finalize MovingRange if in progress
-                if (inMovingRangeSection && currentMovingRange != null) {
-                    System.out.println("ItemLoader: Finalized MovingRange with " + currentMovingRange.getPoints().size() + " points");
-                    currentMovingRange = null;
-                    inMovingRangeSection = false;
-                    legacyMovingRangeInitialized = false;
-                }
-                // Finalize Path if in progress
-                if (inPathSection && currentPath != null) {
-                    System.out.println("ItemLoader: Finalized Path with " + currentPath.getPoints().size() + " points");
-                    currentPath = null;
-                    inPathSection = false;
-                    legacyPathInitialized = false;
-                }
+            // Add last conditional image if exists
+            if (currentConditionalImage != null && item != null) {
+                item.addConditionalImage(currentConditionalImage);
             }
 
-            // Section headers
-            if (line.startsWith("#Name:")) {
-                currentSection = "NAME";
-            } else if (line.startsWith("#ImageFile:")) {
-                currentSection = "IMAGEFILE";
-            } else if (line.startsWith("#ImagePath:")) {
-                currentSection = "IMAGEPATH";
-            } else if (line.startsWith("#ImagePathTopLeft:")) {
-                currentSection = "IMAGEPATHTOPLEFT";
-            } else if (line.startsWith("#ImagePathTop:")) {
-                currentSection = "IMAGEPATHTOP";
-            } else if (line.startsWith("#ImagePathTopRight:")) {
-                currentSection = "IMAGEPATHTOPRIGHT";
-            } else if (line.startsWith("#ImagePathLeft:")) {
-                currentSection = "IMAGEPATHLEFT";
-            } else if (line.startsWith("#ImagePathMiddle:")) {
-                currentSection = "IMAGEPATHMIDDLE";
-            } else if (line.startsWith("#ImagePathRight:")) {
-                currentSection = "IMAGEPATHRIGHT";
-            } else if (line.startsWith("#ImagePathBottomLeft:")) {
-                currentSection = "IMAGEPATHBOTTOMLEFT";
-            } else if (line.startsWith("#ImagePathBottom:")) {
-                currentSection = "IMAGEPATHBOTTOM";
-            } else if (line.startsWith("#ImagePathBottomRight:")) {
-                currentSection = "IMAGEPATHBOTTOMRIGHT";
-            } else if (line.startsWith("#Position:")) {
-                currentSection = "POSITION";
-            } else if (line.startsWith("#Size:")) {
-                currentSection = "SIZE";
-            } else if (line.startsWith("#IsInInventory:")) {
-                currentSection = "INVENTORY";
-            } else if (line.startsWith("#IsFollowingMouse:")) {
-                currentSection = "FOLLOWINGMOUSE";
-            } else if (line.startsWith("#IsFollowingOnMouseClick:")) {
-                currentSection = "FOLLOWINGONMOUSECLICK";
-            } else if (line.startsWith("#MouseHover:")) {
-                System.out.println("=====> ItemLoader: Found #MouseHover: section!");
-                currentSection = "MOUSEHOVER";
-            } else if (line.startsWith("#CustomClickArea:")) {
-                currentSection = "CUSTOMCLICKAREA";
-                System.out.println("ItemLoader: Found #CustomClickArea: section");
-                // Use primary CustomClickArea
-                if (item != null) {
-                    currentCustomClickArea = item.ensurePrimaryCustomClickArea();
-                    // MIGRATION FIX: Don't clear points immediately - only clear if we find new points
-                    // currentCustomClickArea.getPoints().clear(); // REMOVED - was causing data loss
-                    // But DO reset conditions and hover text since they're section-specific
-                    currentCustomClickArea.setConditions(new LinkedHashMap<>());
-                    currentCustomClickArea.setHoverText("");
-                    item.setHasCustomClickArea(true);
-                    System.out.println("ItemLoader: Prepared primary CustomClickArea for loading");
-                } else {
-                    currentCustomClickArea = new CustomClickArea();
-                }
-                inCustomClickAreaSection = true;
-            } else if (line.startsWith("#MovingRange:")) {
-                currentSection = "MOVINGRANGE";
-                System.out.println("ItemLoader: Found #MovingRange: section");
-                if (item != null) {
-                    currentMovingRange = item.ensurePrimaryMovingRange();
-                    // MIGRATION FIX: Don't clear points immediately - only clear if we find new points
-                    // currentMovingRange.getPoints().clear(); // REMOVED - was causing data loss
-                } else {
-                    currentMovingRange = new MovingRange();
-                }
-                inMovingRangeSection = true;
-            } else if (line.startsWith("#Path:")) {
-                currentSection = "PATH";
-                System.out.println("ItemLoader: Found #Path: section");
-                if (item != null) {
-                    currentPath = item.ensurePrimaryPath();
-                    // MIGRATION FIX: Don't clear points immediately - only clear if we find new points
-                    // currentPath.getPoints().clear(); // REMOVED - was causing data loss
-                } else {
-                    currentPath = new Path();
-                }
-                inPathSection = true;
-            } else if (line.startsWith("#Actions:")) {
-                currentSection = "ACTIONS";
-            } else if (line.startsWith("#CustomClickAreas:")) {
-                currentSection = "CUSTOMCLICKAREAS";
-                System.out.println("ItemLoader: Found #CustomClickAreas: section");
-            } else if (line.startsWith("#MovingRanges:")) {
-                currentSection = "MOVINGRANGES";
-                System.out.println("ItemLoader: Found #MovingRanges: section");
-            } else if (line.startsWith("#Paths:")) {
-                currentSection = "PATHS";
-                System.out.println("ItemLoader: Found #Paths: section");
+            // Add last custom click area if exists
+            if (currentCustomClickArea != null && item != null) {
+                currentCustomClickArea.updatePolygon(); // Ensure polygon is updated
+                System.out.println("ItemLoader: Finalized last CustomClickArea with " + currentCustomClickArea.getPoints().size() + " points");
+            }
+
+            // Add last moving range if exists
+            if (currentMovingRange != null && item != null) {
+                System.out.println("ItemLoader: Finalized last MovingRange with " + currentMovingRange.getPoints().size() + " points");
+            }
+
+            // Add last path if exists
+            if (currentPath != null && item != null) {
+                System.out.println("ItemLoader: Finalized last Path with " + currentPath.getPoints().size() + " points");
+            }
+        }
+
+        /**
+         * Finalize pending objects when hitting a new section (starts with #)
+         */
+        private void finalizePointContainers() {
+            // Finalize CustomClickArea if in progress
+            if (inCustomClickAreaSection && currentCustomClickArea != null) {
+                currentCustomClickArea.updatePolygon();
+                System.out.println("ItemLoader: Finalized CustomClickArea with " + currentCustomClickArea.getPoints().size() + " points");
+                currentCustomClickArea = null;
+                inCustomClickAreaSection = false;
+                legacyCustomAreaInitialized = false;
+            }
+            // Finalize MovingRange if in progress
+            if (inMovingRangeSection && currentMovingRange != null) {
+                System.out.println("ItemLoader: Finalized MovingRange with " + currentMovingRange.getPoints().size() + " points");
+                currentMovingRange = null;
+                inMovingRangeSection = false;
+                legacyMovingRangeInitialized = false;
+            }
+            // Finalize Path if in progress
+            if (inPathSection && currentPath != null) {
+                System.out.println("ItemLoader: Finalized Path with " + currentPath.getPoints().size() + " points");
+                currentPath = null;
+                inPathSection = false;
+                legacyPathInitialized = false;
+            }
+        }
+
+        /**
+         * Adds the sprite sheet entry in progress to the item
+         */
+        private void finalizeSpriteSheet() {
+            if (spriteSheetKey != null && item != null && !spriteSheetPath.isEmpty()) {
+                item.setSpriteSheet(spriteSheetKey,
+                        new SpriteSheet(spriteSheetPath, spriteSheetFrames, spriteSheetColumns, spriteSheetFrameMillis));
+                System.out.println("ItemLoader: Added SpriteSheet " + spriteSheetKey + " (" + spriteSheetPath + ", "
+                        + spriteSheetFrames + " frames)");
+            }
+            spriteSheetKey = null;
+            spriteSheetPath = "";
+            spriteSheetFrames = 1;
+            spriteSheetColumns = 0;
+            spriteSheetFrameMillis = 100;
+        }
+
+        private void beginCustomClickArea() {
+            System.out.println("ItemLoader: Found #CustomClickArea: section");
+            // Use primary CustomClickArea
+            if (item != null) {
+                currentCustomClickArea = item.ensurePrimaryCustomClickArea();
+                // MIGRATION FIX: Don't clear points immediately - only clear if we find new points
+                // But DO reset conditions and hover text since they're section-specific
+                currentCustomClickArea.setConditions(new LinkedHashMap<>());
+                currentCustomClickArea.setHoverText("");
+                item.setHasCustomClickArea(true);
+                System.out.println("ItemLoader: Prepared primary CustomClickArea for loading");
+            } else {
+                currentCustomClickArea = new CustomClickArea();
+            }
+            inCustomClickAreaSection = true;
+        }
+
+        private void beginMovingRange() {
+            System.out.println("ItemLoader: Found #MovingRange: section");
+            if (item != null) {
+                // MIGRATION FIX: Don't clear points immediately - only clear if we find new points
+                currentMovingRange = item.ensurePrimaryMovingRange();
+            } else {
+                currentMovingRange = new MovingRange();
+            }
+            inMovingRangeSection = true;
+        }
+
+        private void beginPath() {
+            System.out.println("ItemLoader: Found #Path: section");
+            if (item != null) {
+                // MIGRATION FIX: Don't clear points immediately - only clear if we find new points
+                currentPath = item.ensurePrimaryPath();
+            } else {
+                currentPath = new Path();
+            }
+            inPathSection = true;
+        }
+
+        private void line(ResourceTokenizer.Token line) {
+            // "#..." lines of unknown sections also close open point containers
+            if (line.startsWith("#")) {
+                finalizePointContainers();
             }
 
             // Parse new point format: -point1: (uniform format for all sections)
-            else if ((currentSection.equals("CUSTOMCLICKAREA") ||
+            if ((currentSection.equals("CUSTOMCLICKAREA") ||
                       currentSection.equals("MOVINGRANGE") ||
                       currentSection.equals("PATH")) &&
                      line.startsWith("-point") && line.contains(":")) {
                 // Parse format: -point1: x=590, y=429, z=1 (unified format with single dash)
                 try {
-                    String coordPart = line.substring(line.indexOf(":") + 1).trim();
+                    String coordPart = line.value(line.indexOf(":") + 1);
                     String[] coords = coordPart.split(",");
                     int x = 0, y = 0;
 
@@ -243,17 +381,17 @@ public class ItemLoader {
             // OLD FORMAT - ClickArea coordinates - MIGRATION: Convert to CustomClickArea
             else if (currentSection.equals("CLICKAREA") && line.startsWith("--x")) {
                 // Parse coordinate like SceneLoader does
-                String[] parts = line.split("=");
-                if (parts.length == 2) {
-                    clickAreaX = Integer.parseInt(parts[1].trim().replace(";", ""));
+                int equals = line.indexOf("=");
+                if (equals >= 0) {
+                    clickAreaX = Integer.parseInt(line.value(equals + 1).replace(";", ""));
                     System.out.println("ItemLoader: Read clickAreaX = " + clickAreaX);
                 }
             }
             else if (currentSection.equals("CLICKAREA") && line.startsWith("--y")) {
                 // Parse coordinate like SceneLoader does
-                String[] parts = line.split("=");
-                if (parts.length == 2) {
-                    clickAreaY = Integer.parseInt(parts[1].trim().replace(";", ""));
+                int equals = line.indexOf("=");
+                if (equals >= 0) {
+                    clickAreaY = Integer.parseInt(line.value(equals + 1).replace(";", ""));
                     // MIGRATION: Add to CustomClickArea instead of legacy clickAreaPoints
                     if (item != null) {
                         CustomClickArea primaryArea = item.ensurePrimaryCustomClickArea();
@@ -266,17 +404,17 @@ public class ItemLoader {
             
             else if (currentSection.equals("MOVINGRANGE") && line.startsWith("--x")) {
                 // Parse coordinate like SceneLoader does
-                String[] parts = line.split("=");
-                if (parts.length == 2) {
-                    movingRangeX = Integer.parseInt(parts[1].trim().replace(";", ""));
+                int equals = line.indexOf("=");
+                if (equals >= 0) {
+                    movingRangeX = Integer.parseInt(line.value(equals + 1).replace(";", ""));
                     System.out.println("ItemLoader: Read movingRangeX = " + movingRangeX);
                 }
             }
             else if (currentSection.equals("MOVINGRANGE") && line.startsWith("--y")) {
                 // Parse coordinate like SceneLoader does
-                String[] parts = line.split("=");
-                if (parts.length == 2) {
-                	movingRangeY = Integer.parseInt(parts[1].trim().replace(";", ""));
+                int equals = line.indexOf("=");
+                if (equals >= 0) {
+                	movingRangeY = Integer.parseInt(line.value(equals + 1).replace(";", ""));
                     if (currentMovingRange != null) {
                         currentMovingRange.addPoint(new Point(movingRangeX, movingRangeY));
                         System.out.println("ItemLoader: Added legacy MovingRange point (" + movingRangeX + ", " + movingRangeY + ")");
@@ -286,17 +424,17 @@ public class ItemLoader {
             
             else if (currentSection.equals("PATH") && line.startsWith("--x")) {
                 // Parse coordinate like SceneLoader does
-                String[] parts = line.split("=");
-                if (parts.length == 2) {
-                    pathX = Integer.parseInt(parts[1].trim().replace(";", ""));
+                int equals = line.indexOf("=");
+                if (equals >= 0) {
+                    pathX = Integer.parseInt(line.value(equals + 1).replace(";", ""));
                     System.out.println("ItemLoader: Read movingRangeX = " + pathX);
                 }
             }
             else if (currentSection.equals("PATH") && line.startsWith("--y")) {
                 // Parse coordinate like SceneLoader does
-                String[] parts = line.split("=");
-                if (parts.length == 2) {
-                	pathY = Integer.parseInt(parts[1].trim().replace(";", ""));
+                int equals = line.indexOf("=");
+                if (equals >= 0) {
+                	pathY = Integer.parseInt(line.value(equals + 1).replace(";", ""));
                     if (currentPath != null) {
                         currentPath.addPoint(new Point(pathX, pathY));
                         System.out.println("ItemLoader: Added legacy Path point (" + pathX + ", " + pathY + ")");
@@ -306,7 +444,7 @@ public class ItemLoader {
             
             // Parse ConditionalImages (new format)
             else if (currentSection.equals("CONDITIONALIMAGES")) {
-                if (line.equals("-Image:")) {
+                if (line.is("-Image:")) {
                     // Save previous image if exists
                     if (currentConditionalImage != null && item != null) {
                         item.addConditionalImage(currentConditionalImage);
@@ -317,10 +455,10 @@ public class ItemLoader {
                     inConditionsSubSection = false;
                 } else if (inConditionalImageSection && currentConditionalImage != null) {
                     if (line.startsWith("--Name:")) {
-                        String name = line.substring(7).trim();
+                        String name = line.value(7);
                         currentConditionalImage.setName(name);
                     } else if (line.startsWith("--Path:")) {
-                        String path = line.substring(7).trim();
+                        String path = line.value(7);
 
                         // Store only filename, not full path
                         // Strip "resources/images/items/" prefix if present
@@ -342,13 +480,13 @@ public class ItemLoader {
                         currentConditionalImage.setImagePath(path);
                         System.out.println("ItemLoader: Set Image path to: " + path);
                     } else if (line.startsWith("--ShowIfTrue:")) {
-                        String showIfStr = line.substring(13).trim();
+                        String showIfStr = line.value(13);
                         currentConditionalImage.setShowIfTrue(Boolean.parseBoolean(showIfStr));
-                    } else if (line.equals("--Conditions:")) {
+                    } else if (line.is("--Conditions:")) {
                         inConditionsSubSection = true;
                     } else if (inConditionsSubSection && line.startsWith("---")) {
                         // Parse condition: "---hasLighter = true"
-                        String conditionLine = line.substring(3).trim();
+                        String conditionLine = line.value(3);
                         if (conditionLine.contains("=")) {
                             String[] parts = conditionLine.split("=");
                             if (parts.length == 2) {
@@ -360,9 +498,26 @@ public class ItemLoader {
                     }
                 }
             }
+            // Parse SpriteSheets: "-Left" followed by --Path:, --Frames:, --Columns:, --FrameMillis:
+            else if (currentSection.equals("SPRITESHEETS")) {
+                if (line.startsWith("-") && !line.startsWith("--")) {
+                    finalizeSpriteSheet();
+                    spriteSheetKey = line.value(1);
+                } else if (spriteSheetKey != null) {
+                    if (line.startsWith("--Path:")) {
+                        spriteSheetPath = line.value(7);
+                    } else if (line.startsWith("--Frames:")) {
+                        spriteSheetFrames = Integer.parseInt(line.value(9));
+                    } else if (line.startsWith("--Columns:")) {
+                        spriteSheetColumns = Integer.parseInt(line.value(10));
+                    } else if (line.startsWith("--FrameMillis:")) {
+                        spriteSheetFrameMillis = Integer.parseInt(line.value(14));
+                    }
+                }
+            }
             // Parse CustomClickAreas
             else if (currentSection.equals("CUSTOMCLICKAREAS")) {
-                if (line.equals("-CustomClickArea:")) {
+                if (line.is("-CustomClickArea:")) {
                     if (item != null) {
                         currentCustomClickArea = item.ensurePrimaryCustomClickArea();
                         if (!legacyCustomAreaInitialized) {
@@ -378,11 +533,11 @@ public class ItemLoader {
                     inCustomClickAreaSection = true;
                     System.out.println("ItemLoader: Started legacy CustomClickArea block");
                 } else if (inCustomClickAreaSection && currentCustomClickArea != null) {
-                    if (line.equals("--Points:")) {
+                    if (line.is("--Points:")) {
                         // Points section
                     } else if (line.startsWith("---point") && line.contains(":")) {
                         // Parse point: "---point1: x=100, y=200, z=0"
-                        String pointData = line.substring(line.indexOf(":") + 1).trim();
+                        String pointData = line.value(line.indexOf(":") + 1);
                         String[] coords = pointData.split(",");
                         if (coords.length >= 2) {
                             try {
@@ -394,11 +549,11 @@ public class ItemLoader {
                                 System.err.println("Error parsing point: " + line);
                             }
                         }
-                    } else if (line.equals("--Conditions:")) {
+                    } else if (line.is("--Conditions:")) {
                         inConditionsSubSection = true;
                     } else if (inConditionsSubSection && line.startsWith("---")) {
                         // Parse condition: "---lookedAtCupAtBeach = false"
-                        String conditionLine = line.substring(3).trim();
+                        String conditionLine = line.value(3);
                         if (conditionLine.contains("=")) {
                             String[] parts = conditionLine.split("=");
                             if (parts.length == 2) {
@@ -410,7 +565,7 @@ public class ItemLoader {
                         }
                     } else if (line.startsWith("--HoverText:")) {
                         // Parse hover text: "--HoverText: "white cup""
-                        String hoverText = line.substring(12).trim();
+                        String hoverText = line.value(12);
                         if (hoverText.startsWith("\"") && hoverText.endsWith("\"")) {
                             hoverText = hoverText.substring(1, hoverText.length() - 1);
                         }
@@ -425,12 +580,12 @@ public class ItemLoader {
             else if (currentSection.equals("MOVINGRANGES")) {
                 if (line.startsWith("-") && !line.startsWith("--")) {
                     // NEW FORMAT: Parse name reference: "-cup_range"
-                    String rangeName = line.substring(1).trim();
+                    String rangeName = line.value(1);
                     if (item != null && !rangeName.isEmpty()) {
                         item.addMovingRangeName(rangeName);
                         System.out.println("ItemLoader: Added MovingRange reference: " + rangeName);
                     }
-                } else if (line.equals("-MovingRange:")) {
+                } else if (line.is("-MovingRange:")) {
                     // LEGACY FORMAT: Old format with embedded points (for backward compatibility)
                     if (item != null) {
                         currentMovingRange = item.ensurePrimaryMovingRange();
@@ -446,14 +601,14 @@ public class ItemLoader {
                 } else if (inMovingRangeSection && currentMovingRange != null) {
                     // Legacy format continuation
                     if (line.startsWith("--KeyAreaName:")) {
-                        String keyAreaName = line.substring(14).trim();
+                        String keyAreaName = line.value(14);
                         currentMovingRange.setKeyAreaName(keyAreaName);
                         System.out.println("ItemLoader: Set KeyAreaName: " + keyAreaName);
-                    } else if (line.equals("--Conditions:")) {
+                    } else if (line.is("--Conditions:")) {
                         inConditionsSubSection = true;
                     } else if (inConditionsSubSection && line.startsWith("---")) {
                         // Parse condition: "---someCondition = true"
-                        String conditionLine = line.substring(3).trim();
+                        String conditionLine = line.value(3);
                         if (conditionLine.contains("=")) {
                             String[] parts = conditionLine.split("=");
                             if (parts.length == 2) {
@@ -468,7 +623,7 @@ public class ItemLoader {
             }
             
             else if (currentSection.equals("PATHS")) {
-                if (line.equals("-Path:")) {
+                if (line.is("-Path:")) {
                     if (item != null) {
                         currentPath = item.ensurePrimaryPath();
                         if (!legacyPathInitialized) {
@@ -482,14 +637,14 @@ public class ItemLoader {
                     System.out.println("ItemLoader: Started legacy Path block");
                 } else if (inPathSection && currentPath != null) {
                     if (line.startsWith("--KeyAreaName:")) {
-                        String keyAreaName = line.substring(14).trim();
+                        String keyAreaName = line.value(14);
                         currentPath.setKeyAreaName(keyAreaName);
                         System.out.println("ItemLoader: Set KeyAreaName: " + keyAreaName);
-                    } else if (line.equals("--Conditions:")) {
+                    } else if (line.is("--Conditions:")) {
                         inConditionsSubSection = true;
                     } else if (inConditionsSubSection && line.startsWith("---")) {
                         // Parse condition: "---someCondition = true"
-                        String conditionLine = line.substring(3).trim();
+                        String conditionLine = line.value(3);
                         if (conditionLine.contains("=")) {
                             String[] parts = conditionLine.split("=");
                             if (parts.length == 2) {
@@ -504,7 +659,7 @@ public class ItemLoader {
             }
             // Data lines (only single dash, not --, ---, etc.)
             else if (line.startsWith("-") && !line.startsWith("--")) {
-                String value = line.substring(1).trim();
+                String value = line.value(1);
 
                 switch (currentSection) {
                     case "NAME":
@@ -593,10 +748,12 @@ public class ItemLoader {
 
                                 if (key.equals("x")) {
                                     Point pos = item.getPosition();
-                                    item.setPosition(Integer.parseInt(val), pos.y);
+                                    item.setPositionFromFile(Integer.parseInt(val), pos.y);
                                 } else if (key.equals("y")) {
                                     Point pos = item.getPosition();
-                                    item.setPosition(pos.x, Integer.parseInt(val));
+                                    item.setPositionFromFile(pos.x, Integer.parseInt(val));
+                                } else if (key.equals("depth")) {
+                                    item.setDepth(Integer.parseInt(val));
                                 }
                             }
                         }
@@ -632,7 +789,7 @@ public class ItemLoader {
 
                     case "INVENTORY":
                         if (item != null) {
-                            item.setInInventory(Boolean.parseBoolean(value));
+                            item.setInInventoryFromFile(Boolean.parseBoolean(value));
                         }
                         break;
 
@@ -697,7 +854,7 @@ public class ItemLoader {
                 clickAreaX = 0;
                 clickAreaY = 0;
                 System.out.println("ItemLoader: Found ### marker, reset coordinates");
-                continue;
+                return;
             }
             // Sub-sections for MouseHover, ImageConditions, Actions
             // NOTE: This must come AFTER --x and --y checks!
@@ -725,7 +882,7 @@ public class ItemLoader {
             else if (line.startsWith("---") && !line.startsWith("----") && !line.startsWith("---point")) {
                 // Condition/Process line - collect based on actionSubSection
                 // NOTE: Exclude "---point" lines as they are point definitions for MovingRange/Path, not conditions
-                String content = line.substring(3).trim().replace(";", "");
+                String content = line.value(3).replace(";", "");
 
                 if (actionSubSection.equals("IF")) {
                     conditionsIF.add(content);
@@ -747,7 +904,7 @@ public class ItemLoader {
                 currentSubSection = "DISPLAY";
             }
             else if (line.startsWith("----Image:")) {
-                String imagePath = line.substring(10).trim().replace(";", "");
+                String imagePath = line.value(10).replace(";", "");
                 // MIGRATION: Convert legacy ImageConditions to ConditionalImage
                 if (item != null && !pendingConditions.isEmpty() && currentSection.equals("IMAGECONDITIONS")) {
                     // Create ConditionalImage from legacy format
@@ -773,7 +930,7 @@ public class ItemLoader {
                 currentSubSection = "DIALOG";
             }
             else if (line.startsWith("----##load")) {
-                String result = line.substring(4).trim();
+                String result = line.value(4);
                 // Combine all pending conditions with AND
                 if (currentActionHandler != null && !pendingConditions.isEmpty()) {
                     pendingCondition = String.join(" AND ", pendingConditions);
@@ -783,7 +940,7 @@ public class ItemLoader {
                 // Don't clear pendingConditions here - may have multiple results for same conditions
             }
             else if (line.startsWith("----#SetBoolean:")) {
-                String result = line.substring(4).trim();
+                String result = line.value(4);
                 // Combine all pending conditions with AND
                 if (currentActionHandler != null && !pendingConditions.isEmpty()) {
                     pendingCondition = String.join(" AND ", pendingConditions);
@@ -794,7 +951,7 @@ public class ItemLoader {
                 // Don't clear pendingConditions here - may have multiple results for same conditions
             }
             else if (line.startsWith("------")) {
-                String value = line.substring(6).trim();
+                String value = line.value(6);
 
                 if (currentSection.equals("MOUSEHOVER") && currentSubSection.equals("DISPLAY")) {
                     // Hover text - combine all pending conditions with AND
@@ -842,101 +999,5 @@ public class ItemLoader {
                 }
             }
         }
-
-        // Finalize last action if exists (NEW SCHEMA)
-        if (currentActionHandler != null && !conditionsIF.isEmpty()) {
-            String ifCondition = conditionsIF.isEmpty() || conditionsIF.contains("none") ? "none" : String.join(" AND ", conditionsIF);
-            String process = processes.isEmpty() ? "processDefault" : processes.get(0);
-            currentActionHandler.addConditionalResult(ifCondition, "#Dialog:" + process);
-            System.out.println("ItemLoader: Finalized LAST action with IF=" + ifCondition + ", Process=" + process);
-        }
-
-        // Add last conditional image if exists
-        if (currentConditionalImage != null && item != null) {
-            item.addConditionalImage(currentConditionalImage);
-        }
-
-        // Add last custom click area if exists
-        if (currentCustomClickArea != null && item != null) {
-            currentCustomClickArea.updatePolygon(); // Ensure polygon is updated
-            System.out.println("ItemLoader: Finalized last CustomClickArea with " + currentCustomClickArea.getPoints().size() + " points");
-        }
-
-        // Add last moving range if exists
-        if (currentMovingRange != null && item != null) {
-            System.out.println("ItemLoader: Finalized last MovingRange with " + currentMovingRange.getPoints().size() + " points");
-        }
-
-        // Add last path if exists
-        if (currentPath != null && item != null) {
-            System.out.println("ItemLoader: Finalized last Path with " + currentPath.getPoints().size() + " points");
-        }
-
-        reader.close();
-
-        if (item == null) {
-            throw new IOException("Invalid item file format - no name found");
-        }
-
-        // Ensure only one point container per type
-        item.consolidatePointContainers();
-
-        // Create or update isInInventory condition for this item (runtime only, not saved to conditions.txt)
-        String inventoryConditionName = "isInInventory_" + item.getName();
-        if (!Conditions.conditionExists(inventoryConditionName)) {
-            Conditions.addConditionRuntimeOnly(inventoryConditionName, item.isInInventory());
-            System.out.println("Created runtime condition: " + inventoryConditionName + " = " + item.isInInventory());
-        } else {
-            // Update condition with loaded value
-            Conditions.setCondition(inventoryConditionName, item.isInInventory());
-            System.out.println("Updated condition: " + inventoryConditionName + " = " + item.isInInventory());
-        }
-
-        // Update polygon if custom points were loaded (NEW SYSTEM: CustomClickArea)
-        if (item.hasCustomClickArea() || !item.getCustomClickAreas().isEmpty()) {
-            System.out.println("Loaded Custom Click Area for Item: " + item.getName());
-            for (CustomClickArea area : item.getCustomClickAreas()) {
-                area.updatePolygon();
-                System.out.println("  CustomClickArea with " + area.getPoints().size() + " points");
-            }
-        } else {
-            System.out.println("Loaded item: " + item.getName());
-        }
-
-        System.out.println("Final item hover display conditions size: " + item.getHoverDisplayConditions().size());
-        for (java.util.Map.Entry<String, String> entry : item.getHoverDisplayConditions().entrySet()) {
-            System.out.println("  " + entry.getKey() + " -> " + entry.getValue());
-        }
-
-        return item;
-    }
-
-    /**
-     * Load item from DEFAULT file: resources/items/[itemName].txt
-     * Use this in EDITOR MODE and as fallback in GAMING MODE
-     * This is the DEFAULT version of the item
-     */
-    public static Item loadItemByName(String itemName) throws IOException {
-        String filename = ResourcePathHelper.resolvePath("items/" + itemName + ".txt");
-        System.out.println("✓ Loading item from DEFAULT: " + filename);
-        return loadItem(filename);
-    }
-
-    /**
-     * @deprecated Use loadItemByName() instead - <name>.txt is now the DEFAULT
-     */
-    @Deprecated
-    public static Item loadItemFromDefault(String itemName) throws IOException {
-        return loadItemByName(itemName);
-    }
-
-    /**
-     * @deprecated Progress is now managed differently - _progress.txt files are no longer used
-     */
-    @Deprecated
-    public static Item loadItemFromProgress(String itemName) throws IOException {
-        System.out.println("⚠️  WARNING: loadItemFromProgress() is deprecated - Progress is managed differently now");
-        // Fall back to loading from default file
-        return loadItemByName(itemName);
     }
 }
@@ -0,0 +1,83 @@
+package main;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Parsed item definitions shared by all scenes.
+ *
+ * An item file is parsed once; every scene that lists the item gets an
+ * instance (Item.createInstance) that shares the parsed images, conditions,
+ * click areas, paths and actions and has its own position, size, visibility
+ * and orientation. An instance copies the shared parts on its first edit.
+ * Definitions are re-parsed when the file changes (timestamp/size or
+ * ResourceMonitor event).
+ *
+ * The registry is only used in gaming mode: while the editor is open
+ * (auto-save disabled) every scene gets freshly parsed items from ItemLoader.
+ */
+public class ItemRegistry {
+
+    /**
+     * Parsed item file and the file state it was parsed from
+     */
+    private static class Definition {
+        private final Item template;
+        private final long lastModified;
+        private final long length;
+
+        Definition(Item template, long lastModified, long length) {
+            this.template = template;
+            this.lastModified = lastModified;
+            this.length = length;
+        }
+    }
+
+    private static final Map<String, Definition> definitions = new ConcurrentHashMap<>();
+
+    static {
+        ResourceMonitor.addListener(ResourceMonitor.ResourceType.ITEM, event -> {
+            if (event.getKind() == ResourceMonitor.ChangeKind.OVERFLOW) {
+                definitions.clear();
+            } else {
+                definitions.remove(event.getBaseName());
+            }
+        });
+    }
+
+    /**
+     * Returns a scene instance of an item
+     */
+    public static Item getInstance(String itemName) throws IOException {
+        if (!AutoSaveManager.isEnabled()) {
+            return ItemLoader.loadItemByName(itemName);
+        }
+
+        File file = new File(ResourcePathHelper.resolvePath("items/" + itemName + ".txt"));
+        long lastModified = file.lastModified();
+        long length = file.length();
+
+        Definition definition = definitions.get(itemName);
+        if (definition == null || definition.lastModified != lastModified || definition.length != length) {
+            definition = new Definition(ItemLoader.loadItemByName(itemName), lastModified, length);
+            definitions.put(itemName, definition);
+        }
+        return definition.template.createInstance();
+    }
+
+    /**
+     * Number of parsed definitions
+     */
+    public static int size() {
+        return definitions.size();
+    }
+
+    /**
+     * Removes all definitions
+     */
+    public static void clear() {
+        definitions.clear();
+    }
+}
@@ -2,10 +2,11 @@ package main;
 
 import java.io.BufferedWriter;
 import java.io.File;
-import java.io.FileWriter;
 import java.io.IOException;
+import java.io.StringWriter;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
 
 /**
  * Saves items to .txt files in resources/items/
@@ -16,7 +17,9 @@ public class ItemSaver {
         File file = new File(filename);
         file.getParentFile().mkdirs(); // Create directories if needed
 
-        BufferedWriter writer = new BufferedWriter(new FileWriter(file));
+        // Serialize into the reusable buffer, then write only if the content changed
+        StringWriter buffer = ResourceFileWriter.buffer();
+        BufferedWriter writer = new BufferedWriter(buffer);
 
         // Name
         writer.write("#Name:\n");
@@ -25,8 +28,8 @@ public class ItemSaver {
         // MIGRATION: Write ConditionalImages instead of legacy ImagePath
         // For backward compatibility, still write ImagePath from first ConditionalImage
         String primaryImagePath = "";
-        if (!item.getConditionalImages().isEmpty()) {
-            primaryImagePath = item.getConditionalImages().get(0).getImagePath();
+        if (!item.getConditionalImagesView().isEmpty()) {
+            primaryImagePath = item.getConditionalImagesView().get(0).getImagePath();
         } else if (item.getImageFilePath() != null && !item.getImageFilePath().isEmpty()) {
             // Fallback to legacy field during transition
             primaryImagePath = item.getImageFilePath();
@@ -62,10 +65,24 @@ public class ItemSaver {
         writer.write("#ImagePathBottomRight:\n");
         writer.write("-" + (item.getImagePathBottomRight() != null ? item.getImagePathBottomRight() : "") + "\n\n");
 
+        // Sprite sheet animations (orientation or Default)
+        if (!item.getSpriteSheets().isEmpty()) {
+            writer.write("#SpriteSheets:\n");
+            for (Map.Entry<String, SpriteSheet> entry : new TreeMap<>(item.getSpriteSheets()).entrySet()) {
+                SpriteSheet sheet = entry.getValue();
+                writer.write("-" + entry.getKey() + "\n");
+                writer.write("--Path: " + sheet.getImagePath() + "\n");
+                writer.write("--Frames: " + sheet.getFrameCount() + "\n");
+                writer.write("--Columns: " + sheet.getColumns() + "\n");
+                writer.write("--FrameMillis: " + sheet.getFrameMillis() + "\n");
+            }
+            writer.write("\n");
+        }
+
         // MIGRATION: Save ConditionalImages (NEW SYSTEM)
-        if (!item.getConditionalImages().isEmpty()) {
+        if (!item.getConditionalImagesView().isEmpty()) {
             writer.write("#ConditionalImages:\n");
-            for (ConditionalImage img : item.getConditionalImages()) {
+            for (ConditionalImage img : item.getConditionalImagesView()) {
                 writer.write("-" + img.getName() + "\n");
                 writer.write("--Path: " + img.getImagePath() + "\n");
                 writer.write("--ShowIfTrue: " + img.isShowIfTrue() + "\n");
@@ -85,7 +102,11 @@ public class ItemSaver {
         writer.write("#Position:\n");
         writer.write("-x = " + item.getPosition().x + ";\n");
         writer.write("-y = " + item.getPosition().y + ";\n");
-        writer.write("-z = 1;\n\n");
+        writer.write("-z = 1;\n");
+        if (item.getDepth() != null) {
+            writer.write("-depth = " + item.getDepth() + ";\n");
+        }
+        writer.write("\n");
 
         // Size
         writer.write("#Size:\n");
@@ -284,6 +305,11 @@ public class ItemSaver {
 		}
 
         writer.close();
+        if (!ResourceFileWriter.write(file, buffer.getBuffer())) {
+            System.out.println("Item unchanged, not saved: " + item.getName());
+            return;
+        }
+        ResourceIndex.fileChanged(file);
         System.out.println("Saved item: " + item.getName() + " to " + filename);
     }
 
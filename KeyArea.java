@@ -5,6 +5,7 @@ import java.awt.Polygon;
 import java.awt.Rectangle;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -162,6 +163,12 @@ public class KeyArea {
             return true;
         }
 
+        // Pre-parsed in the project pack - no string splitting per evaluation
+        ProjectPack.ConditionExpression expression = ProjectPack.getExpression(condition);
+        if (expression != null) {
+            return expression.evaluate();
+        }
+
         // Support AND operator: "condition1 = value AND condition2 = value"
         if (condition.contains(" AND ")) {
             String[] parts = condition.split(" AND ");
@@ -216,6 +223,15 @@ public class KeyArea {
         public Map<String, String> getConditionalResults() {
             return conditionalResults;
         }
+
+        /**
+         * Creates a deep copy of this ActionHandler (same result order)
+         */
+        public ActionHandler copy() {
+            ActionHandler copy = new ActionHandler();
+            copy.conditionalResults = new LinkedHashMap<>(conditionalResults);
+            return copy;
+        }
         
         public String execute(GameProgress progress) {
             // Check conditions in order
@@ -234,6 +250,12 @@ public class KeyArea {
                 return true;
             }
 
+            // Pre-parsed in the project pack - no string splitting per evaluation
+            ProjectPack.ConditionExpression expression = ProjectPack.getExpression(condition);
+            if (expression != null) {
+                return expression.evaluate();
+            }
+
             // Support AND operator: "condition1 = value AND condition2 = value"
             if (condition.contains(" AND ")) {
                 String[] parts = condition.split(" AND ");
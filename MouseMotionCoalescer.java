@@ -0,0 +1,76 @@
+package main;
+
+import java.awt.Point;
+import java.util.function.Consumer;
+
+import javax.swing.Timer;
+
+/**
+ * Collapses mouse motion to one update per frame.
+ *
+ * Mouse listeners only store the latest moved/dragged position; a one-shot
+ * Swing timer hands it to the handlers once per frame. So hover resolution,
+ * polygon updates and editor live updates run at frame rate, not at the
+ * polling rate of the mouse (several hundred events per second).
+ *
+ * Everything runs on the EDT. Call flush() before press/release so a
+ * pending drag position is applied before the button state changes.
+ */
+public class MouseMotionCoalescer {
+
+    private final Timer timer;
+    private final Consumer<Point> moveHandler;
+    private final Consumer<Point> dragHandler;
+    private Point pendingMove;
+    private Point pendingDrag;
+
+    /**
+     * @param frameMillis maximum delay of an update (16 = ~60 FPS)
+     */
+    public MouseMotionCoalescer(int frameMillis, Consumer<Point> moveHandler, Consumer<Point> dragHandler) {
+        this.moveHandler = moveHandler;
+        this.dragHandler = dragHandler;
+        this.timer = new Timer(frameMillis, e -> flush());
+        this.timer.setRepeats(false);
+    }
+
+    /**
+     * Mouse moved without button: replaces any pending move
+     */
+    public void moved(Point point) {
+        pendingMove = point;
+        schedule();
+    }
+
+    /**
+     * Mouse dragged: replaces any pending drag
+     */
+    public void dragged(Point point) {
+        pendingDrag = point;
+        schedule();
+    }
+
+    /**
+     * Applies pending positions now
+     */
+    public void flush() {
+        timer.stop();
+        Point drag = pendingDrag;
+        Point move = pendingMove;
+        pendingDrag = null;
+        pendingMove = null;
+
+        if (drag != null) {
+            dragHandler.accept(drag);
+        }
+        if (move != null) {
+            moveHandler.accept(move);
+        }
+    }
+
+    private void schedule() {
+        if (!timer.isRunning()) {
+            timer.start();
+        }
+    }
+}
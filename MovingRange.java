@@ -1,8 +1,10 @@
 package main;
 
 import java.awt.Point;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Represents a moving range for an item with Points and conditions.
@@ -13,6 +15,9 @@ public class MovingRange extends CustomClickArea {
 
     private String name;
 
+    // Perspective scale ("z") of sprites standing at a point, by point identity; default 1
+    private final Map<Point, Float> scales = new IdentityHashMap<>();
+
     public MovingRange() {
         super();
     }
@@ -56,6 +61,100 @@ public class MovingRange extends CustomClickArea {
 
     // shouldBeActive() is inherited from CustomClickArea
 
+    /**
+     * Sprite scale at a point of this range (the point's z value)
+     */
+    public float getScale(Point point) {
+        Float scale = scales.get(point);
+        return scale != null ? scale : 1f;
+    }
+
+    public void setScale(Point point, float scale) {
+        if (scale == 1f) {
+            scales.remove(point);
+        } else {
+            scales.put(point, scale);
+        }
+    }
+
+    /**
+     * True if any point scales sprites (z != 1)
+     */
+    public boolean hasPerspective() {
+        if (scales.isEmpty()) {
+            return false;
+        }
+        for (Point point : getPoints()) {
+            if (scales.containsKey(point)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Sprite scale at a position, interpolated from the point z values:
+     * along the edges crossing the horizontal line through y, then between
+     * the nearest crossings left and right of x. y is clamped to the range.
+     */
+    public float scaleAt(int x, int y) {
+        List<Point> points = getPoints();
+        int n = points.size();
+        if (n == 0) {
+            return 1f;
+        }
+        if (n == 1) {
+            return getScale(points.get(0));
+        }
+
+        int minY = Integer.MAX_VALUE;
+        int maxY = Integer.MIN_VALUE;
+        for (Point point : points) {
+            minY = Math.min(minY, point.y);
+            maxY = Math.max(maxY, point.y);
+        }
+        double lineY = Math.max(minY, Math.min(maxY, y));
+
+        double leftX = Double.NEGATIVE_INFINITY;
+        double rightX = Double.POSITIVE_INFINITY;
+        float leftScale = 1f;
+        float rightScale = 1f;
+        double nearestDistance = Double.POSITIVE_INFINITY;
+        float nearestScale = 1f;
+        for (int i = 0; i < n; i++) {
+            Point a = points.get(i);
+            Point b = points.get((i + 1) % n);
+            if (lineY < Math.min(a.y, b.y) || lineY > Math.max(a.y, b.y)) {
+                continue;
+            }
+            double t = a.y == b.y ? 0 : (lineY - a.y) / (b.y - a.y);
+            double crossX = a.x + t * (b.x - a.x);
+            float crossScale = (float) (getScale(a) + t * (getScale(b) - getScale(a)));
+
+            if (crossX <= x && crossX > leftX) {
+                leftX = crossX;
+                leftScale = crossScale;
+            }
+            if (crossX >= x && crossX < rightX) {
+                rightX = crossX;
+                rightScale = crossScale;
+            }
+            if (Math.abs(crossX - x) < nearestDistance) {
+                nearestDistance = Math.abs(crossX - x);
+                nearestScale = crossScale;
+            }
+        }
+
+        if (leftX == Double.NEGATIVE_INFINITY || rightX == Double.POSITIVE_INFINITY) {
+            // Left or right of the range
+            return nearestScale;
+        }
+        if (rightX == leftX) {
+            return leftScale;
+        }
+        return (float) (leftScale + (x - leftX) / (rightX - leftX) * (rightScale - leftScale));
+    }
+
     /**
      * Creates a deep copy of this MovingRange.
      */
@@ -63,7 +162,9 @@ public class MovingRange extends CustomClickArea {
         MovingRange copy = new MovingRange();
         // Deep copy points
         for (Point p : this.getPoints()) {
-            copy.addPoint(p.x, p.y);
+            Point pointCopy = new Point(p);
+            copy.addPoint(pointCopy);
+            copy.setScale(pointCopy, getScale(p));
         }
         // Copy conditions
         copy.setConditions(new LinkedHashMap<>(this.getConditions()));
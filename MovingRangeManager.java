@@ -1,28 +1,189 @@
 package main;
 
 import java.awt.Point;
-import java.io.BufferedReader;
 import java.io.BufferedWriter;
 import java.io.File;
-import java.io.FileReader;
-import java.io.FileWriter;
 import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.CharBuffer;
 import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.swing.SwingUtilities;
 
 /**
  * Manages MovingRange objects - stores in resources/movingranges/
  * Each MovingRange is stored in a separate file: movingranges/[name].txt
+ *
+ * The MovingRange instances handed out are stable handles: reloads and saves
+ * update them in place, so Items may keep them after the first lookup. Files
+ * are read on the calling (monitor) thread, but a reload changes an existing
+ * instance only on the EDT, where it is painted and hit-tested. The
+ * generation changes whenever a name maps to a different instance (created,
+ * deleted, renamed); Items re-resolve their names only then.
+ *
+ * The content last saved or loaded is remembered per range. File events for
+ * a file that still holds it (our own saves, touches) are ignored, so they
+ * never replace newer edits of the cached instance.
  */
 public class MovingRangeManager {
     private static final String FOLDER = ResourcePathHelper.resolvePath("movingranges") + "/";
-    private static Map<String, MovingRange> cache = new LinkedHashMap<>();
+    private static final Map<String, MovingRange> cache = new ConcurrentHashMap<>();
+    private static final AtomicInteger generation = new AtomicInteger();
+    private static final List<MovingRangeListener> listeners = new CopyOnWriteArrayList<>();
+    // name -> file content last written by save() or parsed by load()
+    private static final Map<String, String> knownContents = new ConcurrentHashMap<>();
+
+    /**
+     * Listener for changed range contents (saved or reloaded from disk)
+     */
+    public interface MovingRangeListener {
+        void onMovingRangeChanged(MovingRange range);
+    }
+
+    // Ranges are loaded on first use: get() reads single files, listing loads the rest
+    private static volatile boolean allLoaded = false;
 
     static {
         ensureFolderExists();
-        loadAll();
+        ResourceMonitor.addListener(ResourceMonitor.ResourceType.MOVING_RANGE, MovingRangeManager::onFileChanged);
+    }
+
+    /**
+     * Keeps the cache in sync with range files changed on disk.
+     * Existing instances are updated in place so items and editors holding them stay valid.
+     */
+    private static void onFileChanged(ResourceMonitor.ResourceChangeEvent event) {
+        if (event.getKind() == ResourceMonitor.ChangeKind.OVERFLOW) {
+            loadAll();
+            return;
+        }
+
+        String name = event.getBaseName();
+        if (event.getKind() == ResourceMonitor.ChangeKind.DELETED) {
+            knownContents.remove(name);
+            if (cache.remove(name) != null) {
+                generation.incrementAndGet();
+            }
+            return;
+        }
+
+        reload(name);
+    }
+
+    /**
+     * Loads a range file into the cache unless it still holds the content last
+     * saved or loaded for the cached instance
+     * @return false if the file could not be read or parsed
+     */
+    private static boolean reload(String name) {
+        MovingRange existing = cache.get(name);
+        if (existing != null) {
+            String known = knownContents.get(name);
+            try {
+                if (known != null && known.contentEquals(ProjectPack.readChars(new File(FOLDER + name + ".txt")))) {
+                    return true;
+                }
+            } catch (IOException e) {
+                System.err.println("MovingRangeManager: Error reading " + name + ": " + e.getMessage());
+                return false;
+            }
+        }
+
+        MovingRange loaded = load(name);
+        if (loaded == null) {
+            return false;
+        }
+        if (existing != null) {
+            applyReloaded(existing, loaded);
+        } else {
+            cache.put(name, loaded);
+            generation.incrementAndGet();
+        }
+        return true;
+    }
+
+    /**
+     * Copies a reloaded range into the cached instance on the EDT.
+     * The point list and its Point objects are kept (editors and the selected
+     * path point hold them); only their coordinates and scales change.
+     */
+    private static void applyReloaded(MovingRange existing, MovingRange loaded) {
+        Runnable apply = () -> {
+            List<Point> points = existing.getPoints();
+            if (points == null) {
+                points = new ArrayList<>();
+                existing.setPoints(points);
+            }
+            List<Point> loadedPoints = loaded.getPoints();
+            for (int i = 0; i < loadedPoints.size(); i++) {
+                Point source = loadedPoints.get(i);
+                Point target;
+                if (i < points.size()) {
+                    target = points.get(i);
+                    target.setLocation(source);
+                } else {
+                    target = new Point(source);
+                    points.add(target);
+                }
+                existing.setScale(target, loaded.getScale(source));
+            }
+            while (points.size() > loadedPoints.size()) {
+                existing.setScale(points.remove(points.size() - 1), 1f);
+            }
+
+            Map<String, Boolean> conditions = existing.getConditions();
+            if (conditions != null) {
+                conditions.clear();
+                conditions.putAll(loaded.getConditions());
+            } else {
+                existing.setConditions(loaded.getConditions());
+            }
+            existing.updatePolygon();
+            fireChanged(existing);
+        };
+        if (SwingUtilities.isEventDispatchThread()) {
+            apply.run();
+        } else {
+            SwingUtilities.invokeLater(apply);
+        }
+    }
+
+    /**
+     * Subscribes to saved or reloaded ranges (called on the saving thread, reloads on the EDT)
+     */
+    public static void addListener(MovingRangeListener listener) {
+        if (listener != null) {
+            listeners.add(listener);
+        }
+    }
+
+    public static void removeListener(MovingRangeListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Changes whenever a name is bound to another instance (or unbound)
+     */
+    public static int getGeneration() {
+        return generation.get();
+    }
+
+    private static void fireChanged(MovingRange range) {
+        for (MovingRangeListener listener : listeners) {
+            try {
+                listener.onMovingRangeChanged(range);
+            } catch (Exception e) {
+                System.err.println("MovingRangeManager: Listener failed for " + range.getName() + ": " + e.getMessage());
+            }
+        }
     }
 
     /**
@@ -37,14 +198,18 @@ public class MovingRangeManager {
     }
 
     /**
-     * Loads all MovingRanges from the folder
+     * Reloads all MovingRanges from the folder.
+     * Cached instances are updated in place; ranges without file are dropped.
      */
     public static void loadAll() {
-        cache.clear();
-
         File folder = new File(FOLDER);
         if (!folder.exists() || !folder.isDirectory()) {
             System.out.println("MovingRangeManager: Folder does not exist: " + FOLDER);
+            knownContents.clear();
+            if (!cache.isEmpty()) {
+                cache.clear();
+                generation.incrementAndGet();
+            }
             return;
         }
 
@@ -53,21 +218,49 @@ public class MovingRangeManager {
             return;
         }
 
+        List<String> names = new ArrayList<>();
         for (File file : files) {
             try {
                 String name = file.getName().replace(".txt", "");
-                MovingRange range = load(name);
-                if (range != null) {
-                    cache.put(name, range);
+                if (reload(name)) {
+                    names.add(name);
                 }
             } catch (Exception e) {
                 System.err.println("MovingRangeManager: Failed to load " + file.getName() + ": " + e.getMessage());
             }
         }
+        knownContents.keySet().retainAll(names);
+        if (cache.keySet().retainAll(names)) {
+            generation.incrementAndGet();
+        }
 
+        allLoaded = true;
         System.out.println("MovingRangeManager: Loaded " + cache.size() + " MovingRanges");
     }
 
+    /**
+     * Loads all ranges that are not cached yet (keeps cached instances).
+     * Safe to call from several threads: the folder is listed once.
+     */
+    private static void ensureAllLoaded() {
+        if (allLoaded) {
+            return;
+        }
+        synchronized (MovingRangeManager.class) {
+            if (allLoaded) {
+                return;
+            }
+
+            File[] files = new File(FOLDER).listFiles((dir, name) -> name.endsWith(".txt"));
+            if (files != null) {
+                for (File file : files) {
+                    get(file.getName().replace(".txt", ""));
+                }
+            }
+            allLoaded = true;
+        }
+    }
+
     /**
      * Loads a single MovingRange by name
      */
@@ -77,37 +270,30 @@ public class MovingRangeManager {
         }
 
         File file = new File(FOLDER + name + ".txt");
-        if (!file.exists()) {
+        if (!ProjectPack.exists(file)) {
             System.err.println("MovingRangeManager: File not found: " + file.getPath());
             return null;
         }
 
-        try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
+        try {
+            CharBuffer chars = ProjectPack.readChars(file);
+            String content = chars.toString();
             MovingRange range = null;
-            String line;
-            String currentSection = "";
             List<Point> points = new ArrayList<>();
+            Map<Point, Float> scales = new IdentityHashMap<>();
             Map<String, Boolean> conditions = new LinkedHashMap<>();
 
-            while ((line = reader.readLine()) != null) {
-                String trimmed = line.trim();
-
-                if (trimmed.isEmpty() || trimmed.startsWith("#")) {
-                    if (trimmed.startsWith("#Name:")) {
-                        // Already have name
-                    } else if (trimmed.equals("#Points:")) {
-                        currentSection = "POINTS";
-                    } else if (trimmed.equals("#Conditions:")) {
-                        currentSection = "CONDITIONS";
-                    }
-                    continue;
-                }
-
-                if (currentSection.equals("POINTS") && trimmed.startsWith("-point")) {
+            ResourceTokenizer tokenizer = new ResourceTokenizer();
+            tokenizer.on("Name", token -> {
+                // Already have name
+            });
+            tokenizer.on("Points", token -> {
+                if (token.startsWith("-point")) {
                     // Parse: -point1: x=100, y=200, z=1
-                    String coordPart = trimmed.substring(trimmed.indexOf(":") + 1).trim();
+                    String coordPart = token.value(token.indexOf(":") + 1);
                     String[] coords = coordPart.split(",");
                     int x = 0, y = 0;
+                    float z = 1f;
 
                     for (String coord : coords) {
                         coord = coord.trim();
@@ -115,15 +301,22 @@ public class MovingRangeManager {
                             x = Integer.parseInt(coord.substring(2).trim());
                         } else if (coord.startsWith("y=")) {
                             y = Integer.parseInt(coord.substring(2).trim());
+                        } else if (coord.startsWith("z=")) {
+                            z = Float.parseFloat(coord.substring(2).trim());
                         }
                     }
 
-                    points.add(new Point(x, y));
+                    Point point = new Point(x, y);
+                    points.add(point);
+                    if (z != 1f) {
+                        scales.put(point, z);
+                    }
                 }
-
-                if (currentSection.equals("CONDITIONS") && trimmed.startsWith("-")) {
+            });
+            tokenizer.on("Conditions", token -> {
+                if (token.startsWith("-")) {
                     // Parse: -hasLighter = true
-                    String conditionLine = trimmed.substring(1).trim();
+                    String conditionLine = token.value(1);
                     if (conditionLine.contains("=")) {
                         String[] parts = conditionLine.split("=");
                         if (parts.length == 2) {
@@ -133,12 +326,17 @@ public class MovingRangeManager {
                         }
                     }
                 }
-            }
+            });
+            tokenizer.parse(chars, file.getPath());
 
             // Create MovingRange
             range = new MovingRange(name, points);
+            for (Map.Entry<Point, Float> entry : scales.entrySet()) {
+                range.setScale(entry.getKey(), entry.getValue());
+            }
             range.setConditions(conditions);
             range.updatePolygon();
+            knownContents.put(name, content);
 
             System.out.println("MovingRangeManager: Loaded " + name + " with " + points.size() + " points");
             return range;
@@ -150,6 +348,16 @@ public class MovingRangeManager {
         }
     }
 
+    /**
+     * z value as written to the file ("1", "0.75")
+     */
+    private static String formatScale(float scale) {
+        if (scale == Math.rint(scale)) {
+            return String.valueOf((int) scale);
+        }
+        return String.valueOf(scale);
+    }
+
     /**
      * Saves a MovingRange to its file
      */
@@ -161,7 +369,9 @@ public class MovingRangeManager {
 
         String filename = FOLDER + range.getName() + ".txt";
 
-        try (BufferedWriter writer = new BufferedWriter(new FileWriter(filename))) {
+        // Serialize into the reusable buffer, then write only if the content changed
+        StringWriter buffer = ResourceFileWriter.buffer();
+        try (BufferedWriter writer = new BufferedWriter(buffer)) {
             writer.write("#Name:\n");
             writer.write("-" + range.getName() + "\n\n");
 
@@ -170,7 +380,7 @@ public class MovingRangeManager {
             if (points != null) {
                 for (int i = 0; i < points.size(); i++) {
                     Point p = points.get(i);
-                    writer.write("-point" + (i + 1) + ": x=" + p.x + ", y=" + p.y + ", z=1\n");
+                    writer.write("-point" + (i + 1) + ": x=" + p.x + ", y=" + p.y + ", z=" + formatScale(range.getScale(p)) + "\n");
                 }
             }
             writer.write("\n");
@@ -185,12 +395,24 @@ public class MovingRangeManager {
                 writer.write("\n");
             }
 
-            System.out.println("MovingRangeManager: Saved " + range.getName() + " to " + filename);
+            writer.flush();
+            // Known before the write, so the monitor event of this save is ignored
+            knownContents.put(range.getName(), buffer.toString());
+            if (ResourceFileWriter.write(new File(filename), buffer.getBuffer())) {
+                System.out.println("MovingRangeManager: Saved " + range.getName() + " to " + filename);
+            } else {
+                System.out.println("MovingRangeManager: " + range.getName() + " unchanged, not saved");
+            }
 
         } catch (IOException e) {
             System.err.println("MovingRangeManager: Error saving " + range.getName() + ": " + e.getMessage());
             e.printStackTrace();
+            return;
         }
+
+        // Holders of the instance rebuild what they derived from its points
+        range.updatePolygon();
+        fireChanged(range);
     }
 
     /**
@@ -199,46 +421,61 @@ public class MovingRangeManager {
     public static MovingRange create(String name) {
         MovingRange range = new MovingRange(name);
         cache.put(name, range);
+        generation.incrementAndGet();
         save(range);
         return range;
     }
 
     /**
-     * Gets a MovingRange by name (from cache or loads from file)
+     * Gets a MovingRange by name (from cache or loads its file)
      */
     public static MovingRange get(String name) {
-        if (cache.containsKey(name)) {
-            return cache.get(name);
+        if (name == null) {
+            return null;
+        }
+        MovingRange range = cache.get(name);
+        if (range != null) {
+            return range;
         }
 
-        // Try loading from file
-        MovingRange range = load(name);
+        // Try loading from file; another thread may have loaded it meanwhile
+        range = load(name);
         if (range != null) {
-            cache.put(name, range);
+            MovingRange existing = cache.putIfAbsent(name, range);
+            if (existing != null) {
+                return existing;
+            }
+            generation.incrementAndGet();
         }
         return range;
     }
 
     /**
-     * Gets all available MovingRange names
+     * Gets all available MovingRange names (sorted)
      */
     public static List<String> getAvailableNames() {
-        return new ArrayList<>(cache.keySet());
+        ensureAllLoaded();
+        return new ArrayList<>(new TreeMap<>(cache).keySet());
     }
 
     /**
-     * Gets all MovingRanges
+     * Gets all MovingRanges (sorted by name)
      */
     public static Map<String, MovingRange> getAll() {
-        return new LinkedHashMap<>(cache);
+        ensureAllLoaded();
+        return new LinkedHashMap<>(new TreeMap<>(cache));
     }
 
     /**
      * Deletes a MovingRange
      */
     public static boolean delete(String name) {
-        if (cache.containsKey(name)) {
-            cache.remove(name);
+        if (name == null) {
+            return false;
+        }
+        knownContents.remove(name);
+        if (cache.remove(name) != null) {
+            generation.incrementAndGet();
         }
 
         File file = new File(FOLDER + name + ".txt");
@@ -257,6 +494,9 @@ public class MovingRangeManager {
      * Checks if a MovingRange exists
      */
     public static boolean exists(String name) {
+        if (name == null) {
+            return false;
+        }
         return cache.containsKey(name) || new File(FOLDER + name + ".txt").exists();
     }
 
@@ -268,11 +508,11 @@ public class MovingRangeManager {
             return false;
         }
 
-        if (!cache.containsKey(oldName)) {
+        MovingRange range = get(oldName);
+        if (range == null) {
             return false;
         }
 
-        MovingRange range = cache.get(oldName);
         range.setName(newName);
 
         // Delete old file
@@ -284,6 +524,7 @@ public class MovingRangeManager {
         // Update cache
         cache.remove(oldName);
         cache.put(newName, range);
+        generation.incrementAndGet();
 
         return true;
     }
@@ -398,6 +398,7 @@ public class NewActionsEditorDialog extends JDialog {
             // Write back to file
             actionsFile.getParentFile().mkdirs();
             Files.write(actionsFile.toPath(), lines);
+            ResourceIndex.fileChanged(actionsFile);
 
             System.out.println("File saved successfully with " + lines.size() + " total lines");
             System.out.println("=== SAVE COMPLETE ===");
@@ -1,6 +1,7 @@
 package main;
 
 import java.awt.Point;
+import java.util.LinkedHashMap;
 import java.util.List;
 
 /**
@@ -19,6 +20,23 @@ public class Path extends CustomClickArea {
         updatePolygon();
     }
 
+    /**
+     * Creates a deep copy of this Path.
+     */
+    @Override
+    public Path copy() {
+        Path copy = new Path();
+        copy.setHoverText(getHoverText());
+        copy.setConditions(new LinkedHashMap<>(getConditions()));
+
+        // Deep copy points
+        for (Point p : getPoints()) {
+            copy.addPoint(p.x, p.y);
+        }
+
+        return copy;
+    }
+
     // Legacy support - deprecated
     @Deprecated
     public void setKeyAreaName(String keyAreaName) {
@@ -0,0 +1,293 @@
+package main;
+
+import java.awt.Point;
+import java.awt.Polygon;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Uniform grid over the editable point handles of a scene (click areas,
+ * moving ranges, paths, key areas) for the editor's point picking.
+ *
+ * A press only looks at the grid cells around the click instead of every
+ * point of every item. The index is rebuilt when the containers change
+ * (other scene, points added/removed, new polygon) and updated in place
+ * while a point is dragged.
+ *
+ * Handles are returned in the same priority as the old linear search:
+ * first by kind, then in scene order.
+ */
+public class PointHandleIndex {
+
+    /**
+     * Handle kinds in pick priority
+     */
+    public enum Kind {
+        CUSTOM_CLICK_AREA, CLICK_AREA, MOVING_RANGE, ITEM_PATH, KEY_AREA, SCENE_PATH
+    }
+
+    /**
+     * One point handle
+     */
+    public static class Handle {
+        private final Kind kind;
+        private final Item item;
+        private final Object container;
+        private final int index;
+        private final Point point;
+        private final int order;
+        private int cellX;
+        private int cellY;
+
+        Handle(Kind kind, Item item, Object container, int index, Point point, int order) {
+            this.kind = kind;
+            this.item = item;
+            this.container = container;
+            this.index = index;
+            this.point = point;
+            this.order = order;
+        }
+
+        public Kind getKind() {
+            return kind;
+        }
+
+        /**
+         * Owning item, null for key areas and scene paths
+         */
+        public Item getItem() {
+            return item;
+        }
+
+        /**
+         * CustomClickArea, MovingRange, Path or KeyArea; null for the item click area
+         */
+        public Object getContainer() {
+            return container;
+        }
+
+        public int getIndex() {
+            return index;
+        }
+
+        public Point getPoint() {
+            return point;
+        }
+    }
+
+    private static final int CELL_SIZE = 32;
+
+    private final Map<Long, List<Handle>> cells = new HashMap<>();
+    private Scene scene;
+    private long stamp;
+    private int order;
+
+    /**
+     * Returns the handle nearest in pick priority within radius of a point
+     * @param accept filter applied to candidates (visibility, active conditions)
+     * @return the handle or null
+     */
+    public Handle find(Scene currentScene, Point point, int radius, Predicate<Handle> accept) {
+        if (currentScene == null) {
+            return null;
+        }
+        long currentStamp = stampOf(currentScene);
+        if (currentScene != scene || currentStamp != stamp) {
+            rebuild(currentScene);
+            stamp = currentStamp;
+        }
+
+        long radiusSquared = (long) radius * radius;
+        Handle best = null;
+        for (int cy = cell(point.y - radius); cy <= cell(point.y + radius); cy++) {
+            for (int cx = cell(point.x - radius); cx <= cell(point.x + radius); cx++) {
+                List<Handle> handles = cells.get(key(cx, cy));
+                if (handles == null) {
+                    continue;
+                }
+                for (Handle handle : handles) {
+                    long dx = handle.point.x - point.x;
+                    long dy = handle.point.y - point.y;
+                    if (dx * dx + dy * dy >= radiusSquared) {
+                        continue;
+                    }
+                    if (best != null && !isBefore(handle, best)) {
+                        continue;
+                    }
+                    if (accept.test(handle)) {
+                        best = handle;
+                    }
+                }
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Moves the handle of a point that was dragged from (oldX, oldY) to its current position
+     */
+    public void moved(Point point, int oldX, int oldY) {
+        if (scene == null) {
+            return;
+        }
+        List<Handle> handles = cells.get(key(cell(oldX), cell(oldY)));
+        if (handles != null) {
+            for (int i = 0; i < handles.size(); i++) {
+                Handle handle = handles.get(i);
+                if (handle.point == point) {
+                    handles.remove(i);
+                    if (handles.isEmpty()) {
+                        cells.remove(key(handle.cellX, handle.cellY));
+                    }
+                    add(handle);
+                    break;
+                }
+            }
+        }
+        // The drag replaces the container's polygon; that is not a structural change
+        stamp = stampOf(scene);
+    }
+
+    /**
+     * Forces a rebuild on the next find (e.g. after points were edited in a dialog)
+     */
+    public void invalidate() {
+        scene = null;
+        cells.clear();
+    }
+
+    private void rebuild(Scene currentScene) {
+        cells.clear();
+        scene = currentScene;
+        order = 0;
+
+        List<Item> items = currentScene.getItems();
+        for (Item item : items) {
+            if (item.getCustomClickAreas() != null) {
+                for (CustomClickArea area : item.getCustomClickAreas()) {
+                    addAll(Kind.CUSTOM_CLICK_AREA, item, area, area.getPoints());
+                }
+            }
+        }
+        for (Item item : items) {
+            // Legacy click points of unmigrated items are still drawn and dragged by the editor
+            @SuppressWarnings("removal")
+            List<Point> clickAreaPoints = item.getClickAreaPoints();
+            addAll(Kind.CLICK_AREA, item, null, clickAreaPoints);
+        }
+        for (Item item : items) {
+            if (item.getMovingRanges() != null) {
+                for (MovingRange range : item.getMovingRanges()) {
+                    addAll(Kind.MOVING_RANGE, item, range, range.getPoints());
+                }
+            }
+        }
+        for (Item item : items) {
+            if (item.getPaths() != null) {
+                for (Path path : item.getPaths()) {
+                    addAll(Kind.ITEM_PATH, item, path, path.getPoints());
+                }
+            }
+        }
+        for (KeyArea area : currentScene.getKeyAreas()) {
+            addAll(Kind.KEY_AREA, null, area, area.getPoints());
+        }
+        for (Path path : currentScene.getPaths()) {
+            addAll(Kind.SCENE_PATH, null, path, path.getPoints());
+        }
+    }
+
+    private void addAll(Kind kind, Item item, Object container, List<Point> points) {
+        if (points == null) {
+            return;
+        }
+        for (int i = 0; i < points.size(); i++) {
+            add(new Handle(kind, item, container, i, points.get(i), order++));
+        }
+    }
+
+    private void add(Handle handle) {
+        handle.cellX = cell(handle.point.x);
+        handle.cellY = cell(handle.point.y);
+        cells.computeIfAbsent(key(handle.cellX, handle.cellY), k -> new ArrayList<>()).add(handle);
+    }
+
+    private static boolean isBefore(Handle a, Handle b) {
+        if (a.kind != b.kind) {
+            return a.kind.ordinal() < b.kind.ordinal();
+        }
+        return a.order < b.order;
+    }
+
+    private static int cell(int coordinate) {
+        return Math.floorDiv(coordinate, CELL_SIZE);
+    }
+
+    private static long key(int cellX, int cellY) {
+        return ((long) cellX << 32) | (cellY & 0xffffffffL);
+    }
+
+    /**
+     * Identity and size of every point container. Changes when lists are
+     * replaced, points are added or removed or a polygon is rebuilt.
+     */
+    private static long stampOf(Scene scene) {
+        long stamp = System.identityHashCode(scene);
+        List<Item> items = scene.getItems();
+        stamp = mix(stamp, items, items.size());
+        for (Item item : items) {
+            stamp = mix(stamp, item, 0);
+            if (item.getCustomClickAreas() != null) {
+                stamp = mix(stamp, item.getCustomClickAreas(), item.getCustomClickAreas().size());
+                for (CustomClickArea area : item.getCustomClickAreas()) {
+                    stamp = mix(stamp, area);
+                }
+            }
+            // Legacy click points are indexed as handles (see rebuild), so they are part of the stamp
+            @SuppressWarnings("removal")
+            List<Point> clickAreaPoints = item.getClickAreaPoints();
+            @SuppressWarnings("removal")
+            Polygon clickAreaPolygon = item.getClickAreaPolygon();
+            stamp = mix(stamp, clickAreaPoints, clickAreaPoints != null ? clickAreaPoints.size() : -1);
+            stamp = mix(stamp, clickAreaPolygon, 0);
+            if (item.getMovingRanges() != null) {
+                stamp = mix(stamp, item.getMovingRanges(), item.getMovingRanges().size());
+                for (MovingRange range : item.getMovingRanges()) {
+                    stamp = mix(stamp, range);
+                }
+            }
+            if (item.getPaths() != null) {
+                stamp = mix(stamp, item.getPaths(), item.getPaths().size());
+                for (Path path : item.getPaths()) {
+                    stamp = mix(stamp, path);
+                }
+            }
+        }
+        stamp = mix(stamp, scene.getKeyAreas(), scene.getKeyAreas().size());
+        for (KeyArea area : scene.getKeyAreas()) {
+            stamp = mix(stamp, area.getPoints(), area.getPoints().size());
+            stamp = mix(stamp, area.getPolygon(), 0);
+        }
+        stamp = mix(stamp, scene.getPaths(), scene.getPaths().size());
+        for (Path path : scene.getPaths()) {
+            stamp = mix(stamp, path);
+        }
+        return stamp;
+    }
+
+    private static long mix(long stamp, CustomClickArea area) {
+        List<Point> points = area.getPoints();
+        Polygon polygon = area.getPolygon();
+        stamp = mix(stamp, area, 0);
+        stamp = mix(stamp, points, points != null ? points.size() : -1);
+        return mix(stamp, polygon, 0);
+    }
+
+    private static long mix(long stamp, Object object, int size) {
+        stamp = stamp * 31 + System.identityHashCode(object);
+        return stamp * 31 + size;
+    }
+}
@@ -150,7 +150,7 @@ public class Process {
         /**
          * Execute this action. Returns true if execution should block (wait for completion).
          */
-        public abstract boolean execute(AdventureGame game);
+        public abstract boolean execute(GameSession game);
 
         /**
          * Check if this action has completed (for blocking actions)
@@ -164,14 +164,14 @@ public class Process {
      * Movement action - moves character to position
      */
     public static class MovementAction extends ProcessAction {
-        private AdventureGame gameRef;
+        private GameSession gameRef;
 
         public MovementAction() {
             super("Movement");
         }
 
         @Override
-        public boolean execute(AdventureGame game) {
+        public boolean execute(GameSession game) {
             this.gameRef = game;
             String moveType = getParameter("type", "GoTo");
             boolean waitForCompletion = getBooleanParameter("waitForCompletion", true);
@@ -215,7 +215,7 @@ public class Process {
             return waitForCompletion;
         }
 
-        private Item findCharacterItem(AdventureGame game) {
+        private Item findCharacterItem(GameSession game) {
             Scene currentScene = game.getCurrentScene();
             if (currentScene == null) return null;
 
@@ -244,7 +244,7 @@ public class Process {
         }
 
         @Override
-        public boolean execute(AdventureGame game) {
+        public boolean execute(GameSession game) {
             for (Map.Entry<String, String> entry : parameters.entrySet()) {
                 String conditionName = entry.getKey();
                 boolean value = Boolean.parseBoolean(entry.getValue());
@@ -260,21 +260,36 @@ public class Process {
      * Dialog action - shows dialog window
      */
     public static class DialogAction extends ProcessAction {
+        private TextOverlay.Entry dialog;
+
         public DialogAction() {
             super("Dialog");
         }
 
         @Override
-        public boolean execute(AdventureGame game) {
+        public boolean execute(GameSession game) {
             String fileName = getParameter("file");
             String position = getParameter("position", "center");
             boolean blockInput = getBooleanParameter("blockInput", true);
 
+            Scene scene = game.getCurrentScene();
+            String dialogText = scene != null && fileName != null ? scene.getDialog(fileName) : null;
+            if (dialogText == null) {
+                System.err.println("Process: Dialog not found: " + fileName);
+                dialog = null;
+                return false;
+            }
+
             System.out.println("Process: Showing dialog '" + fileName + "'");
-            // TODO: Implement dialog system
-            // game.showDialog(fileName, position, blockInput);
+            dialog = game.getTextOverlay().showDialog(dialogText, position, java.awt.Color.WHITE);
+            game.repaint();
 
-            return true; // Blocking - waits for user to close dialog
+            return blockInput; // Blocking - waits for user to close dialog
+        }
+
+        @Override
+        public boolean isComplete() {
+            return dialog == null || dialog.isClosed();
         }
     }
 
@@ -287,15 +302,27 @@ public class Process {
         }
 
         @Override
-        public boolean execute(AdventureGame game) {
+        public boolean execute(GameSession game) {
             String message = getParameter("message", "");
             int duration = getIntParameter("duration", 2000);
             String position = getParameter("position", "center");
             String colorStr = getParameter("color", "255,255,255");
 
             System.out.println("Process: Displaying text '" + message + "' for " + duration + "ms");
-            // TODO: Implement text display system
-            // game.displayText(message, duration, position, parseColor(colorStr));
+            java.awt.Color color = TextOverlay.parseColor(colorStr);
+            TextOverlay overlay = game.getTextOverlay();
+
+            // "item:<name>" shows a speech bubble above that item
+            Item speaker = null;
+            if (position.startsWith("item:") && game.getCurrentScene() != null) {
+                speaker = game.getCurrentScene().getItemByName(position.substring(5).trim());
+            }
+            if (speaker != null) {
+                overlay.showBubble(message, speaker, game.currentTimeMillis(), duration, color);
+            } else {
+                overlay.showCaption(message, game.currentTimeMillis(), duration, position, color);
+            }
+            game.repaint();
 
             return false; // Non-blocking
         }
@@ -305,36 +332,46 @@ public class Process {
      * SceneChange action - switches to different scene
      */
     public static class SceneChangeAction extends ProcessAction {
+        private GameSession gameRef;
+
         public SceneChangeAction() {
             super("SceneChange");
         }
 
         @Override
-        public boolean execute(AdventureGame game) {
+        public boolean execute(GameSession game) {
             String sceneName = getParameter("sceneName");
             String subSceneName = getParameter("subSceneName");
             String spawnPoint = getParameter("spawnPoint", "");
             String transition = getParameter("transition", "fade");
             int transitionDuration = getIntParameter("transitionDuration", 500);
 
-            System.out.println("Process: Changing scene to '" + sceneName + "/" + subSceneName + "'");
-            // TODO: Implement scene change
-            // game.changeScene(sceneName, subSceneName, spawnPoint, transition, transitionDuration);
+            String target = subSceneName == null || subSceneName.isEmpty() ? sceneName : sceneName + "/" + subSceneName;
+            System.out.println("Process: Changing scene to '" + target + "'");
+            this.gameRef = game;
+            game.changeScene(target, spawnPoint, transition, transitionDuration);
 
             return true; // Blocking
         }
+
+        @Override
+        public boolean isComplete() {
+            return gameRef == null || !gameRef.isSceneTransitionRunning();
+        }
     }
 
     /**
      * Sound action - plays sound effect
      */
     public static class SoundAction extends ProcessAction {
+        private AudioEngine.Voice voice;
+
         public SoundAction() {
             super("Sound");
         }
 
         @Override
-        public boolean execute(AdventureGame game) {
+        public boolean execute(GameSession game) {
             String fileName = getParameter("file");
             String type = getParameter("type", "sfx");
             double volume = getDoubleParameter("volume", 1.0);
@@ -342,10 +379,15 @@ public class Process {
             boolean waitForCompletion = getBooleanParameter("waitForCompletion", false);
 
             System.out.println("Process: Playing sound '" + fileName + "'");
-            // TODO: Implement sound system
-            // game.playSound(fileName, type, volume, loop);
+            voice = game.getAudioEngine().play(fileName, type, (float) volume, loop);
 
-            return waitForCompletion;
+            // A looping sound never completes, so it cannot block
+            return waitForCompletion && voice != null && !loop;
+        }
+
+        @Override
+        public boolean isComplete() {
+            return voice == null || voice.isDone();
         }
     }
 
@@ -358,7 +400,7 @@ public class Process {
         }
 
         @Override
-        public boolean execute(AdventureGame game) {
+        public boolean execute(GameSession game) {
             String itemName = getParameter("itemName");
             boolean showNotification = getBooleanParameter("showNotification", true);
             String notificationText = getParameter("notificationText", itemName + " added to inventory");
@@ -387,7 +429,7 @@ public class Process {
         }
 
         @Override
-        public boolean execute(AdventureGame game) {
+        public boolean execute(GameSession game) {
             String itemName = getParameter("itemName");
             boolean showNotification = getBooleanParameter("showNotification", false);
 
@@ -405,6 +447,7 @@ public class Process {
      * Wait action - pauses execution
      */
     public static class WaitAction extends ProcessAction {
+        private GameSession gameRef;
         private long startTime;
         private long duration;
 
@@ -413,9 +456,10 @@ public class Process {
         }
 
         @Override
-        public boolean execute(AdventureGame game) {
+        public boolean execute(GameSession game) {
+            this.gameRef = game;
             duration = getIntParameter("duration", 1000);
-            startTime = System.currentTimeMillis();
+            startTime = game.currentTimeMillis();
 
             System.out.println("Process: Waiting for " + duration + "ms");
             return true; // Blocking
@@ -423,7 +467,8 @@ public class Process {
 
         @Override
         public boolean isComplete() {
-            return System.currentTimeMillis() - startTime >= duration;
+            if (gameRef == null) return true;
+            return gameRef.currentTimeMillis() - startTime >= duration;
         }
     }
 
@@ -436,7 +481,7 @@ public class Process {
         }
 
         @Override
-        public boolean execute(AdventureGame game) {
+        public boolean execute(GameSession game) {
             String itemName = getParameter("itemName");
             boolean visible = getBooleanParameter("visible", true);
             boolean fade = getBooleanParameter("fade", false);
@@ -5,10 +5,15 @@ import java.util.List;
 import javax.swing.Timer;
 
 /**
- * Executes processes sequentially, handling blocking and non-blocking actions
+ * Executes processes sequentially, handling blocking and non-blocking actions.
+ *
+ * Blocking actions are polled with a Swing timer, or - for headless sessions -
+ * on every tick() of the session.
  */
 public class ProcessExecutor {
-    private AdventureGame game;
+    private GameSession game;
+    private boolean manualTicks;
+    private boolean checkPending;
     private Process currentProcess;
     private List<Process.ProcessAction> actions;
     private int currentActionIndex;
@@ -16,11 +21,29 @@ public class ProcessExecutor {
     private boolean isExecuting;
     private Process.ProcessAction currentBlockingAction;
 
-    public ProcessExecutor(AdventureGame game) {
+    public ProcessExecutor(GameSession game) {
+        this(game, false);
+    }
+
+    /**
+     * @param manualTicks true = blocking actions are polled by tick() instead of a Swing timer
+     */
+    public ProcessExecutor(GameSession game, boolean manualTicks) {
         this.game = game;
+        this.manualTicks = manualTicks;
         this.isExecuting = false;
     }
 
+    /**
+     * Polls the current blocking action (manual tick mode only)
+     */
+    public void tick() {
+        if (manualTicks && checkPending) {
+            checkPending = false;
+            executeNextAction();
+        }
+    }
+
     /**
      * Execute a process
      */
@@ -104,6 +127,11 @@ public class ProcessExecutor {
      * Schedule next action check
      */
     private void scheduleNextCheck(int delayMs) {
+        if (manualTicks) {
+            checkPending = true;
+            return;
+        }
+
         if (executionTimer != null && executionTimer.isRunning()) {
             executionTimer.stop();
         }
@@ -127,6 +155,7 @@ public class ProcessExecutor {
         actions = null;
         currentActionIndex = 0;
         currentBlockingAction = null;
+        checkPending = false;
 
         if (executionTimer != null && executionTimer.isRunning()) {
             executionTimer.stop();
@@ -1,8 +1,6 @@
 package main;
 
-import java.io.BufferedReader;
 import java.io.File;
-import java.io.FileReader;
 import java.io.IOException;
 
 /**
@@ -20,7 +18,7 @@ public class ProcessLoader {
         String fileName = ResourcePathHelper.resolvePath("processes/" + processName + ".txt");
         File file = new File(fileName);
 
-        if (!file.exists()) {
+        if (!ProjectPack.exists(file)) {
             System.out.println("ProcessLoader: Process file not found: " + fileName);
             return null;
         }
@@ -38,65 +36,66 @@ public class ProcessLoader {
      * Load a process from a file
      */
     private static Process loadProcessFromFile(File file) throws IOException {
-        BufferedReader reader = new BufferedReader(new FileReader(file));
-        Process process = new Process("");
-
-        String currentSection = "";
-        boolean inConditionsIf = false;
-        boolean inConditionsThen = false;
-        Process.ProcessAction currentAction = null;
-
-        String line;
-        while ((line = reader.readLine()) != null) {
-            line = line.trim();
-
-            // Skip empty lines and comments
-            if (line.isEmpty() || line.startsWith("//")) {
-                continue;
+        ProcessParser parser = new ProcessParser();
+        ResourceTokenizer tokenizer = new ResourceTokenizer().skipComments();
+        tokenizer.on("ProcessName", token -> {
+            if (token.startsWith("-")) {
+                String content = token.value(1);
+                parser.process.setProcessName(content);
+                System.out.println("ProcessLoader: Loading process '" + content + "'");
+            }
+        });
+        tokenizer.on("Description", token -> {
+            if (token.startsWith("-")) {
+                parser.process.setDescription(token.value(1));
+            }
+        });
+        tokenizer.on("Conditions", parser::conditionsLine);
+        tokenizer.on("Actions", parser.actions);
+        tokenizer.on("End", new ResourceTokenizer.SectionHandler() {
+            @Override
+            public void begin(ResourceTokenizer.Token header) {
+                tokenizer.stop();
             }
 
-            // Section headers
-            if (line.startsWith("#ProcessName:")) {
-                currentSection = "PROCESSNAME";
-            } else if (line.startsWith("#Description:")) {
-                currentSection = "DESCRIPTION";
-            } else if (line.startsWith("#Conditions:")) {
-                currentSection = "CONDITIONS";
-                inConditionsIf = false;
-                inConditionsThen = false;
-            } else if (line.startsWith("#Actions:")) {
-                currentSection = "ACTIONS";
-                inConditionsIf = false;
-                inConditionsThen = false;
-            } else if (line.startsWith("#End")) {
-                break;
+            @Override
+            public void line(ResourceTokenizer.Token token) {
             }
-            // Conditions IF/THEN markers
-            else if (line.equals("IF") && currentSection.equals("CONDITIONS")) {
+        });
+        tokenizer.parse(file);
+
+        Process process = parser.process;
+        System.out.println("ProcessLoader: Loaded process with " + process.getConditions().size() +
+                         " conditions and " + process.getActions().size() + " actions");
+        return process;
+    }
+
+    /**
+     * Section handlers and parse state of one process file
+     */
+    private static class ProcessParser {
+        private final Process process = new Process("");
+        private boolean inConditionsIf = false;
+        private Process.ProcessAction currentAction = null;
+
+        private void conditionsLine(ResourceTokenizer.Token token) {
+            // IF/THEN markers
+            if (token.is("IF")) {
                 inConditionsIf = true;
-                inConditionsThen = false;
-            } else if (line.equals("THEN") && currentSection.equals("CONDITIONS")) {
+            } else if (token.is("THEN")) {
                 inConditionsIf = false;
-                inConditionsThen = true;
+            } else if (token.startsWith("-") && !token.startsWith("--") && inConditionsIf) {
+                // Parse condition: conditionName: value or conditionName = value
+                parseCondition(token.value(1), process);
             }
-            // Parse content
-            else if (line.startsWith("-")) {
-                // Single dash = main entry
-                String content = line.substring(1).trim();
-
-                if (currentSection.equals("PROCESSNAME")) {
-                    process.setProcessName(content);
-                    System.out.println("ProcessLoader: Loading process '" + content + "'");
-                }
-                else if (currentSection.equals("DESCRIPTION")) {
-                    process.setDescription(content);
-                }
-                else if (currentSection.equals("CONDITIONS") && inConditionsIf) {
-                    // Parse condition: conditionName: value or conditionName = value
-                    parseCondition(content, process);
-                }
-                else if (currentSection.equals("ACTIONS")) {
-                    // New action - detect type and create appropriate action object
+        }
+
+        private final ResourceTokenizer.SectionHandler actions = new ResourceTokenizer.SectionHandler() {
+            @Override
+            public void line(ResourceTokenizer.Token token) {
+                if (token.startsWith("-") && !token.startsWith("--")) {
+                    // Single dash = new action - detect type and create appropriate action object
+                    String content = token.value(1);
                     if (content.endsWith(":")) {
                         content = content.substring(0, content.length() - 1);
                     }
@@ -109,26 +108,21 @@ public class ProcessLoader {
                     // Create new action based on type
                     currentAction = createAction(content);
                     System.out.println("ProcessLoader: Found action '" + content + "'");
+                } else if (token.startsWith("--") && currentAction != null) {
+                    // Double dash = sub-entry (action parameters)
+                    parseActionParameter(token.value(2), currentAction);
                 }
             }
-            else if (line.startsWith("--")) {
-                // Double dash = sub-entry (action parameters)
-                if (currentAction != null && currentSection.equals("ACTIONS")) {
-                    parseActionParameter(line.substring(2).trim(), currentAction);
+
+            @Override
+            public void end() {
+                // Finalize last action
+                if (currentAction != null) {
+                    process.addAction(currentAction);
+                    currentAction = null;
                 }
             }
-        }
-
-        // Finalize last action
-        if (currentAction != null) {
-            process.addAction(currentAction);
-        }
-
-        reader.close();
-
-        System.out.println("ProcessLoader: Loaded process with " + process.getConditions().size() +
-                         " conditions and " + process.getActions().size() + " actions");
-        return process;
+        };
     }
 
     /**
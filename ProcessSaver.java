@@ -59,6 +59,7 @@ public class ProcessSaver {
 
             writer.write("#End\n");
             writer.close();
+            ResourceIndex.fileChanged(file);
 
             System.out.println("✓ Process saved to: " + fileName);
             return true;
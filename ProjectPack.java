@@ -0,0 +1,482 @@
+package main;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Binary pack of all text resources (scenes, items, processes, actions,
+ * moving ranges, buttons, conditions) for fast game startup.
+ *
+ * Export: java main.ProjectPack [output] - compiles resources/ into project.pack
+ *
+ * Layout (version 1, big endian):
+ *   header     magic "APAK", version, offsets of the sections below
+ *   strings    string table - every distinct line and condition name once
+ *   conditions interned condition IDs (index = ID, value = name string)
+ *   expressions pre-parsed condition expressions ("a = true AND b = false")
+ *   resources  offset index: path, source timestamp/size, first line, line count
+ *   lines      string IDs of all resource lines
+ *
+ * The game memory-maps the pack with open(); the loaders call openReader()/exists()
+ * instead of FileReader/File.exists() and get a resource materialized from the pack.
+ *
+ * The pack is only authoritative in a shipped build: when none of the text
+ * resource folders exist, or with -Dproject.pack.authoritative=true. Otherwise
+ * the text files decide: a packed entry is only used while its file still exists
+ * with the exported timestamp and size, so edited and deleted files are never
+ * served from the pack.
+ */
+public class ProjectPack {
+
+    private static final int MAGIC = 0x4150414B; // "APAK"
+    private static final int VERSION = 1;
+
+    private static final String[] RESOURCE_FOLDERS = {
+        "scenes", "items", "processes", "actions", "movingranges", "buttons", "action_buttons", "conditions"
+    };
+
+    /**
+     * Pre-parsed condition expression: all terms must match (AND)
+     */
+    public static class ConditionExpression {
+        private final String[] names;
+        private final boolean[] expected;
+
+        ConditionExpression(String[] names, boolean[] expected) {
+            this.names = names;
+            this.expected = expected;
+        }
+
+        public int getTermCount() {
+            return names.length;
+        }
+
+        public boolean evaluate() {
+            for (int i = 0; i < names.length; i++) {
+                // null name = malformed term, never true (same as the string evaluation)
+                if (names[i] == null || Conditions.getCondition(names[i]) != expected[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    private static class ResourceEntry {
+        final long lastModified;
+        final long length;
+        final int firstLine;
+        final int lineCount;
+
+        ResourceEntry(long lastModified, long length, int firstLine, int lineCount) {
+            this.lastModified = lastModified;
+            this.length = length;
+            this.firstLine = firstLine;
+            this.lineCount = lineCount;
+        }
+    }
+
+    private static volatile boolean open = false;
+    private static boolean authoritative = false;
+    private static MappedByteBuffer buffer;
+    private static int stringOffsetsPos;
+    private static int stringDataPos;
+    private static int linesPos;
+    private static String[] strings;
+    private static String[] conditionNames;
+    private static String resourcesRoot;
+    private static final Map<String, ResourceEntry> resources = new HashMap<>();
+    private static final Map<String, ConditionExpression> expressions = new ConcurrentHashMap<>();
+
+    // ==================== Runtime ====================
+
+    /**
+     * Memory-maps the pack (project.pack in the project root, or -Dproject.pack=path).
+     * Does nothing if there is no pack.
+     * @return true if the pack is in use
+     */
+    public static synchronized boolean open() {
+        if (open) {
+            return true;
+        }
+
+        String path = System.getProperty("project.pack");
+        File file = path != null ? new File(path) : ResourcePathHelper.resolveFromRoot("project.pack");
+        if (!file.exists()) {
+            return false;
+        }
+
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (mapped.getInt(0) != MAGIC || mapped.getInt(4) != VERSION) {
+                System.err.println("ProjectPack: Unsupported pack " + file.getPath() + " - using text files");
+                return false;
+            }
+            buffer = mapped;
+            readIndex();
+            authoritative = Boolean.getBoolean("project.pack.authoritative") || !hasTextResources();
+            open = true;
+            System.out.println("✓ ProjectPack: Mapped " + file.getPath() + " (" + resources.size() + " resources, "
+                    + strings.length + " strings, " + conditionNames.length + " conditions"
+                    + (authoritative ? ", authoritative" : ", text files win") + ")");
+            return true;
+        } catch (IOException | RuntimeException e) {
+            System.err.println("ProjectPack: Could not open " + file.getPath() + ": " + e.getMessage());
+            buffer = null;
+            resources.clear();
+            expressions.clear();
+            return false;
+        }
+    }
+
+    public static boolean isOpen() {
+        return open;
+    }
+
+    /**
+     * True if the file exists on disk, or in the pack of a shipped build
+     */
+    public static boolean exists(File file) {
+        return file.exists() || (authoritative && findEntry(file) != null);
+    }
+
+    /**
+     * Reader for a resource file: from the pack if the entry is valid for the
+     * file (see usableEntry), otherwise from the text file.
+     */
+    public static BufferedReader openReader(File file) throws IOException {
+        ResourceEntry entry = usableEntry(file);
+        if (entry != null) {
+            return new BufferedReader(new StringReader(materialize(entry)));
+        }
+        return new BufferedReader(new FileReader(file));
+    }
+
+    /**
+     * Whole content of a resource file (same sources as openReader), decoded in one go
+     */
+    public static CharBuffer readChars(File file) throws IOException {
+        ResourceEntry entry = usableEntry(file);
+        if (entry != null) {
+            return CharBuffer.wrap(materialize(entry));
+        }
+        // Same charset as FileReader
+        return Charset.defaultCharset().decode(ByteBuffer.wrap(Files.readAllBytes(file.toPath())));
+    }
+
+    /**
+     * Returns the pre-parsed expression for a condition string (terms joined with " AND "),
+     * or null if the pack does not contain it
+     */
+    public static ConditionExpression getExpression(String condition) {
+        return open ? expressions.get(condition) : null;
+    }
+
+    /**
+     * The packed entry if it may be served for the file: always in a shipped
+     * build, otherwise only while the text file is unchanged since the export
+     */
+    private static ResourceEntry usableEntry(File file) {
+        ResourceEntry entry = findEntry(file);
+        if (entry == null || authoritative) {
+            return entry;
+        }
+        return file.lastModified() == entry.lastModified && file.length() == entry.length ? entry : null;
+    }
+
+    /**
+     * True if any of the packed resource folders exists as text files
+     */
+    private static boolean hasTextResources() {
+        File root = ResourcePathHelper.resolve("");
+        for (String folder : RESOURCE_FOLDERS) {
+            if (new File(root, folder).isDirectory()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static ResourceEntry findEntry(File file) {
+        if (!open) {
+            return null;
+        }
+        String absolute = file.getAbsoluteFile().toPath().normalize().toString().replace('\\', '/');
+        if (!absolute.startsWith(resourcesRoot)) {
+            return null;
+        }
+        return resources.get(absolute.substring(resourcesRoot.length()));
+    }
+
+    private static void readIndex() {
+        MappedByteBuffer mapped = buffer;
+        int stringsPos = mapped.getInt(8);
+        int conditionsPos = mapped.getInt(12);
+        int expressionsPos = mapped.getInt(16);
+        int resourcesPos = mapped.getInt(20);
+        linesPos = mapped.getInt(24);
+
+        int stringCount = mapped.getInt(stringsPos);
+        stringOffsetsPos = stringsPos + 4;
+        stringDataPos = stringOffsetsPos + (stringCount + 1) * 4;
+        strings = new String[stringCount];
+
+        conditionNames = new String[mapped.getInt(conditionsPos)];
+        for (int i = 0; i < conditionNames.length; i++) {
+            conditionNames[i] = string(mapped.getInt(conditionsPos + 4 + i * 4)).intern();
+        }
+
+        int pos = expressionsPos;
+        int expressionCount = mapped.getInt(pos);
+        pos += 4;
+        for (int i = 0; i < expressionCount; i++) {
+            String text = string(mapped.getInt(pos));
+            int termCount = mapped.getInt(pos + 4);
+            pos += 8;
+            String[] names = new String[termCount];
+            boolean[] expected = new boolean[termCount];
+            for (int t = 0; t < termCount; t++) {
+                int conditionId = mapped.getInt(pos);
+                names[t] = conditionId >= 0 ? conditionNames[conditionId] : null;
+                expected[t] = mapped.get(pos + 4) != 0;
+                pos += 5;
+            }
+            expressions.put(text, new ConditionExpression(names, expected));
+        }
+
+        pos = resourcesPos;
+        int resourceCount = mapped.getInt(pos);
+        pos += 4;
+        for (int i = 0; i < resourceCount; i++) {
+            String path = string(mapped.getInt(pos));
+            resources.put(path, new ResourceEntry(mapped.getLong(pos + 4), mapped.getLong(pos + 12),
+                    mapped.getInt(pos + 20), mapped.getInt(pos + 24)));
+            pos += 28;
+        }
+
+        resourcesRoot = ResourcePathHelper.resolve("").getAbsoluteFile().toPath().normalize().toString()
+                .replace('\\', '/') + "/";
+    }
+
+    private static String string(int id) {
+        String value = strings[id];
+        if (value == null) {
+            int start = buffer.getInt(stringOffsetsPos + id * 4);
+            int end = buffer.getInt(stringOffsetsPos + (id + 1) * 4);
+            byte[] bytes = new byte[end - start];
+            buffer.get(stringDataPos + start, bytes);
+            value = new String(bytes, StandardCharsets.UTF_8);
+            strings[id] = value;
+        }
+        return value;
+    }
+
+    private static String materialize(ResourceEntry entry) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < entry.lineCount; i++) {
+            text.append(string(buffer.getInt(linesPos + 4 + (entry.firstLine + i) * 4))).append('\n');
+        }
+        return text.toString();
+    }
+
+    // ==================== Export ====================
+
+    /**
+     * Compiles all text resources into a pack file
+     */
+    public static void export(File output) throws IOException {
+        Map<String, Integer> stringIds = new LinkedHashMap<>();
+        Map<String, Integer> conditionIds = new LinkedHashMap<>();
+        Map<String, List<String>> expressionTerms = new LinkedHashMap<>();
+
+        ByteArrayOutputStream resourceBytes = new ByteArrayOutputStream();
+        DataOutputStream resourceOut = new DataOutputStream(resourceBytes);
+        List<Integer> lineIds = new ArrayList<>();
+        int resourceCount = 0;
+
+        File root = ResourcePathHelper.resolve("");
+        for (String folder : RESOURCE_FOLDERS) {
+            List<File> files = new ArrayList<>();
+            collectTextFiles(new File(root, folder), files);
+
+            for (File file : files) {
+                String relative = root.toPath().relativize(file.toPath()).toString().replace('\\', '/');
+                List<String> lines = Files.readAllLines(file.toPath(), StandardCharsets.UTF_8);
+
+                resourceOut.writeInt(intern(stringIds, relative));
+                resourceOut.writeLong(file.lastModified());
+                resourceOut.writeLong(file.length());
+                resourceOut.writeInt(lineIds.size());
+                resourceOut.writeInt(lines.size());
+                resourceCount++;
+
+                List<String> run = new ArrayList<>();
+                for (String line : lines) {
+                    lineIds.add(intern(stringIds, line));
+                    collectConditions(line, run, conditionIds, expressionTerms);
+                }
+                addExpression(run, expressionTerms);
+            }
+        }
+
+        ByteArrayOutputStream conditionBytes = new ByteArrayOutputStream();
+        DataOutputStream conditionOut = new DataOutputStream(conditionBytes);
+        conditionOut.writeInt(conditionIds.size());
+        for (String name : conditionIds.keySet()) {
+            conditionOut.writeInt(intern(stringIds, name));
+        }
+
+        ByteArrayOutputStream expressionBytes = new ByteArrayOutputStream();
+        DataOutputStream expressionOut = new DataOutputStream(expressionBytes);
+        expressionOut.writeInt(expressionTerms.size());
+        for (Map.Entry<String, List<String>> expression : expressionTerms.entrySet()) {
+            expressionOut.writeInt(intern(stringIds, expression.getKey()));
+            expressionOut.writeInt(expression.getValue().size());
+            for (String term : expression.getValue()) {
+                // Same parsing as KeyArea.evaluateSingleCondition
+                String[] parts = term.split("=");
+                expressionOut.writeInt(parts.length == 2 ? conditionIds.get(parts[0].trim()) : -1);
+                expressionOut.writeByte(parts.length == 2 && Boolean.parseBoolean(parts[1].trim()) ? 1 : 0);
+            }
+        }
+
+        ByteArrayOutputStream stringBytes = new ByteArrayOutputStream();
+        DataOutputStream stringOut = new DataOutputStream(stringBytes);
+        List<byte[]> encoded = new ArrayList<>();
+        for (String value : stringIds.keySet()) {
+            encoded.add(value.getBytes(StandardCharsets.UTF_8));
+        }
+        stringOut.writeInt(encoded.size());
+        int offset = 0;
+        stringOut.writeInt(offset);
+        for (byte[] bytes : encoded) {
+            offset += bytes.length;
+            stringOut.writeInt(offset);
+        }
+        for (byte[] bytes : encoded) {
+            stringOut.write(bytes);
+        }
+
+        ByteArrayOutputStream lineBytes = new ByteArrayOutputStream();
+        DataOutputStream lineOut = new DataOutputStream(lineBytes);
+        lineOut.writeInt(lineIds.size());
+        for (int id : lineIds) {
+            lineOut.writeInt(id);
+        }
+
+        ByteArrayOutputStream resourceSection = new ByteArrayOutputStream();
+        new DataOutputStream(resourceSection).writeInt(resourceCount);
+        resourceBytes.writeTo(resourceSection);
+
+        int headerSize = 28;
+        int stringsPos = headerSize;
+        int conditionsPos = stringsPos + stringBytes.size();
+        int expressionsPos = conditionsPos + conditionBytes.size();
+        int resourcesPos = expressionsPos + expressionBytes.size();
+        int linesStart = resourcesPos + resourceSection.size();
+
+        // Write to a temp file first so a running game never maps a half-written pack
+        File temp = new File(output.getPath() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(temp.toPath()))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(stringsPos);
+            out.writeInt(conditionsPos);
+            out.writeInt(expressionsPos);
+            out.writeInt(resourcesPos);
+            out.writeInt(linesStart);
+            stringBytes.writeTo(out);
+            conditionBytes.writeTo(out);
+            expressionBytes.writeTo(out);
+            resourceSection.writeTo(out);
+            lineBytes.writeTo(out);
+        }
+        Files.move(temp.toPath(), output.toPath(), StandardCopyOption.REPLACE_EXISTING);
+
+        System.out.println("✓ ProjectPack: Exported " + resourceCount + " resources, " + lineIds.size() + " lines, "
+                + stringIds.size() + " strings, " + conditionIds.size() + " conditions, " + expressionTerms.size()
+                + " expressions (" + output.length() + " bytes) to " + output.getPath());
+    }
+
+    private static void collectTextFiles(File dir, List<File> files) {
+        File[] children = dir.listFiles();
+        if (children == null) {
+            return;
+        }
+        Arrays.sort(children);
+        for (File child : children) {
+            if (child.isDirectory()) {
+                collectTextFiles(child, files);
+            } else if (child.getName().endsWith(".txt")) {
+                files.add(child);
+            }
+        }
+    }
+
+    /**
+     * Interns condition names of "name = value" lines and collects expressions the loaders
+     * build from them: every single term and every run of consecutive terms joined with " AND "
+     */
+    private static void collectConditions(String line, List<String> run, Map<String, Integer> conditionIds,
+            Map<String, List<String>> expressionTerms) {
+        String term = line.trim();
+        while (term.startsWith("-")) {
+            term = term.substring(1);
+        }
+        term = term.trim().replace(";", "");
+
+        String[] parts = term.split("=");
+        boolean isTerm = parts.length == 2 && !parts[0].trim().isEmpty() && !parts[0].contains(":")
+                && (parts[1].trim().equals("true") || parts[1].trim().equals("false"));
+        if (!isTerm) {
+            addExpression(run, expressionTerms);
+            return;
+        }
+
+        conditionIds.putIfAbsent(parts[0].trim(), conditionIds.size());
+        expressionTerms.putIfAbsent(term, List.of(term));
+        run.add(term);
+    }
+
+    private static void addExpression(List<String> run, Map<String, List<String>> expressionTerms) {
+        if (run.size() > 1) {
+            expressionTerms.putIfAbsent(String.join(" AND ", run), new ArrayList<>(run));
+        }
+        run.clear();
+    }
+
+    private static int intern(Map<String, Integer> stringIds, String value) {
+        Integer id = stringIds.get(value);
+        if (id == null) {
+            id = stringIds.size();
+            stringIds.put(value, id);
+        }
+        return id;
+    }
+
+    public static void main(String[] args) throws IOException {
+        File output = args.length > 0 ? new File(args[0]) : ResourcePathHelper.resolveFromRoot("project.pack");
+        export(output);
+    }
+}
@@ -0,0 +1,74 @@
+package main;
+
+import java.util.List;
+
+/**
+ * Back-to-front draw order of a scene's items.
+ *
+ * Items are sorted by Item.getSortDepth() (foot Y or explicit depth). The
+ * array is kept between frames and re-sorted with an insertion sort, which
+ * is linear when only a few items moved since the last frame. Equal depths
+ * keep their previous order, so the first frame keeps the scene order.
+ * The item set is re-read when the scene's item list changes.
+ */
+public class RenderQueue {
+
+    private Item[] items = new Item[0];
+    private int[] depths = new int[0];
+    private List<Item> source;
+    private int sourceSize = -1;
+    private long sourceStamp;
+
+    /**
+     * Sorts the items of a scene for this frame
+     * @return number of items; read them with get(i), back to front
+     */
+    public int sort(Scene scene) {
+        List<Item> sceneItems = scene.getItems();
+        long stamp = stampOf(sceneItems);
+        if (sceneItems != source || sceneItems.size() != sourceSize || stamp != sourceStamp) {
+            source = sceneItems;
+            sourceSize = sceneItems.size();
+            sourceStamp = stamp;
+            items = sceneItems.toArray(new Item[0]);
+            depths = new int[items.length];
+        }
+
+        for (int i = 0; i < items.length; i++) {
+            depths[i] = items[i].getSortDepth();
+        }
+
+        // Insertion sort: almost sorted from the previous frame
+        for (int i = 1; i < items.length; i++) {
+            int depth = depths[i];
+            if (depths[i - 1] <= depth) {
+                continue;
+            }
+            Item item = items[i];
+            int j = i - 1;
+            while (j >= 0 && depths[j] > depth) {
+                depths[j + 1] = depths[j];
+                items[j + 1] = items[j];
+                j--;
+            }
+            depths[j + 1] = depth;
+            items[j + 1] = item;
+        }
+        return items.length;
+    }
+
+    public Item get(int index) {
+        return items[index];
+    }
+
+    /**
+     * Order-independent identity sum of the items: notices items replaced in place
+     */
+    private static long stampOf(List<Item> sceneItems) {
+        long stamp = 0;
+        for (Item item : sceneItems) {
+            stamp += System.identityHashCode(item);
+        }
+        return stamp;
+    }
+}
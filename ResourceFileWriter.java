@@ -0,0 +1,147 @@
+package main;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.Charset;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Writes resource files for the savers (SceneSaver, ItemSaver).
+ *
+ * The savers serialize into a reusable per-thread buffer. A write is skipped
+ * when the content hash equals the hash last persisted for that file and the
+ * file was not changed on disk since. Writes that do happen go to a temp file
+ * in the same directory which is then moved over the target, so a crash never
+ * leaves a half-written scene or item file.
+ */
+public class ResourceFileWriter {
+
+    /**
+     * Hash of the content last written to (or found in) a file and the file state after it
+     */
+    private static class Persisted {
+        private final byte[] hash;
+        private final long lastModified;
+        private final long length;
+
+        Persisted(byte[] hash, long lastModified, long length) {
+            this.hash = hash;
+            this.lastModified = lastModified;
+            this.length = length;
+        }
+    }
+
+    private static final ThreadLocal<StringWriter> buffers = ThreadLocal.withInitial(() -> new StringWriter(8192));
+
+    // normalized absolute path -> last persisted state
+    private static final Map<String, Persisted> persisted = new ConcurrentHashMap<>();
+
+    private static final AtomicLong writtenCount = new AtomicLong();
+    private static final AtomicLong skippedCount = new AtomicLong();
+
+    /**
+     * Returns the empty serialization buffer of the current thread
+     */
+    public static StringWriter buffer() {
+        StringWriter buffer = buffers.get();
+        buffer.getBuffer().setLength(0);
+        return buffer;
+    }
+
+    /**
+     * Writes content to a file unless the file already holds exactly this content
+     * @return true if the file was written, false if the write was skipped
+     */
+    public static boolean write(File file, CharSequence content) throws IOException {
+        // Same encoding as FileWriter/FileReader used by the loaders
+        byte[] bytes = content.toString().getBytes(Charset.defaultCharset());
+        byte[] hash = hash(bytes);
+        String key = keyOf(file);
+
+        if (isUnchanged(file, key, bytes, hash)) {
+            skippedCount.incrementAndGet();
+            return false;
+        }
+
+        Path target = file.toPath();
+        Path directory = target.toAbsolutePath().getParent();
+        if (directory != null) {
+            Files.createDirectories(directory);
+        }
+        // Hidden scratch name: ResourceMonitor ignores dot files and *.tmp
+        Path temp = Files.createTempFile(directory, "." + file.getName() + ".", ".tmp");
+        try {
+            Files.write(temp, bytes);
+            try {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+
+        persisted.put(key, new Persisted(hash, file.lastModified(), file.length()));
+        writtenCount.incrementAndGet();
+        return true;
+    }
+
+    /**
+     * Number of saves that wrote a file
+     */
+    public static long getWrittenCount() {
+        return writtenCount.get();
+    }
+
+    /**
+     * Number of saves that were skipped because nothing changed
+     */
+    public static long getSkippedCount() {
+        return skippedCount.get();
+    }
+
+    /**
+     * Forgets all persisted hashes (the next save of every file writes)
+     */
+    public static void clear() {
+        persisted.clear();
+    }
+
+    private static boolean isUnchanged(File file, String key, byte[] bytes, byte[] hash) throws IOException {
+        if (!file.isFile() || file.length() != bytes.length) {
+            return false;
+        }
+
+        Persisted last = persisted.get(key);
+        if (last != null && last.lastModified == file.lastModified() && last.length == file.length()) {
+            return Arrays.equals(last.hash, hash);
+        }
+
+        // First save of this file (or changed outside the savers): hash what is on disk
+        byte[] existingHash = hash(Files.readAllBytes(file.toPath()));
+        persisted.put(key, new Persisted(existingHash, file.lastModified(), file.length()));
+        return Arrays.equals(existingHash, hash);
+    }
+
+    private static byte[] hash(byte[] bytes) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(bytes);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static String keyOf(File file) {
+        return file.toPath().toAbsolutePath().normalize().toString();
+    }
+}
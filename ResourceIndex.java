@@ -0,0 +1,333 @@
+package main;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Token index over all .txt files in resources/
+ * Maps scene, condition and item names to the files and lines that reference them.
+ *
+ * The index is built once on first use and then kept up to date per file:
+ * - Every writer of a resource file (savers, editor dialogs, reference managers)
+ *   calls fileChanged() after writing it; in-place writes do not change the
+ *   directory timestamp, so the scan below would not see them
+ * - ResourceMonitor events re-index created, modified and deleted files
+ * - Without a running ResourceMonitor, a query only checks the timestamps of the
+ *   indexed directories. Files are added, removed and (atomically) rewritten
+ *   through their directory, so the tree is only walked again when one changed,
+ *   and then only files whose timestamp or size changed are re-read.
+ */
+public class ResourceIndex {
+
+	/**
+	 * Kind of name a token refers to
+	 */
+	public enum TokenType {
+		SCENE, CONDITION, ITEM
+	}
+
+	// Pattern: conditionName = true/false; (same rule as ConditionReferenceManager)
+	private static final Pattern CONDITION_PATTERN = Pattern.compile("^(.+?)\\s*=\\s*(true|false)\\s*;?$");
+
+	// Pattern: #SetBoolean:conditionName=true/false
+	private static final Pattern SET_BOOLEAN_PATTERN = Pattern.compile("^#SetBoolean:\\s*(.+?)\\s*=\\s*(true|false)$");
+
+	/**
+	 * Indexed state of a single file
+	 */
+	private static class FileEntry {
+		final String displayPath;
+		final long lastModified;
+		final long length;
+		final Set<String> tokens;
+
+		FileEntry(String displayPath, long lastModified, long length, Set<String> tokens) {
+			this.displayPath = displayPath;
+			this.lastModified = lastModified;
+			this.length = length;
+			this.tokens = tokens;
+		}
+	}
+
+	// normalized absolute path -> indexed file
+	private static final Map<String, FileEntry> files = new HashMap<>();
+
+	// token -> (normalized absolute path -> 1-based line numbers)
+	private static final Map<String, Map<String, List<Integer>>> postings = new HashMap<>();
+
+	// normalized absolute path -> lastModified of the directories seen by the last scan
+	private static final Map<String, Long> directories = new HashMap<>();
+
+	private static boolean built = false;
+
+	static {
+		ResourceMonitor.addListener(event -> {
+			if (event.getKind() == ResourceMonitor.ChangeKind.OVERFLOW) {
+				invalidate();
+			} else {
+				fileChanged(event.getFile());
+			}
+		});
+	}
+
+	/**
+	 * Finds all references to a name
+	 * @return Map of file paths to line numbers (1-based), ordered by path
+	 */
+	public static synchronized Map<String, List<Integer>> find(TokenType type, String name) {
+		// The monitor keeps a built index current, no need to scan the tree
+		if (!built || (!ResourceMonitor.isRunning() && directoriesChanged())) {
+			refresh();
+		}
+
+		Map<String, List<Integer>> result = new TreeMap<>();
+		Map<String, List<Integer>> hits = postings.get(tokenKey(type, name));
+		if (hits != null) {
+			for (Map.Entry<String, List<Integer>> entry : hits.entrySet()) {
+				FileEntry fileEntry = files.get(entry.getKey());
+				if (fileEntry != null) {
+					result.put(fileEntry.displayPath, new ArrayList<>(entry.getValue()));
+				}
+			}
+		}
+
+		return new LinkedHashMap<>(result);
+	}
+
+	/**
+	 * Returns the files that reference a name
+	 */
+	public static synchronized List<File> findFiles(TokenType type, String name) {
+		List<File> result = new ArrayList<>();
+		for (String path : find(type, name).keySet()) {
+			result.add(new File(path));
+		}
+		return result;
+	}
+
+	/**
+	 * Re-indexes a single file after it was written, created or deleted
+	 * Call this from savers so the index never has to rescan the tree
+	 */
+	public static synchronized void fileChanged(File file) {
+		if (file == null || !built || !file.getName().endsWith(".txt")) {
+			return;
+		}
+
+		String key = normalize(file);
+		if (file.exists()) {
+			FileEntry old = files.get(key);
+			indexFile(file, key, old != null ? old.displayPath : file.getPath());
+		} else {
+			removeFile(key);
+		}
+	}
+
+	/**
+	 * Drops the whole index, the next query rebuilds it
+	 */
+	public static synchronized void invalidate() {
+		files.clear();
+		postings.clear();
+		directories.clear();
+		built = false;
+	}
+
+	/**
+	 * Brings the index up to date with the file system.
+	 * Only files whose timestamp or size changed are read again.
+	 */
+	public static synchronized void refresh() {
+		File resourcesDir = ResourcePathHelper.resolve("");
+		if (!resourcesDir.exists()) {
+			return;
+		}
+
+		long start = System.currentTimeMillis();
+		int reindexed = 0;
+
+		List<File> txtFiles = new ArrayList<>();
+		directories.clear();
+		collectTxtFiles(resourcesDir, txtFiles);
+
+		Set<String> seen = new HashSet<>();
+		for (File file : txtFiles) {
+			String key = normalize(file);
+			seen.add(key);
+
+			FileEntry entry = files.get(key);
+			if (entry == null || entry.lastModified != file.lastModified() || entry.length != file.length()) {
+				indexFile(file, key, file.getPath());
+				reindexed++;
+			}
+		}
+
+		for (String key : new ArrayList<>(files.keySet())) {
+			if (!seen.contains(key)) {
+				removeFile(key);
+			}
+		}
+
+		if (!built) {
+			built = true;
+			System.out.println("✓ ResourceIndex built: " + files.size() + " files, " + postings.size() + " tokens in "
+					+ (System.currentTimeMillis() - start) + " ms");
+		} else if (reindexed > 0) {
+			System.out.println("ResourceIndex: Re-indexed " + reindexed + " changed file(s)");
+		}
+	}
+
+	/**
+	 * Reads one file and replaces its postings
+	 */
+	private static void indexFile(File file, String key, String displayPath) {
+		removeFile(key);
+
+		List<String> lines;
+		long lastModified = file.lastModified();
+		long length = file.length();
+		try {
+			lines = Files.readAllLines(file.toPath());
+		} catch (IOException e) {
+			// Remember the file anyway so it is not re-read until it changes
+			System.err.println("ResourceIndex: Could not read " + file.getPath() + ": " + e.getMessage());
+			files.put(key, new FileEntry(displayPath, lastModified, length, new HashSet<>()));
+			return;
+		}
+
+		Set<String> tokens = new HashSet<>();
+		boolean inItemsSection = false;
+
+		for (int i = 0; i < lines.size(); i++) {
+			String trimmed = lines.get(i).trim();
+			int lineNumber = i + 1;
+
+			// Track #Items: section for item references
+			if (trimmed.startsWith("#") && !trimmed.startsWith("##") && trimmed.endsWith(":")) {
+				inItemsSection = trimmed.equals("#Items:");
+			}
+
+			for (String token : tokenizeLine(trimmed, inItemsSection)) {
+				tokens.add(token);
+				postings.computeIfAbsent(token, k -> new HashMap<>())
+						.computeIfAbsent(key, k -> new ArrayList<>())
+						.add(lineNumber);
+			}
+		}
+
+		files.put(key, new FileEntry(displayPath, lastModified, length, tokens));
+	}
+
+	/**
+	 * Extracts all tokens of a trimmed line
+	 */
+	private static List<String> tokenizeLine(String trimmed, boolean inItemsSection) {
+		List<String> tokens = new ArrayList<>();
+		if (trimmed.isEmpty()) {
+			return tokens;
+		}
+
+		// Scene references: ##sceneName, ##loadsceneName, ##scene:sceneName
+		if (trimmed.startsWith("##")) {
+			String rest = trimmed.substring(2);
+			tokens.add(tokenKey(TokenType.SCENE, rest));
+			if (rest.startsWith("load")) {
+				tokens.add(tokenKey(TokenType.SCENE, rest.substring(4)));
+			}
+			if (rest.startsWith("scene:")) {
+				tokens.add(tokenKey(TokenType.SCENE, rest.substring(6)));
+			}
+		}
+
+		// Scene references: currentScene=sceneName
+		if (trimmed.startsWith("currentScene=")) {
+			tokens.add(tokenKey(TokenType.SCENE, trimmed.substring(13)));
+		}
+
+		// Condition references: conditionName = true/false;
+		Matcher matcher = CONDITION_PATTERN.matcher(trimmed);
+		if (matcher.matches()) {
+			tokens.add(tokenKey(TokenType.CONDITION, matcher.group(1)));
+		}
+
+		// Condition references: #SetBoolean:conditionName=true/false
+		matcher = SET_BOOLEAN_PATTERN.matcher(trimmed);
+		if (matcher.matches()) {
+			tokens.add(tokenKey(TokenType.CONDITION, matcher.group(1)));
+		}
+
+		// Item references: -itemName inside #Items:
+		if (inItemsSection && trimmed.startsWith("-") && !trimmed.startsWith("--")) {
+			String itemName = trimmed.substring(1).trim();
+			if (!itemName.isEmpty()) {
+				tokens.add(tokenKey(TokenType.ITEM, itemName));
+			}
+		}
+
+		return tokens;
+	}
+
+	private static void removeFile(String key) {
+		FileEntry entry = files.remove(key);
+		if (entry == null) {
+			return;
+		}
+
+		for (String token : entry.tokens) {
+			Map<String, List<Integer>> hits = postings.get(token);
+			if (hits != null) {
+				hits.remove(key);
+				if (hits.isEmpty()) {
+					postings.remove(token);
+				}
+			}
+		}
+	}
+
+	/**
+	 * True if a directory of the last scan was modified or removed since
+	 */
+	private static boolean directoriesChanged() {
+		for (Map.Entry<String, Long> entry : directories.entrySet()) {
+			if (new File(entry.getKey()).lastModified() != entry.getValue()) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static void collectTxtFiles(File directory, List<File> result) {
+		directories.put(normalize(directory), directory.lastModified());
+		File[] children = directory.listFiles();
+		if (children == null) {
+			return;
+		}
+
+		for (File child : children) {
+			if (child.isDirectory()) {
+				collectTxtFiles(child, result);
+			} else if (child.getName().endsWith(".txt")) {
+				result.add(child);
+			}
+		}
+	}
+
+	private static String tokenKey(TokenType type, String name) {
+		return type.name() + ":" + name;
+	}
+
+	private static String normalize(File file) {
+		return file.toPath().toAbsolutePath().normalize().toString();
+	}
+}
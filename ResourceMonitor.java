@@ -0,0 +1,373 @@
+package main;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Watches resources/ for file changes and publishes typed change events.
+ *
+ * Caches (images, moving ranges, resource index, thumbnails) subscribe here and
+ * evict exactly the entries whose files changed instead of re-reading files
+ * defensively or reloading everything.
+ *
+ * Listeners are called on the monitor thread - Swing code has to hop to the
+ * EDT itself (SwingUtilities.invokeLater).
+ */
+public class ResourceMonitor {
+
+    /**
+     * Kind of resource a changed file belongs to
+     */
+    public enum ResourceType {
+        SCENE, ITEM, IMAGE, PROCESS, CONDITION, BUTTON, MOVING_RANGE, OTHER
+    }
+
+    /**
+     * What happened to the file.
+     * OVERFLOW means events were lost - subscribers should drop everything.
+     */
+    public enum ChangeKind {
+        CREATED, MODIFIED, DELETED, OVERFLOW
+    }
+
+    /**
+     * A single change of a file below resources/
+     */
+    public static class ResourceChangeEvent {
+        private final ResourceType type;
+        private final ChangeKind kind;
+        private final File file;
+        private final String relativePath;
+
+        public ResourceChangeEvent(ResourceType type, ChangeKind kind, File file, String relativePath) {
+            this.type = type;
+            this.kind = kind;
+            this.file = file;
+            this.relativePath = relativePath;
+        }
+
+        public ResourceType getType() {
+            return type;
+        }
+
+        public ChangeKind getKind() {
+            return kind;
+        }
+
+        public File getFile() {
+            return file;
+        }
+
+        /**
+         * Path relative to resources/ with '/' separators (e.g. "items/cup.txt")
+         */
+        public String getRelativePath() {
+            return relativePath;
+        }
+
+        /**
+         * File name without extension (e.g. "cup" for items/cup.txt)
+         */
+        public String getBaseName() {
+            String name = file.getName();
+            int dot = name.lastIndexOf('.');
+            return dot > 0 ? name.substring(0, dot) : name;
+        }
+
+        @Override
+        public String toString() {
+            return kind + " " + type + " " + relativePath;
+        }
+    }
+
+    /**
+     * Listener for resource changes
+     */
+    public interface ResourceChangeListener {
+        void onResourceChanged(ResourceChangeEvent event);
+    }
+
+    // Wait this long after the first event so multi-chunk writes collapse into one event
+    private static final long SETTLE_DELAY_MS = 50;
+
+    private static final List<Registration> listeners = new CopyOnWriteArrayList<>();
+    private static final Map<WatchKey, Path> watchedDirs = new HashMap<>();
+
+    private static WatchService watchService = null;
+    private static Thread monitorThread = null;
+    private static Path resourcesRoot = null;
+
+    private static class Registration {
+        final ResourceType type; // null = all types
+        final ResourceChangeListener listener;
+
+        Registration(ResourceType type, ResourceChangeListener listener) {
+            this.type = type;
+            this.listener = listener;
+        }
+    }
+
+    /**
+     * Subscribes to changes of all resource types
+     */
+    public static void addListener(ResourceChangeListener listener) {
+        addListener(null, listener);
+    }
+
+    /**
+     * Subscribes to changes of one resource type.
+     * OVERFLOW events are always delivered.
+     */
+    public static void addListener(ResourceType type, ResourceChangeListener listener) {
+        if (listener != null) {
+            listeners.add(new Registration(type, listener));
+        }
+    }
+
+    public static void removeListener(ResourceChangeListener listener) {
+        listeners.removeIf(r -> r.listener == listener);
+    }
+
+    /**
+     * Starts watching resources/ (does nothing if already running)
+     */
+    public static synchronized void start() {
+        if (isRunning()) {
+            return;
+        }
+
+        File resourcesDir = ResourcePathHelper.resolve("");
+        if (!resourcesDir.isDirectory()) {
+            System.err.println("ResourceMonitor: resources folder not found: " + resourcesDir.getAbsolutePath());
+            return;
+        }
+
+        try {
+            resourcesRoot = resourcesDir.toPath().toAbsolutePath().normalize();
+            watchService = FileSystems.getDefault().newWatchService();
+            registerRecursive(resourcesRoot);
+        } catch (IOException e) {
+            System.err.println("ResourceMonitor: Could not start watch service: " + e.getMessage());
+            watchService = null;
+            return;
+        }
+
+        monitorThread = new Thread(ResourceMonitor::runLoop, "ResourceMonitor");
+        monitorThread.setDaemon(true);
+        monitorThread.start();
+        System.out.println("✓ ResourceMonitor watching " + watchedDirs.size() + " folders in " + resourcesRoot);
+    }
+
+    /**
+     * Stops watching
+     */
+    public static synchronized void stop() {
+        if (watchService != null) {
+            try {
+                watchService.close();
+            } catch (IOException e) {
+                System.err.println("ResourceMonitor: Error closing watch service: " + e.getMessage());
+            }
+        }
+        watchService = null;
+        monitorThread = null;
+        synchronized (watchedDirs) {
+            watchedDirs.clear();
+        }
+    }
+
+    /**
+     * True while the watch service is active.
+     * Caches can only skip their own staleness checks while this is true.
+     */
+    public static boolean isRunning() {
+        return watchService != null && monitorThread != null && monitorThread.isAlive();
+    }
+
+    private static void registerRecursive(Path start) throws IOException {
+        Files.walkFileTree(start, new SimpleFileVisitor<Path>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+                WatchKey key = dir.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                        StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+                synchronized (watchedDirs) {
+                    watchedDirs.put(key, dir);
+                }
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+
+    private static void runLoop() {
+        WatchService service = watchService;
+
+        while (service != null) {
+            try {
+                WatchKey first = service.take();
+
+                // Let bursts (write + close, several MODIFY events) settle before publishing
+                Thread.sleep(SETTLE_DELAY_MS);
+
+                Map<Path, ChangeKind> changes = new LinkedHashMap<>();
+                boolean overflow = false;
+
+                for (WatchKey key = first; key != null; key = service.poll()) {
+                    Path dir;
+                    synchronized (watchedDirs) {
+                        dir = watchedDirs.get(key);
+                    }
+
+                    for (WatchEvent<?> event : key.pollEvents()) {
+                        if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                            overflow = true;
+                            continue;
+                        }
+                        if (dir == null) {
+                            continue;
+                        }
+
+                        Path child = dir.resolve((Path) event.context());
+                        ChangeKind kind = toChangeKind(event.kind());
+
+                        // Watch newly created folders as well
+                        if (kind == ChangeKind.CREATED && Files.isDirectory(child)) {
+                            try {
+                                registerRecursive(child);
+                            } catch (IOException e) {
+                                System.err.println("ResourceMonitor: Could not watch " + child + ": " + e.getMessage());
+                            }
+                            continue;
+                        }
+
+                        changes.put(child, mergeKinds(changes.get(child), kind));
+                    }
+
+                    if (!key.reset()) {
+                        synchronized (watchedDirs) {
+                            watchedDirs.remove(key);
+                        }
+                    }
+                }
+
+                if (overflow) {
+                    publish(new ResourceChangeEvent(ResourceType.OTHER, ChangeKind.OVERFLOW,
+                            resourcesRoot.toFile(), ""));
+                }
+
+                for (Map.Entry<Path, ChangeKind> change : changes.entrySet()) {
+                    Path path = change.getKey();
+                    if (Files.isDirectory(path)) {
+                        continue;
+                    }
+                    String relative = resourcesRoot.relativize(path).toString().replace('\\', '/');
+                    ResourceType type = classify(relative);
+                    if (type != null) {
+                        publish(new ResourceChangeEvent(type, change.getValue(), path.toFile(), relative));
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (ClosedWatchServiceException e) {
+                return;
+            }
+        }
+    }
+
+    private static void publish(ResourceChangeEvent event) {
+        for (Registration registration : listeners) {
+            if (registration.type != null && registration.type != event.getType()
+                    && event.getKind() != ChangeKind.OVERFLOW) {
+                continue;
+            }
+            try {
+                registration.listener.onResourceChanged(event);
+            } catch (Exception e) {
+                System.err.println("ResourceMonitor: Listener failed for " + event + ": " + e.getMessage());
+            }
+        }
+    }
+
+    private static ChangeKind toChangeKind(WatchEvent.Kind<?> kind) {
+        if (kind == StandardWatchEventKinds.ENTRY_CREATE) {
+            return ChangeKind.CREATED;
+        }
+        if (kind == StandardWatchEventKinds.ENTRY_DELETE) {
+            return ChangeKind.DELETED;
+        }
+        return ChangeKind.MODIFIED;
+    }
+
+    /**
+     * Combines two events for the same file within one batch
+     */
+    private static ChangeKind mergeKinds(ChangeKind previous, ChangeKind next) {
+        if (previous == null) {
+            return next;
+        }
+        if (next == ChangeKind.DELETED) {
+            return ChangeKind.DELETED;
+        }
+        if (previous == ChangeKind.CREATED) {
+            // Created and then written
+            return ChangeKind.CREATED;
+        }
+        if (previous == ChangeKind.DELETED) {
+            // Deleted and re-created (e.g. replaced by a temp file)
+            return ChangeKind.MODIFIED;
+        }
+        return next;
+    }
+
+    /**
+     * Maps a path relative to resources/ to its resource type
+     * @return the type, or null for scratch files (dot files, *.tmp) that are no resources
+     */
+    static ResourceType classify(String relativePath) {
+        String lower = relativePath.toLowerCase();
+        String fileName = lower.substring(lower.lastIndexOf('/') + 1);
+        if (fileName.startsWith(".") || fileName.endsWith(".tmp")) {
+            return null;
+        }
+
+        if (lower.endsWith(".png") || lower.endsWith(".jpg") || lower.endsWith(".jpeg") || lower.endsWith(".gif")
+                || lower.endsWith(".bmp")) {
+            return ResourceType.IMAGE;
+        }
+        if (lower.startsWith("scenes/")) {
+            return ResourceType.SCENE;
+        }
+        if (lower.startsWith("items/")) {
+            return ResourceType.ITEM;
+        }
+        if (lower.startsWith("processes/")) {
+            return ResourceType.PROCESS;
+        }
+        if (lower.startsWith("buttons/")) {
+            return ResourceType.BUTTON;
+        }
+        if (lower.startsWith("movingranges/")) {
+            return ResourceType.MOVING_RANGE;
+        }
+        if (lower.startsWith("conditions") || lower.equals("progress.txt")) {
+            return ResourceType.CONDITION;
+        }
+        return ResourceType.OTHER;
+    }
+}
@@ -166,6 +166,15 @@ public class ResourcePathHelper {
         return new File(findProjectRoot(), relativePath);
     }
 
+    /**
+     * Use a fixed project root instead of searching for it.
+     * Must be called before any manager resolves its folders (e.g. in benchmarks
+     * or headless runs that work on a generated resources/ tree).
+     */
+    public static void setProjectRoot(File root) {
+        projectRoot = root;
+    }
+
     /**
      * Get the absolute path to the project root.
      */
@@ -0,0 +1,451 @@
+package main;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.CharBuffer;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Streaming tokenizer for the resource text format shared by scenes, items,
+ * processes, actions and moving ranges:
+ *
+ *   #Section:
+ *   -value
+ *   --sub
+ *   ---subsub
+ *
+ * The whole file is read into one CharBuffer and scanned once. Every
+ * non-empty line is handed to the handler of the current section as a
+ * Token - a reused view on the buffer (trimmed bounds, line, column), so no
+ * String is created per line; handlers only create Strings for the values
+ * they keep. Loaders whose format has "//" comment lines (items, processes,
+ * actions) enable skipComments(); scenes and moving ranges see every line.
+ *
+ * Loaders register one handler per section name ("#Items:" -> "Items").
+ * A "#..." line without registered handler starts a section of the
+ * onOtherSections handler if there is one, otherwise it is passed to the
+ * current section as a normal line (e.g. "#Actions:" inside a KeyArea).
+ * Exceptions thrown by handlers are reported with file, line and column.
+ */
+public class ResourceTokenizer {
+
+    /**
+     * Receives the lines of one section
+     */
+    public interface SectionHandler {
+        /**
+         * Called with the header line when the section starts
+         */
+        default void begin(Token header) throws IOException {
+        }
+
+        /**
+         * Called for every non-empty line of the section
+         */
+        void line(Token token) throws IOException;
+
+        /**
+         * Called when the section ends (next section or end of file)
+         */
+        default void end() throws IOException {
+        }
+    }
+
+    /**
+     * Parse error with the position in the source file
+     */
+    public static class ParseException extends IOException {
+        private static final long serialVersionUID = 1L;
+
+        private final String source;
+        private final int line;
+        private final int column;
+
+        public ParseException(String source, int line, int column, String message, Throwable cause) {
+            super(source + ":" + line + ":" + column + ": " + message, cause);
+            this.source = source;
+            this.line = line;
+            this.column = column;
+        }
+
+        public String getSource() {
+            return source;
+        }
+
+        public int getLine() {
+            return line;
+        }
+
+        public int getColumn() {
+            return column;
+        }
+    }
+
+    /**
+     * One trimmed line of the buffer. Only valid during the handler call.
+     */
+    public static class Token {
+        private char[] chars;
+        private String source;
+        private int start;
+        private int end;
+        private int line;
+        private int column;
+
+        /**
+         * Line number (1-based)
+         */
+        public int getLine() {
+            return line;
+        }
+
+        /**
+         * Column of the first non-blank character (1-based)
+         */
+        public int getColumn() {
+            return column;
+        }
+
+        public int length() {
+            return end - start;
+        }
+
+        public char charAt(int index) {
+            return chars[start + index];
+        }
+
+        /**
+         * Number of leading occurrences of a marker character ('-' for entry depth, '#' for sections)
+         */
+        public int depth(char marker) {
+            int depth = 0;
+            while (start + depth < end && chars[start + depth] == marker) {
+                depth++;
+            }
+            return depth;
+        }
+
+        public boolean is(String text) {
+            return length() == text.length() && regionMatches(0, text);
+        }
+
+        public boolean startsWith(String prefix) {
+            return length() >= prefix.length() && regionMatches(0, prefix);
+        }
+
+        public boolean endsWith(String suffix) {
+            return length() >= suffix.length() && regionMatches(length() - suffix.length(), suffix);
+        }
+
+        public boolean contains(String text) {
+            return indexOf(text) >= 0;
+        }
+
+        /**
+         * Index of text in the trimmed line, or -1
+         */
+        public int indexOf(String text) {
+            int last = length() - text.length();
+            for (int i = 0; i <= last; i++) {
+                if (regionMatches(i, text)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        /**
+         * The trimmed line
+         */
+        public String text() {
+            return substring(0, length());
+        }
+
+        public String substring(int from) {
+            return substring(from, length());
+        }
+
+        public String substring(int from, int to) {
+            if (from < 0 || to > length() || from > to) {
+                throw new StringIndexOutOfBoundsException("begin " + from + ", end " + to + ", length " + length());
+            }
+            return new String(chars, start + from, to - from);
+        }
+
+        /**
+         * substring(from).trim() without the intermediate String
+         */
+        public String value(int from) {
+            int valueStart = start + Math.min(from, length());
+            int valueEnd = end;
+            while (valueStart < valueEnd && chars[valueStart] <= ' ') {
+                valueStart++;
+            }
+            while (valueEnd > valueStart && chars[valueEnd - 1] <= ' ') {
+                valueEnd--;
+            }
+            return new String(chars, valueStart, valueEnd - valueStart);
+        }
+
+        /**
+         * Parses the integer after the first '=' ("--x = 120;"), ignoring blanks and a trailing ';'
+         * @return the value, or 0 if the line has no single '='
+         */
+        public int intAfterEquals() throws ParseException {
+            int equals = indexOf("=");
+            if (equals < 0 || indexOf(equals + 1, '=') >= 0) {
+                return 0;
+            }
+            int from = equals + 1;
+            int to = length();
+            while (from < to && charAt(from) <= ' ') {
+                from++;
+            }
+            while (to > from && (charAt(to - 1) <= ' ' || charAt(to - 1) == ';')) {
+                to--;
+            }
+
+            int index = from;
+            boolean negative = false;
+            if (index < to && (charAt(index) == '-' || charAt(index) == '+')) {
+                negative = charAt(index) == '-';
+                index++;
+            }
+            if (index == to) {
+                throw error("Number expected", from);
+            }
+            long value = 0;
+            for (; index < to; index++) {
+                char c = charAt(index);
+                if (c < '0' || c > '9') {
+                    throw error("Invalid number '" + substring(from, to) + "'", index);
+                }
+                value = value * 10 + (c - '0');
+                if (value > (long) Integer.MAX_VALUE + 1) {
+                    throw error("Number out of range '" + substring(from, to) + "'", from);
+                }
+            }
+            value = negative ? -value : value;
+            if (value > Integer.MAX_VALUE) {
+                throw error("Number out of range '" + substring(from, to) + "'", from);
+            }
+            return (int) value;
+        }
+
+        /**
+         * Creates an error at the start of this line
+         */
+        public ParseException error(String message) {
+            return error(message, 0);
+        }
+
+        /**
+         * Creates an error at a position of the trimmed line
+         */
+        public ParseException error(String message, int offset) {
+            return new ParseException(source, line, column + offset, message, null);
+        }
+
+        @Override
+        public String toString() {
+            return text();
+        }
+
+        private int indexOf(int from, char c) {
+            for (int i = from; i < length(); i++) {
+                if (charAt(i) == c) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        private boolean regionMatches(int offset, String text) {
+            for (int i = 0; i < text.length(); i++) {
+                if (chars[start + offset + i] != text.charAt(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    private final Map<String, SectionHandler> handlers = new HashMap<>();
+    private SectionHandler otherSections;
+    private SectionHandler defaultHandler;
+    private boolean skipComments;
+    private boolean stopped;
+
+    /**
+     * Registers the handler of a section ("#Items:" -> "Items")
+     */
+    public ResourceTokenizer on(String sectionName, SectionHandler handler) {
+        handlers.put(sectionName, handler);
+        return this;
+    }
+
+    /**
+     * Handler for all sections without own handler (e.g. one section per action name)
+     */
+    public ResourceTokenizer onOtherSections(SectionHandler handler) {
+        this.otherSections = handler;
+        return this;
+    }
+
+    /**
+     * Handler for lines before the first section
+     */
+    public ResourceTokenizer beforeSections(SectionHandler handler) {
+        this.defaultHandler = handler;
+        return this;
+    }
+
+    /**
+     * Skips lines starting with "//"
+     */
+    public ResourceTokenizer skipComments() {
+        this.skipComments = true;
+        return this;
+    }
+
+    /**
+     * Stops parsing after the current line (e.g. at "#End")
+     */
+    public void stop() {
+        stopped = true;
+    }
+
+    /**
+     * Parses a resource file (served from the project pack if packed)
+     */
+    public void parse(File file) throws IOException {
+        parse(ProjectPack.readChars(file), file.getPath());
+    }
+
+    /**
+     * Reads the reader to the end and parses its content
+     */
+    public void parse(Reader reader, String source) throws IOException {
+        char[] chars = new char[8192];
+        int length = 0;
+        int read;
+        while ((read = reader.read(chars, length, chars.length - length)) >= 0) {
+            length += read;
+            if (length == chars.length) {
+                chars = Arrays.copyOf(chars, chars.length * 2);
+            }
+        }
+        parse(CharBuffer.wrap(chars, 0, length), source);
+    }
+
+    /**
+     * Parses the remaining content of a buffer
+     */
+    public void parse(CharBuffer buffer, String source) throws IOException {
+        char[] chars;
+        int position;
+        int limit;
+        if (buffer.hasArray()) {
+            chars = buffer.array();
+            position = buffer.arrayOffset() + buffer.position();
+            limit = buffer.arrayOffset() + buffer.limit();
+        } else {
+            chars = new char[buffer.remaining()];
+            buffer.duplicate().get(chars);
+            position = 0;
+            limit = chars.length;
+        }
+
+        Token token = new Token();
+        token.chars = chars;
+        token.source = source;
+
+        SectionHandler current = defaultHandler;
+        stopped = false;
+        int lineNumber = 0;
+
+        while (position < limit && !stopped) {
+            // Line bounds (\n, \r or \r\n like BufferedReader.readLine)
+            int lineStart = position;
+            int lineEnd = lineStart;
+            while (lineEnd < limit && chars[lineEnd] != '\n' && chars[lineEnd] != '\r') {
+                lineEnd++;
+            }
+            position = lineEnd;
+            if (position < limit && chars[position] == '\r') {
+                position++;
+            }
+            if (position < limit && chars[position] == '\n') {
+                position++;
+            }
+            lineNumber++;
+
+            // Trim like String.trim()
+            int start = lineStart;
+            int end = lineEnd;
+            while (start < end && chars[start] <= ' ') {
+                start++;
+            }
+            while (end > start && chars[end - 1] <= ' ') {
+                end--;
+            }
+            if (start == end) {
+                continue;
+            }
+
+            token.start = start;
+            token.end = end;
+            token.line = lineNumber;
+            token.column = start - lineStart + 1;
+
+            if (skipComments && token.startsWith("//")) {
+                continue;
+            }
+
+            try {
+                if (chars[start] == '#') {
+                    SectionHandler section = handlers.get(sectionName(token));
+                    if (section == null) {
+                        section = otherSections;
+                    }
+                    if (section != null) {
+                        if (current != null) {
+                            current.end();
+                        }
+                        current = section;
+                        current.begin(token);
+                        continue;
+                    }
+                }
+                if (current != null) {
+                    current.line(token);
+                }
+            } catch (ParseException e) {
+                throw e;
+            } catch (IOException | RuntimeException e) {
+                throw new ParseException(source, token.line, token.column, e.getMessage() + " in '" + token + "'", e);
+            }
+        }
+
+        if (current != null) {
+            try {
+                current.end();
+            } catch (ParseException e) {
+                throw e;
+            } catch (IOException | RuntimeException e) {
+                throw new ParseException(source, lineNumber, 1, e.getMessage() + " at end of file", e);
+            }
+        }
+    }
+
+    /**
+     * Name of a section header: text after the first '#' up to the first ':'
+     */
+    public static String sectionName(Token header) {
+        int colon = header.indexOf(":");
+        return header.substring(1, colon >= 0 ? colon : header.length()).trim();
+    }
+}
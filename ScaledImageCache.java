@@ -0,0 +1,116 @@
+package main;
+
+import java.awt.Graphics2D;
+import java.awt.Image;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Item images pre-scaled to the sizes perspective scaling asks for.
+ *
+ * SceneRenderer quantizes the scale to buckets, so a character walking
+ * towards the camera uses a handful of sizes and each is scaled once.
+ * Entries are kept in LRU order up to MAX_PIXELS and dropped when the
+ * ResourceMonitor reports a change of the image file.
+ */
+public class ScaledImageCache {
+
+    private static final long MAX_PIXELS = 16L * 1024 * 1024;
+
+    private static final class Key {
+        final String path;
+        final int width;
+        final int height;
+
+        Key(String path, int width, int height) {
+            this.path = path;
+            this.width = width;
+            this.height = height;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (!(other instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) other;
+            return width == key.width && height == key.height && path.equals(key.path);
+        }
+
+        @Override
+        public int hashCode() {
+            return (path.hashCode() * 31 + width) * 31 + height;
+        }
+    }
+
+    private static final Map<Key, BufferedImage> cache = new LinkedHashMap<>(64, 0.75f, true);
+    private static long pixels;
+
+    static {
+        ResourceMonitor.addListener(ResourceMonitor.ResourceType.IMAGE, event -> {
+            if (event.getKind() == ResourceMonitor.ChangeKind.OVERFLOW) {
+                clear();
+            } else {
+                evict(event.getFile());
+            }
+        });
+    }
+
+    /**
+     * The image of a file at a size, scaled from source on first use
+     * @param source decoded (or baked) image of the file
+     */
+    public static synchronized Image get(File imageFile, Image source, int width, int height) {
+        Key key = new Key(imageFile.getPath(), width, height);
+        BufferedImage scaled = cache.get(key);
+        if (scaled != null) {
+            return scaled;
+        }
+
+        scaled = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB_PRE);
+        Graphics2D g = scaled.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        g.drawImage(source, 0, 0, width, height, null);
+        g.dispose();
+
+        cache.put(key, scaled);
+        pixels += (long) width * height;
+        Iterator<BufferedImage> iterator = cache.values().iterator();
+        while (pixels > MAX_PIXELS && iterator.hasNext()) {
+            BufferedImage eldest = iterator.next();
+            if (eldest == scaled) {
+                break;
+            }
+            pixels -= (long) eldest.getWidth() * eldest.getHeight();
+            iterator.remove();
+        }
+        return scaled;
+    }
+
+    public static synchronized void evict(File changed) {
+        if (changed == null) {
+            return;
+        }
+        Iterator<Map.Entry<Key, BufferedImage>> iterator = cache.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Key, BufferedImage> entry = iterator.next();
+            if (new File(entry.getKey().path).getAbsoluteFile().equals(changed.getAbsoluteFile())) {
+                pixels -= (long) entry.getValue().getWidth() * entry.getValue().getHeight();
+                iterator.remove();
+            }
+        }
+    }
+
+    public static synchronized void clear() {
+        cache.clear();
+        pixels = 0;
+    }
+
+    public static synchronized int size() {
+        return cache.size();
+    }
+}
@@ -1,6 +1,7 @@
 package main;
 
 import java.awt.Point;
+import java.awt.Rectangle;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -15,6 +16,7 @@ public class Scene {
     private Map<String, String> dialogs; // dialogName -> dialogText
     private List<Item> items; // Items placed in this scene
     private Item selectedItem; // Item currently selected in editor (has mouse priority)
+    private final RenderQueue renderQueue = new RenderQueue(); // Runtime only: draw order of the items
     private Map<String, Boolean> subSceneConditions; // Conditions that determine when this SubScene is loaded
 
     public Scene(String name) {
@@ -171,20 +173,59 @@ public class Scene {
      */
     public Item getItemAt(Point point) {
         // Check selected item first (if it exists and is visible)
-        if (selectedItem != null && selectedItem.isVisible() && selectedItem.containsPoint(point)) {
+        if (selectedItem != null && selectedItem.isVisible() && hits(selectedItem, point)) {
             return selectedItem;
         }
 
-        // Then check other items in reverse order (last added = top layer)
-        for (int i = items.size() - 1; i >= 0; i--) {
-            Item item = items.get(i);
-            if (item != selectedItem && item.isVisible() && item.containsPoint(point)) {
+        // Then check other items front to back (reverse draw order)
+        for (int i = renderQueue.sort(this) - 1; i >= 0; i--) {
+            Item item = renderQueue.get(i);
+            if (item != selectedItem && item.isVisible() && hits(item, point)) {
                 return item;
             }
         }
         return null;
     }
 
+    /**
+     * Back-to-front draw order of the items (see SceneRenderer)
+     */
+    public RenderQueue getRenderQueue() {
+        return renderQueue;
+    }
+
+    /**
+     * Hand-edited click polygons decide themselves. Otherwise the point must be inside
+     * the drawn sprite bounds and on a non-transparent pixel of the sprite.
+     * Polygons and masks are at item size; the sprite may be drawn scaled by
+     * perspective, so the point is first mapped from the drawn bounds to item space.
+     */
+    private static boolean hits(Item item, Point point) {
+        Rectangle bounds = SceneRenderer.getDrawBounds(item);
+        boolean polygon = item.hasClickPolygon();
+        if (!polygon && !bounds.contains(point)) {
+            // Bounding box first: most items are rejected without a mask lookup
+            return false;
+        }
+        int width = item.getWidth();
+        int height = item.getHeight();
+        int localX = point.x - bounds.x;
+        int localY = point.y - bounds.y;
+        if (bounds.width != width || bounds.height != height) {
+            // floorDiv: points left of / above the sprite must stay outside it
+            localX = Math.floorDiv(localX * width, bounds.width);
+            localY = Math.floorDiv(localY * height, bounds.height);
+        }
+
+        HitMask mask = polygon ? null : item.getHitMask();
+        if (mask != null) {
+            return mask.contains(localX, localY);
+        }
+
+        Point position = item.getPosition();
+        return item.containsPoint(new Point(position.x - width / 2 + localX, position.y - height / 2 + localY));
+    }
+
     /**
      * Set the selected item (for editor - gives mouse priority)
      */
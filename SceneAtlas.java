@@ -0,0 +1,285 @@
+package main;
+
+import java.awt.Graphics2D;
+import java.awt.GraphicsEnvironment;
+import java.awt.Rectangle;
+import java.awt.RenderingHints;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Texture atlas of all item images a scene can show.
+ *
+ * At scene load every item image (default, conditional and the 9 orientation
+ * images), scaled to the item size, is packed into one or a few large
+ * compatible images (shelf bin packing, tallest first). SceneRenderer then
+ * draws sub-rectangles of the atlas pages instead of one image per sprite.
+ * Regions are keyed by file and size (like HitMask), so items sharing an
+ * image at different sizes each get their own region.
+ * Regions of changed image files are dropped via ResourceMonitor events;
+ * those images are drawn from the ImageCache until the next scene load.
+ */
+public class SceneAtlas {
+
+    /** Maximum size of one atlas page */
+    private static final int PAGE_SIZE = 2048;
+    /** Gap between regions so bilinear filtering never samples a neighbour */
+    private static final int PADDING = 1;
+
+    /**
+     * Location of one image in the atlas
+     */
+    public static class Region {
+        private final BufferedImage page;
+        private final Rectangle bounds;
+
+        Region(BufferedImage page, Rectangle bounds) {
+            this.page = page;
+            this.bounds = bounds;
+        }
+
+        public BufferedImage getPage() {
+            return page;
+        }
+
+        public Rectangle getBounds() {
+            return bounds;
+        }
+
+        /**
+         * Draws the region scaled into the given rectangle
+         */
+        public void draw(Graphics2D g2d, int x, int y, int width, int height) {
+            g2d.drawImage(page, x, y, x + width, y + height, bounds.x, bounds.y, bounds.x + bounds.width,
+                    bounds.y + bounds.height, null);
+        }
+    }
+
+    private static volatile SceneAtlas current = null;
+
+    static {
+        ResourceMonitor.addListener(ResourceMonitor.ResourceType.IMAGE, event -> {
+            SceneAtlas atlas = current;
+            if (atlas == null) {
+                return;
+            }
+            if (event.getKind() == ResourceMonitor.ChangeKind.OVERFLOW) {
+                atlas.regions.clear();
+            } else {
+                String prefix = keyOf(event.getFile(), 0, 0);
+                String start = prefix.substring(0, prefix.lastIndexOf('@') + 1);
+                atlas.regions.keySet().removeIf(key -> key.startsWith(start));
+            }
+        });
+    }
+
+    private final Scene scene;
+    private final List<BufferedImage> pages = new ArrayList<>();
+    private final Map<String, Region> regions = new ConcurrentHashMap<>();
+
+    private SceneAtlas(Scene scene) {
+        this.scene = scene;
+    }
+
+    /**
+     * Builds the atlas for a scene and makes it the current one
+     */
+    public static SceneAtlas build(Scene scene) {
+        SceneAtlas atlas = create(scene);
+        atlas.makeCurrent();
+        return atlas;
+    }
+
+    /**
+     * Builds the atlas for a scene without using it yet (scene loading off the EDT)
+     */
+    public static SceneAtlas create(Scene scene) {
+        long start = System.nanoTime();
+        SceneAtlas atlas = new SceneAtlas(scene);
+
+        // image file and size -> image and the item size it is packed at
+        Map<String, BufferedImage> sources = new LinkedHashMap<>();
+        Map<String, int[]> sizes = new LinkedHashMap<>();
+        if (scene != null) {
+            for (Item item : scene.getItems()) {
+                for (File file : getImageFiles(item)) {
+                    addSource(sources, sizes, file, item.getWidth(), item.getHeight());
+                }
+            }
+        }
+
+        // Tallest first (first-fit decreasing height) - shelves waste little space
+        List<String> keys = new ArrayList<>(sources.keySet());
+        keys.sort((a, b) -> Integer.compare(sizes.get(b)[1], sizes.get(a)[1]));
+        atlas.pack(keys, sources, sizes);
+
+        System.out.println("SceneAtlas: " + atlas.regions.size() + " images in " + atlas.pages.size()
+                + " page(s) for " + (scene != null ? scene.getName() : "no scene") + " in "
+                + (System.nanoTime() - start) / 1_000_000 + " ms");
+        return atlas;
+    }
+
+    /**
+     * Uses this atlas for rendering its scene
+     */
+    public void makeCurrent() {
+        current = this;
+    }
+
+    /**
+     * Returns the current atlas if it was built for this scene, otherwise null
+     */
+    public static SceneAtlas forScene(Scene scene) {
+        SceneAtlas atlas = current;
+        return atlas != null && atlas.scene == scene ? atlas : null;
+    }
+
+    /**
+     * Returns the region of an image file packed at the given size, or null if it is not in the atlas
+     */
+    public Region getRegion(File imageFile, int width, int height) {
+        return imageFile != null ? regions.get(keyOf(imageFile, width, height)) : null;
+    }
+
+    public int getPageCount() {
+        return pages.size();
+    }
+
+    /**
+     * All image files an item can show: the one it shows now (resolved like at
+     * draw time), its conditional images and its orientation images
+     */
+    private static List<File> getImageFiles(Item item) {
+        List<File> files = new ArrayList<>();
+        files.add(SceneRenderer.getItemImageFile(item));
+        for (ConditionalImage image : item.getConditionalImagesView()) {
+            files.add(resolve(image.getImagePath()));
+        }
+        for (String path : new String[] { item.getImagePathTopLeft(), item.getImagePathTop(),
+                item.getImagePathTopRight(), item.getImagePathLeft(), item.getImagePathMiddle(),
+                item.getImagePathRight(), item.getImagePathBottomLeft(), item.getImagePathBottom(),
+                item.getImagePathBottomRight() }) {
+            files.add(resolve(path));
+        }
+        return files;
+    }
+
+    /**
+     * Same lookup as SceneRenderer.getItemImageFile
+     */
+    private static File resolve(String path) {
+        if (path == null || path.trim().isEmpty()) {
+            return null;
+        }
+        File file = ResourcePathHelper.findImageFile(path);
+        return file != null ? file : new File(path);
+    }
+
+    private static void addSource(Map<String, BufferedImage> sources, Map<String, int[]> sizes, File file,
+            int width, int height) {
+        if (file == null || width <= 0 || height <= 0
+                || width + 2 * PADDING > PAGE_SIZE || height + 2 * PADDING > PAGE_SIZE) {
+            return;
+        }
+
+        String key = keyOf(file, width, height);
+        if (sources.containsKey(key)) {
+            return;
+        }
+
+        BufferedImage image = ImagePack.get(file, width, height);
+        if (image == null) {
+            image = file.exists() ? ImageCache.get(file) : null;
+        }
+        if (image != null) {
+            sources.put(key, image);
+            sizes.put(key, new int[] { width, height });
+        }
+    }
+
+    /**
+     * Shelf packing: regions are placed left to right on shelves; a new shelf is
+     * opened below when a row is full and a new page when the page is full
+     */
+    private void pack(List<String> keys, Map<String, BufferedImage> sources, Map<String, int[]> sizes) {
+        List<Rectangle> placed = new ArrayList<>();
+        List<Integer> pageOfRegion = new ArrayList<>();
+        List<int[]> pageExtents = new ArrayList<>();
+
+        int page = -1;
+        int shelfX = 0;
+        int shelfY = 0;
+        int shelfHeight = 0;
+
+        for (String key : keys) {
+            int width = sizes.get(key)[0] + 2 * PADDING;
+            int height = sizes.get(key)[1] + 2 * PADDING;
+
+            if (page >= 0 && shelfX + width > PAGE_SIZE) {
+                shelfY += shelfHeight;
+                shelfX = 0;
+                shelfHeight = 0;
+            }
+            if (page < 0 || shelfY + height > PAGE_SIZE) {
+                page++;
+                pageExtents.add(new int[2]);
+                shelfX = 0;
+                shelfY = 0;
+                shelfHeight = 0;
+            }
+
+            placed.add(new Rectangle(shelfX + PADDING, shelfY + PADDING, width - 2 * PADDING, height - 2 * PADDING));
+            pageOfRegion.add(page);
+            shelfX += width;
+            shelfHeight = Math.max(shelfHeight, height);
+
+            int[] extent = pageExtents.get(page);
+            extent[0] = Math.max(extent[0], shelfX);
+            extent[1] = Math.max(extent[1], shelfY + shelfHeight);
+        }
+
+        // Pages only as large as their content
+        for (int[] extent : pageExtents) {
+            pages.add(createPage(extent[0], extent[1]));
+        }
+
+        List<Graphics2D> graphics = new ArrayList<>();
+        for (BufferedImage pageImage : pages) {
+            Graphics2D g2d = pageImage.createGraphics();
+            g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g2d.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.add(g2d);
+        }
+
+        for (int i = 0; i < keys.size(); i++) {
+            Rectangle bounds = placed.get(i);
+            int pageIndex = pageOfRegion.get(i);
+            graphics.get(pageIndex).drawImage(sources.get(keys.get(i)), bounds.x, bounds.y, bounds.width,
+                    bounds.height, null);
+            regions.put(keys.get(i), new Region(pages.get(pageIndex), bounds));
+        }
+
+        for (Graphics2D g2d : graphics) {
+            g2d.dispose();
+        }
+    }
+
+    private static BufferedImage createPage(int width, int height) {
+        if (!GraphicsEnvironment.isHeadless()) {
+            // Same pixel layout as the screen - no conversion when drawing
+            return GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice()
+                    .getDefaultConfiguration().createCompatibleImage(width, height, Transparency.TRANSLUCENT);
+        }
+        return new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB_PRE);
+    }
+
+    private static String keyOf(File file, int width, int height) {
+        return file.toPath().toAbsolutePath().normalize() + "@" + width + "x" + height;
+    }
+}
@@ -0,0 +1,212 @@
+package main;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+/**
+ * Header data of subscene files for the editor scene tree.
+ *
+ * Reads only the head of a scene file (#Conditions and the first background
+ * image) and stops at the first KeyArea/Items/Dialogs section, so building
+ * the tree never parses KeyAreas or loads items. Entries are cached and
+ * re-read when the file changes (timestamp/size or ResourceMonitor event).
+ * Use SceneLoader/FileHandlingSimple to actually open a subscene.
+ */
+public class SceneCatalog {
+
+    /**
+     * Tree data of one subscene file
+     */
+    public static class Entry {
+        private final String sceneName;
+        private final String subSceneName;
+        private final String backgroundImagePath;
+        private final Map<String, Boolean> subSceneConditions;
+        private final long lastModified;
+        private final long length;
+
+        Entry(String sceneName, String subSceneName, String backgroundImagePath,
+                Map<String, Boolean> subSceneConditions, long lastModified, long length) {
+            this.sceneName = sceneName;
+            this.subSceneName = subSceneName;
+            this.backgroundImagePath = backgroundImagePath;
+            this.subSceneConditions = Collections.unmodifiableMap(subSceneConditions);
+            this.lastModified = lastModified;
+            this.length = length;
+        }
+
+        public String getSceneName() {
+            return sceneName;
+        }
+
+        public String getSubSceneName() {
+            return subSceneName;
+        }
+
+        /**
+         * Path of the first background image (null if the scene has none)
+         */
+        public String getBackgroundImagePath() {
+            return backgroundImagePath;
+        }
+
+        /**
+         * Conditions that decide when this subscene is loaded
+         */
+        public Map<String, Boolean> getSubSceneConditions() {
+            return subSceneConditions;
+        }
+    }
+
+    private static final Map<String, Entry> cache = new ConcurrentHashMap<>();
+
+    static {
+        ResourceMonitor.addListener(ResourceMonitor.ResourceType.SCENE, event -> {
+            if (event.getKind() == ResourceMonitor.ChangeKind.OVERFLOW) {
+                cache.clear();
+            } else {
+                String relative = event.getRelativePath();
+                if (relative.startsWith("scenes/") && relative.endsWith(".txt")) {
+                    cache.remove(relative.substring(7, relative.length() - 4));
+                }
+            }
+        });
+    }
+
+    /**
+     * Returns the header entry of a subscene (cached, re-read if the file changed)
+     * @return the entry, or null if the file does not exist
+     */
+    public static Entry get(String sceneName, String subSceneName) {
+        String key = sceneName + "/" + subSceneName;
+        File file = ResourcePathHelper.resolve("scenes/" + key + ".txt");
+
+        Entry entry = cache.get(key);
+        if (entry != null && entry.lastModified == file.lastModified() && entry.length == file.length()) {
+            return entry;
+        }
+
+        if (!file.exists()) {
+            cache.remove(key);
+            return null;
+        }
+
+        entry = readHeader(sceneName, subSceneName, file);
+        if (entry != null) {
+            cache.put(key, entry);
+        }
+        return entry;
+    }
+
+    /**
+     * Returns the entries of several subscenes of one scene, read in parallel.
+     * Keeps the order of the given names and skips missing files.
+     */
+    public static List<Entry> getAll(String sceneName, List<String> subSceneNames) {
+        Entry[] entries = new Entry[subSceneNames.size()];
+        IntStream.range(0, entries.length).parallel()
+                .forEach(i -> entries[i] = get(sceneName, subSceneNames.get(i)));
+
+        List<Entry> result = new ArrayList<>();
+        for (Entry entry : entries) {
+            if (entry != null) {
+                result.add(entry);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the first subscene entry of every given scene, read in parallel
+     * (used for the scene node thumbnails)
+     * @return scene name to entry of its first subscene, only for scenes that have one
+     */
+    public static Map<String, Entry> getFirstEntries(Map<String, List<String>> subScenesByScene) {
+        List<String> sceneNames = new ArrayList<>(subScenesByScene.keySet());
+        Entry[] entries = new Entry[sceneNames.size()];
+        IntStream.range(0, entries.length).parallel().forEach(i -> {
+            List<String> subScenes = subScenesByScene.get(sceneNames.get(i));
+            if (!subScenes.isEmpty()) {
+                entries[i] = get(sceneNames.get(i), subScenes.get(0));
+            }
+        });
+
+        Map<String, Entry> result = new LinkedHashMap<>();
+        for (int i = 0; i < entries.length; i++) {
+            if (entries[i] != null) {
+                result.put(sceneNames.get(i), entries[i]);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Drops all cached entries
+     */
+    public static void invalidate() {
+        cache.clear();
+    }
+
+    /**
+     * Reads #Conditions and the first background image, stops at the first body section
+     */
+    private static Entry readHeader(String sceneName, String subSceneName, File file) {
+        long lastModified = file.lastModified();
+        long length = file.length();
+
+        String backgroundImagePath = null;
+        Map<String, Boolean> conditions = new LinkedHashMap<>();
+        String section = null;
+
+        try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String trimmed = line.trim();
+                if (trimmed.isEmpty()) {
+                    continue;
+                }
+
+                if (trimmed.equals("#Conditions:")) {
+                    section = "Conditions";
+                    continue;
+                } else if (trimmed.startsWith("#Backgroundimage:")) {
+                    section = "Backgroundimage";
+                    continue;
+                } else if (trimmed.equals("#BackgroundImages:")) {
+                    section = "BackgroundImages";
+                    continue;
+                } else if (trimmed.startsWith("#")) {
+                    // KeyAreas, Dialogs, Items, ... - the header is complete
+                    break;
+                }
+
+                if ("Conditions".equals(section) && trimmed.startsWith("-")) {
+                    String[] parts = trimmed.substring(1).split("=");
+                    if (parts.length == 2) {
+                        conditions.put(parts[0].trim(), Boolean.parseBoolean(parts[1].trim()));
+                    }
+                } else if ("Backgroundimage".equals(section) && trimmed.startsWith("-")
+                        && backgroundImagePath == null) {
+                    backgroundImagePath = trimmed.substring(1).trim();
+                } else if ("BackgroundImages".equals(section) && trimmed.startsWith("--Path:")
+                        && backgroundImagePath == null) {
+                    backgroundImagePath = trimmed.substring(7).trim();
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("SceneCatalog: Could not read " + file.getPath() + ": " + e.getMessage());
+            return null;
+        }
+
+        return new Entry(sceneName, subSceneName, backgroundImagePath, conditions, lastModified, length);
+    }
+}
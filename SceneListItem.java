@@ -1,5 +1,8 @@
 package main;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Represents an item in the Scenes ListView - can be either a Scene or SubScene
  */
@@ -14,6 +17,9 @@ public class SceneListItem {
     private Scene sceneObject; // The actual Scene object
     private boolean isExpanded; // Only for Scene type
     private String parentSceneName; // Only for SubScene type
+    private SceneCatalog.Entry catalogEntry; // Header data (thumbnail) without a parsed Scene
+    private List<String> subSceneNames = new ArrayList<>(); // Only for Scene type, in tree order
+    private boolean childrenLoaded = false; // Only for Scene type - SubScene nodes are created on expand
 
     // Scene constructor
     public SceneListItem(String name, Scene sceneObject) {
@@ -33,6 +39,19 @@ public class SceneListItem {
         this.parentSceneName = parentSceneName;
     }
 
+    // Scene constructor for the lazy tree (thumbnail from the first SubScene's catalog entry)
+    public SceneListItem(String name, SceneCatalog.Entry firstSubSceneEntry, List<String> subSceneNames) {
+        this(name, (Scene) null);
+        this.catalogEntry = firstSubSceneEntry;
+        this.subSceneNames = new ArrayList<>(subSceneNames);
+    }
+
+    // SubScene constructor for the lazy tree
+    public SceneListItem(SceneCatalog.Entry entry) {
+        this(entry.getSubSceneName(), null, entry.getSceneName());
+        this.catalogEntry = entry;
+    }
+
     public Type getType() {
         return type;
     }
@@ -69,6 +88,25 @@ public class SceneListItem {
         this.parentSceneName = parentSceneName;
     }
 
+    public SceneCatalog.Entry getCatalogEntry() {
+        return catalogEntry;
+    }
+
+    /**
+     * SubScene names of a Scene node in tree order (also before its children are created)
+     */
+    public List<String> getSubSceneNames() {
+        return subSceneNames;
+    }
+
+    public boolean isChildrenLoaded() {
+        return childrenLoaded;
+    }
+
+    public void setChildrenLoaded(boolean childrenLoaded) {
+        this.childrenLoaded = childrenLoaded;
+    }
+
     public boolean isScene() {
         return type == Type.SCENE;
     }
@@ -82,7 +120,7 @@ public class SceneListItem {
      */
     public String getThumbnailPath() {
         if (sceneObject == null) {
-            return null;
+            return catalogEntry != null ? catalogEntry.getBackgroundImagePath() : null;
         }
 
         // Get background image path from scene
@@ -1,8 +1,6 @@
 package main;
 
-import java.io.BufferedReader;
 import java.io.File;
-import java.io.FileReader;
 import java.io.IOException;
 import java.util.Map;
 
@@ -31,11 +29,11 @@ public class SceneLoader {
 
         File file = new File(filename);
 
-        if (!file.exists()) {
+        if (!ProjectPack.exists(file)) {
             throw new IOException("Scene file not found: " + filename);
         }
 
-        if (!file.canRead()) {
+        if (file.exists() && !file.canRead()) {
             throw new IOException("Scene file cannot be read: " + filename);
         }
 
@@ -50,10 +48,7 @@ public class SceneLoader {
         System.out.println("  Using scene name: " + actualSceneName + " (extracted from: " + sceneName + ")");
         Scene scene = new Scene(actualSceneName);
 
-        // Use try-with-resources to ensure reader is always closed
-        try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
-            loadSceneContent(scene, reader, loadFromProgress);
-        }
+        new SceneParser(scene, loadFromProgress).parse(file);
 
         // Load actions from separate files for all KeyAreas
         System.out.println("Loading actions from separate files...");
@@ -100,442 +95,397 @@ public class SceneLoader {
         return scene;
     }
 
-    private static void loadSceneContent(Scene scene, BufferedReader reader, boolean loadFromProgress) throws IOException {
-        String line;
-        String currentMainSection = null;
-        KeyArea.Type currentType = null;
-        String currentName = null;
-        int x1 = 0, y1 = 0;
-        KeyArea currentKeyArea = null;
-        String currentAction = null;
-        KeyArea.ActionHandler currentActionHandler = null;
-        boolean inLocation = false;
-        boolean inImage = false;
-        boolean inActions = false;
-        boolean inDialogs = false;
-        boolean inMouseHover = false;
-        String pendingCondition = null;
-        java.util.List<String> pendingConditions = new java.util.ArrayList<>(); // Collect multiple --- lines
-        String currentDialogName = null;
-        StringBuilder currentDialogText = null;
+    /**
+     * Section handlers and parse state of one scene file
+     */
+    private static class SceneParser {
+        private final Scene scene;
+        private final boolean loadFromProgress;
+
+        // KeyArea
+        private KeyArea.Type currentType = null;
+        private String currentName = null;
+        private int x1 = 0;
+        private KeyArea currentKeyArea = null;
+        private KeyArea.ActionHandler currentActionHandler = null;
+        private boolean inLocation = false;
+        private boolean inImage = false;
+        private boolean inActions = false;
+        private boolean inMouseHover = false;
+        private final java.util.List<String> pendingConditions = new java.util.ArrayList<>(); // Collect multiple --- lines
+
+        // Dialogs
+        private String currentDialogName = null;
+        private StringBuilder currentDialogText = null;
 
         // New: For loading multiple conditional images
-        ConditionalImage currentConditionalImage = null;
-        boolean inBackgroundImageSection = false;
-        boolean inConditionsSection = false;
-        boolean inSubSceneConditions = false; // For top-level SubScene conditions
-
-        while ((line = reader.readLine()) != null) {
-            String trimmed = line.trim();
-
-            // Skip empty lines
-            if (trimmed.isEmpty()) {
-                continue;
-            }
-
-            // Main sections
-            if (trimmed.equals("#Conditions:")) {
-                // SubScene-level conditions (determines when this SubScene is loaded)
-                currentMainSection = "SubSceneConditions";
-                inSubSceneConditions = true;
-                inDialogs = false;
-                inBackgroundImageSection = false;
-                continue;
-            } else if (trimmed.startsWith("#Backgroundimage:")) {
-                // Old format: single background image
-                currentMainSection = "Backgroundimage";
-                inDialogs = false;
-                inBackgroundImageSection = false;
-                inSubSceneConditions = false;
-                continue;
-            } else if (trimmed.equals("#BackgroundImages:")) {
-                // New format: multiple conditional images
-                currentMainSection = "BackgroundImages";
-                inDialogs = false;
-                inBackgroundImageSection = false;
-                inSubSceneConditions = false;
-                continue;
-            } else if (trimmed.equals("#KeyArea:")) {
-                currentMainSection = "KeyArea";
-                currentType = null;
-                currentName = null;
-                currentKeyArea = null;
-                inLocation = false;
-                inImage = false;
-                inActions = false;
-                inMouseHover = false;
-                inDialogs = false;
-                inSubSceneConditions = false;
-                continue;
-            } else if (trimmed.equals("#Dialogs:")) {
-                currentMainSection = "Dialogs";
-                inDialogs = true;
-                inLocation = false;
-                inImage = false;
-                inActions = false;
-                inMouseHover = false;
-                inSubSceneConditions = false;
-                continue;
-            } else if (trimmed.equals("#Items:")) {
-                System.out.println("=====> Found #Items: section! <=====");
-                currentMainSection = "Items";
-                inDialogs = false;
-                inLocation = false;
-                inImage = false;
-                inActions = false;
-                inMouseHover = false;
-                inSubSceneConditions = false;
-                continue;
-            } else if (trimmed.equals("#SelectedItem:")) {
-                System.out.println("=====> Found #SelectedItem: section! <=====");
-                currentMainSection = "SelectedItem";
-                inDialogs = false;
-                inLocation = false;
-                inImage = false;
-                inActions = false;
-                inMouseHover = false;
-                inSubSceneConditions = false;
-                continue;
-            }
+        private ConditionalImage currentConditionalImage = null;
+        private boolean inBackgroundImageSection = false;
+        private boolean inConditionsSection = false;
 
-            // Parse SubScene Conditions (determines when this SubScene is loaded)
-            if ("SubSceneConditions".equals(currentMainSection) && inSubSceneConditions) {
-                if (trimmed.startsWith("-")) {
-                    // Parse condition: "-hasLighter = true"
-                    String conditionLine = trimmed.substring(1).trim();
-                    if (conditionLine.contains("=")) {
-                        String[] parts = conditionLine.split("=");
-                        if (parts.length == 2) {
-                            String condName = parts[0].trim();
-                            boolean condValue = Boolean.parseBoolean(parts[1].trim());
-                            scene.addSubSceneCondition(condName, condValue);
-                            System.out.println("  SubScene Condition: " + condName + " = " + condValue);
-                        }
-                    }
-                }
-            }
+        SceneParser(Scene scene, boolean loadFromProgress) {
+            this.scene = scene;
+            this.loadFromProgress = loadFromProgress;
+        }
 
-            // Parse Backgroundimage (old format - backwards compatibility)
-            // MIGRATION: Convert to ConditionalImage
-            else if ("Backgroundimage".equals(currentMainSection) && !inDialogs) {
-                if (trimmed.startsWith("-")) {
-                    String bgPath = trimmed.substring(1).trim();
-                    // Create ConditionalImage from legacy format
-                    ConditionalImage defaultImage = new ConditionalImage(bgPath, "Default");
-                    scene.addBackgroundImage(defaultImage);
-                    // Also set legacy field for backward compatibility during transition
-                    scene.setBackgroundImagePath(bgPath);
+        void parse(File file) throws IOException {
+            ResourceTokenizer tokenizer = new ResourceTokenizer();
+            // SubScene-level conditions (determines when this SubScene is loaded)
+            tokenizer.on("Conditions", this::subSceneConditionLine);
+            // Old format: single background image
+            tokenizer.on("Backgroundimage", this::backgroundImageLine);
+            // New format: multiple conditional images
+            tokenizer.on("BackgroundImages", new ResourceTokenizer.SectionHandler() {
+                @Override
+                public void begin(ResourceTokenizer.Token header) {
+                    inBackgroundImageSection = false;
                 }
-            }
 
-            // Parse BackgroundImages (new format - multiple conditional images)
-            else if ("BackgroundImages".equals(currentMainSection) && !inDialogs) {
-                if (trimmed.equals("-Image:")) {
-                    // Save previous image if exists
-                    if (currentConditionalImage != null) {
-                        scene.addBackgroundImage(currentConditionalImage);
-                    }
-                    // Start new image
-                    currentConditionalImage = new ConditionalImage();
-                    inBackgroundImageSection = true;
-                    inConditionsSection = false;
-                } else if (inBackgroundImageSection && currentConditionalImage != null) {
-                    if (trimmed.startsWith("--Name:")) {
-                        String name = trimmed.substring(7).trim();
-                        currentConditionalImage.setName(name);
-                    } else if (trimmed.startsWith("--Path:")) {
-                        String path = trimmed.substring(7).trim();
-                        currentConditionalImage.setImagePath(path);
-                    } else if (trimmed.startsWith("--ShowIfTrue:")) {
-                        String showIfStr = trimmed.substring(13).trim();
-                        currentConditionalImage.setShowIfTrue(Boolean.parseBoolean(showIfStr));
-                    } else if (trimmed.startsWith("--FlipHorizontally:") || trimmed.startsWith("---FlipHorizontally")) {
-                        // Support both formats: "--FlipHorizontally:" and "---FlipHorizontally = true"
-                        String flipStr;
-                        if (trimmed.contains("=")) {
-                            flipStr = trimmed.substring(trimmed.indexOf("=") + 1).trim();
-                        } else {
-                            flipStr = trimmed.substring(trimmed.indexOf(":") + 1).trim();
-                        }
-                        currentConditionalImage.setFlipHorizontally(Boolean.parseBoolean(flipStr));
-                    } else if (trimmed.startsWith("--FlipVertically:") || trimmed.startsWith("---FlipVertically")) {
-                        // Support both formats: "--FlipVertically:" and "---FlipVertically = true"
-                        String flipStr;
-                        if (trimmed.contains("=")) {
-                            flipStr = trimmed.substring(trimmed.indexOf("=") + 1).trim();
-                        } else {
-                            flipStr = trimmed.substring(trimmed.indexOf(":") + 1).trim();
-                        }
-                        currentConditionalImage.setFlipVertically(Boolean.parseBoolean(flipStr));
-                    } else if (trimmed.equals("--Conditions:")) {
-                        inConditionsSection = true;
-                    } else if (inConditionsSection && trimmed.startsWith("---")) {
-                        // Skip flip settings in conditions section
-                        if (trimmed.startsWith("---FlipHorizontally") || trimmed.startsWith("---FlipVertically")) {
-                            // Already handled above
-                        } else {
-                            // Parse condition: "---hasLighter = true"
-                            String conditionLine = trimmed.substring(3).trim();
-                            if (conditionLine.contains("=")) {
-                                String[] parts = conditionLine.split("=");
-                                if (parts.length == 2) {
-                                    String condName = parts[0].trim();
-                                    boolean condValue = Boolean.parseBoolean(parts[1].trim());
-                                    currentConditionalImage.addCondition(condName, condValue);
-                                }
-                            }
-                        }
-                    }
+                @Override
+                public void line(ResourceTokenizer.Token token) {
+                    backgroundImagesLine(token);
                 }
-            }
-            // Parse KeyArea
-            else if ("KeyArea".equals(currentMainSection) && !inDialogs) {
-                // Type
-                if (trimmed.startsWith("-Type:")) {
-                    String typeStr = trimmed.substring(6).trim();
-                    switch (typeStr) {
-                        case "TRANSITION":
-                        case "Transition":
-                            currentType = KeyArea.Type.TRANSITION;
-                            break;
-                        case "INTERACTION":
-                        case "Interaction":
-                            currentType = KeyArea.Type.INTERACTION;
-                            break;
-                        case "MOVEMENT_BOUNDS":
-                        case "Movement_Bounds":
-                            currentType = KeyArea.Type.MOVEMENT_BOUNDS;
-                            break;
-                        case "CHARACTER_RANGE":
-                        case "Character_Range":
-                            currentType = KeyArea.Type.CHARACTER_RANGE;
-                            break;
-                        default:
-                            currentType = KeyArea.Type.INTERACTION;
-                            break;
-                    }
-                }
-                // Name
-                else if (trimmed.startsWith("-Name:")) {
-                    currentName = trimmed.substring(6).trim().replace(";", "");
-                    // Create KeyArea immediately
-                    if (currentType != null && currentName != null) {
-                        currentKeyArea = new KeyArea(currentType, currentName);
-                        scene.addKeyArea(currentKeyArea);
-                        System.out.println("Created KeyArea: " + currentName);
-                    }
-                }
-                // MouseHover section
-                else if (trimmed.equals("-MouseHover")) {
-                    inMouseHover = true;
-                    inImage = false;
+            });
+            tokenizer.on("KeyArea", new ResourceTokenizer.SectionHandler() {
+                @Override
+                public void begin(ResourceTokenizer.Token header) {
+                    currentType = null;
+                    currentName = null;
+                    currentKeyArea = null;
                     inLocation = false;
+                    inImage = false;
                     inActions = false;
+                    inMouseHover = false;
                 }
-                else if (inMouseHover && trimmed.startsWith("--conditions")) {
-                    // Clear previous conditions when starting new conditions block
-                    pendingConditions.clear();
-                    continue;
-                }
-                else if (inMouseHover && trimmed.startsWith("---") && !trimmed.startsWith("----")) {
-                    String conditionLine = trimmed.substring(3).trim().replace(";", "");
-                    pendingConditions.add(conditionLine);
-                }
-                else if (inMouseHover && trimmed.startsWith("----Display:")) {
-                    continue;
+
+                @Override
+                public void line(ResourceTokenizer.Token token) throws IOException {
+                    keyAreaLine(token);
                 }
-                else if (inMouseHover && trimmed.startsWith("------")) {
-                    String displayText = trimmed.substring(6).trim().replace("\"", "");
-                    // Combine all pending conditions with AND
-                    if (currentKeyArea != null && !pendingConditions.isEmpty()) {
-                        pendingCondition = String.join(" AND ", pendingConditions);
-                        currentKeyArea.addHoverDisplayCondition(pendingCondition, displayText);
-                    }
-                    pendingCondition = null;
-                    // Don't clear pendingConditions here - may have multiple results for same conditions
+            });
+            tokenizer.on("Dialogs", this::dialogLine);
+            tokenizer.on("Items", new ResourceTokenizer.SectionHandler() {
+                @Override
+                public void begin(ResourceTokenizer.Token header) {
+                    System.out.println("=====> Found #Items: section! <=====");
                 }
-                // Image section
-                else if (trimmed.equals("-Image")) {
-                    inImage = true;
-                    inLocation = false;
-                    inActions = false;
-                    inMouseHover = false;
+
+                @Override
+                public void line(ResourceTokenizer.Token token) {
+                    itemLine(token);
                 }
-                else if (inImage && trimmed.startsWith("--conditions:")) {
-                    // Clear previous conditions when starting new conditions block
-                    pendingConditions.clear();
-                    continue;
+            });
+            // Editor selection - persists across sessions
+            tokenizer.on("SelectedItem", new ResourceTokenizer.SectionHandler() {
+                @Override
+                public void begin(ResourceTokenizer.Token header) {
+                    System.out.println("=====> Found #SelectedItem: section! <=====");
                 }
-                else if (inImage && trimmed.startsWith("---") && !trimmed.startsWith("----")) {
-                    String conditionLine = trimmed.substring(3).trim().replace(";", "");
-                    pendingConditions.add(conditionLine);
+
+                @Override
+                public void line(ResourceTokenizer.Token token) {
+                    selectedItemLine(token);
                 }
-                else if (inImage && trimmed.startsWith("----Image:")) {
-                    String imagePath = trimmed.substring(10).trim().replace(";", "");
-                    // Combine all pending conditions with AND
-                    if (currentKeyArea != null && !pendingConditions.isEmpty()) {
-                        pendingCondition = String.join(" AND ", pendingConditions);
-                        currentKeyArea.addImageCondition(pendingCondition, imagePath);
+            });
+            tokenizer.parse(file);
+
+            // Add last conditional image if exists
+            if (currentConditionalImage != null) {
+                scene.addBackgroundImage(currentConditionalImage);
+            }
+
+            // Add last dialog
+            if (currentDialogName != null && currentDialogText != null) {
+                scene.addDialog(currentDialogName, currentDialogText.toString().trim());
+            }
+        }
+
+        private void subSceneConditionLine(ResourceTokenizer.Token token) {
+            if (token.startsWith("-")) {
+                // Parse condition: "-hasLighter = true"
+                String conditionLine = token.value(1);
+                if (conditionLine.contains("=")) {
+                    String[] parts = conditionLine.split("=");
+                    if (parts.length == 2) {
+                        String condName = parts[0].trim();
+                        boolean condValue = Boolean.parseBoolean(parts[1].trim());
+                        scene.addSubSceneCondition(condName, condValue);
+                        System.out.println("  SubScene Condition: " + condName + " = " + condValue);
                     }
-                    pendingCondition = null;
-                    // Don't clear pendingConditions here - may have multiple results for same conditions
                 }
-                // Actions section (with #Actions:)
-                else if (trimmed.equals("#Actions:")) {
-                    inActions = true;
-                    inImage = false;
-                    inLocation = false;
-                    inMouseHover = false;
+            }
+        }
+
+        // MIGRATION: Convert to ConditionalImage
+        private void backgroundImageLine(ResourceTokenizer.Token token) {
+            if (token.startsWith("-")) {
+                String bgPath = token.value(1);
+                // Create ConditionalImage from legacy format
+                ConditionalImage defaultImage = new ConditionalImage(bgPath, "Default");
+                scene.addBackgroundImage(defaultImage);
+                // Also set legacy field for backward compatibility during transition
+                scene.setBackgroundImagePath(bgPath);
+            }
+        }
+
+        private void backgroundImagesLine(ResourceTokenizer.Token token) {
+            if (token.is("-Image:")) {
+                // Save previous image if exists
+                if (currentConditionalImage != null) {
+                    scene.addBackgroundImage(currentConditionalImage);
                 }
-                // Action name (starts with single -)
-                else if (inActions && trimmed.startsWith("-") && !trimmed.startsWith("--")) {
-                    // Clear pending conditions from previous action
-                    pendingConditions.clear();
-                    currentAction = trimmed.substring(1).trim();
-                    currentActionHandler = new KeyArea.ActionHandler();
-                    if (currentKeyArea != null) {
-                        currentKeyArea.addAction(currentAction, currentActionHandler);
+                // Start new image
+                currentConditionalImage = new ConditionalImage();
+                inBackgroundImageSection = true;
+                inConditionsSection = false;
+            } else if (inBackgroundImageSection && currentConditionalImage != null) {
+                if (token.startsWith("--Name:")) {
+                    currentConditionalImage.setName(token.value(7));
+                } else if (token.startsWith("--Path:")) {
+                    currentConditionalImage.setImagePath(token.value(7));
+                } else if (token.startsWith("--ShowIfTrue:")) {
+                    currentConditionalImage.setShowIfTrue(Boolean.parseBoolean(token.value(13)));
+                } else if (token.startsWith("--FlipHorizontally:") || token.startsWith("---FlipHorizontally")) {
+                    // Support both formats: "--FlipHorizontally:" and "---FlipHorizontally = true"
+                    currentConditionalImage.setFlipHorizontally(Boolean.parseBoolean(flipValue(token)));
+                } else if (token.startsWith("--FlipVertically:") || token.startsWith("---FlipVertically")) {
+                    // Support both formats: "--FlipVertically:" and "---FlipVertically = true"
+                    currentConditionalImage.setFlipVertically(Boolean.parseBoolean(flipValue(token)));
+                } else if (token.is("--Conditions:")) {
+                    inConditionsSection = true;
+                } else if (inConditionsSection && token.startsWith("---")) {
+                    // Parse condition: "---hasLighter = true"
+                    String conditionLine = token.value(3);
+                    if (conditionLine.contains("=")) {
+                        String[] parts = conditionLine.split("=");
+                        if (parts.length == 2) {
+                            String condName = parts[0].trim();
+                            boolean condValue = Boolean.parseBoolean(parts[1].trim());
+                            currentConditionalImage.addCondition(condName, condValue);
+                        }
                     }
                 }
-                // Conditions for action
-                else if (inActions && trimmed.startsWith("--conditions")) {
-                    // Clear previous conditions when starting new conditions block
-                    pendingConditions.clear();
-                    continue;
-                }
-                else if (inActions && trimmed.startsWith("---") && !trimmed.startsWith("----")) {
-                    String conditionLine = trimmed.substring(3).trim().replace(";", "");
-                    pendingConditions.add(conditionLine);
+            }
+        }
+
+        private static String flipValue(ResourceTokenizer.Token token) {
+            int equals = token.indexOf("=");
+            return token.value(equals >= 0 ? equals + 1 : token.indexOf(":") + 1);
+        }
+
+        private void keyAreaLine(ResourceTokenizer.Token token) throws IOException {
+            // Type
+            if (token.startsWith("-Type:")) {
+                switch (token.value(6)) {
+                    case "TRANSITION":
+                    case "Transition":
+                        currentType = KeyArea.Type.TRANSITION;
+                        break;
+                    case "INTERACTION":
+                    case "Interaction":
+                        currentType = KeyArea.Type.INTERACTION;
+                        break;
+                    case "MOVEMENT_BOUNDS":
+                    case "Movement_Bounds":
+                        currentType = KeyArea.Type.MOVEMENT_BOUNDS;
+                        break;
+                    case "CHARACTER_RANGE":
+                    case "Character_Range":
+                        currentType = KeyArea.Type.CHARACTER_RANGE;
+                        break;
+                    default:
+                        currentType = KeyArea.Type.INTERACTION;
+                        break;
                 }
-                else if (inActions && trimmed.startsWith("----#Dialog:")) {
-                    continue;
+            }
+            // Name
+            else if (token.startsWith("-Name:")) {
+                currentName = token.value(6).replace(";", "");
+                // Create KeyArea immediately
+                if (currentType != null && currentName != null) {
+                    currentKeyArea = new KeyArea(currentType, currentName);
+                    scene.addKeyArea(currentKeyArea);
+                    System.out.println("Created KeyArea: " + currentName);
                 }
-                else if (inActions && trimmed.startsWith("------")) {
-                    String result = trimmed.substring(6).trim();
-                    // Combine all pending conditions with AND
-                    if (currentActionHandler != null && !pendingConditions.isEmpty()) {
-                        pendingCondition = String.join(" AND ", pendingConditions);
-                        currentActionHandler.addConditionalResult(pendingCondition, "#Dialog:" + result);
-                        System.out.println("SceneLoader: Added Dialog result for condition: " + pendingCondition);
-                    }
-                    pendingCondition = null;
-                    // Don't clear pendingConditions here - may have multiple results for same conditions
+            }
+            // MouseHover section
+            else if (token.is("-MouseHover")) {
+                inMouseHover = true;
+                inImage = false;
+                inLocation = false;
+                inActions = false;
+            }
+            else if (inMouseHover && token.startsWith("--conditions")) {
+                // Clear previous conditions when starting new conditions block
+                pendingConditions.clear();
+            }
+            else if (inMouseHover && token.depth('-') == 3) {
+                pendingConditions.add(token.value(3).replace(";", ""));
+            }
+            else if (inMouseHover && token.startsWith("----Display:")) {
+                // Display text follows in the ------ line
+            }
+            else if (inMouseHover && token.startsWith("------")) {
+                String displayText = token.value(6).replace("\"", "");
+                // Combine all pending conditions with AND
+                // Don't clear pendingConditions here - may have multiple results for same conditions
+                if (currentKeyArea != null && !pendingConditions.isEmpty()) {
+                    currentKeyArea.addHoverDisplayCondition(String.join(" AND ", pendingConditions), displayText);
                 }
-                else if (inActions && trimmed.startsWith("----##load")) {
-                    String result = trimmed.substring(4).trim();
-                    // Combine all pending conditions with AND
-                    if (currentActionHandler != null && !pendingConditions.isEmpty()) {
-                        pendingCondition = String.join(" AND ", pendingConditions);
-                        currentActionHandler.addConditionalResult(pendingCondition, result);
-                    }
-                    pendingCondition = null;
-                    // Don't clear pendingConditions here - may have multiple results for same conditions
+            }
+            // Image section
+            else if (token.is("-Image")) {
+                inImage = true;
+                inLocation = false;
+                inActions = false;
+                inMouseHover = false;
+            }
+            else if (inImage && token.startsWith("--conditions:")) {
+                // Clear previous conditions when starting new conditions block
+                pendingConditions.clear();
+            }
+            else if (inImage && token.depth('-') == 3) {
+                pendingConditions.add(token.value(3).replace(";", ""));
+            }
+            else if (inImage && token.startsWith("----Image:")) {
+                String imagePath = token.value(10).replace(";", "");
+                // Combine all pending conditions with AND
+                if (currentKeyArea != null && !pendingConditions.isEmpty()) {
+                    currentKeyArea.addImageCondition(String.join(" AND ", pendingConditions), imagePath);
                 }
-                else if (inActions && trimmed.startsWith("----#SetBoolean:")) {
-                    String result = trimmed.substring(4).trim();
-                    // Combine all pending conditions with AND
-                    if (currentActionHandler != null && !pendingConditions.isEmpty()) {
-                        pendingCondition = String.join(" AND ", pendingConditions);
-                        currentActionHandler.addConditionalResult(pendingCondition, result);
-                        System.out.println("SceneLoader: Added SetBoolean result: " + result + " for condition: " + pendingCondition);
-                    }
-                    pendingCondition = null;
-                    // Don't clear pendingConditions here - may have multiple results for same conditions
+            }
+            // Actions section (with #Actions:)
+            else if (token.is("#Actions:")) {
+                inActions = true;
+                inImage = false;
+                inLocation = false;
+                inMouseHover = false;
+            }
+            // Action name (starts with single -)
+            else if (inActions && token.depth('-') == 1) {
+                // Clear pending conditions from previous action
+                pendingConditions.clear();
+                currentActionHandler = new KeyArea.ActionHandler();
+                if (currentKeyArea != null) {
+                    currentKeyArea.addAction(token.value(1), currentActionHandler);
                 }
-                // Location section (comes AFTER Actions, starts with ##Location:)
-                else if (trimmed.equals("##Location:")) {
-                    inLocation = true;
-                    inImage = false;
-                    inActions = false;
-                    inMouseHover = false;
+            }
+            // Conditions for action
+            else if (inActions && token.startsWith("--conditions")) {
+                // Clear previous conditions when starting new conditions block
+                pendingConditions.clear();
+            }
+            else if (inActions && token.depth('-') == 3) {
+                pendingConditions.add(token.value(3).replace(";", ""));
+            }
+            else if (inActions && token.startsWith("----#Dialog:")) {
+                // Dialog name follows in the ------ line
+            }
+            else if (inActions && token.startsWith("------")) {
+                // Combine all pending conditions with AND
+                if (currentActionHandler != null && !pendingConditions.isEmpty()) {
+                    String pendingCondition = String.join(" AND ", pendingConditions);
+                    currentActionHandler.addConditionalResult(pendingCondition, "#Dialog:" + token.value(6));
+                    System.out.println("SceneLoader: Added Dialog result for condition: " + pendingCondition);
                 }
-                else if (inLocation && trimmed.startsWith("###")) {
-                    continue;
+            }
+            else if (inActions && token.startsWith("----##load")) {
+                // Combine all pending conditions with AND
+                if (currentActionHandler != null && !pendingConditions.isEmpty()) {
+                    currentActionHandler.addConditionalResult(String.join(" AND ", pendingConditions), token.value(4));
                 }
-                else if (inLocation && trimmed.startsWith("--x")) {
-                    x1 = parseCoordinate(trimmed);
+            }
+            else if (inActions && token.startsWith("----#SetBoolean:")) {
+                String result = token.value(4);
+                // Combine all pending conditions with AND
+                if (currentActionHandler != null && !pendingConditions.isEmpty()) {
+                    String pendingCondition = String.join(" AND ", pendingConditions);
+                    currentActionHandler.addConditionalResult(pendingCondition, result);
+                    System.out.println("SceneLoader: Added SetBoolean result: " + result + " for condition: " + pendingCondition);
                 }
-                else if (inLocation && trimmed.startsWith("--y")) {
-                    y1 = parseCoordinate(trimmed);
-                    if (currentKeyArea != null) {
-                        currentKeyArea.addPoint(x1, y1);
-                        System.out.println("  Added point: (" + x1 + ", " + y1 + ")");
-                    }
+            }
+            // Location section (comes AFTER Actions, starts with ##Location:)
+            else if (token.is("##Location:")) {
+                inLocation = true;
+                inImage = false;
+                inActions = false;
+                inMouseHover = false;
+            }
+            else if (inLocation && token.startsWith("###")) {
+                // Marker of the next point
+            }
+            else if (inLocation && token.startsWith("--x")) {
+                x1 = token.intAfterEquals();
+            }
+            else if (inLocation && token.startsWith("--y")) {
+                int y1 = token.intAfterEquals();
+                if (currentKeyArea != null) {
+                    currentKeyArea.addPoint(x1, y1);
+                    System.out.println("  Added point: (" + x1 + ", " + y1 + ")");
                 }
             }
-            // Parse Dialogs
-            else if ("Dialogs".equals(currentMainSection)) {
-                if (trimmed.startsWith("-") && !trimmed.startsWith("--")) {
-                    // Save previous dialog
-                    if (currentDialogName != null && currentDialogText != null) {
-                        scene.addDialog(currentDialogName, currentDialogText.toString().trim());
-                    }
-                    // Start new dialog
-                    currentDialogName = trimmed.substring(1).trim();
-                    currentDialogText = new StringBuilder();
-                } else if (trimmed.startsWith("--")) {
-                    // Dialog line
-                    String dialogLine = trimmed.substring(2).trim();
-                    if (currentDialogText != null) {
-                        if (currentDialogText.length() > 0) {
-                            currentDialogText.append("\n");
-                        }
-                        currentDialogText.append(dialogLine);
+        }
+
+        private void dialogLine(ResourceTokenizer.Token token) {
+            if (token.depth('-') == 1) {
+                // Save previous dialog
+                if (currentDialogName != null && currentDialogText != null) {
+                    scene.addDialog(currentDialogName, currentDialogText.toString().trim());
+                }
+                // Start new dialog
+                currentDialogName = token.value(1);
+                currentDialogText = new StringBuilder();
+            } else if (token.startsWith("--")) {
+                // Dialog line
+                if (currentDialogText != null) {
+                    if (currentDialogText.length() > 0) {
+                        currentDialogText.append("\n");
                     }
+                    currentDialogText.append(token.value(2));
                 }
             }
-            // Parse Items
-            else if ("Items".equals(currentMainSection)) {
-                System.out.println("DEBUG SceneLoader: In Items section!");
-                if (trimmed.startsWith("-")) {
-                    String itemName = trimmed.substring(1).trim();
-                    System.out.println("DEBUG SceneLoader: Found item line: " + itemName);
-                    try {
-                        Item item;
-                        if (loadFromProgress) {
-                            System.out.println("DEBUG SceneLoader: Calling ItemLoader.loadItemFromProgress(" + itemName + ")");
-                            item = ItemLoader.loadItemFromProgress(itemName);
-                        } else {
-                            System.out.println("DEBUG SceneLoader: Calling ItemLoader.loadItemFromDefault(" + itemName + ")");
-                            item = ItemLoader.loadItemFromDefault(itemName);
-                        }
-                        scene.addItem(item);
-                        System.out.println("  Loaded item: " + itemName);
-                        System.out.println("  Item hoverDisplayConditions size: " + item.getHoverDisplayConditions().size());
-                    } catch (Exception e) {
-                        System.err.println("WARNING: Could not load item: " + itemName + " - " + e.getMessage());
-                        e.printStackTrace();
+        }
+
+        private void itemLine(ResourceTokenizer.Token token) {
+            System.out.println("DEBUG SceneLoader: In Items section!");
+            if (token.startsWith("-")) {
+                String itemName = token.value(1);
+                System.out.println("DEBUG SceneLoader: Found item line: " + itemName);
+                try {
+                    Item item;
+                    if (loadFromProgress) {
+                        System.out.println("DEBUG SceneLoader: Calling ItemLoader.loadItemFromProgress(" + itemName + ")");
+                        item = ItemLoader.loadItemFromProgress(itemName);
+                    } else {
+                        System.out.println("DEBUG SceneLoader: Calling ItemRegistry.getInstance(" + itemName + ")");
+                        item = ItemRegistry.getInstance(itemName);
                     }
+                    scene.addItem(item);
+                    System.out.println("  Loaded item: " + itemName);
+                    System.out.println("  Item hoverDisplayConditions size: " + item.getHoverDisplayConditions().size());
+                } catch (Exception e) {
+                    System.err.println("WARNING: Could not load item: " + itemName + " - " + e.getMessage());
+                    e.printStackTrace();
                 }
             }
-            // Parse SelectedItem (editor selection - persists across sessions)
-            else if ("SelectedItem".equals(currentMainSection)) {
-                if (trimmed.startsWith("-")) {
-                    String selectedItemName = trimmed.substring(1).trim();
-                    System.out.println("  Selected item: " + selectedItemName);
-                    // Find and select the item in the scene
-                    if (scene.getItems() != null) {
-                        for (Item item : scene.getItems()) {
-                            if (item != null && item.getName().equals(selectedItemName)) {
-                                scene.setSelectedItem(item);
-                                System.out.println("  ✓ Restored selected item: " + selectedItemName);
-                                break;
-                            }
+        }
+
+        private void selectedItemLine(ResourceTokenizer.Token token) {
+            if (token.startsWith("-")) {
+                String selectedItemName = token.value(1);
+                System.out.println("  Selected item: " + selectedItemName);
+                // Find and select the item in the scene
+                if (scene.getItems() != null) {
+                    for (Item item : scene.getItems()) {
+                        if (item != null && item.getName().equals(selectedItemName)) {
+                            scene.setSelectedItem(item);
+                            System.out.println("  ✓ Restored selected item: " + selectedItemName);
+                            break;
                         }
                     }
                 }
             }
         }
-
-        // Add last conditional image if exists
-        if (currentConditionalImage != null) {
-            scene.addBackgroundImage(currentConditionalImage);
-        }
-
-        // Add last dialog
-        if (currentDialogName != null && currentDialogText != null) {
-            scene.addDialog(currentDialogName, currentDialogText.toString().trim());
-        }
     }
 
     /**
@@ -545,13 +495,6 @@ public class SceneLoader {
         return loadScene(sceneName, null);
     }
 
-    private static int parseCoordinate(String line) {
-        String[] parts = line.split("=");
-        if (parts.length == 2) {
-            return Integer.parseInt(parts[1].trim().replace(";", ""));
-        }
-        return 0;
-    }
 
     /**
      * @deprecated Use loadScene() instead - <name>.txt is now the DEFAULT
@@ -100,6 +100,7 @@ public class SceneOrderManager {
             System.err.println("Error saving scene order: " + e.getMessage());
             e.printStackTrace();
         }
+        ResourceIndex.fileChanged(orderFile);
     }
 
     /**
@@ -127,6 +128,11 @@ public class SceneOrderManager {
                 String sceneName = sceneItem.getName();
                 List<String> subScenes = new ArrayList<>();
 
+                // SubScene nodes not created yet (collapsed lazy node) - keep the known order
+                if (!sceneItem.isChildrenLoaded() && !sceneItem.getSubSceneNames().isEmpty()) {
+                    subScenes.addAll(sceneItem.getSubSceneNames());
+                }
+
                 // Get all subscene children
                 for (int j = 0; j < sceneNode.getChildCount(); j++) {
                     javax.swing.tree.DefaultMutableTreeNode subSceneNode =
@@ -14,6 +14,7 @@ import java.util.List;
 import javax.swing.BorderFactory;
 import javax.swing.Box;
 import javax.swing.BoxLayout;
+import javax.swing.DefaultCellEditor;
 import javax.swing.JButton;
 import javax.swing.JCheckBox;
 import javax.swing.JDialog;
@@ -22,9 +23,11 @@ import javax.swing.JList;
 import javax.swing.JPanel;
 import javax.swing.JScrollPane;
 import javax.swing.JTabbedPane;
+import javax.swing.JTable;
 import javax.swing.JTextField;
 import javax.swing.ListSelectionModel;
 import javax.swing.SwingUtilities;
+import javax.swing.table.AbstractTableModel;
 
 /**
  * Scene Point Editor with tabbed interface.
@@ -44,15 +47,16 @@ public class ScenePointEditor extends JDialog {
     // Tabbed pane
     private JTabbedPane tabbedPane;
 
-    // Point containers for each tab
-    private JPanel customClickAreaContainer;
-    private JPanel movingRangeContainer;
-    private JPanel pathContainer;
+    // Point tables for each tab
+    private PointsTableModel customClickAreaModel = new PointsTableModel("CustomClickArea");
+    private PointsTableModel movingRangeModel = new PointsTableModel("MovingRange");
+    private PointsTableModel pathModel = new PointsTableModel("Path");
+    private JTable customClickAreaTable;
+    private JTable movingRangeTable;
+    private JTable pathTable;
 
-    // Point panels
-    private List<PointPanelNew> customClickAreaPanels = new ArrayList<>();
-    private List<PointPanelNew> movingRangePanels = new ArrayList<>();
-    private List<PointPanelNew> pathPanels = new ArrayList<>();
+    // One x/y editor shared by all point tables
+    private final DefaultCellEditor pointCellEditor = new DefaultCellEditor(new JTextField());
 
     // Selected point index per tab
     private int selectedCustomClickIndex = -1;
@@ -233,19 +237,16 @@ public class ScenePointEditor extends JDialog {
         tabbedPane.setBorder(BorderFactory.createEmptyBorder(0, 5, 10, 10));
 
         // Tab 1: CustomClickArea
-        JPanel tab1 = createTabPanel("CustomClickArea");
-        customClickAreaContainer = (JPanel) tab1.getClientProperty("container");
-        tabbedPane.addTab("CustomClickArea", tab1);
+        customClickAreaTable = createPointsTable(customClickAreaModel);
+        tabbedPane.addTab("CustomClickArea", createTabPanel(customClickAreaTable));
 
         // Tab 2: MovingRange
-        JPanel tab2 = createTabPanel("MovingRange");
-        movingRangeContainer = (JPanel) tab2.getClientProperty("container");
-        tabbedPane.addTab("MovingRange", tab2);
+        movingRangeTable = createPointsTable(movingRangeModel);
+        tabbedPane.addTab("MovingRange", createTabPanel(movingRangeTable));
 
         // Tab 3: Path
-        JPanel tab3 = createTabPanel("Path");
-        pathContainer = (JPanel) tab3.getClientProperty("container");
-        tabbedPane.addTab("Path", tab3);
+        pathTable = createPointsTable(pathModel);
+        tabbedPane.addTab("Path", createTabPanel(pathTable));
 
         // Listen to tab changes
         tabbedPane.addChangeListener(e -> onTabChanged());
@@ -281,17 +282,49 @@ public class ScenePointEditor extends JDialog {
     }
 
     /**
-     * Create a tab panel with points list and buttons
+     * Create a point table; only the visible rows are rendered, edits go through the shared cell editor
      */
-    private JPanel createTabPanel(String pointType) {
-        JPanel mainPanel = new JPanel(new BorderLayout());
+    private JTable createPointsTable(PointsTableModel model) {
+        JTable table = new JTable(model);
+        table.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
+        table.setRowHeight(25);
+        table.setFont(new Font("Arial", Font.PLAIN, 12));
+        table.setSelectionBackground(new Color(200, 230, 255));
+        table.setSelectionForeground(Color.BLACK);
+        table.getTableHeader().setReorderingAllowed(false);
+        table.getColumnModel().getColumn(0).setPreferredWidth(80);
+        table.getColumnModel().getColumn(1).setCellEditor(pointCellEditor);
+        table.getColumnModel().getColumn(2).setCellEditor(pointCellEditor);
+        table.putClientProperty("terminateEditOnFocusLost", Boolean.TRUE);
+
+        // Row selection = point selection
+        table.getSelectionModel().addListSelectionListener(e -> {
+            if (!e.getValueIsAdjusting()) {
+                onPointSelected(model, table.getSelectedRow());
+            }
+        });
 
-        // Points container
-        JPanel container = new JPanel();
-        container.setLayout(new BoxLayout(container, BoxLayout.Y_AXIS));
-        container.setBorder(BorderFactory.createEmptyBorder(10, 10, 10, 10));
+        // Key listener for DELETE
+        table.addKeyListener(new java.awt.event.KeyAdapter() {
+            @Override
+            public void keyPressed(java.awt.event.KeyEvent e) {
+                if (e.getKeyCode() == java.awt.event.KeyEvent.VK_DELETE && !table.isEditing()) {
+                    removeSelectedPointInCurrentTab();
+                }
+            }
+        });
 
-        JScrollPane scrollPane = new JScrollPane(container);
+        return table;
+    }
+
+    /**
+     * Create a tab panel with points table and buttons
+     */
+    private JPanel createTabPanel(JTable table) {
+        JPanel mainPanel = new JPanel(new BorderLayout());
+
+        JScrollPane scrollPane = new JScrollPane(table);
+        scrollPane.setBorder(BorderFactory.createEmptyBorder(10, 10, 10, 10));
         scrollPane.setVerticalScrollBarPolicy(JScrollPane.VERTICAL_SCROLLBAR_ALWAYS);
         scrollPane.getVerticalScrollBar().setUnitIncrement(16);
 
@@ -322,9 +355,6 @@ public class ScenePointEditor extends JDialog {
 
         mainPanel.add(buttonsPanel, BorderLayout.SOUTH);
 
-        // Store container reference
-        mainPanel.putClientProperty("container", container);
-
         return mainPanel;
     }
 
@@ -498,194 +528,165 @@ public class ScenePointEditor extends JDialog {
         if (currentItemWrapper == null) return;
         Item item = currentItemWrapper.item;
 
-        // Refresh CustomClickArea points
-        customClickAreaPanels.clear();
-        customClickAreaContainer.removeAll();
-        CustomClickArea customArea = item.getPrimaryCustomClickArea();
-        if (customArea != null && customArea.getPoints() != null) {
-            for (int i = 0; i < customArea.getPoints().size(); i++) {
-                Point p = customArea.getPoints().get(i);
-                    PointPanelNew panel = new PointPanelNew(i, p, "CustomClickArea");
-                    customClickAreaPanels.add(panel);
-                    customClickAreaContainer.add(panel);
-                    customClickAreaContainer.add(Box.createRigidArea(new Dimension(0, 5)));
-            }
+        customClickAreaModel.setArea(item.getPrimaryCustomClickArea());
+        movingRangeModel.setArea(item.getPrimaryMovingRange());
+        pathModel.setArea(item.getPrimaryPath());
+    }
+
+    private void onPointSelected(PointsTableModel model, int row) {
+        // Update selection index based on type
+        if (model == customClickAreaModel) {
+            selectedCustomClickIndex = row;
+        } else if (model == movingRangeModel) {
+            selectedMovingRangeIndex = row;
+        } else if (model == pathModel) {
+            selectedPathIndex = row;
         }
-        customClickAreaContainer.revalidate();
-        customClickAreaContainer.repaint();
-
-        // Refresh MovingRange points
-        movingRangePanels.clear();
-        movingRangeContainer.removeAll();
-        MovingRange movingRange = item.getPrimaryMovingRange();
-        if (movingRange != null && movingRange.getPoints() != null) {
-            for (int i = 0; i < movingRange.getPoints().size(); i++) {
-                Point p = movingRange.getPoints().get(i);
-                    PointPanelNew panel = new PointPanelNew(i, p, "MovingRange");
-                    movingRangePanels.add(panel);
-                    movingRangeContainer.add(panel);
-                    movingRangeContainer.add(Box.createRigidArea(new Dimension(0, 5)));
-            }
+
+        // Highlight in scene
+        if (row >= 0 && currentItemWrapper != null) {
+            game.setHighlightedPoint(currentItemWrapper.item, model.type, row);
+            game.repaint();
         }
-        movingRangeContainer.revalidate();
-        movingRangeContainer.repaint();
-
-        // Refresh Path points
-        pathPanels.clear();
-        pathContainer.removeAll();
-        Path primaryPath = item.getPrimaryPath();
-        if (primaryPath != null && primaryPath.getPoints() != null) {
-            for (int i = 0; i < primaryPath.getPoints().size(); i++) {
-                Point p = primaryPath.getPoints().get(i);
-                    PointPanelNew panel = new PointPanelNew(i, p, "Path");
-                    pathPanels.add(panel);
-                    pathContainer.add(panel);
-                    pathContainer.add(Box.createRigidArea(new Dimension(0, 5)));
-            }
+    }
+
+    private PointsTableModel modelFor(String pointType) {
+        if (pointType.equals("CustomClickArea")) return customClickAreaModel;
+        if (pointType.equals("MovingRange")) return movingRangeModel;
+        if (pointType.equals("Path")) return pathModel;
+        return null;
+    }
+
+    private JTable tableFor(String pointType) {
+        if (pointType.equals("CustomClickArea")) return customClickAreaTable;
+        if (pointType.equals("MovingRange")) return movingRangeTable;
+        if (pointType.equals("Path")) return pathTable;
+        return null;
+    }
+
+    private void selectRow(JTable table, int row) {
+        if (row >= 0 && row < table.getRowCount()) {
+            table.setRowSelectionInterval(row, row);
+            table.scrollRectToVisible(table.getCellRect(row, 0, true));
         }
-        pathContainer.revalidate();
-        pathContainer.repaint();
     }
 
     /**
-     * Inner class for a single point panel
+     * Table model over the points of one CustomClickArea, MovingRange or Path.
+     * Values are read from the Point objects, so changes fire row events instead of rebuilding the table.
      */
-    private class PointPanelNew extends JPanel {
-        private int index;
-        private Point point;
-        private String type;
-        private JTextField xField;
-        private JTextField yField;
-        private boolean selected = false;
-
-        public PointPanelNew(int index, Point point, String type) {
-            this.index = index;
-            this.point = point;
+    private class PointsTableModel extends AbstractTableModel {
+        private static final long serialVersionUID = 1L;
+        private final String type;
+        private CustomClickArea area;
+        private String[] columnNames = {"Point", "x", "y"};
+
+        PointsTableModel(String type) {
             this.type = type;
+        }
 
-            setLayout(new BorderLayout());
-            setBorder(BorderFactory.createCompoundBorder(
-                BorderFactory.createLineBorder(Color.LIGHT_GRAY, 1),
-                BorderFactory.createEmptyBorder(5, 10, 5, 10)
-            ));
-            setMaximumSize(new Dimension(Integer.MAX_VALUE, 50));
-
-            // Click to select
-            addMouseListener(new java.awt.event.MouseAdapter() {
-                @Override
-                public void mouseClicked(java.awt.event.MouseEvent e) {
-                    selectThis();
-                    requestFocusInWindow();
-                }
-            });
-
-            // Key listener for DELETE
-            addKeyListener(new java.awt.event.KeyAdapter() {
-                @Override
-                public void keyPressed(java.awt.event.KeyEvent e) {
-                    if (e.getKeyCode() == java.awt.event.KeyEvent.VK_DELETE) {
-                        removeSelectedPointInCurrentTab();
-                    }
-                }
-            });
+        public void setArea(CustomClickArea area) {
+            this.area = area;
+            fireTableDataChanged();
+        }
 
-            setFocusable(true);
-            initPanel();
+        public Point getPoint(int rowIndex) {
+            return area.getPoints().get(rowIndex);
         }
 
-        private void initPanel() {
-            // Left: Point number
-            JLabel numberLabel = new JLabel("Point " + (index + 1) + ":");
-            numberLabel.setFont(new Font("Arial", Font.BOLD, 12));
-            numberLabel.setPreferredSize(new Dimension(80, 25));
-            add(numberLabel, BorderLayout.WEST);
-
-            // Center: X, Y fields
-            JPanel fieldsPanel = new JPanel(new FlowLayout(FlowLayout.LEFT, 10, 0));
-
-            fieldsPanel.add(new JLabel("x:"));
-            xField = new JTextField(String.valueOf(point.x), 6);
-            xField.addFocusListener(new java.awt.event.FocusAdapter() {
-                @Override
-                public void focusLost(java.awt.event.FocusEvent e) {
-                    updatePoint();
-                }
-            });
-            xField.addActionListener(e -> updatePoint());
-            fieldsPanel.add(xField);
-
-            fieldsPanel.add(new JLabel("y:"));
-            yField = new JTextField(String.valueOf(point.y), 6);
-            yField.addFocusListener(new java.awt.event.FocusAdapter() {
-                @Override
-                public void focusLost(java.awt.event.FocusEvent e) {
-                    updatePoint();
-                }
-            });
-            yField.addActionListener(e -> updatePoint());
-            fieldsPanel.add(yField);
+        /**
+         * A point was inserted (binds the area first if it was just created)
+         */
+        public void pointInserted(CustomClickArea area, int rowIndex) {
+            if (this.area != area) {
+                setArea(area);
+            } else {
+                fireTableRowsInserted(rowIndex, rowIndex);
+            }
+        }
 
-            add(fieldsPanel, BorderLayout.CENTER);
+        public void pointRemoved(int rowIndex) {
+            fireTableRowsDeleted(rowIndex, rowIndex);
         }
 
-        private void updatePoint() {
-            try {
-                int newX = Integer.parseInt(xField.getText());
-                int newY = Integer.parseInt(yField.getText());
-                point.x = newX;
-                point.y = newY;
-
-                // Auto-save item and MovingRange
-                saveCurrentItem();
-                if (type.equals("MovingRange")) {
-                    saveMovingRange();
-                }
-                game.repaint();
-            } catch (NumberFormatException e) {
-                // Reset to current values
-                xField.setText(String.valueOf(point.x));
-                yField.setText(String.valueOf(point.y));
-            }
+        public void pointsSwapped(int firstRow, int secondRow) {
+            fireTableRowsUpdated(Math.min(firstRow, secondRow), Math.max(firstRow, secondRow));
         }
 
-        private void selectThis() {
-            // Update selection index based on type
-            if (type.equals("CustomClickArea")) {
-                selectedCustomClickIndex = index;
-                for (PointPanelNew panel : customClickAreaPanels) {
-                    panel.setSelected(panel == this);
-                }
-            } else if (type.equals("MovingRange")) {
-                selectedMovingRangeIndex = index;
-                for (PointPanelNew panel : movingRangePanels) {
-                    panel.setSelected(panel == this);
-                }
-            } else if (type.equals("Path")) {
-                selectedPathIndex = index;
-                for (PointPanelNew panel : pathPanels) {
-                    panel.setSelected(panel == this);
-                }
+        public void pointUpdated(int rowIndex) {
+            fireTableRowsUpdated(rowIndex, rowIndex);
+        }
+
+        public void allPointsUpdated() {
+            if (getRowCount() > 0) {
+                fireTableRowsUpdated(0, getRowCount() - 1);
             }
+        }
+
+        @Override
+        public int getRowCount() {
+            return area == null || area.getPoints() == null ? 0 : area.getPoints().size();
+        }
 
-            // Highlight in scene
-            if (currentItemWrapper != null) {
-                game.setHighlightedPoint(currentItemWrapper.item, type, index);
-                game.repaint();
+        @Override
+        public int getColumnCount() {
+            return columnNames.length;
+        }
+
+        @Override
+        public String getColumnName(int column) {
+            return columnNames[column];
+        }
+
+        @Override
+        public Class<?> getColumnClass(int columnIndex) {
+            return columnIndex == 0 ? String.class : Integer.class;
+        }
+
+        @Override
+        public boolean isCellEditable(int rowIndex, int columnIndex) {
+            return columnIndex > 0;
+        }
+
+        @Override
+        public Object getValueAt(int rowIndex, int columnIndex) {
+            Point point = getPoint(rowIndex);
+
+            switch (columnIndex) {
+                case 0: return "Point " + (rowIndex + 1) + ":";
+                case 1: return point.x;
+                case 2: return point.y;
+                default: return null;
             }
         }
 
-        public void setSelected(boolean selected) {
-            this.selected = selected;
-            if (selected) {
-                setBackground(new Color(200, 230, 255));
+        @Override
+        public void setValueAt(Object value, int rowIndex, int columnIndex) {
+            int newValue;
+            try {
+                newValue = Integer.parseInt(value.toString().trim());
+            } catch (NumberFormatException e) {
+                // Keep current value
+                return;
+            }
+
+            Point point = getPoint(rowIndex);
+            if (columnIndex == 1) {
+                point.x = newValue;
+            } else if (columnIndex == 2) {
+                point.y = newValue;
             } else {
-                setBackground(null);
+                return;
             }
-        }
+            area.updatePolygon();
+            fireTableRowsUpdated(rowIndex, rowIndex);
 
-        public void updateFields() {
-            xField.setText(String.valueOf(point.x));
-            yField.setText(String.valueOf(point.y));
+            // Auto-save item and MovingRange
+            saveCurrentItem();
+            if (type.equals("MovingRange")) {
+                saveMovingRange();
+            }
+            game.repaint();
         }
     }
 
@@ -700,19 +701,21 @@ public class ScenePointEditor extends JDialog {
             CustomClickArea area = currentItemWrapper.item.ensurePrimaryCustomClickArea();
             int insertIndex = getInsertIndex(selectedCustomClickIndex, area.getPoints().size());
             area.addPoint(insertIndex, newPoint);
+            customClickAreaModel.pointInserted(area, insertIndex);
         } else if (tab == 1) { // MovingRange
             MovingRange range = currentItemWrapper.item.ensurePrimaryMovingRange();
             int insertIndex = getInsertIndex(selectedMovingRangeIndex, range.getPoints().size());
             range.addPoint(insertIndex, newPoint);
+            movingRangeModel.pointInserted(range, insertIndex);
             saveMovingRange();
         } else if (tab == 2) { // Path
             Path path = currentItemWrapper.item.ensurePrimaryPath();
             int insertIndex = getInsertIndex(selectedPathIndex, path.getPoints().size());
             path.addPoint(insertIndex, newPoint);
+            pathModel.pointInserted(path, insertIndex);
         }
 
         saveCurrentItem();
-        refreshAllPoints();
         game.repaint();
     }
 
@@ -808,26 +811,31 @@ public class ScenePointEditor extends JDialog {
         if (tab == 0 && selectedCustomClickIndex >= 0) {
             CustomClickArea area = currentItemWrapper.item.getPrimaryCustomClickArea();
             if (area != null) {
-                area.removePoint(selectedCustomClickIndex);
+                int index = selectedCustomClickIndex;
+                area.removePoint(index);
                 selectedCustomClickIndex = -1;
+                customClickAreaModel.pointRemoved(index);
             }
         } else if (tab == 1 && selectedMovingRangeIndex >= 0) {
             MovingRange range = currentItemWrapper.item.getPrimaryMovingRange();
             if (range != null) {
-                range.removePoint(selectedMovingRangeIndex);
+                int index = selectedMovingRangeIndex;
+                range.removePoint(index);
                 selectedMovingRangeIndex = -1;
+                movingRangeModel.pointRemoved(index);
                 saveMovingRange();
             }
         } else if (tab == 2 && selectedPathIndex >= 0) {
             Path path = currentItemWrapper.item.getPrimaryPath();
             if (path != null) {
-                path.removePoint(selectedPathIndex);
+                int index = selectedPathIndex;
+                path.removePoint(index);
                 selectedPathIndex = -1;
+                pathModel.pointRemoved(index);
             }
         }
 
         saveCurrentItem();
-        refreshAllPoints();
         game.repaint();
     }
 
@@ -844,6 +852,9 @@ public class ScenePointEditor extends JDialog {
                 points.set(selectedCustomClickIndex, points.get(selectedCustomClickIndex - 1));
                 points.set(selectedCustomClickIndex - 1, temp);
                 selectedCustomClickIndex--;
+                area.updatePolygon();
+                customClickAreaModel.pointsSwapped(selectedCustomClickIndex, selectedCustomClickIndex + 1);
+                selectRow(customClickAreaTable, selectedCustomClickIndex);
             }
         } else if (tab == 1 && selectedMovingRangeIndex > 0) {
             MovingRange range = currentItemWrapper.item.getPrimaryMovingRange();
@@ -853,6 +864,9 @@ public class ScenePointEditor extends JDialog {
                 points.set(selectedMovingRangeIndex, points.get(selectedMovingRangeIndex - 1));
                 points.set(selectedMovingRangeIndex - 1, temp);
                 selectedMovingRangeIndex--;
+                range.updatePolygon();
+                movingRangeModel.pointsSwapped(selectedMovingRangeIndex, selectedMovingRangeIndex + 1);
+                selectRow(movingRangeTable, selectedMovingRangeIndex);
                 saveMovingRange();
             }
         } else if (tab == 2 && selectedPathIndex > 0) {
@@ -863,11 +877,13 @@ public class ScenePointEditor extends JDialog {
                 points.set(selectedPathIndex, points.get(selectedPathIndex - 1));
                 points.set(selectedPathIndex - 1, temp);
                 selectedPathIndex--;
+                path.updatePolygon();
+                pathModel.pointsSwapped(selectedPathIndex, selectedPathIndex + 1);
+                selectRow(pathTable, selectedPathIndex);
             }
         }
 
         saveCurrentItem();
-        refreshAllPoints();
         game.repaint();
     }
 
@@ -885,6 +901,9 @@ public class ScenePointEditor extends JDialog {
                     points.set(selectedCustomClickIndex, points.get(selectedCustomClickIndex + 1));
                     points.set(selectedCustomClickIndex + 1, temp);
                     selectedCustomClickIndex++;
+                    area.updatePolygon();
+                    customClickAreaModel.pointsSwapped(selectedCustomClickIndex - 1, selectedCustomClickIndex);
+                    selectRow(customClickAreaTable, selectedCustomClickIndex);
                 }
             }
         } else if (tab == 1 && selectedMovingRangeIndex >= 0) {
@@ -896,6 +915,9 @@ public class ScenePointEditor extends JDialog {
                     points.set(selectedMovingRangeIndex, points.get(selectedMovingRangeIndex + 1));
                     points.set(selectedMovingRangeIndex + 1, temp);
                     selectedMovingRangeIndex++;
+                    range.updatePolygon();
+                    movingRangeModel.pointsSwapped(selectedMovingRangeIndex - 1, selectedMovingRangeIndex);
+                    selectRow(movingRangeTable, selectedMovingRangeIndex);
                     saveMovingRange();
                 }
             }
@@ -908,12 +930,14 @@ public class ScenePointEditor extends JDialog {
                     points.set(selectedPathIndex, points.get(selectedPathIndex + 1));
                     points.set(selectedPathIndex + 1, temp);
                     selectedPathIndex++;
+                    path.updatePolygon();
+                    pathModel.pointsSwapped(selectedPathIndex - 1, selectedPathIndex);
+                    selectRow(pathTable, selectedPathIndex);
                 }
             }
         }
 
         saveCurrentItem();
-        refreshAllPoints();
         game.repaint();
     }
 
@@ -933,24 +957,25 @@ public class ScenePointEditor extends JDialog {
             CustomClickArea area = currentItemWrapper.item.ensurePrimaryCustomClickArea();
             int insertIndex = getInsertIndex(selectedCustomClickIndex, area.getPoints().size());
             area.addPoint(insertIndex, newPoint);
+            customClickAreaModel.pointInserted(area, insertIndex);
             System.out.println("✅ CustomClickArea now has " + area.getPoints().size() + " points");
         } else if (pointType.equals("MovingRange")) {
             MovingRange range = currentItemWrapper.item.ensurePrimaryMovingRange();
             int insertIndex = getInsertIndex(selectedMovingRangeIndex, range.getPoints().size());
             range.addPoint(insertIndex, newPoint);
+            movingRangeModel.pointInserted(range, insertIndex);
             saveMovingRange();
             System.out.println("✅ MovingRange now has " + range.getPoints().size() + " points");
         } else if (pointType.equals("Path")) {
             Path path = currentItemWrapper.item.ensurePrimaryPath();
             int insertIndex = getInsertIndex(selectedPathIndex, path.getPoints().size());
             path.addPoint(insertIndex, newPoint);
+            pathModel.pointInserted(path, insertIndex);
             System.out.println("✅ Path now has " + path.getPoints().size() + " points");
         }
 
         System.out.println("🔵 Saving item and updating scene...");
         saveCurrentItem(); // This now also updates the scene reference
-        System.out.println("🔵 Refreshing all points in UI...");
-        refreshAllPoints();
         System.out.println("✅ Point added successfully!");
         System.out.println("✅ showPaths is currently: " + game.isShowPaths());
 
@@ -993,24 +1018,14 @@ public class ScenePointEditor extends JDialog {
 
         // Debug log
         System.out.println("DEBUG: refreshPointFieldsForItem - Updating fields for item: " + item.getName() +
-            " | CustomClickArea panels: " + customClickAreaPanels.size() +
-            " | MovingRange panels: " + movingRangePanels.size() +
-            " | Path panels: " + pathPanels.size());
-
-        // Update all CustomClickArea panels
-        for (PointPanelNew panel : customClickAreaPanels) {
-            panel.updateFields();
-        }
-
-        // Update all MovingRange panels
-        for (PointPanelNew panel : movingRangePanels) {
-            panel.updateFields();
-        }
-
-        // Update all Path panels
-        for (PointPanelNew panel : pathPanels) {
-            panel.updateFields();
-        }
+            " | CustomClickArea rows: " + customClickAreaModel.getRowCount() +
+            " | MovingRange rows: " + movingRangeModel.getRowCount() +
+            " | Path rows: " + pathModel.getRowCount());
+
+        // Repaint the rows of all point tables
+        customClickAreaModel.allPointsUpdated();
+        movingRangeModel.allPointsUpdated();
+        pathModel.allPointsUpdated();
     }
 
     /**
@@ -1024,21 +1039,19 @@ public class ScenePointEditor extends JDialog {
 
         if (!currentType.equals(pointType)) return;
 
-        List<PointPanelNew> panels = null;
-        if (pointType.equals("CustomClickArea")) panels = customClickAreaPanels;
-        else if (pointType.equals("MovingRange")) panels = movingRangePanels;
-        else if (pointType.equals("Path")) panels = pathPanels;
-
-        if (panels != null && index >= 0 && index < panels.size()) {
-            PointPanelNew panel = panels.get(index);
-            panel.point.x = newX;
-            panel.point.y = newY;
-            panel.updateFields();
-            panel.selectThis();
-
-            SwingUtilities.invokeLater(() -> {
-                panel.scrollRectToVisible(panel.getBounds());
-            });
+        PointsTableModel model = modelFor(pointType);
+        JTable table = tableFor(pointType);
+
+        if (model != null && index >= 0 && index < model.getRowCount()) {
+            Point point = model.getPoint(index);
+            point.x = newX;
+            point.y = newY;
+
+            // Only this row is repainted
+            model.pointUpdated(index);
+            if (table.getSelectedRow() != index) {
+                selectRow(table, index);
+            }
         }
     }
 
@@ -1067,19 +1080,12 @@ public class ScenePointEditor extends JDialog {
         }
 
         // Select the point
-        List<PointPanelNew> panels = null;
-        if (pointType.equals("CustomClickArea")) panels = customClickAreaPanels;
-        else if (pointType.equals("MovingRange")) panels = movingRangePanels;
-        else if (pointType.equals("Path")) panels = pathPanels;
-
-        if (panels != null && index >= 0 && index < panels.size()) {
-            PointPanelNew panel = panels.get(index);
-            panel.selectThis();
-
-            SwingUtilities.invokeLater(() -> {
-                panel.scrollRectToVisible(panel.getBounds());
-                panel.requestFocusInWindow();
-            });
+        JTable table = tableFor(pointType);
+
+        if (table != null && index >= 0 && index < table.getRowCount()) {
+            selectRow(table, index);
+
+            SwingUtilities.invokeLater(() -> table.requestFocusInWindow());
         }
     }
 
@@ -5,7 +5,6 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -21,38 +20,11 @@ public class SceneReferenceManager {
 	 * @return Map of file paths to line numbers where the scene is referenced
 	 */
 	public static Map<String, List<Integer>> findSceneReferences(String sceneName) throws IOException {
-		Map<String, List<Integer>> references = new LinkedHashMap<>();
-
-		// Search in all .txt files in resources directory
-		File resourcesDir = new File("resources");
-		if (!resourcesDir.exists()) {
-			return references;
-		}
-
-		List<File> txtFiles = findAllTxtFiles(resourcesDir);
-
-		for (File file : txtFiles) {
-			List<String> lines = Files.readAllLines(file.toPath());
-			List<Integer> lineNumbers = new ArrayList<>();
-
-			for (int i = 0; i < lines.size(); i++) {
-				String line = lines.get(i);
-
-				// Check for scene references:
-				// 1. ##loadsceneName or ##scene:sceneName
-				// 2. Result type LoadScene with scene name
-				// 3. currentScene=sceneName in progress files
-				if (lineContainsSceneReference(line, sceneName)) {
-					lineNumbers.add(i + 1); // 1-based line numbers
-				}
-			}
-
-			if (!lineNumbers.isEmpty()) {
-				references.put(file.getPath(), lineNumbers);
-			}
-		}
-
-		return references;
+		// Check for scene references:
+		// 1. ##loadsceneName or ##scene:sceneName
+		// 2. ##sceneName (simple format)
+		// 3. currentScene=sceneName in progress files
+		return ResourceIndex.find(ResourceIndex.TokenType.SCENE, sceneName);
 	}
 
 	/**
@@ -93,12 +65,12 @@ public class SceneReferenceManager {
 			throw new IOException("Resources directory not found");
 		}
 
-		List<File> txtFiles = findAllTxtFiles(resourcesDir);
-
-		for (File file : txtFiles) {
+		// Only rewrite files the index knows to reference the scene
+		for (File file : ResourceIndex.findFiles(ResourceIndex.TokenType.SCENE, oldName)) {
 			if (renameSceneInFile(file, oldName, newName)) {
 				modifiedFiles.add(file.getPath());
 			}
+			ResourceIndex.fileChanged(file);
 		}
 
 		return modifiedFiles;
@@ -155,12 +127,12 @@ public class SceneReferenceManager {
 			throw new IOException("Resources directory not found");
 		}
 
-		List<File> txtFiles = findAllTxtFiles(resourcesDir);
-
-		for (File file : txtFiles) {
+		// Only rewrite files the index knows to reference the scene
+		for (File file : ResourceIndex.findFiles(ResourceIndex.TokenType.SCENE, sceneName)) {
 			if (removeSceneFromFile(file, sceneName)) {
 				modifiedFiles.add(file.getPath());
 			}
+			ResourceIndex.fileChanged(file);
 		}
 
 		return modifiedFiles;
@@ -228,26 +200,6 @@ public class SceneReferenceManager {
 		return count;
 	}
 
-	/**
-	 * Find all .txt files in a directory recursively
-	 */
-	private static List<File> findAllTxtFiles(File directory) {
-		List<File> txtFiles = new ArrayList<>();
-
-		File[] files = directory.listFiles();
-		if (files != null) {
-			for (File file : files) {
-				if (file.isDirectory()) {
-					txtFiles.addAll(findAllTxtFiles(file));
-				} else if (file.getName().endsWith(".txt")) {
-					txtFiles.add(file);
-				}
-			}
-		}
-
-		return txtFiles;
-	}
-
 	/**
 	 * Gets all available scene names
 	 */
@@ -276,7 +228,9 @@ public class SceneReferenceManager {
 	 */
 	public static boolean deleteSceneFile(String sceneName) {
 		File sceneFile = ResourcePathHelper.resolve("scenes/" + sceneName + ".txt");
-		return sceneFile.delete();
+		boolean deleted = sceneFile.delete();
+		ResourceIndex.fileChanged(sceneFile);
+		return deleted;
 	}
 
 	/**
@@ -290,7 +244,10 @@ public class SceneReferenceManager {
 			return false; // New name already exists
 		}
 
-		return oldFile.renameTo(newFile);
+		boolean renamed = oldFile.renameTo(newFile);
+		ResourceIndex.fileChanged(oldFile);
+		ResourceIndex.fileChanged(newFile);
+		return renamed;
 	}
 
 	/**
@@ -411,5 +368,6 @@ public class SceneReferenceManager {
 		}
 
 		Files.write(sceneFile.toPath(), newLines);
+		ResourceIndex.fileChanged(sceneFile);
 	}
 }
@@ -0,0 +1,301 @@
+package main;
+
+import java.awt.Graphics2D;
+import java.awt.Image;
+import java.awt.Point;
+import java.awt.Rectangle;
+import java.awt.geom.AffineTransform;
+import java.io.File;
+
+/**
+ * Draws the game layer of a scene (background and visible items).
+ *
+ * Used by the game panel in game mode and by headless rendering into a
+ * BufferedImage (benchmarks, tools). Editor overlays are drawn by AdventureGame.
+ */
+public class SceneRenderer {
+
+    /**
+     * Scale steps of perspective scaling: sprites are drawn from variants at
+     * these sizes, so a walking character is not rescaled every frame
+     */
+    public static final int SCALE_BUCKETS_PER_UNIT = 32;
+
+    /**
+     * Draws background and all visible items of a scene.
+     * Items are drawn back to front by foot Y (or explicit depth), the selected item last (on top).
+     */
+    public static void renderScene(Graphics2D g2d, Scene scene, Image backgroundImage, int width, int height) {
+        renderScene(g2d, scene, backgroundImage, width, height, System.currentTimeMillis());
+    }
+
+    /**
+     * Draws background and all visible items, animations at the given game clock time
+     */
+    public static void renderScene(Graphics2D g2d, Scene scene, Image backgroundImage, int width, int height,
+            long nowMillis) {
+        if (backgroundImage != null) {
+            g2d.drawImage(backgroundImage, 0, 0, width, height, null);
+        }
+
+        if (scene == null) {
+            return;
+        }
+
+        SceneAtlas atlas = SceneAtlas.forScene(scene);
+        Item selectedSceneItem = scene.getSelectedItem();
+        RenderQueue queue = scene.getRenderQueue();
+        for (int i = 0, count = queue.sort(scene); i < count; i++) {
+            Item item = queue.get(i);
+            if (item != selectedSceneItem && item.isVisible()) {
+                drawItem(g2d, item, atlas, nowMillis);
+            }
+        }
+
+        if (selectedSceneItem != null && selectedSceneItem.isVisible()) {
+            drawItem(g2d, selectedSceneItem, atlas, nowMillis);
+        }
+    }
+
+    /**
+     * Draws a scene into the game area of a resizable view. Background and
+     * sprites come pre-scaled to the physical size; while the view builds
+     * them for a new size, the frame is drawn through the view transform.
+     *
+     * @param backgroundFile source file of the background, scaled from full
+     *            resolution for large views (null = scale backgroundImage)
+     */
+    public static void renderScene(Graphics2D g2d, Scene scene, Image backgroundImage, File backgroundFile,
+            GameView view, long nowMillis) {
+        AffineTransform transform = g2d.getTransform();
+        if (!view.isReady(backgroundImage, backgroundFile, scene)) {
+            g2d.transform(view.getTransform());
+            renderScene(g2d, scene, backgroundImage, GameView.GAME_WIDTH, GameView.GAME_HEIGHT, nowMillis);
+            g2d.setTransform(transform);
+            return;
+        }
+
+        g2d.translate(view.getOffsetX(), view.getOffsetY());
+        Image background = view.getBackgroundLayer(backgroundImage);
+        if (background != null) {
+            g2d.drawImage(background, 0, 0, view.getViewWidth(), view.getViewHeight(), null);
+        }
+        if (scene != null) {
+            double viewScale = view.getScale();
+            SceneAtlas atlas = SceneAtlas.forScene(scene);
+            Item selectedSceneItem = scene.getSelectedItem();
+            RenderQueue queue = scene.getRenderQueue();
+            for (int i = 0, count = queue.sort(scene); i < count; i++) {
+                Item item = queue.get(i);
+                if (item != selectedSceneItem && item.isVisible()) {
+                    drawItem(g2d, item, atlas, nowMillis, viewScale);
+                }
+            }
+            if (selectedSceneItem != null && selectedSceneItem.isVisible()) {
+                drawItem(g2d, selectedSceneItem, atlas, nowMillis, viewScale);
+            }
+        }
+        g2d.setTransform(transform);
+    }
+
+    /**
+     * Draws one item image centered on its position, scaled to the item size
+     */
+    public static void drawItem(Graphics2D g2d, Item item) {
+        drawItem(g2d, item, null);
+    }
+
+    /**
+     * Draws one item, from the scene atlas if it contains the item image
+     */
+    public static void drawItem(Graphics2D g2d, Item item, SceneAtlas atlas) {
+        drawItem(g2d, item, atlas, System.currentTimeMillis());
+    }
+
+    /**
+     * Draws one item: the current sprite sheet frame if it has one, else its
+     * image from the scene atlas or the image caches
+     */
+    public static void drawItem(Graphics2D g2d, Item item, SceneAtlas atlas, long nowMillis) {
+        drawItem(g2d, item, atlas, nowMillis, 1.0);
+    }
+
+    /**
+     * Draws one item at a view scale (physical pixels per game pixel)
+     */
+    public static void drawItem(Graphics2D g2d, Item item, SceneAtlas atlas, long nowMillis, double viewScale) {
+        Rectangle bounds = GameView.toView(getDrawBounds(item), viewScale);
+        int x = bounds.x;
+        int y = bounds.y;
+        int imgWidth = bounds.width;
+        int imgHeight = bounds.height;
+
+        SpriteSheet sheet = item.getCurrentSpriteSheet();
+        if (sheet != null) {
+            // Frames are pre-scaled to the drawn size
+            Image frame = sheet.getFrame(item.getAnimationFrame(nowMillis), imgWidth, imgHeight);
+            if (frame != null) {
+                g2d.drawImage(frame, x, y, null);
+                return;
+            }
+        }
+
+        if (imgWidth != item.getWidth() || imgHeight != item.getHeight()) {
+            // Perspective or view scaled: variant of the item image at the drawn size
+            File imageFile = getItemImageFile(item);
+            Image img = getSourceImage(item);
+            if (img != null) {
+                g2d.drawImage(ScaledImageCache.get(imageFile, img, imgWidth, imgHeight), x, y, null);
+            }
+            return;
+        }
+
+        if (atlas != null) {
+            SceneAtlas.Region region = atlas.getRegion(getItemImageFile(item), imgWidth, imgHeight);
+            if (region != null) {
+                region.draw(g2d, x, y, imgWidth, imgHeight);
+                return;
+            }
+        }
+
+        Image img = getItemImage(item);
+        if (img != null) {
+            g2d.drawImage(img, x, y, imgWidth, imgHeight, null);
+        }
+    }
+
+    /**
+     * What an item shows at a view scale. Read from the item on the EDT, so
+     * the sprite can be scaled on a worker thread (prepareSprite).
+     */
+    public static class SpriteSource {
+        private final SpriteSheet sheet;
+        private final File imageFile;
+        private final int itemWidth;
+        private final int itemHeight;
+        private final Rectangle bounds;
+
+        public SpriteSource(Item item, double viewScale) {
+            this.sheet = item.getCurrentSpriteSheet();
+            this.imageFile = getItemImageFile(item);
+            this.itemWidth = item.getWidth();
+            this.itemHeight = item.getHeight();
+            this.bounds = GameView.toView(getDrawBounds(item), viewScale);
+        }
+    }
+
+    /**
+     * Scales a sprite to its drawn size, so the first draw at that size does
+     * not scale on the EDT. Touches no item state (safe off the EDT).
+     * @return true if a scaled sprite was prepared
+     */
+    public static boolean prepareSprite(SpriteSource source) {
+        Rectangle bounds = source.bounds;
+        if (source.sheet != null && source.sheet.getFrame(0, bounds.width, bounds.height) != null) {
+            return true;
+        }
+        if (bounds.width == source.itemWidth && bounds.height == source.itemHeight) {
+            return false;
+        }
+        Image img = getSourceImage(source.imageFile, source.itemWidth, source.itemHeight);
+        if (img == null) {
+            return false;
+        }
+        ScaledImageCache.get(source.imageFile, img, bounds.width, bounds.height);
+        return true;
+    }
+
+    /**
+     * Perspective scale of an item rounded to a scale bucket
+     */
+    public static float getDrawScale(Item item) {
+        float scale = item.getPerspectiveScale();
+        if (scale == 1f) {
+            return 1f;
+        }
+        return Math.max(1, Math.round(scale * SCALE_BUCKETS_PER_UNIT)) / (float) SCALE_BUCKETS_PER_UNIT;
+    }
+
+    /**
+     * Screen rectangle of an item's sprite: item size at its position, or
+     * scaled by perspective and standing on the same foot point
+     */
+    public static Rectangle getDrawBounds(Item item) {
+        Point pos = item.getPosition();
+        int width = item.getWidth();
+        int height = item.getHeight();
+        float scale = getDrawScale(item);
+        if (scale == 1f) {
+            return new Rectangle(pos.x - width / 2, pos.y - height / 2, width, height);
+        }
+        int scaledWidth = Math.max(1, Math.round(width * scale));
+        int scaledHeight = Math.max(1, Math.round(height * scale));
+        return new Rectangle(pos.x - scaledWidth / 2, item.getFootY() - scaledHeight, scaledWidth, scaledHeight);
+    }
+
+    /**
+     * Resolves the image an item currently shows
+     * Priority: Orientation image > Conditional image > Default image
+     * Baked pixels at the item size (ImagePack) are preferred over decoding the file.
+     */
+    public static Image getItemImage(Item item) {
+        File imageFile = getItemImageFile(item);
+        if (imageFile == null) {
+            return null;
+        }
+        Image baked = ImagePack.get(imageFile, item.getWidth(), item.getHeight());
+        if (baked != null) {
+            return baked;
+        }
+        if (!imageFile.exists()) {
+            return null;
+        }
+        return ImageCache.get(imageFile);
+    }
+
+    /**
+     * Best source for scaled variants: the decoded file, which keeps detail
+     * when scaling up, else the baked pixels
+     */
+    private static Image getSourceImage(Item item) {
+        return getSourceImage(getItemImageFile(item), item.getWidth(), item.getHeight());
+    }
+
+    private static Image getSourceImage(File imageFile, int itemWidth, int itemHeight) {
+        if (imageFile == null) {
+            return null;
+        }
+        if (imageFile.exists()) {
+            return ImageCache.get(imageFile);
+        }
+        return ImagePack.get(imageFile, itemWidth, itemHeight);
+    }
+
+    /**
+     * Resolves the image file an item currently shows (may not exist)
+     */
+    public static File getItemImageFile(Item item) {
+        String imagePath = item.getOrientationImage();
+        if (imagePath == null) {
+            imagePath = item.getCurrentImagePath();
+        }
+        return getImageFile(imagePath);
+    }
+
+    /**
+     * Resolves an item image path to its file (may not exist)
+     */
+    public static File getImageFile(String imagePath) {
+        if (imagePath == null) {
+            return null;
+        }
+
+        // Use ResourcePathHelper to resolve path (handles both full paths and filenames)
+        File imageFile = ResourcePathHelper.findImageFile(imagePath);
+        if (imageFile == null) {
+            // Fallback: try direct path
+            imageFile = new File(imagePath);
+        }
+        return imageFile;
+    }
+}
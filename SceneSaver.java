@@ -3,8 +3,8 @@ package main;
 import java.awt.Point;
 import java.io.BufferedWriter;
 import java.io.File;
-import java.io.FileWriter;
 import java.io.IOException;
+import java.io.StringWriter;
 import java.util.List;
 import java.util.Map;
 
@@ -29,10 +29,16 @@ public class SceneSaver {
             }
         }
 
-        // Use try-with-resources to ensure writer is always closed
-        try (BufferedWriter writer = new BufferedWriter(new FileWriter(file))) {
+        // Serialize into the reusable buffer, then write only if the content changed
+        StringWriter buffer = ResourceFileWriter.buffer();
+        try (BufferedWriter writer = new BufferedWriter(buffer)) {
             saveSceneContent(scene, writer);
         }
+        if (!ResourceFileWriter.write(file, buffer.getBuffer())) {
+            System.out.println("Scene unchanged, not saved: " + filename);
+            return;
+        }
+        ResourceIndex.fileChanged(file);
 
         System.out.println("Scene saved to: " + filename);
         System.out.println("  KeyAreas: " + (scene.getKeyAreas() != null ? scene.getKeyAreas().size() : 0));
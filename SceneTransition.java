@@ -0,0 +1,241 @@
+package main;
+
+import java.awt.AlphaComposite;
+import java.awt.Composite;
+import java.awt.Graphics2D;
+import java.awt.Image;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * One scene change: loads the target scene on a worker thread while the
+ * current scene keeps running, then hands it over for the switch.
+ *
+ * The session polls isLoaded() every frame. When loading is done it takes
+ * the result, switches its live scene and calls begin() with a snapshot of
+ * the outgoing frame. For "fade" the snapshot is drawn over the incoming
+ * scene with decreasing alpha for the transition duration; "cut" ends at
+ * the switch. Load time is reported against the transition duration.
+ */
+public class SceneTransition {
+
+    public enum Type {
+        CUT, FADE;
+
+        /**
+         * "cut"/"none" -> CUT, everything else ("fade", "crossfade") -> FADE
+         */
+        public static Type parse(String name) {
+            if (name != null && (name.equalsIgnoreCase("cut") || name.equalsIgnoreCase("none"))) {
+                return CUT;
+            }
+            return FADE;
+        }
+    }
+
+    /**
+     * A scene prepared off the EDT (background, its file and atlas are optional)
+     */
+    public static class LoadedScene {
+        private final Scene scene;
+        private final Image background;
+        private final File backgroundFile;
+        private final SceneAtlas atlas;
+
+        public LoadedScene(Scene scene, Image background, File backgroundFile, SceneAtlas atlas) {
+            this.scene = scene;
+            this.background = background;
+            this.backgroundFile = backgroundFile;
+            this.atlas = atlas;
+        }
+
+        public Scene getScene() {
+            return scene;
+        }
+
+        public Image getBackground() {
+            return background;
+        }
+
+        /**
+         * Source file of the background (null if it came from the classpath)
+         */
+        public File getBackgroundFile() {
+            return backgroundFile;
+        }
+
+        public SceneAtlas getAtlas() {
+            return atlas;
+        }
+    }
+
+    /**
+     * Loads the target scene; runs on the loader thread
+     */
+    public interface Loader {
+        LoadedScene load() throws Exception;
+    }
+
+    // One loader thread: scene loads never overlap each other
+    private static final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "SceneTransitionLoader");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final String sceneName;
+    private final String spawnPoint;
+    private final Type type;
+    private final int durationMillis;
+    private final Loader loader;
+    private Future<LoadedScene> future;
+    private volatile long loadMillis = -1;
+    private BufferedImage snapshot;
+    private long beginMillis = -1;
+    private boolean failed;
+
+    public SceneTransition(String sceneName, String spawnPoint, String type, int durationMillis, Loader loader) {
+        this.sceneName = sceneName;
+        this.spawnPoint = spawnPoint;
+        this.type = Type.parse(type);
+        this.durationMillis = Math.max(0, durationMillis);
+        this.loader = loader;
+    }
+
+    /**
+     * Submits the load to the loader thread
+     */
+    public void start() {
+        if (future != null) {
+            return;
+        }
+        future = executor.submit(() -> {
+            long start = System.nanoTime();
+            try {
+                return loader.load();
+            } finally {
+                loadMillis = (System.nanoTime() - start) / 1_000_000;
+            }
+        });
+    }
+
+    /**
+     * Drops the result of a transition that was replaced by a newer one
+     */
+    public void cancel() {
+        if (future != null) {
+            future.cancel(false);
+        }
+        failed = true;
+    }
+
+    public String getSceneName() {
+        return sceneName;
+    }
+
+    /**
+     * Where the character is placed when the scene is switched (null = keep)
+     */
+    public String getSpawnPoint() {
+        return spawnPoint;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public int getDurationMillis() {
+        return durationMillis;
+    }
+
+    /**
+     * True when loading has ended, successfully or not
+     */
+    public boolean isLoaded() {
+        return future != null && future.isDone();
+    }
+
+    /**
+     * Result of the finished load, or null if it failed. Logs the load time.
+     */
+    public LoadedScene takeResult() {
+        try {
+            LoadedScene result = future.get();
+            String report = "SceneTransition: " + sceneName + " loaded in " + loadMillis + " ms ("
+                    + type.name().toLowerCase() + " " + durationMillis + " ms)";
+            if (type == Type.FADE && loadMillis > durationMillis) {
+                report += " - loading took " + (loadMillis - durationMillis) + " ms longer than the transition";
+            }
+            System.out.println(report);
+            return result;
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            System.err.println("SceneTransition: Could not load scene " + sceneName + ": " + cause.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            System.err.println("SceneTransition: Could not load scene " + sceneName + ": " + e.getMessage());
+        }
+        failed = true;
+        return null;
+    }
+
+    /**
+     * Starts the visible part after the live scene was switched
+     * @param outgoing snapshot of the last frame of the old scene, null to skip the fade
+     */
+    public void begin(BufferedImage outgoing, long now) {
+        this.snapshot = type == Type.FADE ? outgoing : null;
+        this.beginMillis = now;
+    }
+
+    public boolean isBegun() {
+        return beginMillis >= 0;
+    }
+
+    /**
+     * True when the transition can be dropped (faded out, cut or failed)
+     */
+    public boolean isFinished(long now) {
+        if (failed) {
+            return true;
+        }
+        if (!isBegun()) {
+            return false;
+        }
+        if (snapshot == null || now - beginMillis >= durationMillis) {
+            snapshot = null;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Time the loader needed, -1 while loading
+     */
+    public long getLoadMillis() {
+        return loadMillis;
+    }
+
+    /**
+     * Draws the fading outgoing frame over the incoming scene
+     */
+    public void paint(Graphics2D g2d, int width, int height, long now) {
+        BufferedImage outgoing = snapshot;
+        if (outgoing == null || !isBegun() || durationMillis == 0) {
+            return;
+        }
+        float alpha = 1f - (float) (now - beginMillis) / durationMillis;
+        if (alpha <= 0f) {
+            return;
+        }
+        Composite composite = g2d.getComposite();
+        g2d.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, Math.min(1f, alpha)));
+        g2d.drawImage(outgoing, 0, 0, width, height, null);
+        g2d.setComposite(composite);
+    }
+}
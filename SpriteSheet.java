@@ -0,0 +1,248 @@
+package main;
+
+import java.awt.Graphics2D;
+import java.awt.Image;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Animation frames in one image (grid of equally sized cells, row by row).
+ *
+ * Declared per item in the #SpriteSheets: section, keyed by orientation
+ * ("Left", "TopRight", ...) or "Default". The frame shown is derived from
+ * the game clock (now / frameMillis), so there are no per-item timers and
+ * all items using a sheet run in step.
+ *
+ * Frames are scaled once per display size into one strip image and handed
+ * out as sub-image views of it. These variants are shared by all items
+ * using the same sheet file at the same size, so drawing an animated item
+ * is one unscaled drawImage like a baked static image. Variants are kept
+ * in LRU order up to MAX_PIXELS (the ScaledImageCache policy) and dropped
+ * when the ResourceMonitor reports a change of the sheet file.
+ */
+public class SpriteSheet {
+
+    public static final String DEFAULT_SHEET = "Default";
+
+    private static final long MAX_PIXELS = 16L * 1024 * 1024;
+
+    // sheet file|frames|columns|width x height -> frames, in LRU order
+    private static final Map<String, Image[]> variants = new LinkedHashMap<>(16, 0.75f, true);
+    private static long pixels;
+    // Changes whenever a variant is dropped, so sheets forget the frames they looked up
+    private static final AtomicInteger generation = new AtomicInteger();
+
+    static {
+        ResourceMonitor.addListener(ResourceMonitor.ResourceType.IMAGE, event -> {
+            if (event.getKind() == ResourceMonitor.ChangeKind.OVERFLOW) {
+                clear();
+            } else {
+                evict(event.getFile());
+            }
+        });
+    }
+
+    private final String imagePath;
+    private final int frameCount;
+    private final int columns;
+    private final int frameMillis;
+
+    private File file;
+    // Variants looked up through this sheet by display size (width << 32 | height)
+    private final Map<Long, Image[]> framesBySize = new HashMap<>();
+    private int framesGeneration;
+    // Last size drawn - a character standing still needs no map lookup per draw
+    private Image[] lastFrames;
+    private int lastWidth;
+    private int lastHeight;
+
+    /**
+     * @param columns frames per row of the sheet (0 = all frames in one row)
+     */
+    public SpriteSheet(String imagePath, int frameCount, int columns, int frameMillis) {
+        this.imagePath = imagePath;
+        this.frameCount = Math.max(1, frameCount);
+        this.columns = columns > 0 ? Math.min(columns, this.frameCount) : this.frameCount;
+        this.frameMillis = Math.max(1, frameMillis);
+    }
+
+    public String getImagePath() {
+        return imagePath;
+    }
+
+    public int getFrameCount() {
+        return frameCount;
+    }
+
+    public int getColumns() {
+        return columns;
+    }
+
+    public int getFrameMillis() {
+        return frameMillis;
+    }
+
+    /**
+     * Frame shown at a game clock time (looping)
+     */
+    public int getFrameIndex(long nowMillis) {
+        return (int) Math.floorMod(nowMillis / frameMillis, (long) frameCount);
+    }
+
+    /**
+     * A frame scaled to the given size, or null if the sheet image is missing
+     */
+    public synchronized Image getFrame(int index, int width, int height) {
+        if (width <= 0 || height <= 0) {
+            return null;
+        }
+        int current = generation.get();
+        if (framesGeneration != current) {
+            framesBySize.clear();
+            lastFrames = null;
+            framesGeneration = current;
+        }
+        if (lastFrames == null || width != lastWidth || height != lastHeight) {
+            long size = ((long) width << 32) | height;
+            Image[] frames = framesBySize.get(size);
+            if (frames == null) {
+                frames = getFrames(width, height);
+                if (frames == null) {
+                    return null;
+                }
+                framesBySize.put(size, frames);
+            }
+            lastFrames = frames;
+            lastWidth = width;
+            lastHeight = height;
+        }
+        return lastFrames[Math.floorMod(index, lastFrames.length)];
+    }
+
+    /**
+     * Drops all scaled frames of a sheet file
+     */
+    public static synchronized void evict(File changed) {
+        if (changed == null) {
+            return;
+        }
+        String prefix = keyOf(changed) + "|";
+        Iterator<Map.Entry<String, Image[]>> iterator = variants.entrySet().iterator();
+        boolean removed = false;
+        while (iterator.hasNext()) {
+            Map.Entry<String, Image[]> entry = iterator.next();
+            if (entry.getKey().startsWith(prefix)) {
+                pixels -= pixelsOf(entry.getValue());
+                iterator.remove();
+                removed = true;
+            }
+        }
+        if (removed) {
+            generation.incrementAndGet();
+        }
+    }
+
+    public static synchronized void clear() {
+        variants.clear();
+        pixels = 0;
+        generation.incrementAndGet();
+    }
+
+    /**
+     * Number of cached variants (sheet file and size)
+     */
+    public static synchronized int variantCount() {
+        return variants.size();
+    }
+
+    private static synchronized Image[] getVariant(String key) {
+        return variants.get(key);
+    }
+
+    /**
+     * Caches a variant and drops the least recently used ones above MAX_PIXELS
+     * @return the cached variant (another thread may have sliced it first)
+     */
+    private static synchronized Image[] putVariant(String key, Image[] frames) {
+        Image[] existing = variants.get(key);
+        if (existing != null) {
+            return existing;
+        }
+        variants.put(key, frames);
+        pixels += pixelsOf(frames);
+
+        boolean removed = false;
+        Iterator<Image[]> iterator = variants.values().iterator();
+        while (pixels > MAX_PIXELS && iterator.hasNext()) {
+            Image[] eldest = iterator.next();
+            if (eldest == frames) {
+                break;
+            }
+            pixels -= pixelsOf(eldest);
+            iterator.remove();
+            removed = true;
+        }
+        if (removed) {
+            generation.incrementAndGet();
+        }
+        return frames;
+    }
+
+    private static long pixelsOf(Image[] frames) {
+        return (long) frames[0].getWidth(null) * frames[0].getHeight(null) * frames.length;
+    }
+
+    private Image[] getFrames(int width, int height) {
+        if (file == null) {
+            file = ResourcePathHelper.findImageFile(imagePath);
+            if (file == null) {
+                System.err.println("SpriteSheet: Image not found: " + imagePath);
+                return null;
+            }
+        }
+        String key = keyOf(file) + "|" + frameCount + "|" + columns + "|" + width + "x" + height;
+        Image[] frames = getVariant(key);
+        if (frames == null) {
+            BufferedImage source = ImageCache.get(file);
+            if (source == null) {
+                return null;
+            }
+            // Sliced outside the lock, other sheets keep drawing meanwhile
+            frames = putVariant(key, slice(source, width, height));
+        }
+        return frames;
+    }
+
+    /**
+     * Scales every cell into one strip and returns sub-image views of it
+     */
+    private Image[] slice(BufferedImage source, int width, int height) {
+        int rows = (frameCount + columns - 1) / columns;
+        int cellWidth = source.getWidth() / columns;
+        int cellHeight = source.getHeight() / rows;
+
+        BufferedImage strip = new BufferedImage(width * frameCount, height, BufferedImage.TYPE_INT_ARGB_PRE);
+        Graphics2D g = strip.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        Image[] frames = new Image[frameCount];
+        for (int i = 0; i < frameCount; i++) {
+            int sx = (i % columns) * cellWidth;
+            int sy = (i / columns) * cellHeight;
+            // Cell by cell, so neighbouring frames do not bleed in when scaling
+            g.drawImage(source, i * width, 0, (i + 1) * width, height, sx, sy, sx + cellWidth, sy + cellHeight, null);
+            frames[i] = strip.getSubimage(i * width, 0, width, height);
+        }
+        g.dispose();
+        return frames;
+    }
+
+    private static String keyOf(File file) {
+        return file.toPath().toAbsolutePath().normalize().toString();
+    }
+}
@@ -0,0 +1,178 @@
+package main;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs the startup work (theme, conditions, buttons, ...) as tasks with
+ * dependencies. Independent tasks run in parallel on worker threads, the
+ * window is only built once the tasks it needs are done.
+ *
+ * Records a timeline of all tasks and milestones ("window visible",
+ * "first frame"). Set -Dstartup.budgetMs=N to get a warning when the
+ * first frame takes longer than N ms.
+ */
+public class StartupOrchestrator {
+
+    private static class Task {
+        final String name;
+        final Runnable action;
+        final String[] dependsOn;
+        CompletableFuture<Void> future;
+        volatile long startNanos;
+        volatile long endNanos;
+        volatile String threadName;
+        volatile Throwable error;
+
+        Task(String name, Runnable action, String[] dependsOn) {
+            this.name = name;
+            this.action = action;
+            this.dependsOn = dependsOn;
+        }
+    }
+
+    private static final long t0 = System.nanoTime();
+    private static final Map<String, Task> tasks = new LinkedHashMap<>();
+    private static final Map<String, Long> milestones = new LinkedHashMap<>();
+    private static ExecutorService executor = null;
+
+    /**
+     * Declares a startup task. Dependencies must be declared before the task.
+     */
+    public static synchronized void task(String name, Runnable action, String... dependsOn) {
+        if (executor != null) {
+            throw new IllegalStateException("Startup already running, cannot add task: " + name);
+        }
+        for (String dependency : dependsOn) {
+            if (!tasks.containsKey(dependency)) {
+                throw new IllegalArgumentException("Unknown dependency '" + dependency + "' for task " + name);
+            }
+        }
+        tasks.put(name, new Task(name, action, dependsOn));
+    }
+
+    /**
+     * Starts all declared tasks, each as soon as its dependencies are done
+     */
+    public static synchronized void start() {
+        if (executor != null || tasks.isEmpty()) {
+            return;
+        }
+
+        AtomicInteger threadCount = new AtomicInteger();
+        int poolSize = Math.max(1, Math.min(tasks.size(), Runtime.getRuntime().availableProcessors()));
+        executor = Executors.newFixedThreadPool(poolSize, runnable -> {
+            Thread thread = new Thread(runnable, "Startup-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        List<CompletableFuture<Void>> all = new ArrayList<>();
+        for (Task task : tasks.values()) {
+            CompletableFuture<?>[] dependencies = new CompletableFuture<?>[task.dependsOn.length];
+            for (int i = 0; i < task.dependsOn.length; i++) {
+                dependencies[i] = tasks.get(task.dependsOn[i]).future;
+            }
+
+            task.future = CompletableFuture.allOf(dependencies).thenRunAsync(() -> run(task), executor);
+            all.add(task.future);
+        }
+
+        ExecutorService pool = executor;
+        CompletableFuture.allOf(all.toArray(new CompletableFuture<?>[0])).whenComplete((r, e) -> pool.shutdown());
+    }
+
+    /**
+     * Blocks until the given tasks are done (failed tasks count as done)
+     */
+    public static void await(String... names) {
+        for (String name : names) {
+            Task task;
+            synchronized (StartupOrchestrator.class) {
+                task = tasks.get(name);
+            }
+            if (task == null || task.future == null) {
+                throw new IllegalStateException("Startup task not started: " + name);
+            }
+            task.future.join();
+        }
+    }
+
+    /**
+     * Blocks until all tasks are done
+     */
+    public static void awaitAll() {
+        String[] names;
+        synchronized (StartupOrchestrator.class) {
+            names = tasks.keySet().toArray(new String[0]);
+        }
+        await(names);
+    }
+
+    /**
+     * Records a milestone (only the first call per name counts)
+     */
+    public static synchronized void mark(String milestone) {
+        milestones.putIfAbsent(milestone, System.nanoTime());
+    }
+
+    /**
+     * Milliseconds since startup when the milestone was reached, or -1
+     */
+    public static synchronized long getMilestoneMillis(String milestone) {
+        Long nanos = milestones.get(milestone);
+        return nanos != null ? toMillis(nanos) : -1;
+    }
+
+    /**
+     * Prints all tasks and milestones in order of time
+     */
+    public static synchronized void printTimeline() {
+        StringBuilder out = new StringBuilder("=== Startup timeline (ms since start) ===\n");
+
+        for (Task task : tasks.values()) {
+            if (task.endNanos == 0) {
+                out.append(String.format("  %-20s %7d -   ...   (running)%n", task.name, toMillis(task.startNanos)));
+                continue;
+            }
+            out.append(String.format("  %-20s %7d - %7d  %5d ms  %s%s%n", task.name, toMillis(task.startNanos),
+                    toMillis(task.endNanos), (task.endNanos - task.startNanos) / 1_000_000, task.threadName,
+                    task.error != null ? "  FAILED: " + task.error.getMessage() : ""));
+        }
+        for (Map.Entry<String, Long> milestone : milestones.entrySet()) {
+            out.append(String.format("  * %-18s %7d%n", milestone.getKey(), toMillis(milestone.getValue())));
+        }
+        System.out.print(out);
+
+        long firstFrame = getMilestoneMillis("first frame");
+        long budget = Long.getLong("startup.budgetMs", 0);
+        if (budget > 0 && firstFrame > budget) {
+            System.err.println("⚠️ Startup over budget: first frame after " + firstFrame + " ms (budget " + budget
+                    + " ms)");
+        }
+    }
+
+    private static void run(Task task) {
+        task.threadName = Thread.currentThread().getName();
+        task.startNanos = System.nanoTime();
+        try {
+            task.action.run();
+        } catch (Throwable e) {
+            task.error = e;
+            System.err.println("Startup task '" + task.name + "' failed: " + e.getMessage());
+            e.printStackTrace();
+        } finally {
+            task.endNanos = System.nanoTime();
+        }
+    }
+
+    private static long toMillis(long nanos) {
+        return (nanos - t0) / 1_000_000;
+    }
+}
@@ -0,0 +1,384 @@
+package main;
+
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.Point;
+import java.awt.RenderingHints;
+import java.awt.font.FontRenderContext;
+import java.awt.font.LineBreakMeasurer;
+import java.awt.font.TextAttribute;
+import java.awt.font.TextLayout;
+import java.awt.geom.RoundRectangle2D;
+import java.text.AttributedString;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Text drawn inside the game area instead of modal windows:
+ *
+ * - captions: timed text at top, center or bottom (Process "Text" action)
+ * - speech bubbles: timed text above an item, the game keeps running
+ * - dialogs: text box that stays until it is clicked away; processes
+ *   waiting for it block in ProcessExecutor until then
+ *
+ * Times are game time (GameSession.currentTimeMillis), so headless sessions
+ * expire captions with their own clock. Word wrapping is done once per
+ * (text, font, width) and cached; painting only draws the cached lines.
+ */
+public class TextOverlay {
+
+    public enum Kind {
+        CAPTION, BUBBLE, DIALOG
+    }
+
+    /**
+     * One text on screen
+     */
+    public static class Entry {
+        private final Kind kind;
+        private final String text;
+        private final String position;
+        private final Color color;
+        private final Item anchor;
+        private final long expiresAt; // Long.MAX_VALUE = until dismissed
+        private volatile boolean closed;
+
+        Entry(Kind kind, String text, String position, Color color, Item anchor, long expiresAt) {
+            this.kind = kind;
+            this.text = text;
+            this.position = position;
+            this.color = color;
+            this.anchor = anchor;
+            this.expiresAt = expiresAt;
+        }
+
+        public Kind getKind() {
+            return kind;
+        }
+
+        public String getText() {
+            return text;
+        }
+
+        /**
+         * True when the entry expired or was dismissed
+         */
+        public boolean isClosed() {
+            return closed;
+        }
+    }
+
+    private static final Font CAPTION_FONT = new Font("Arial", Font.BOLD, 20);
+    private static final Font BUBBLE_FONT = new Font("Arial", Font.PLAIN, 15);
+    private static final Font DIALOG_FONT = new Font("Arial", Font.PLAIN, 17);
+    private static final int MARGIN = 20;
+    private static final int PADDING = 12;
+    private static final int BUBBLE_WIDTH = 260;
+    private static final int MAX_CACHED_LAYOUTS = 128;
+
+    // Layouts are device independent; painting uses them with any Graphics2D
+    private static final FontRenderContext RENDER_CONTEXT = new FontRenderContext(null, true, true);
+
+    private final List<Entry> entries = new ArrayList<>();
+
+    // (text, font, width) -> wrapped lines, least recently used first
+    private final Map<LayoutKey, List<TextLayout>> layouts = new LinkedHashMap<LayoutKey, List<TextLayout>>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<LayoutKey, List<TextLayout>> eldest) {
+            return size() > MAX_CACHED_LAYOUTS;
+        }
+    };
+
+    private static class LayoutKey {
+        private final String text;
+        private final Font font;
+        private final int width;
+
+        LayoutKey(String text, Font font, int width) {
+            this.text = text;
+            this.font = font;
+            this.width = width;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof LayoutKey)) {
+                return false;
+            }
+            LayoutKey other = (LayoutKey) o;
+            return width == other.width && text.equals(other.text) && font.equals(other.font);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(text, font, width);
+        }
+    }
+
+    /**
+     * Shows a timed caption
+     * @param position "top", "center" or "bottom"
+     */
+    public synchronized Entry showCaption(String text, long now, int durationMillis, String position, Color color) {
+        return add(new Entry(Kind.CAPTION, text, position, color, null, now + Math.max(0, durationMillis)));
+    }
+
+    /**
+     * Shows a timed speech bubble above an item (non-blocking)
+     */
+    public synchronized Entry showBubble(String text, Item speaker, long now, int durationMillis, Color color) {
+        return add(new Entry(Kind.BUBBLE, text, "item", color, speaker, now + Math.max(0, durationMillis)));
+    }
+
+    /**
+     * Shows a dialog box that stays until dismiss() (a click)
+     * @param position "top", "center" or "bottom"
+     */
+    public synchronized Entry showDialog(String text, String position, Color color) {
+        // One dialog at a time: a new one replaces the old
+        for (Entry entry : entries) {
+            if (entry.kind == Kind.DIALOG) {
+                entry.closed = true;
+            }
+        }
+        entries.removeIf(entry -> entry.closed);
+        return add(new Entry(Kind.DIALOG, text, position, color, null, Long.MAX_VALUE));
+    }
+
+    /**
+     * Closes the open dialog
+     * @return true if a dialog was open (the click is consumed)
+     */
+    public synchronized boolean dismissDialog() {
+        boolean dismissed = false;
+        for (Iterator<Entry> it = entries.iterator(); it.hasNext();) {
+            Entry entry = it.next();
+            if (entry.kind == Kind.DIALOG) {
+                entry.closed = true;
+                it.remove();
+                dismissed = true;
+            }
+        }
+        return dismissed;
+    }
+
+    public synchronized boolean isDialogOpen() {
+        for (Entry entry : entries) {
+            if (entry.kind == Kind.DIALOG) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Removes expired captions and bubbles
+     * @return true if something was removed (repaint needed)
+     */
+    public synchronized boolean expire(long now) {
+        boolean removed = false;
+        for (Iterator<Entry> it = entries.iterator(); it.hasNext();) {
+            Entry entry = it.next();
+            if (now >= entry.expiresAt) {
+                entry.closed = true;
+                it.remove();
+                removed = true;
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Removes everything (scene change)
+     */
+    public synchronized void clear() {
+        for (Entry entry : entries) {
+            entry.closed = true;
+        }
+        entries.clear();
+    }
+
+    public synchronized boolean isEmpty() {
+        return entries.isEmpty();
+    }
+
+    /**
+     * Draws all entries over the scene
+     */
+    public synchronized void paint(Graphics2D g2d, int width, int height, long now) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        Object antialiasing = g2d.getRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING);
+        g2d.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+
+        for (Entry entry : entries) {
+            if (now >= entry.expiresAt) {
+                continue;
+            }
+            switch (entry.kind) {
+            case CAPTION:
+                paintCaption(g2d, entry, width, height);
+                break;
+            case BUBBLE:
+                paintBubble(g2d, entry, width);
+                break;
+            case DIALOG:
+                paintDialog(g2d, entry, width, height);
+                break;
+            }
+        }
+
+        g2d.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, antialiasing);
+    }
+
+    /**
+     * Wrapped lines of a text (cached per text, font and width)
+     */
+    public synchronized List<TextLayout> layout(String text, Font font, int width) {
+        LayoutKey key = new LayoutKey(text, font, width);
+        List<TextLayout> lines = layouts.get(key);
+        if (lines == null) {
+            lines = wrap(text, font, width);
+            layouts.put(key, lines);
+        }
+        return lines;
+    }
+
+    private Entry add(Entry entry) {
+        entries.add(entry);
+        return entry;
+    }
+
+    private static List<TextLayout> wrap(String text, Font font, int width) {
+        List<TextLayout> lines = new ArrayList<>();
+        // Explicit line breaks start new paragraphs; empty paragraphs keep their height
+        for (String paragraph : text.split("\n", -1)) {
+            if (paragraph.isEmpty()) {
+                lines.add(new TextLayout(" ", font, RENDER_CONTEXT));
+                continue;
+            }
+            AttributedString attributed = new AttributedString(paragraph);
+            attributed.addAttribute(TextAttribute.FONT, font);
+            LineBreakMeasurer measurer = new LineBreakMeasurer(attributed.getIterator(), RENDER_CONTEXT);
+            while (measurer.getPosition() < paragraph.length()) {
+                lines.add(measurer.nextLayout(Math.max(1, width)));
+            }
+        }
+        return lines;
+    }
+
+    private static float textHeight(List<TextLayout> lines) {
+        float height = 0;
+        for (TextLayout line : lines) {
+            height += line.getAscent() + line.getDescent() + line.getLeading();
+        }
+        return height;
+    }
+
+    private static float textWidth(List<TextLayout> lines) {
+        float width = 0;
+        for (TextLayout line : lines) {
+            width = Math.max(width, line.getAdvance());
+        }
+        return width;
+    }
+
+    /**
+     * Draws lines centered on centerX, starting at top
+     */
+    private static void drawLines(Graphics2D g2d, List<TextLayout> lines, float centerX, float top, Color color,
+            boolean outline) {
+        float y = top;
+        for (TextLayout line : lines) {
+            y += line.getAscent();
+            float x = centerX - line.getAdvance() / 2;
+            if (outline) {
+                g2d.setColor(new Color(0, 0, 0, 200));
+                line.draw(g2d, x + 1, y + 1);
+                line.draw(g2d, x - 1, y - 1);
+            }
+            g2d.setColor(color);
+            line.draw(g2d, x, y);
+            y += line.getDescent() + line.getLeading();
+        }
+    }
+
+    private static float verticalOffset(String position, float boxHeight, int height) {
+        if ("top".equalsIgnoreCase(position)) {
+            return MARGIN + 30; // below the hover text
+        }
+        if ("bottom".equalsIgnoreCase(position)) {
+            return height - MARGIN - boxHeight;
+        }
+        return (height - boxHeight) / 2;
+    }
+
+    private void paintCaption(Graphics2D g2d, Entry entry, int width, int height) {
+        List<TextLayout> lines = layout(entry.text, CAPTION_FONT, width - 2 * MARGIN);
+        float top = verticalOffset(entry.position, textHeight(lines), height);
+        drawLines(g2d, lines, width / 2f, top, entry.color, true);
+    }
+
+    private void paintBubble(Graphics2D g2d, Entry entry, int width) {
+        List<TextLayout> lines = layout(entry.text, BUBBLE_FONT, BUBBLE_WIDTH);
+        float boxWidth = textWidth(lines) + 2 * PADDING;
+        float boxHeight = textHeight(lines) + 2 * PADDING;
+
+        Point anchor = entry.anchor.getPosition();
+        float centerX = Math.max(boxWidth / 2 + 4, Math.min(width - boxWidth / 2 - 4, anchor.x));
+        float bottom = Math.max(boxHeight + 4, anchor.y - entry.anchor.getHeight() / 2f - 12);
+
+        RoundRectangle2D box = new RoundRectangle2D.Float(centerX - boxWidth / 2, bottom - boxHeight, boxWidth,
+                boxHeight, 16, 16);
+        g2d.setColor(new Color(0, 0, 0, 190));
+        g2d.fill(box);
+        g2d.setColor(new Color(255, 255, 255, 160));
+        g2d.setStroke(new BasicStroke(1.5f));
+        g2d.draw(box);
+        drawLines(g2d, lines, centerX, bottom - boxHeight + PADDING, entry.color, false);
+    }
+
+    private void paintDialog(Graphics2D g2d, Entry entry, int width, int height) {
+        int textWidth = Math.min(width - 4 * MARGIN, 640);
+        List<TextLayout> lines = layout(entry.text, DIALOG_FONT, textWidth);
+        float boxWidth = textWidth + 2 * PADDING;
+        float boxHeight = textHeight(lines) + 2 * PADDING;
+        float top = verticalOffset(entry.position, boxHeight, height);
+
+        RoundRectangle2D box = new RoundRectangle2D.Float((width - boxWidth) / 2, top, boxWidth, boxHeight, 12, 12);
+        g2d.setColor(new Color(0, 0, 0, 200));
+        g2d.fill(box);
+        g2d.setColor(new Color(255, 255, 255, 160));
+        g2d.setStroke(new BasicStroke(2f));
+        g2d.draw(box);
+        drawLines(g2d, lines, width / 2f, top + PADDING, entry.color, false);
+    }
+
+    /**
+     * Parses "r,g,b" (as written by the process editor), falls back to white
+     */
+    public static Color parseColor(String value) {
+        if (value != null) {
+            String[] parts = value.split(",");
+            if (parts.length >= 3) {
+                try {
+                    return new Color(clamp(parts[0]), clamp(parts[1]), clamp(parts[2]));
+                } catch (NumberFormatException e) {
+                    System.err.println("TextOverlay: Invalid color '" + value + "'");
+                }
+            }
+        }
+        return Color.WHITE;
+    }
+
+    private static int clamp(String component) {
+        return Math.max(0, Math.min(255, Integer.parseInt(component.trim())));
+    }
+}
@@ -0,0 +1,180 @@
+package main;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import javax.swing.ImageIcon;
+import javax.swing.SwingUtilities;
+
+/**
+ * Scaled thumbnails for editor lists, decoded and scaled off the EDT.
+ *
+ * get() returns at once: the cached icon, or null while the thumbnail is
+ * being created - the callback then runs on the EDT when it is ready, so
+ * the caller can repaint just the affected row.
+ *
+ * Images are decoded subsampled straight from the file, so full-resolution
+ * pixels never stay in memory. Paths that could not be resolved or decoded
+ * are remembered as failures and not tried again on every repaint.
+ * Entries are only checked against the disk through ResourceMonitor events:
+ * a changed image drops its thumbnails, any image event retries the failures.
+ */
+public class ThumbnailCache {
+
+    /**
+     * Cached result for one path and size (icon is null for a failure)
+     */
+    private static class Entry {
+        final ImageIcon icon;
+        final String file;
+
+        Entry(ImageIcon icon, String file) {
+            this.icon = icon;
+            this.file = file;
+        }
+    }
+
+    private static final Map<String, Entry> cache = new ConcurrentHashMap<>();
+    private static final Map<String, Boolean> pending = new ConcurrentHashMap<>();
+
+    // Changes with every image event, so decodes that raced an event are not cached
+    private static final AtomicInteger generation = new AtomicInteger();
+
+    private static final ExecutorService loader = Executors.newFixedThreadPool(2, runnable -> {
+        Thread thread = new Thread(runnable, "ThumbnailLoader");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    static {
+        ResourceMonitor.addListener(ResourceMonitor.ResourceType.IMAGE, event -> {
+            generation.incrementAndGet();
+            if (event.getKind() == ResourceMonitor.ChangeKind.OVERFLOW) {
+                cache.clear();
+            } else {
+                String file = event.getFile().getAbsolutePath();
+                cache.values().removeIf(entry -> entry.icon == null || entry.file.equals(file));
+            }
+        });
+    }
+
+    /**
+     * Returns the thumbnail (size x size, aspect ratio kept) or null if it is
+     * not ready yet or the image cannot be loaded. Does not touch the disk.
+     *
+     * @param imagePath Image path as stored in items (see ResourcePathHelper.findImageFile)
+     * @param onLoaded Called on the EDT once a missing thumbnail has been created (may be null)
+     */
+    public static ImageIcon get(String imagePath, int size, Runnable onLoaded) {
+        if (imagePath == null || imagePath.isEmpty()) {
+            return null;
+        }
+
+        String key = imagePath + "@" + size;
+        Entry entry = cache.get(key);
+        if (entry != null) {
+            return entry.icon;
+        }
+
+        if (pending.putIfAbsent(key, Boolean.TRUE) == null) {
+            int startGeneration = generation.get();
+            loader.execute(() -> {
+                try {
+                    Entry created = createEntry(imagePath, size);
+                    if (generation.get() == startGeneration) {
+                        cache.put(key, created);
+                    }
+                    // Also after a discarded result: the row asks again and gets a fresh decode
+                    if (onLoaded != null && (created.icon != null || generation.get() != startGeneration)) {
+                        SwingUtilities.invokeLater(onLoaded);
+                    }
+                } finally {
+                    pending.remove(key);
+                }
+            });
+        }
+        return null;
+    }
+
+    /**
+     * Removes all thumbnails
+     */
+    public static void clear() {
+        generation.incrementAndGet();
+        cache.clear();
+    }
+
+    private static Entry createEntry(String imagePath, int size) {
+        File imageFile = ResourcePathHelper.findImageFile(imagePath);
+        if (imageFile == null) {
+            imageFile = new File(imagePath);
+        }
+        String file = imageFile.getAbsolutePath();
+
+        try {
+            BufferedImage source = decode(imageFile, size);
+            if (source == null) {
+                return new Entry(null, file);
+            }
+
+            double scale = Math.min((double) size / source.getWidth(), (double) size / source.getHeight());
+            int width = Math.max(1, (int) Math.round(source.getWidth() * scale));
+            int height = Math.max(1, (int) Math.round(source.getHeight() * scale));
+
+            BufferedImage thumbnail = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+            Graphics2D g2d = thumbnail.createGraphics();
+            g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g2d.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g2d.drawImage(source, 0, 0, width, height, null);
+            g2d.dispose();
+            return new Entry(new ImageIcon(thumbnail), file);
+        } catch (IOException | RuntimeException e) {
+            System.err.println("ThumbnailCache: Could not load " + file + ": " + e.getMessage());
+            return new Entry(null, file);
+        }
+    }
+
+    /**
+     * Decodes every n-th pixel, keeping at least twice the thumbnail size so
+     * the final bilinear step stays smooth
+     * @return the image, or null if the file is missing or not an image
+     */
+    private static BufferedImage decode(File imageFile, int size) throws IOException {
+        if (!imageFile.isFile()) {
+            return null;
+        }
+        try (ImageInputStream input = ImageIO.createImageInputStream(imageFile)) {
+            if (input == null) {
+                return null;
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int longest = Math.max(reader.getWidth(0), reader.getHeight(0));
+                int step = Math.max(1, longest / (size * 2));
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(step, step, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package main.benchmarks;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import main.AudioEngine;
+
+/**
+ * AudioEngine mixing against a NullOutput. renderBlock mixes one block of
+ * AudioEngine.BLOCK_FRAMES frames (5.8 ms of audio) with the given number of
+ * looping cached voices; voices mixed per ms of CPU time is
+ * voices * BLOCK_FRAMES / (score in ms). playAndRender measures starting a
+ * cached effect until its first block is mixed.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class AudioBenchmark {
+
+    @Param({ "1", "16", "64" })
+    public int voices;
+
+    private AudioEngine engine;
+
+    @Setup
+    public void setup() throws IOException {
+        BenchmarkFixture.init();
+
+        engine = new AudioEngine(new AudioEngine.NullOutput(false));
+        for (int i = 0; i < voices; i++) {
+            engine.play(BenchmarkFixture.TONE_SOUND, "sfx", 0.1f, true);
+        }
+        engine.render();
+    }
+
+    @TearDown
+    public void tearDown() {
+        engine.shutdown();
+    }
+
+    @Benchmark
+    public byte[] renderBlock() {
+        return engine.render();
+    }
+
+    @Benchmark
+    public byte[] playAndRender() {
+        AudioEngine.Voice voice = engine.play(BenchmarkFixture.TONE_SOUND, "sfx", 0.1f, false);
+        byte[] block = engine.render();
+        voice.stop();
+        return block;
+    }
+}
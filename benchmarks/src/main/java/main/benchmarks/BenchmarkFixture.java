@@ -0,0 +1,240 @@
+package main.benchmarks;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.Point;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.imageio.ImageIO;
+import javax.sound.sampled.AudioFileFormat;
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+
+import main.AudioEngine;
+import main.ConditionalImage;
+import main.CustomClickArea;
+import main.Item;
+import main.ItemSaver;
+import main.KeyArea;
+import main.MovingRange;
+import main.MovingRangeManager;
+import main.ResourcePathHelper;
+import main.Scene;
+import main.SceneSaver;
+
+/**
+ * Synthetic project for benchmarks.
+ *
+ * Generates a resources/ tree in a temp folder and points ResourcePathHelper at it,
+ * so loaders and managers work on generated files instead of the real project.
+ * Files are written with the real savers, so they always match the loader format.
+ */
+public final class BenchmarkFixture {
+
+    public static final String SPRITE_IMAGE = "bench_sprite.png";
+    public static final String TONE_SOUND = "bench_tone.wav";
+    public static final String SPRITE_SHEET = "bench_sheet.png";
+    public static final int SPRITE_SHEET_FRAMES = 8;
+    public static final int CONDITION_COUNT = 200;
+
+    private static File root = null;
+
+    private BenchmarkFixture() {
+    }
+
+    /**
+     * Creates the temp project once per JVM.
+     * Must run before any manager class (Conditions, MovingRangeManager, ...) is initialized.
+     */
+    public static synchronized File init() throws IOException {
+        if (root != null) {
+            return root;
+        }
+
+        root = Files.createTempDirectory("pointclick-bench").toFile();
+        File resources = new File(root, "resources");
+        for (String folder : new String[] { "scenes", "items", "movingranges", "conditions", "processes",
+                "images/items", "images/scenes", "sounds" }) {
+            new File(resources, folder).mkdirs();
+        }
+
+        writeConditions(new File(resources, "conditions/conditions.txt"));
+        writeSprite(new File(resources, "images/items/" + SPRITE_IMAGE));
+        writeSpriteSheet(new File(resources, "images/items/" + SPRITE_SHEET));
+        writeTone(new File(resources, "sounds/" + TONE_SOUND));
+        ResourcePathHelper.setProjectRoot(root);
+
+        // Loaders log every line they parse - keep that out of the measurements and the console
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        return root;
+    }
+
+    public static String conditionName(int index) {
+        return "benchCondition" + index;
+    }
+
+    /**
+     * Item with a sprite, a polygon click area with the given number of points
+     * (0 = none, hit tested against the sprite) and the given number of conditional actions
+     */
+    public static Item createItem(String name, int x, int y, int clickAreaPoints, int actions) {
+        Item item = new Item(name);
+        item.setPosition(x, y);
+        item.setSize(64, 64);
+        item.addConditionalImage(new ConditionalImage(SPRITE_IMAGE, "Default"));
+
+        if (clickAreaPoints > 0) {
+            CustomClickArea area = new CustomClickArea();
+            area.setPoints(circle(x, y, 30, clickAreaPoints));
+            area.setHoverText(name);
+            area.updatePolygon();
+            item.addCustomClickArea(area);
+        }
+
+        for (int i = 0; i < actions; i++) {
+            KeyArea.ActionHandler handler = new KeyArea.ActionHandler();
+            handler.addConditionalResult(conditionName(i % CONDITION_COUNT) + " = false", "#Dialog:no" + i);
+            handler.addConditionalResult("none", "#Dialog:yes" + i);
+            item.addAction("Action" + i, handler);
+        }
+        return item;
+    }
+
+    /**
+     * Scene with items spread over a grid and rectangular KeyAreas with conditional hover texts
+     */
+    public static Scene createScene(String name, int itemCount, int keyAreaCount) {
+        return createScene(name, itemCount, keyAreaCount, 12);
+    }
+
+    /**
+     * Scene like createScene(name, itemCount, keyAreaCount) with the given click polygon size per item
+     */
+    public static Scene createScene(String name, int itemCount, int keyAreaCount, int clickAreaPoints) {
+        Scene scene = new Scene(name);
+        scene.addBackgroundImage(new ConditionalImage("bench_background.png", "Default"));
+
+        for (int i = 0; i < itemCount; i++) {
+            Point p = gridPosition(i, itemCount);
+            scene.addItem(createItem(name + "_item" + i, p.x, p.y, clickAreaPoints, 3));
+        }
+
+        for (int i = 0; i < keyAreaCount; i++) {
+            Point p = gridPosition(i, keyAreaCount);
+            KeyArea area = new KeyArea(KeyArea.Type.INTERACTION, name + "_area" + i, p.x - 20, p.y - 20, p.x + 20,
+                    p.y + 20);
+            area.addHoverDisplayCondition(conditionName(i % CONDITION_COUNT) + " = true", "Area " + i);
+            area.addHoverDisplayCondition("none", "Area");
+            scene.addKeyArea(area);
+        }
+        return scene;
+    }
+
+    /**
+     * Saves a scene and all of its items to the temp project
+     */
+    public static void writeScene(Scene scene) throws IOException {
+        for (Item item : scene.getItems()) {
+            ItemSaver.saveItemByName(item);
+        }
+        SceneSaver.saveScene(scene);
+    }
+
+    /**
+     * Star shaped (concave) moving range with the given number of vertices, saved to the temp project
+     */
+    public static MovingRange createStarRange(String name, int vertices) {
+        List<Point> points = new ArrayList<>();
+        for (int i = 0; i < vertices; i++) {
+            double angle = 2 * Math.PI * i / vertices;
+            int radius = (i % 2 == 0) ? 300 : 150;
+            points.add(new Point(512 + (int) (radius * Math.cos(angle)), 334 + (int) (radius * Math.sin(angle))));
+        }
+        MovingRange range = new MovingRange(name, points);
+        range.updatePolygon();
+        MovingRangeManager.save(range);
+        return MovingRangeManager.get(name);
+    }
+
+    /**
+     * Spreads n positions evenly over the 1024x668 game area
+     */
+    public static Point gridPosition(int index, int count) {
+        int columns = Math.max(1, (int) Math.ceil(Math.sqrt(count)));
+        int rows = Math.max(1, (count + columns - 1) / columns);
+        int column = index % columns;
+        int row = index / columns;
+        return new Point(32 + column * (960 / columns), 32 + row * (604 / rows));
+    }
+
+    private static List<Point> circle(int cx, int cy, int radius, int count) {
+        List<Point> points = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            double angle = 2 * Math.PI * i / count;
+            points.add(new Point(cx + (int) (radius * Math.cos(angle)), cy + (int) (radius * Math.sin(angle))));
+        }
+        return points;
+    }
+
+    private static void writeConditions(File file) throws IOException {
+        StringBuilder content = new StringBuilder("# Benchmark conditions\n");
+        for (int i = 0; i < CONDITION_COUNT; i++) {
+            content.append(conditionName(i)).append(" = ").append(i % 2 == 0).append('\n');
+        }
+        Files.writeString(file.toPath(), content.toString());
+    }
+
+    private static void writeSprite(File file) throws IOException {
+        BufferedImage sprite = new BufferedImage(128, 128, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = sprite.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g.setColor(new Color(200, 80, 40));
+        g.fillOval(8, 8, 112, 112);
+        g.dispose();
+        ImageIO.write(sprite, "png", file);
+    }
+
+    /**
+     * One row of SPRITE_SHEET_FRAMES 128x128 frames (a dot circling in a disc)
+     */
+    private static void writeSpriteSheet(File file) throws IOException {
+        BufferedImage sheet = new BufferedImage(128 * SPRITE_SHEET_FRAMES, 128, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = sheet.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        for (int i = 0; i < SPRITE_SHEET_FRAMES; i++) {
+            double angle = 2 * Math.PI * i / SPRITE_SHEET_FRAMES;
+            g.setColor(new Color(40, 120, 200));
+            g.fillOval(i * 128 + 8, 8, 112, 112);
+            g.setColor(Color.WHITE);
+            g.fillOval(i * 128 + 56 + (int) (40 * Math.cos(angle)), 56 + (int) (40 * Math.sin(angle)), 16, 16);
+        }
+        g.dispose();
+        ImageIO.write(sheet, "png", file);
+    }
+
+    /**
+     * Half a second of 440 Hz in the mixer format
+     */
+    private static void writeTone(File file) throws IOException {
+        int frames = (int) AudioEngine.SAMPLE_RATE / 2;
+        byte[] data = new byte[frames * 4];
+        for (int i = 0; i < frames; i++) {
+            short sample = (short) (Math.sin(2 * Math.PI * 440 * i / AudioEngine.SAMPLE_RATE) * 16000);
+            for (int channel = 0; channel < 2; channel++) {
+                data[i * 4 + channel * 2] = (byte) sample;
+                data[i * 4 + channel * 2 + 1] = (byte) (sample >> 8);
+            }
+        }
+        AudioInputStream stream = new AudioInputStream(new ByteArrayInputStream(data), AudioEngine.FORMAT, frames);
+        AudioSystem.write(stream, AudioFileFormat.Type.WAVE, file);
+    }
+}
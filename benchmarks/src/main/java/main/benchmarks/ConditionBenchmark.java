@@ -0,0 +1,99 @@
+package main.benchmarks;
+
+import java.awt.Point;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import main.Conditions;
+import main.Item;
+import main.KeyArea;
+
+/**
+ * Condition lookups and the condition string evaluators of KeyArea and Item.
+ * The evaluated entries only match at the end, so every entry is parsed.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class ConditionBenchmark {
+
+    private static final int ENTRIES = 8;
+
+    private String[] names;
+    private int next;
+    private KeyArea keyArea;
+    private KeyArea.ActionHandler andHandler;
+    private Item item;
+    private Point hoverPoint;
+
+    @Setup
+    public void setup() throws IOException {
+        BenchmarkFixture.init();
+
+        names = new String[BenchmarkFixture.CONDITION_COUNT];
+        for (int i = 0; i < names.length; i++) {
+            names[i] = BenchmarkFixture.conditionName(i);
+        }
+
+        // Even conditions are true, odd ones false - "= false" on an even one never matches
+        keyArea = new KeyArea(KeyArea.Type.INTERACTION, "BenchArea", 0, 0, 100, 100);
+        for (int i = 0; i < ENTRIES; i++) {
+            keyArea.addHoverDisplayCondition(BenchmarkFixture.conditionName(i * 2) + " = false", "Text " + i);
+        }
+        keyArea.addHoverDisplayCondition("none", "Default");
+
+        andHandler = new KeyArea.ActionHandler();
+        andHandler.addConditionalResult(BenchmarkFixture.conditionName(0) + " = true AND "
+                + BenchmarkFixture.conditionName(1) + " = false AND " + BenchmarkFixture.conditionName(2)
+                + " = true", "#Dialog:match");
+
+        item = BenchmarkFixture.createItem("ConditionItem", 50, 50, 8, 0);
+        KeyArea.ActionHandler itemHandler = new KeyArea.ActionHandler();
+        for (int i = 0; i < ENTRIES; i++) {
+            itemHandler.addConditionalResult(BenchmarkFixture.conditionName(i * 2) + " = false", "#Dialog:" + i);
+        }
+        itemHandler.addConditionalResult("none", "#Dialog:default");
+        item.addAction("Look", itemHandler);
+        hoverPoint = new Point(50, 50);
+    }
+
+    @Benchmark
+    public boolean getCondition() {
+        next = (next + 1) % names.length;
+        return Conditions.getCondition(names[next]);
+    }
+
+    @Benchmark
+    public String keyAreaHoverText() {
+        return keyArea.getHoverDisplayText();
+    }
+
+    @Benchmark
+    public String actionHandlerAndCondition() {
+        return andHandler.execute(null);
+    }
+
+    @Benchmark
+    public String itemHoverText() {
+        return item.getHoverDisplayText(hoverPoint);
+    }
+
+    @Benchmark
+    public String itemPerformAction() {
+        return item.performAction("Look", null);
+    }
+}
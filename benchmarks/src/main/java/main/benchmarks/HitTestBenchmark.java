@@ -0,0 +1,71 @@
+package main.benchmarks;
+
+import java.awt.Point;
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import main.Item;
+import main.KeyArea;
+import main.Scene;
+
+/**
+ * Scene.getItemAt and Scene.getKeyAreaAt with N items / KeyAreas at random probe points
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class HitTestBenchmark {
+
+    private static final int PROBES = 1024;
+
+    @Param({ "10", "100", "1000" })
+    public int itemCount;
+
+    /** Points of each item's click polygon; 0 = hit tested against the sprite pixels (HitMask) */
+    @Param({ "12", "0" })
+    public int clickAreaPoints;
+
+    private Scene scene;
+    private Point[] probes;
+    private int next;
+
+    @Setup
+    public void setup() throws IOException {
+        BenchmarkFixture.init();
+        scene = BenchmarkFixture.createScene("HitTest" + itemCount, itemCount, itemCount, clickAreaPoints);
+
+        Random random = new Random(42);
+        probes = new Point[PROBES];
+        for (int i = 0; i < PROBES; i++) {
+            probes[i] = new Point(random.nextInt(1024), random.nextInt(668));
+        }
+    }
+
+    @Benchmark
+    public Item getItemAt() {
+        next = (next + 1) & (PROBES - 1);
+        return scene.getItemAt(probes[next]);
+    }
+
+    @Benchmark
+    public KeyArea getKeyAreaAt() {
+        next = (next + 1) & (PROBES - 1);
+        return scene.getKeyAreaAt(probes[next]);
+    }
+}
@@ -0,0 +1,65 @@
+package main.benchmarks;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import main.Item;
+import main.ItemLoader;
+import main.ItemSaver;
+import main.ResourcePathHelper;
+import main.Scene;
+import main.SceneLoader;
+
+/**
+ * SceneLoader.loadScene and ItemLoader.loadItem over generated files of increasing size.
+ * size = number of items and KeyAreas per scene, click area points and actions per item.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class LoaderBenchmark {
+
+    @Param({ "10", "100", "500" })
+    public int size;
+
+    private String sceneName;
+    private String itemFile;
+
+    @Setup
+    public void setup() throws IOException {
+        BenchmarkFixture.init();
+
+        sceneName = "LoadScene" + size;
+        Scene scene = BenchmarkFixture.createScene(sceneName, size, size);
+        BenchmarkFixture.writeScene(scene);
+
+        Item item = BenchmarkFixture.createItem("LoadItem" + size, 200, 200, size * 4, size);
+        ItemSaver.saveItemByName(item);
+        itemFile = ResourcePathHelper.resolvePath("items/" + item.getName() + ".txt");
+    }
+
+    @Benchmark
+    public Scene loadScene() throws IOException {
+        return SceneLoader.loadScene(sceneName);
+    }
+
+    @Benchmark
+    public Item loadItem() throws IOException {
+        return ItemLoader.loadItem(itemFile);
+    }
+}
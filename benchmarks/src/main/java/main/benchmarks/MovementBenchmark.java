@@ -0,0 +1,67 @@
+package main.benchmarks;
+
+import java.awt.Point;
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import main.CharacterMovement;
+import main.Item;
+
+/**
+ * CharacterMovement.calculateTargetPosition on concave star polygons.
+ * Probe clicks land inside and outside the range, so both the contains check
+ * and the edge intersection search are measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class MovementBenchmark {
+
+    private static final int PROBES = 1024;
+
+    @Param({ "8", "64", "512" })
+    public int vertices;
+
+    private Item character;
+    private Point[] clicks;
+    private int next;
+
+    @Setup
+    public void setup() throws IOException {
+        BenchmarkFixture.init();
+
+        String rangeName = "BenchRange" + vertices;
+        BenchmarkFixture.createStarRange(rangeName, vertices);
+
+        character = BenchmarkFixture.createItem("Walker" + vertices, 512, 334, 8, 0);
+        character.addMovingRangeName(rangeName);
+
+        Random random = new Random(7);
+        clicks = new Point[PROBES];
+        for (int i = 0; i < PROBES; i++) {
+            clicks[i] = new Point(random.nextInt(1024), random.nextInt(668));
+        }
+    }
+
+    @Benchmark
+    public Point calculateTargetPosition() {
+        next = (next + 1) & (PROBES - 1);
+        return CharacterMovement.calculateTargetPosition(character, clicks[next], null);
+    }
+}
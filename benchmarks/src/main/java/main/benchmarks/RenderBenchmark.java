@@ -0,0 +1,85 @@
+package main.benchmarks;
+
+import java.awt.Color;
+import java.awt.GradientPaint;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import main.Item;
+import main.Scene;
+import main.SceneRenderer;
+import main.SpriteSheet;
+
+/**
+ * Headless frame render of the game layer (background + items) into a BufferedImage,
+ * the same code path the game panel uses in game mode. With animated=true every
+ * item plays a sprite sheet and the clock advances one 16 ms frame per render.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class RenderBenchmark {
+
+    private static final int WIDTH = 1024;
+    private static final int HEIGHT = 668;
+
+    @Param({ "10", "50", "200" })
+    public int itemCount;
+
+    @Param({ "false", "true" })
+    public boolean animated;
+
+    private Scene scene;
+    private BufferedImage background;
+    private BufferedImage frame;
+    private long clock;
+
+    @Setup
+    public void setup() throws IOException {
+        BenchmarkFixture.init();
+        scene = BenchmarkFixture.createScene("Render" + itemCount, itemCount, 0);
+        if (animated) {
+            SpriteSheet sheet = new SpriteSheet(BenchmarkFixture.SPRITE_SHEET, BenchmarkFixture.SPRITE_SHEET_FRAMES,
+                    0, 100);
+            for (Item item : scene.getItems()) {
+                item.setSpriteSheet(SpriteSheet.DEFAULT_SHEET, sheet);
+            }
+        }
+
+        background = new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = background.createGraphics();
+        g.setPaint(new GradientPaint(0, 0, new Color(40, 90, 160), 0, HEIGHT, new Color(230, 200, 140)));
+        g.fillRect(0, 0, WIDTH, HEIGHT);
+        g.dispose();
+
+        frame = new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_RGB);
+    }
+
+    @Benchmark
+    public BufferedImage renderFrame() {
+        Graphics2D g2d = frame.createGraphics();
+        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        clock += 16;
+        SceneRenderer.renderScene(g2d, scene, background, WIDTH, HEIGHT, clock);
+        g2d.dispose();
+        return frame;
+    }
+}